@@ -2,17 +2,31 @@ package com.mastercard.developer.oauth2.config;
 
 import com.mastercard.developer.oauth2.config.exception.OAuth2ClientConfigException;
 import com.mastercard.developer.oauth2.core.access_token.AccessTokenStore;
+import com.mastercard.developer.oauth2.core.access_token.ExpirationThresholdPolicy;
 import com.mastercard.developer.oauth2.core.access_token.InMemoryAccessTokenStore;
+import com.mastercard.developer.oauth2.core.clock.CoarseClock;
 import com.mastercard.developer.oauth2.core.dpop.DPoPKey;
 import com.mastercard.developer.oauth2.core.dpop.DPoPKeyProvider;
+import com.mastercard.developer.oauth2.core.rate_limit.TokenRequestRateLimiter;
+import com.mastercard.developer.oauth2.core.route.RouteCache;
 import com.mastercard.developer.oauth2.core.scope.ScopeResolver;
+import com.mastercard.developer.oauth2.core.signing.JcaJwsSigner;
+import com.mastercard.developer.oauth2.core.signing.JwsAlgorithm;
+import com.mastercard.developer.oauth2.core.signing.JwsSigner;
 import com.mastercard.developer.oauth2.http.UserAgent;
+import com.mastercard.developer.oauth2.json.JsonProvider;
 import java.net.URL;
 import java.security.Key;
 import java.security.PrivateKey;
+import java.security.Provider;
 import java.security.interfaces.ECKey;
 import java.security.interfaces.RSAKey;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
 
 /**
  * Immutable configuration for OAuth2 clients supporting DPoP-bound access tokens.
@@ -52,6 +66,13 @@ public class OAuth2Config {
     private final String kid;
     private final DPoPKeyProvider dpopKeyProvider;
     private final SecurityProfile securityProfile;
+    private final JwsSigner clientSigner;
+    private final Map<JwsAlgorithm, Provider> jcaProviders;
+    private final RouteCache routeCache;
+    private final JsonProvider jsonProvider;
+    private final Clock clock;
+    private final ExpirationThresholdPolicy expirationThresholdPolicy;
+    private final TokenRequestRateLimiter tokenRequestRateLimiter;
 
     private OAuth2Config(OAuth2ConfigBuilder builder) {
         this.clientId = builder.clientId;
@@ -60,11 +81,18 @@ public class OAuth2Config {
         this.clockSkewTolerance = builder.clockSkewTolerance;
         this.userAgent = builder.userAgent;
         this.scopeResolver = builder.scopeResolver;
-        this.accessTokenStore = builder.accessTokenStore;
+        this.accessTokenStore = builder.defaultAccessTokenStore ? new InMemoryAccessTokenStore(builder.clock, builder.expirationThresholdPolicy) : builder.accessTokenStore;
         this.clientKey = builder.clientKey;
         this.kid = builder.kid;
         this.dpopKeyProvider = builder.dpopKeyProvider;
         this.securityProfile = builder.securityProfile;
+        this.jcaProviders = new EnumMap<>(builder.jcaProviders);
+        this.clientSigner = builder.clientSigner != null ? builder.clientSigner : new JcaJwsSigner(clientKey, getJcaProvider(JwsAlgorithm.fromKey(clientKey)).orElse(null));
+        this.routeCache = builder.routeCache;
+        this.jsonProvider = builder.jsonProvider;
+        this.clock = builder.clock;
+        this.expirationThresholdPolicy = builder.expirationThresholdPolicy;
+        this.tokenRequestRateLimiter = builder.tokenRequestRateLimiter;
     }
 
     /**
@@ -114,6 +142,41 @@ public class OAuth2Config {
         return dpopKeyProvider;
     }
 
+    /**
+     * Returns the signer for client assertions, signing with the client key unless a signer was set.
+     */
+    public JwsSigner getClientSigner() {
+        return clientSigner;
+    }
+
+    /**
+     * Returns the JCA provider selected for signing with local keys (client key, DPoP keys) using the given algorithm,
+     * or an empty {@link Optional} when the default provider selection applies.
+     */
+    public Optional<Provider> getJcaProvider(JwsAlgorithm alg) {
+        return Optional.ofNullable(jcaProviders.get(alg));
+    }
+
+    public RouteCache getRouteCache() {
+        return routeCache;
+    }
+
+    public JsonProvider getJsonProvider() {
+        return jsonProvider;
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    public ExpirationThresholdPolicy getExpirationThresholdPolicy() {
+        return expirationThresholdPolicy;
+    }
+
+    public TokenRequestRateLimiter getTokenRequestRateLimiter() {
+        return tokenRequestRateLimiter;
+    }
+
     /**
      * Builder for constructing {@link OAuth2Config} instances.
      * Provides a fluent API for configuring all OAuth2 client parameters with validation
@@ -127,11 +190,19 @@ public class OAuth2Config {
         private Duration clockSkewTolerance = Duration.ofSeconds(5);
         private String userAgent = UserAgent.get();
         private ScopeResolver scopeResolver;
-        private AccessTokenStore accessTokenStore = new InMemoryAccessTokenStore();
+        private AccessTokenStore accessTokenStore;
+        private boolean defaultAccessTokenStore = true;
         private PrivateKey clientKey;
         private String kid;
         private DPoPKeyProvider dpopKeyProvider;
         private SecurityProfile securityProfile = SecurityProfile.FAPI2SP_PRIVATE_KEY_DPOP;
+        private JwsSigner clientSigner;
+        private final Map<JwsAlgorithm, Provider> jcaProviders = new EnumMap<>(JwsAlgorithm.class);
+        private RouteCache routeCache = new RouteCache(0);
+        private JsonProvider jsonProvider = JsonProvider.getInstance();
+        private Clock clock = CoarseClock.systemUTC();
+        private ExpirationThresholdPolicy expirationThresholdPolicy = ExpirationThresholdPolicy.fixed(ExpirationThresholdPolicy.DEFAULT_THRESHOLD);
+        private TokenRequestRateLimiter tokenRequestRateLimiter = TokenRequestRateLimiter.unlimited();
 
         private OAuth2ConfigBuilder() {}
 
@@ -182,10 +253,11 @@ public class OAuth2Config {
 
         /**
          * Sets the storage mechanism for caching access tokens.
-         * Default is in-memory storage.
+         * Default is in-memory storage, checking expiry against the configured clock and expiration threshold policy.
          */
         public OAuth2ConfigBuilder accessTokenStore(AccessTokenStore accessTokenStore) {
             this.accessTokenStore = accessTokenStore;
+            this.defaultAccessTokenStore = false;
             return this;
         }
 
@@ -200,6 +272,7 @@ public class OAuth2Config {
 
         /**
          * Sets the private key used for client authentication via private_key_jwt.
+         * Not required when a client signer is set.
          */
         public OAuth2ConfigBuilder clientKey(PrivateKey clientKey) {
             this.clientKey = clientKey;
@@ -231,6 +304,84 @@ public class OAuth2Config {
             return this;
         }
 
+        /**
+         * Sets the signer used for client assertions via private_key_jwt, for client keys held by an external
+         * signer (HSM, KMS, ...). Default signs with the client key using the JCA providers installed in the JVM.
+         */
+        public OAuth2ConfigBuilder clientSigner(JwsSigner clientSigner) {
+            this.clientSigner = clientSigner;
+            return this;
+        }
+
+        /**
+         * Selects the JCA provider used to sign with local keys (client key, DPoP keys) using the given algorithm,
+         * for instance a faster third-party provider.
+         * Default uses the most preferred installed provider supporting the algorithm, a null provider restores it.
+         */
+        public OAuth2ConfigBuilder jcaProvider(JwsAlgorithm alg, Provider provider) {
+            if (provider == null) {
+                this.jcaProviders.remove(alg);
+            } else {
+                this.jcaProviders.put(alg, provider);
+            }
+            return this;
+        }
+
+        /**
+         * Sets the cache for per-route values (DPoP "htu" claim and resolved scopes).
+         * Default doesn't cache, use {@code new RouteCache()} to cache up to 1024 routes when the scope resolver
+         * returns the same scopes for the same route.
+         */
+        public OAuth2ConfigBuilder routeCache(RouteCache routeCache) {
+            this.routeCache = routeCache;
+            return this;
+        }
+
+        /**
+         * Sets the JSON provider used to read access token responses.
+         * Default is the provider with the highest priority among the ones registered for {@link java.util.ServiceLoader},
+         * see {@link JsonProvider#getInstance()}. Responses are read in a single pass when it is the built-in provider.
+         * Only token responses are read with this provider: JWK files loaded with {@link com.mastercard.developer.oauth2.keys.KeyLoader}
+         * are read before any configuration exists, so they always use {@link JsonProvider#getInstance()}.
+         */
+        public OAuth2ConfigBuilder jsonProvider(JsonProvider jsonProvider) {
+            this.jsonProvider = jsonProvider;
+            return this;
+        }
+
+        /**
+         * Sets the clock used for JWT "iat", "nbf" and "exp" claims and for access token expiry, including the
+         * default in-memory token store. Tests can pass a fixed or adjustable clock to simulate expiry.
+         * Default is {@link CoarseClock#systemUTC()}, reading a cached time with a one-second resolution.
+         */
+        public OAuth2ConfigBuilder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Sets the policy deciding how long before their expiry access tokens are renewed, which is told the latency
+         * of every token endpoint request. Custom access token stores should be given the same policy.
+         * Default is a fixed 60 seconds, see {@link com.mastercard.developer.oauth2.core.access_token.LatencyBasedExpirationThresholdPolicy}
+         * for a threshold following the authorization server latency, and
+         * {@link com.mastercard.developer.oauth2.core.access_token.JitteredExpirationThresholdPolicy} for spreading renewals
+         * across instances.
+         */
+        public OAuth2ConfigBuilder expirationThresholdPolicy(ExpirationThresholdPolicy expirationThresholdPolicy) {
+            this.expirationThresholdPolicy = expirationThresholdPolicy;
+            return this;
+        }
+
+        /**
+         * Sets the limiter delaying access token requests above a given rate. Pass the same limiter to several
+         * configurations to cap their requests together, for instance across a process.
+         * Default is {@link TokenRequestRateLimiter#unlimited()}.
+         */
+        public OAuth2ConfigBuilder tokenRequestRateLimiter(TokenRequestRateLimiter tokenRequestRateLimiter) {
+            this.tokenRequestRateLimiter = tokenRequestRateLimiter;
+            return this;
+        }
+
         /**
          * Builds the OAuth2Config instance.
          */
@@ -262,13 +413,22 @@ public class OAuth2Config {
             if (scopeResolver == null) {
                 throw new OAuth2ClientConfigException("Scope resolver is required");
             }
-            if (accessTokenStore == null) {
+            if (clock == null) {
+                throw new OAuth2ClientConfigException("Clock is required");
+            }
+            if (expirationThresholdPolicy == null) {
+                throw new OAuth2ClientConfigException("Expiration threshold policy is required");
+            }
+            if (tokenRequestRateLimiter == null) {
+                throw new OAuth2ClientConfigException("Token request rate limiter is required");
+            }
+            if (!defaultAccessTokenStore && accessTokenStore == null) {
                 throw new OAuth2ClientConfigException("Token store is required");
             }
             if (userAgent == null) {
                 throw new OAuth2ClientConfigException("User agent is required");
             }
-            if (clientKey == null) {
+            if (clientKey == null && clientSigner == null) {
                 throw new OAuth2ClientConfigException("Client private key is required");
             }
             if (kid == null || kid.trim().isEmpty()) {
@@ -277,8 +437,16 @@ public class OAuth2Config {
             if (dpopKeyProvider == null) {
                 throw new OAuth2ClientConfigException("DPoP key provider is required");
             }
+            if (routeCache == null) {
+                throw new OAuth2ClientConfigException("Route cache is required");
+            }
+            if (jsonProvider == null) {
+                throw new OAuth2ClientConfigException("JSON provider is required");
+            }
             validateDPoPKey(dpopKeyProvider.getCurrentKey());
-            validateKey(clientKey);
+            if (clientKey != null) {
+                validateKey(clientKey);
+            }
         }
 
         private void validateDPoPKey(DPoPKey dPoPKey) {
@@ -329,8 +497,15 @@ public class OAuth2Config {
           scopeResolver='%s',
           kid='%s',
           clientKey='%s',
+          clientSigner='%s',
           dpopKeyProvider='%s',
-          securityProfile='%s'
+          securityProfile='%s',
+          jcaProviders='%s',
+          routeCache='%s',
+          jsonProvider='%s',
+          clock='%s',
+          expirationThresholdPolicy='%s',
+          tokenRequestRateLimiter='%s'
         }""".formatted(
                 clientId,
                 tokenEndpoint,
@@ -341,15 +516,31 @@ public class OAuth2Config {
                 formatName(scopeResolver),
                 kid,
                 formatPrivateKey(clientKey),
+                formatName(clientSigner),
                 formatName(dpopKeyProvider),
-                securityProfile
+                securityProfile,
+                formatJcaProviders(jcaProviders),
+                formatName(routeCache),
+                formatName(jsonProvider),
+                formatName(clock),
+                formatName(expirationThresholdPolicy),
+                formatName(tokenRequestRateLimiter)
             );
     }
 
     private static String formatPrivateKey(PrivateKey key) {
+        if (key == null) {
+            return null;
+        }
         return String.format("PrivateKey[class=%s, algorithm=%s, format=%s]", formatName(key), key.getAlgorithm(), key.getFormat());
     }
 
+    private static String formatJcaProviders(Map<JwsAlgorithm, Provider> providers) {
+        var joiner = new StringJoiner(", ", "{", "}");
+        providers.forEach((alg, provider) -> joiner.add(alg.alg() + "=" + provider.getName()));
+        return joiner.toString();
+    }
+
     private static String formatName(Object object) {
         var simpleName = object.getClass().getSimpleName();
         return !simpleName.isBlank() ? simpleName : object.getClass().getName();
@@ -8,26 +8,53 @@ import com.mastercard.developer.oauth2.core.access_token.AccessTokenFilter;
 import com.mastercard.developer.oauth2.core.access_token.AccessTokenStore;
 import com.mastercard.developer.oauth2.core.dpop.DPoPKey;
 import com.mastercard.developer.oauth2.core.dpop.DPoPKeyProvider;
+import com.mastercard.developer.oauth2.core.rate_limit.TokenRequestRateLimiter;
+import com.mastercard.developer.oauth2.core.route.RouteCache;
+import com.mastercard.developer.oauth2.core.route.RouteCache.Route;
 import com.mastercard.developer.oauth2.core.scope.ScopeResolver;
+import com.mastercard.developer.oauth2.core.signing.JcaJwsSigner;
+import com.mastercard.developer.oauth2.core.signing.JwsAlgorithm;
+import com.mastercard.developer.oauth2.core.signing.JwsSigner;
 import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
+import com.mastercard.developer.oauth2.http.AsyncHttpAdapter;
+import com.mastercard.developer.oauth2.http.ConnectionWarmUp;
 import com.mastercard.developer.oauth2.http.HttpAdapter;
 import com.mastercard.developer.oauth2.http.HttpHeaders;
+import com.mastercard.developer.oauth2.http.HttpMessageAdapter;
 import com.mastercard.developer.oauth2.internal.jose.Jwk;
-import com.mastercard.developer.oauth2.internal.jose.Jws;
-import com.mastercard.developer.oauth2.internal.jose.JwsAlgorithm;
-import com.mastercard.developer.oauth2.internal.jose.Jwt;
-import com.mastercard.developer.oauth2.internal.json.JsonProvider;
-import java.net.URI;
+import com.mastercard.developer.oauth2.internal.jose.JwsCompactWriter;
+import com.mastercard.developer.oauth2.internal.json.AccessTokenResponseParser;
+import com.mastercard.developer.oauth2.internal.json.AccessTokenResponseParser.ParsedAccessTokenResponse;
+import com.mastercard.developer.oauth2.internal.json.BuiltInJsonProvider;
+import com.mastercard.developer.oauth2.internal.json.JsonErrorScanner;
+import com.mastercard.developer.oauth2.json.JsonProvider;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.security.*;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,7 +70,10 @@ public final class OAuth2Handler {
     private final DPoPKeyProvider dpopKeyProvider;
     private final ScopeResolver scopeResolver;
     private final AccessTokenStore tokenStore;
+    private final RouteCache routeCache;
+    private final HttpHeaders tokenRequestHeaders;
     private volatile String nonce;
+    private volatile DPoPSigner dpopSigner;
     private static final Logger logger = LoggerFactory.getLogger(OAuth2Handler.class);
 
     /**
@@ -54,6 +84,12 @@ public final class OAuth2Handler {
         this.dpopKeyProvider = config.getDPoPKeyProvider();
         this.scopeResolver = config.getScopeResolver();
         this.tokenStore = config.getAccessTokenStore();
+        this.routeCache = config.getRouteCache();
+        this.tokenRequestHeaders = new HttpHeaders()
+            .add(USER_AGENT, config.getUserAgent())
+            .add(CONTENT_TYPE, "application/x-www-form-urlencoded")
+            .add(ACCEPT, "application/json")
+            .toImmutable();
     }
 
     /**
@@ -69,7 +105,8 @@ public final class OAuth2Handler {
         DPoPKey dpopKey = getDPoPKey();
 
         // Retrieve scopes needed for the request
-        Set<String> scopes = getScopes(request, adapter);
+        var resourceRequest = new ResourceRequest<>(request, method, resourceUrl, getRoute(method, resourceUrl));
+        Set<String> scopes = resourceRequest.route().scopes();
 
         // Retrieve an access token (from the store or new)
         AccessTokenResult<Response> result = retrieveAccessToken(request, adapter, scopes, dpopKey);
@@ -79,7 +116,195 @@ public final class OAuth2Handler {
 
         // Call the resource server with the access token
         String accessToken = result.accessToken().tokenValue();
-        return sendOriginalRequest(request, adapter, accessToken, dpopKey.getKeyId());
+        return sendOriginalRequest(resourceRequest, adapter, accessToken, dpopKey.getKeyId(), null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute(Object, HttpAdapter)}. The token lookup, the token request (if needed),
+     * the DPoP proof creation and the API call are chained as completion stages, with `use_dpop_nonce` retries composed
+     * as further stages, so no thread is blocked while requests are in flight.
+     * Exceptions are reported through the returned future. Cancelling the returned future cancels the exchange in flight,
+     * skips the next ones, and closes a response received after the cancellation.
+     */
+    public <Request, Response> CompletableFuture<Response> executeAsync(Request request, AsyncHttpAdapter<Request, Response> adapter) {
+        var cancellableAdapter = new CancellableAsyncHttpAdapter<>(adapter);
+        return cancellableAdapter.complete(executeFlowAsync(request, cancellableAdapter));
+    }
+
+    private <Request, Response> CompletableFuture<Response> executeFlowAsync(Request request, AsyncHttpAdapter<Request, Response> adapter) {
+        try {
+            String method = adapter.getMethod(request);
+            URL resourceUrl = adapter.getUrl(request);
+            logger.info("Intercepting API request: {} {}", method, resourceUrl);
+            logger.debug("Using configuration:\n{}", config);
+
+            // Obtain a stable DPoP key for this cycle
+            DPoPKey dpopKey = getDPoPKey();
+
+            // Retrieve scopes needed for the request
+            var resourceRequest = new ResourceRequest<>(request, method, resourceUrl, getRoute(method, resourceUrl));
+            Set<String> scopes = resourceRequest.route().scopes();
+
+            // Retrieve an access token (from the store or new), then call the resource server with it
+            return retrieveAccessTokenAsync(request, adapter, scopes, dpopKey).thenCompose(result -> {
+                if (result.hasError()) {
+                    return CompletableFuture.completedFuture(result.errorResponse);
+                }
+                return sendOriginalRequestAsync(resourceRequest, adapter, result.accessToken().tokenValue(), dpopKey.getKeyId());
+            });
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Batch entry point for fan-out workloads, using the common fork-join pool.
+     * See {@link #executeAll(List, HttpAdapter, ForkJoinPool)}.
+     */
+    public <Request, Response> List<Response> executeAll(List<Request> requests, HttpAdapter<Request, Response> adapter) throws Exception {
+        return executeAll(requests, adapter, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Batch entry point for fan-out workloads. Scopes are resolved once per route, and one access token is looked up
+     * (or requested) per distinct set of scopes, so that no request carries more scopes than its route needs and the
+     * tokens are the same as the ones used by {@link #execute}. DPoP proofs are then signed in parallel on the given pool,
+     * requests are sent concurrently through the adapter, and responses are returned in the order of the requests.
+     * If any request fails, the other responses are closed and the first failure is thrown, with the others suppressed.
+     */
+    public <Request, Response> List<Response> executeAll(List<Request> requests, HttpAdapter<Request, Response> adapter, ForkJoinPool pool) throws Exception {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        logger.info("Intercepting {} API requests", requests.size());
+        logger.debug("Using configuration:\n{}", config);
+
+        // Obtain a stable DPoP key for the whole group
+        DPoPKey dpopKey = getDPoPKey();
+
+        // Retrieve scopes needed for each request, and group requests needing the same scopes
+        List<ResourceRequest<Request>> resourceRequests = new ArrayList<>(requests.size());
+        Map<Set<String>, Request> scopeGroups = new LinkedHashMap<>();
+        for (Request request : requests) {
+            String method = adapter.getMethod(request);
+            URL resourceUrl = adapter.getUrl(request);
+            var resourceRequest = new ResourceRequest<>(request, method, resourceUrl, getRoute(method, resourceUrl));
+            resourceRequests.add(resourceRequest);
+            scopeGroups.putIfAbsent(resourceRequest.route().scopes(), request);
+        }
+
+        // Retrieve an access token for each group (from the store or new)
+        Map<Set<String>, BatchAccessToken> accessTokens = new HashMap<>();
+        for (Map.Entry<Set<String>, Request> scopeGroup : scopeGroups.entrySet()) {
+            AccessTokenResult<Response> result = retrieveAccessToken(scopeGroup.getValue(), adapter, scopeGroup.getKey(), dpopKey);
+            if (result.hasError()) {
+                int statusCode = adapter.getStatusCode(result.errorResponse);
+                adapter.close(result.errorResponse);
+                throw new OAuth2ClientException("Access token request failed (HTTP %d)".formatted(statusCode));
+            }
+            String accessToken = result.accessToken().tokenValue();
+            accessTokens.put(scopeGroup.getKey(), new BatchAccessToken(accessToken, computeAth(accessToken)));
+        }
+        String dpopKeyId = dpopKey.getKeyId();
+
+        // Sign all DPoP proofs in parallel
+        String currentNonce = nonce;
+        DPoPSigner signer = getDPoPSigner(dpopKeyId);
+        List<String> dpopProofs = await(
+            pool.submit(() ->
+                resourceRequests
+                    .parallelStream()
+                    .map(resourceRequest -> {
+                        String ath = accessTokens.get(resourceRequest.route().scopes()).ath();
+                        return createDPoPForHtu(config, signer, resourceRequest.method(), resourceRequest.route().htu(), ath, currentNonce);
+                    })
+                    .toList()
+            )
+        );
+
+        // Send all requests concurrently
+        List<ForkJoinTask<Response>> tasks = new ArrayList<>(requests.size());
+        for (var i = 0; i < resourceRequests.size(); i++) {
+            ResourceRequest<Request> resourceRequest = resourceRequests.get(i);
+            String accessToken = accessTokens.get(resourceRequest.route().scopes()).tokenValue();
+            String dpopProof = dpopProofs.get(i);
+            tasks.add(pool.submit(() -> managedBlock(() -> sendOriginalRequest(resourceRequest, adapter, accessToken, dpopKeyId, dpopProof))));
+        }
+
+        // Wait for every request before collecting responses in order, so that no response is left open on failure
+        List<Response> responses = new ArrayList<>(tasks.size());
+        Exception failure = null;
+        for (ForkJoinTask<Response> task : tasks) {
+            task.quietlyJoin();
+            if (task.isCompletedNormally()) {
+                responses.add(task.getRawResult());
+                continue;
+            }
+            Exception exception = unwrap(task.getException());
+            if (failure == null) {
+                failure = exception;
+            } else {
+                failure.addSuppressed(exception);
+            }
+        }
+        if (failure != null) {
+            for (Response response : responses) {
+                closeQuietly(adapter, response, failure);
+            }
+            throw failure;
+        }
+        return responses;
+    }
+
+    private static <Response> void closeQuietly(HttpMessageAdapter<?, Response> adapter, Response response, Exception failure) {
+        try {
+            adapter.close(response);
+        } catch (Exception e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Opens a connection to the token endpoint with the given adapter, so that the first token request doesn't pay for
+     * the DNS lookup and the TCP and TLS handshakes. Gives up after the given deadline. Failures are logged and
+     * otherwise ignored, since a connection is opened anyway when the first token is requested.
+     * @return true when the connection was opened before the deadline.
+     */
+    public boolean warmUp(ConnectionWarmUp adapter, Duration deadline) {
+        URL tokenEndpoint = config.getTokenEndpoint();
+        logger.info("Warming up connection to {}", tokenEndpoint);
+        var warmUp = CompletableFuture.runAsync(
+            () -> {
+                try {
+                    adapter.warmUp(tokenEndpoint, deadline);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            },
+            OAuth2Handler::startWarmUpThread
+        );
+        try {
+            warmUp.get(deadline.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            logger.warn("Connection to {} not warmed up within {}", tokenEndpoint, deadline);
+        } catch (ExecutionException e) {
+            logger.warn("Failed to warm up connection to {}: {}", tokenEndpoint, e.getCause().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /**
+     * Runs a warm-up on a daemon thread of its own, so that a slow endpoint can't block a shared pool or the JVM exit.
+     */
+    private static void startWarmUpThread(Runnable runnable) {
+        var thread = new Thread(runnable, "oauth2-warm-up");
+        thread.setDaemon(true);
+        thread.start();
     }
 
     private DPoPKey getDPoPKey() {
@@ -90,13 +315,11 @@ public final class OAuth2Handler {
         return dpopKey;
     }
 
-    private <Request, Response> Set<String> getScopes(Request originalRequest, HttpAdapter<Request, Response> adapter) throws Exception {
+    private Route getRoute(String method, URL resourceUrl) {
         logger.info("Resolving scopes");
-        URL resourceUrl = adapter.getUrl(originalRequest);
-        String method = adapter.getMethod(originalRequest);
-        Set<String> scopes = scopeResolver.resolve(method, resourceUrl);
-        logger.debug("Scopes: {}", scopes);
-        return scopes;
+        Route route = routeCache.get(method, resourceUrl, scopeResolver);
+        logger.debug("Scopes: {}", route.scopes());
+        return route;
     }
 
     private <Request, Response> AccessTokenResult<Response> retrieveAccessToken(
@@ -106,25 +329,103 @@ public final class OAuth2Handler {
         DPoPKey dpopKey
     ) throws Exception {
         String jkt = Jwk.fromKey(dpopKey.getKeyPair().getPublic()).computeThumbprint();
-        logger.info("Checking access token store");
-        var filter = AccessTokenFilter.byJktAndScopes(jkt, scopes);
-        logger.debug("Filter: {}", filter);
-        Optional<AccessToken> existingToken = tokenStore.get(filter);
+        Optional<AccessToken> existingToken = findAccessToken(jkt, scopes);
         if (existingToken.isPresent()) {
-            AccessToken accessToken = existingToken.get();
-            logger.debug("Valid access token found: {}", accessToken);
-            return AccessTokenResult.from(accessToken);
+            return AccessTokenResult.from(existingToken.get());
+        }
+        TokenRequestAdmission admission = admitAccessTokenRequest(jkt, scopes);
+        if (admission.coveringToken() != null) {
+            return AccessTokenResult.from(admission.coveringToken());
         }
 
         logger.info("No valid access token, requesting new access token: POST {}", config.getTokenEndpoint());
         String dpopKeyId = dpopKey.getKeyId();
-        Response tokenResponse = makeAccessTokenRequest(originalRequest, adapter, dpopKeyId, scopes);
+        Response tokenResponse = makeAccessTokenRequest(originalRequest, adapter, dpopKeyId, scopes, admission.delay());
         if (mustRetryRequest(adapter, tokenResponse)) {
             adapter.close(tokenResponse);
             logger.debug("`use_dpop_nonce` returned, retrying access token request");
-            tokenResponse = makeAccessTokenRequest(originalRequest, adapter, dpopKeyId, scopes);
+            tokenResponse = makeAccessTokenRequest(originalRequest, adapter, dpopKeyId, scopes, reserveAccessTokenRequest());
+        }
+        return handleAccessTokenResponse(adapter, tokenResponse, jkt, scopes);
+    }
+
+    private <Request, Response> CompletableFuture<AccessTokenResult<Response>> retrieveAccessTokenAsync(
+        Request originalRequest,
+        AsyncHttpAdapter<Request, Response> adapter,
+        Set<String> scopes,
+        DPoPKey dpopKey
+    ) throws Exception {
+        String jkt = Jwk.fromKey(dpopKey.getKeyPair().getPublic()).computeThumbprint();
+        Optional<AccessToken> existingToken = findAccessToken(jkt, scopes);
+        if (existingToken.isPresent()) {
+            return CompletableFuture.completedFuture(AccessTokenResult.from(existingToken.get()));
+        }
+        TokenRequestAdmission admission = admitAccessTokenRequest(jkt, scopes);
+        if (admission.coveringToken() != null) {
+            return CompletableFuture.completedFuture(AccessTokenResult.from(admission.coveringToken()));
         }
 
+        logger.info("No valid access token, requesting new access token: POST {}", config.getTokenEndpoint());
+        String dpopKeyId = dpopKey.getKeyId();
+        return makeAccessTokenRequestAsync(originalRequest, adapter, dpopKeyId, scopes, admission.delay())
+            .thenCompose(
+                unchecked(tokenResponse -> {
+                    if (!mustRetryRequest(adapter, tokenResponse)) {
+                        return CompletableFuture.completedFuture(tokenResponse);
+                    }
+                    adapter.close(tokenResponse);
+                    logger.debug("`use_dpop_nonce` returned, retrying access token request");
+                    return makeAccessTokenRequestAsync(originalRequest, adapter, dpopKeyId, scopes, reserveAccessTokenRequest());
+                })
+            )
+            .thenApply(unchecked(tokenResponse -> handleAccessTokenResponse(adapter, tokenResponse, jkt, scopes)));
+    }
+
+    /**
+     * Takes a permit for an access token request from the rate limiter. When no permit is available right away, a
+     * stored token covering the scopes is used if there is one, so that the request doesn't wait for nothing.
+     * Otherwise the request waits its turn, or is rejected if too many requests are waiting or the wait is too long.
+     */
+    private TokenRequestAdmission admitAccessTokenRequest(String jkt, Set<String> scopes) {
+        TokenRequestRateLimiter limiter = config.getTokenRequestRateLimiter();
+        if (limiter.tryAcquire()) {
+            return new TokenRequestAdmission(null, Duration.ZERO);
+        }
+        Optional<AccessToken> coveringToken = tokenStore.getCovering(AccessTokenFilter.byJktAndScopes(jkt, scopes));
+        if (coveringToken.isPresent()) {
+            logger.debug("Token request rate limit reached, using access token covering the scopes: {}", coveringToken.get());
+            return new TokenRequestAdmission(coveringToken.get(), null);
+        }
+        return new TokenRequestAdmission(null, reserveAccessTokenRequest());
+    }
+
+    /**
+     * Reserves a permit for an access token request, including a retry with a DPoP nonce, which the rate limiter counts
+     * as another request. Returns how long to wait for the permit, or rejects the request if too many requests are
+     * waiting or the wait is too long.
+     */
+    private Duration reserveAccessTokenRequest() {
+        return config
+            .getTokenRequestRateLimiter()
+            .tryReserve()
+            .orElseThrow(() -> new OAuth2ClientException("Token request rate limit exceeded: POST %s".formatted(config.getTokenEndpoint())));
+    }
+
+    private Optional<AccessToken> findAccessToken(String jkt, Set<String> scopes) {
+        logger.info("Checking access token store");
+        var filter = AccessTokenFilter.byJktAndScopes(jkt, scopes);
+        logger.debug("Filter: {}", filter);
+        Optional<AccessToken> existingToken = tokenStore.get(filter);
+        existingToken.ifPresent(accessToken -> logger.debug("Valid access token found: {}", accessToken));
+        return existingToken;
+    }
+
+    private <Request, Response> AccessTokenResult<Response> handleAccessTokenResponse(
+        HttpMessageAdapter<Request, Response> adapter,
+        Response tokenResponse,
+        String jkt,
+        Set<String> requestedScopes
+    ) throws Exception {
         String body = adapter.readBody(tokenResponse).orElse(null);
         int statusCode = adapter.getStatusCode(tokenResponse);
         if (isSuccess(statusCode)) {
@@ -138,21 +439,78 @@ public final class OAuth2Handler {
             return AccessTokenResult.from(tokenResponse);
         }
         adapter.close(tokenResponse);
-        AccessTokenResponse accessTokenResponse = parseAccessTokenJson(body);
+        AccessTokenResponse accessTokenResponse = parseAccessTokenJson(body, config.getJsonProvider(), requestedScopes, config.getClock());
         var accessToken = new AccessToken(config.getClientId(), accessTokenResponse.scopes(), accessTokenResponse.expiry(), jkt, accessTokenResponse.tokenValue());
         logger.debug("Adding access token to store: {}", accessToken);
         tokenStore.put(accessToken);
         return AccessTokenResult.from(accessToken);
     }
 
-    private <Request, Response> Response makeAccessTokenRequest(Request originalRequest, HttpAdapter<Request, Response> adapter, String dpopKeyId, Set<String> scopes)
-        throws Exception {
-        URL tokenUrl = config.getTokenEndpoint();
+    private <Request, Response> Response makeAccessTokenRequest(
+        Request originalRequest,
+        HttpAdapter<Request, Response> adapter,
+        String dpopKeyId,
+        Set<String> scopes,
+        Duration wait
+    ) throws Exception {
+        if (!wait.isZero()) {
+            logger.debug("Token request rate limit reached, waiting {} ms", wait.toMillis());
+            Thread.sleep(wait.toMillis());
+        }
+        AccessTokenRequest tokenRequest = createAccessTokenRequest(dpopKeyId, scopes);
+        long start = System.nanoTime();
+        Response response = adapter.sendAccessTokenRequest(originalRequest, config.getTokenEndpoint(), tokenRequest.formBody(), tokenRequest.headers());
+        recordTokenRequestLatency(start);
+        return updateNonce(adapter, response);
+    }
+
+    private <Request, Response> CompletableFuture<Response> makeAccessTokenRequestAsync(
+        Request originalRequest,
+        AsyncHttpAdapter<Request, Response> adapter,
+        String dpopKeyId,
+        Set<String> scopes,
+        Duration wait
+    ) {
+        if (wait.isZero()) {
+            return sendAccessTokenRequestAsync(originalRequest, adapter, dpopKeyId, scopes);
+        }
+        logger.debug("Token request rate limit reached, delaying request by {} ms", wait.toMillis());
+        Executor delayedExecutor = CompletableFuture.delayedExecutor(wait.toMillis(), TimeUnit.MILLISECONDS);
+        return CompletableFuture.supplyAsync(() -> null, delayedExecutor).thenCompose(ignored -> sendAccessTokenRequestAsync(originalRequest, adapter, dpopKeyId, scopes));
+    }
+
+    private <Request, Response> CompletableFuture<Response> sendAccessTokenRequestAsync(
+        Request originalRequest,
+        AsyncHttpAdapter<Request, Response> adapter,
+        String dpopKeyId,
+        Set<String> scopes
+    ) {
+        AccessTokenRequest tokenRequest = createAccessTokenRequest(dpopKeyId, scopes);
+        long start = System.nanoTime();
+        return adapter
+            .sendAccessTokenRequestAsync(originalRequest, config.getTokenEndpoint(), tokenRequest.formBody(), tokenRequest.headers())
+            .thenApply(
+                unchecked(response -> {
+                    recordTokenRequestLatency(start);
+                    return updateNonce(adapter, response);
+                })
+            );
+    }
+
+    /**
+     * Reports the latency of a token endpoint request to the expiration threshold policy.
+     */
+    private void recordTokenRequestLatency(long startNanos) {
+        Duration latency = Duration.ofNanos(System.nanoTime() - startNanos);
+        config.getExpirationThresholdPolicy().recordTokenRequest(latency);
+    }
+
+    private AccessTokenRequest createAccessTokenRequest(String dpopKeyId, Set<String> scopes) {
         String clientId = config.getClientId();
         if (logger.isDebugEnabled()) {
             logger.debug("Creating token request DPoP proof (nonce: {})", logNonce(nonce));
         }
-        String dpopProof = createTokenRequestDPoP(config, dpopKeyId, nonce);
+        String dpopProof = createDPoP(config, getDPoPSigner(dpopKeyId), "POST", config.getTokenEndpoint().toString(), null, nonce);
         logger.debug("Token request DPoP proof: {}", dpopProof);
         var scope = String.join(" ", scopes);
         logger.debug("Creating client assertion");
@@ -160,53 +518,96 @@ public final class OAuth2Handler {
         logger.debug("Client assertion: {}", clientAssertion);
         String formBody = createAccessTokenRequestBody(clientId, scope, clientAssertion);
         logger.debug("Sending access token request with body: {}", formBody);
-        var headers = new HttpHeaders()
-            .add(USER_AGENT, config.getUserAgent())
-            .add(CONTENT_TYPE, "application/x-www-form-urlencoded")
-            .add(ACCEPT, "application/json")
-            .add(DPOP, dpopProof);
-        Response response = adapter.sendAccessTokenRequest(originalRequest, tokenUrl, formBody, headers);
-        updateNonce(adapter, response);
-        return response;
+        var headers = new HttpHeaders(tokenRequestHeaders).add(DPOP, dpopProof);
+        return new AccessTokenRequest(formBody, headers);
     }
 
-    private <Request, Response> Response sendOriginalRequest(Request request, HttpAdapter<Request, Response> adapter, String accessToken, String dpopKeyId) throws Exception {
-        String method = adapter.getMethod(request);
-        URL resourceUrl = adapter.getUrl(request);
-        logger.info("Making API call: {} {}", method, resourceUrl);
-        Response response = makeResourceRequest(request, adapter, accessToken, dpopKeyId);
+    private <Request, Response> Response sendOriginalRequest(
+        ResourceRequest<Request> resourceRequest,
+        HttpAdapter<Request, Response> adapter,
+        String accessToken,
+        String dpopKeyId,
+        String dpopProofOrNull
+    ) throws Exception {
+        logger.info("Making API call: {} {}", resourceRequest.method(), resourceRequest.url());
+        Response response = makeResourceRequest(resourceRequest, adapter, accessToken, dpopKeyId, dpopProofOrNull);
         if (mustRetryRequest(adapter, response)) {
             adapter.close(response);
             logger.debug("`use_dpop_nonce` returned, retrying API call");
-            response = makeResourceRequest(request, adapter, accessToken, dpopKeyId);
+            response = makeResourceRequest(resourceRequest, adapter, accessToken, dpopKeyId, null);
         }
-        String body = adapter.readBody(response).orElse(null);
+        return handleResourceResponse(adapter, response);
+    }
+
+    private <Request, Response> CompletableFuture<Response> sendOriginalRequestAsync(
+        ResourceRequest<Request> resourceRequest,
+        AsyncHttpAdapter<Request, Response> adapter,
+        String accessToken,
+        String dpopKeyId
+    ) {
+        logger.info("Making API call: {} {}", resourceRequest.method(), resourceRequest.url());
+        return makeResourceRequestAsync(resourceRequest, adapter, accessToken, dpopKeyId)
+            .thenCompose(
+                unchecked(response -> {
+                    if (!mustRetryRequest(adapter, response)) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    adapter.close(response);
+                    logger.debug("`use_dpop_nonce` returned, retrying API call");
+                    return makeResourceRequestAsync(resourceRequest, adapter, accessToken, dpopKeyId);
+                })
+            )
+            .thenApply(unchecked(response -> handleResourceResponse(adapter, response)));
+    }
+
+    private <Request, Response> Response handleResourceResponse(HttpMessageAdapter<Request, Response> adapter, Response response) throws Exception {
         int statusCode = adapter.getStatusCode(response);
         if (isSuccess(statusCode)) {
-            if (logger.isDebugEnabled()) {
-                logger.debug("API call successful (HTTP {}), body: {}", statusCode, logBody(body));
-            }
+            // The body of successful responses is left untouched, for the caller to stream it
+            logger.debug("API call successful (HTTP {})", statusCode);
         } else {
             if (logger.isErrorEnabled()) {
+                String body = adapter.peekBody(response, HttpMessageAdapter.BODY_PEEK_LIMIT).orElse(null);
                 logger.error("API call failed (HTTP {}), body: {}", statusCode, logBody(body));
             }
         }
         return response;
     }
 
-    private <Request, Response> Response makeResourceRequest(Request request, HttpAdapter<Request, Response> adapter, String accessToken, String dpopKeyId) throws Exception {
-        String method = adapter.getMethod(request);
-        String resourceUrl = adapter.getUrl(request).toString();
-        if (logger.isDebugEnabled()) {
-            logger.debug("Creating resource request DPoP proof (nonce: {})", logNonce(nonce));
+    private <Request, Response> Response makeResourceRequest(
+        ResourceRequest<Request> resourceRequest,
+        HttpAdapter<Request, Response> adapter,
+        String accessToken,
+        String dpopKeyId,
+        String dpopProofOrNull
+    ) throws Exception {
+        HttpHeaders headers = createResourceRequestHeaders(resourceRequest, accessToken, dpopKeyId, dpopProofOrNull);
+        Response response = adapter.sendResourceRequest(resourceRequest.request(), headers);
+        return updateNonce(adapter, response);
+    }
+
+    private <Request, Response> CompletableFuture<Response> makeResourceRequestAsync(
+        ResourceRequest<Request> resourceRequest,
+        AsyncHttpAdapter<Request, Response> adapter,
+        String accessToken,
+        String dpopKeyId
+    ) {
+        HttpHeaders headers = createResourceRequestHeaders(resourceRequest, accessToken, dpopKeyId, null);
+        return adapter.sendResourceRequestAsync(resourceRequest.request(), headers).thenApply(unchecked(response -> updateNonce(adapter, response)));
+    }
+
+    private <Request> HttpHeaders createResourceRequestHeaders(ResourceRequest<Request> resourceRequest, String accessToken, String dpopKeyId, String dpopProofOrNull) {
+        String dpopProof = dpopProofOrNull;
+        if (dpopProof == null) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Creating resource request DPoP proof (nonce: {})", logNonce(nonce));
+            }
+            dpopProof = createDPoPForHtu(config, getDPoPSigner(dpopKeyId), resourceRequest.method(), resourceRequest.route().htu(), computeAth(accessToken), nonce);
         }
-        String dpopProof = createResourceRequestDPoP(config, dpopKeyId, method, resourceUrl, accessToken, nonce);
         logger.debug("Resource request DPoP proof: {}", dpopProof);
         var headers = new HttpHeaders().add(USER_AGENT, config.getUserAgent()).add(AUTHORIZATION, "DPoP " + accessToken).add(DPOP, dpopProof);
         logger.debug("Sending request");
-        Response response = adapter.sendResourceRequest(request, headers);
-        updateNonce(adapter, response);
-        return response;
+        return headers;
     }
 
     /**
@@ -215,34 +616,36 @@ public final class OAuth2Handler {
      * <li><a href="https://datatracker.ietf.org/doc/html/rfc9449#section-8">RFC 9449 Section 8</a> (Authorization Server)</li>
      * <li><a href="https://datatracker.ietf.org/doc/html/rfc9449#section-9">RFC 9449 Section 9</a> (Resource Server)</li>
      * </ul>
+     * The WWW-Authenticate header is checked first, and only the beginning of the body is scanned for the `error` member when the
+     * header doesn't signal the error.
      */
-    private <Request, Response> boolean mustRetryRequest(HttpAdapter<Request, Response> adapter, Response response) throws Exception {
+    private <Request, Response> boolean mustRetryRequest(HttpMessageAdapter<Request, Response> adapter, Response response) throws Exception {
         int statusCode = adapter.getStatusCode(response);
         if (statusCode != 401 && statusCode != 400) {
             return false;
         }
-        String body = adapter.readBody(response).orElse(null);
-        Map<String, Object> jsonMap = JsonProvider.getInstance().tryParse(body).orElse(Map.of());
-        if ("use_dpop_nonce".equals(jsonMap.get("error"))) {
+        Optional<String> wwwAuthenticate = adapter.getHeader(response, WWW_AUTHENTICATE.value());
+        if (wwwAuthenticate.map(header -> header.contains("use_dpop_nonce")).orElse(false)) {
             return true;
         }
-        Optional<String> wwwAuthenticate = adapter.getHeader(response, WWW_AUTHENTICATE.value());
-        return wwwAuthenticate.map(header -> header.contains("use_dpop_nonce")).orElse(false);
+        String body = adapter.peekBody(response, HttpMessageAdapter.BODY_PEEK_LIMIT).orElse(null);
+        return JsonErrorScanner.hasError(body, "use_dpop_nonce", HttpMessageAdapter.BODY_PEEK_LIMIT);
     }
 
     /**
      * Check if a nonce was returned in the response headers and update the current nonce accordingly.
      * See: <a href="https://datatracker.ietf.org/doc/html/rfc9449">OAuth 2.0 Demonstrating Proof of Possession (DPoP)</a>
      */
-    private <Request, Response> void updateNonce(HttpAdapter<Request, Response> adapter, Response response) throws Exception {
+    private <Request, Response> Response updateNonce(HttpMessageAdapter<Request, Response> adapter, Response response) throws Exception {
         if (response == null) {
-            return;
+            return null;
         }
         Optional<String> dpopNonce = adapter.getHeader(response, DPOP_NONCE.value());
         if (dpopNonce.isPresent() && !dpopNonce.get().isEmpty()) {
             nonce = dpopNonce.get();
             logger.debug("New DPoP nonce from server: {}", nonce);
         }
+        return response;
     }
 
     /**
@@ -252,31 +655,30 @@ public final class OAuth2Handler {
      */
     public static String createClientAssertion(OAuth2Config config) {
         try {
-            PrivateKey clientKey = config.getClientKey();
+            JwsSigner clientSigner = config.getClientSigner();
             String clientId = config.getClientId();
             String kid = config.getKid();
             String audience = config.getIssuer().toString(); // The authorization server's issuer identifier value as per https://openid.bitbucket.io/fapi/fapi-security-profile-2_0.html#name-general-requirements-2
             Duration clockSkewTolerance = config.getClockSkewTolerance();
-            var alg = JwsAlgorithm.fromKey(clientKey);
-            var now = Instant.now();
-            long issuedAt = now.getEpochSecond();
-            long expiresAt = now.plusSeconds(90).plusSeconds(clockSkewTolerance.getSeconds()).getEpochSecond(); // 1.5 min + clock skew tolerance
-            long notBefore = now.minusSeconds(clockSkewTolerance.getSeconds()).getEpochSecond();
-
-            var jwt = new Jwt();
-            jwt.addHeaderParam("alg", JwsAlgorithm.fromKey(clientKey));
-            jwt.addHeaderParam("typ", "JWT");
-            jwt.addHeaderParam("kid", kid);
-            jwt.addClaim("jti", randomJti());
-            jwt.addClaim("sub", clientId);
-            jwt.addClaim("iss", clientId);
-            jwt.addClaim("aud", audience);
-            jwt.addClaim("iat", issuedAt);
-            jwt.addClaim("exp", expiresAt);
-            jwt.addClaim("nbf", notBefore);
-
-            Jws.sign(jwt, clientKey, alg);
-            return jwt.getSerialized();
+            var alg = clientSigner.getAlgorithm();
+            long issuedAt = config.getClock().instant().getEpochSecond();
+            long expiresAt = issuedAt + 90 + clockSkewTolerance.getSeconds(); // 1.5 min + clock skew tolerance
+            long notBefore = issuedAt - clockSkewTolerance.getSeconds();
+
+            return JwsCompactWriter.get()
+                .startHeader()
+                .add("alg", alg.alg())
+                .add("typ", "JWT")
+                .add("kid", kid)
+                .startPayload()
+                .add("jti", randomJti())
+                .add("sub", clientId)
+                .add("iss", clientId)
+                .add("aud", audience)
+                .add("iat", issuedAt)
+                .add("exp", expiresAt)
+                .add("nbf", notBefore)
+                .sign(clientSigner);
         } catch (OAuth2ClientException e) {
             throw e;
         } catch (Exception e) {
@@ -289,7 +691,7 @@ public final class OAuth2Handler {
      * This token proves possession of the DPoP key pair when requesting an access token.
      */
     public static String createTokenRequestDPoP(OAuth2Config config, String dpopKeyId, String nonceOrNull) {
-        return createDPoP(config, dpopKeyId, "POST", config.getTokenEndpoint().toString(), null, nonceOrNull);
+        return createDPoP(config, DPoPSigner.create(config, dpopKeyId), "POST", config.getTokenEndpoint().toString(), null, nonceOrNull);
     }
 
     /**
@@ -297,7 +699,7 @@ public final class OAuth2Handler {
      * This token proves possession of the DPoP key pair and binds it to the access token.
      */
     public static String createResourceRequestDPoP(OAuth2Config config, String dpopKeyId, String htm, String resourceUrl, String accessToken, String nonceOrNull) {
-        return createDPoP(config, dpopKeyId, htm, resourceUrl, computeAth(accessToken), nonceOrNull);
+        return createDPoP(config, DPoPSigner.create(config, dpopKeyId), htm, resourceUrl, computeAth(accessToken), nonceOrNull);
     }
 
     /**
@@ -314,23 +716,33 @@ public final class OAuth2Handler {
      * See: <a href="https://datatracker.ietf.org/doc/html/rfc6749#section-5.1">RFC 6749 Section 5.1</a>
      */
     public static AccessTokenResponse parseAccessTokenJson(String accessTokenResponse) {
+        return parseAccessTokenJson(accessTokenResponse, JsonProvider.getInstance(), Set.of(), Clock.systemUTC());
+    }
+
+    /**
+     * Parses a JSON access token response, reusing the instances of the known scopes (usually the requested ones, which
+     * come from the scope resolver) for the scopes granted.
+     * The built-in JSON provider reads the response in a single pass, other providers parse it into a {@link java.util.Map} first.
+     * The expiry is computed from the given clock.
+     */
+    private static AccessTokenResponse parseAccessTokenJson(String accessTokenResponse, JsonProvider jsonProvider, Set<String> knownScopes, Clock clock) {
         try {
             if (accessTokenResponse == null || accessTokenResponse.isBlank()) {
                 throw new OAuth2ClientException("Empty access token response");
             }
-            Map<String, Object> jsonMap = JsonProvider.getInstance().parse(accessTokenResponse);
-            String tokenValue = (String) jsonMap.get("access_token");
+            ParsedAccessTokenResponse parsedResponse = jsonProvider instanceof BuiltInJsonProvider
+                ? AccessTokenResponseParser.parse(accessTokenResponse, knownScopes)
+                : AccessTokenResponseParser.fromMap(jsonProvider.parse(accessTokenResponse), knownScopes);
+            String tokenValue = parsedResponse.accessToken();
             if (null == tokenValue) {
                 throw new OAuth2ClientException("Missing value in access token response: access_token");
             }
-            var expiresInSeconds = (Number) jsonMap.get("expires_in");
+            Long expiresInSeconds = parsedResponse.expiresIn();
             if (null == expiresInSeconds) {
                 throw new OAuth2ClientException("Missing value in access token response: expires_in");
             }
-            Instant expiry = Instant.now().plusSeconds(expiresInSeconds.intValue());
-            String scopeNode = (String) jsonMap.get("scope");
-            Set<String> scopes = (scopeNode == null) ? Set.of() : Set.of(scopeNode.trim().split("\\s+"));
-            return new AccessTokenResponse(tokenValue, scopes, expiry);
+            Instant expiry = clock.instant().plusSeconds(expiresInSeconds);
+            return new AccessTokenResponse(tokenValue, parsedResponse.scopes(), expiry);
         } catch (OAuth2ClientException e) {
             throw e;
         } catch (Exception e) {
@@ -360,34 +772,34 @@ public final class OAuth2Handler {
     /**
      * Creates a DPoP proof token.
      */
-    private static String createDPoP(OAuth2Config config, String dpopKeyId, String htm, String url, String athOrNull, String nonceOrNull) {
+    private static String createDPoP(OAuth2Config config, DPoPSigner signer, String htm, String url, String athOrNull, String nonceOrNull) {
+        return createDPoPForHtu(config, signer, htm, RouteCache.toHtu(url), athOrNull, nonceOrNull);
+    }
+
+    /**
+     * Creates a DPoP proof token for an already normalized "htu" claim value.
+     */
+    private static String createDPoPForHtu(OAuth2Config config, DPoPSigner signer, String htm, String htu, String athOrNull, String nonceOrNull) {
         try {
             Duration clockSkewTolerance = config.getClockSkewTolerance();
+            long issuedAt = config.getClock().instant().getEpochSecond();
+            long expiresAt = issuedAt + 90 + clockSkewTolerance.getSeconds(); // 1.5 min + clock skew tolerance
 
-            var now = Instant.now();
-            long issuedAt = now.getEpochSecond();
-            long expiresAt = now.plusSeconds(90).plusSeconds(clockSkewTolerance.getSeconds()).getEpochSecond(); // 1.5 min + clock skew tolerance
-            KeyPair dpopKeyPair = config.getDPoPKeyProvider().getKey(dpopKeyId).getKeyPair();
-            PrivateKey dpopPrivateKey = dpopKeyPair.getPrivate();
-            PublicKey dpopPublicKey = dpopKeyPair.getPublic();
-            var alg = JwsAlgorithm.fromKey(dpopPublicKey);
-            var jwk = Jwk.fromKey(dpopPublicKey);
-
-            var jwt = new Jwt();
-            jwt.addHeaderParam("alg", alg);
-            jwt.addHeaderParam("typ", "dpop+jwt");
-            jwt.addHeaderParam("kid", dpopKeyId);
-            jwt.addHeaderParam("jwk", jwk);
-            jwt.addClaim("jti", randomJti());
-            jwt.addClaim("htm", htm);
-            jwt.addClaim("htu", stripQueryAndFragment(url));
-            jwt.addClaim("iat", issuedAt);
-            jwt.addClaim("exp", expiresAt);
-            jwt.addClaim("ath", athOrNull);
-            jwt.addClaim("nonce", nonceOrNull);
-
-            Jws.sign(jwt, dpopPrivateKey, alg);
-            return jwt.getSerialized();
+            return JwsCompactWriter.get()
+                .startHeader()
+                .add("alg", signer.signer().getAlgorithm().alg())
+                .add("typ", "dpop+jwt")
+                .add("kid", signer.keyId())
+                .add("jwk", signer.jwk())
+                .startPayload()
+                .add("jti", randomJti())
+                .add("htm", htm)
+                .add("htu", htu)
+                .add("iat", issuedAt)
+                .add("exp", expiresAt)
+                .add("ath", athOrNull)
+                .add("nonce", nonceOrNull)
+                .sign(signer.signer());
         } catch (OAuth2ClientException e) {
             throw e;
         } catch (Exception e) {
@@ -395,6 +807,19 @@ public final class OAuth2Handler {
         }
     }
 
+    /**
+     * Returns the signer of the given DPoP key, built once and reused until the key changes.
+     */
+    private DPoPSigner getDPoPSigner(String dpopKeyId) {
+        KeyPair keyPair = dpopKeyProvider.getKey(dpopKeyId).getKeyPair();
+        DPoPSigner current = dpopSigner;
+        if (current == null || !current.keyId().equals(dpopKeyId) || current.keyPair() != keyPair) {
+            current = DPoPSigner.create(config, dpopKeyId, keyPair);
+            dpopSigner = current;
+        }
+        return current;
+    }
+
     /**
      * Generates a 96 bits random JWT ID (jti) claim value
      * as per <a href="https://datatracker.ietf.org/doc/html/rfc9449#section-4.2">DPoP Proof JWT Syntax</a>
@@ -425,19 +850,6 @@ public final class OAuth2Handler {
         }
     }
 
-    /**
-     * Return the HTTP URI of the request without query and fragment parts.
-     * See: <a href="https://datatracker.ietf.org/doc/html/rfc9449#DPoP-Proof-Syntax">DPoP Proof JWT Syntax</a>
-     */
-    private static String stripQueryAndFragment(String resourceUrl) {
-        try {
-            var uri = new URI(resourceUrl);
-            return new URI(uri.getScheme(), null, uri.getHost(), uri.getPort(), uri.getPath(), null, null).toString();
-        } catch (Exception e) {
-            throw new OAuth2ClientException("Failed to strip query and fragment parts from URL: %s".formatted(resourceUrl), e);
-        }
-    }
-
     private static String urlEncode(String string) {
         return URLEncoder.encode(string, StandardCharsets.UTF_8);
     }
@@ -454,6 +866,227 @@ public final class OAuth2Handler {
         return (nonce == null || nonce.isEmpty()) ? "<none>" : nonce;
     }
 
+    /**
+     * Waits for a fork-join task, unwrapping the exception thrown by the task if any.
+     */
+    private static <T> T await(ForkJoinTask<T> task) throws Exception {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the exception thrown by a fork-join task. Checked exceptions thrown by submitted callables come wrapped
+     * in plain {@link RuntimeException}s, and are rethrown in the caller's thread wrapped again.
+     */
+    private static Exception unwrap(Throwable throwable) {
+        while ((throwable instanceof ExecutionException || throwable.getClass() == RuntimeException.class) && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable instanceof Exception exception ? exception : new ExecutionException(throwable);
+    }
+
+    /**
+     * Runs a blocking call so that the fork-join pool can compensate for the blocked worker thread.
+     */
+    private static <T> T managedBlock(Callable<T> callable) throws Exception {
+        var blocker = new BlockingCall<>(callable);
+        ForkJoinPool.managedBlock(blocker);
+        if (blocker.exception != null) {
+            throw blocker.exception;
+        }
+        return blocker.result;
+    }
+
+    private static final class BlockingCall<T> implements ForkJoinPool.ManagedBlocker {
+
+        private final Callable<T> callable;
+        private boolean done;
+        private T result;
+        private Exception exception;
+
+        BlockingCall(Callable<T> callable) {
+            this.callable = callable;
+        }
+
+        @Override
+        public boolean block() {
+            try {
+                result = callable.call();
+            } catch (Exception e) {
+                exception = e;
+            }
+            done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return done;
+        }
+    }
+
+    /**
+     * Decorates an {@link AsyncHttpAdapter} for a single {@link #executeAsync} call, so that the exchanges of the flow
+     * follow the cancellation of the future returned to the caller.
+     */
+    private static final class CancellableAsyncHttpAdapter<Request, Response> implements AsyncHttpAdapter<Request, Response> {
+
+        private final AsyncHttpAdapter<Request, Response> delegate;
+        private final CompletableFuture<Response> result = new CompletableFuture<>();
+        private volatile CompletableFuture<Response> inFlight;
+
+        CancellableAsyncHttpAdapter(AsyncHttpAdapter<Request, Response> delegate) {
+            this.delegate = delegate;
+            result.whenComplete((response, e) -> {
+                CompletableFuture<Response> exchange = inFlight;
+                if (result.isCancelled() && exchange != null) {
+                    exchange.cancel(false);
+                }
+            });
+        }
+
+        /**
+         * Returns the future given to the caller, completed with the outcome of the flow. The response of a flow
+         * completing after the caller cancelled is closed, since nobody else will.
+         */
+        CompletableFuture<Response> complete(CompletableFuture<Response> flow) {
+            flow.whenComplete((response, e) -> {
+                if (e != null) {
+                    result.completeExceptionally(e);
+                } else if (!result.complete(response) && response != null) {
+                    closeQuietly(response);
+                }
+            });
+            return result;
+        }
+
+        private CompletableFuture<Response> send(Supplier<CompletableFuture<Response>> exchange) {
+            if (result.isCancelled()) {
+                return CompletableFuture.failedFuture(new CancellationException("Request cancelled"));
+            }
+            CompletableFuture<Response> future = exchange.get();
+            inFlight = future;
+            if (result.isCancelled()) {
+                future.cancel(false); // Cancelled while sending
+            }
+            return future.thenApply(response -> {
+                if (result.isCancelled()) {
+                    closeQuietly(response); // Received although cancelled, when the client can't abort the exchange
+                    throw new CancellationException("Request cancelled");
+                }
+                return response;
+            });
+        }
+
+        private void closeQuietly(Response response) {
+            try {
+                delegate.close(response);
+            } catch (Exception e) {
+                logger.debug("Failed to close response of cancelled request", e);
+            }
+        }
+
+        @Override
+        public CompletableFuture<Response> sendAccessTokenRequestAsync(Request resourceRequest, URL tokenUrl, String formBody, HttpHeaders headers) {
+            return send(() -> delegate.sendAccessTokenRequestAsync(resourceRequest, tokenUrl, formBody, headers));
+        }
+
+        @Override
+        public CompletableFuture<Response> sendResourceRequestAsync(Request request, HttpHeaders headers) {
+            return send(() -> delegate.sendResourceRequestAsync(request, headers));
+        }
+
+        @Override
+        public String getMethod(Request request) {
+            return delegate.getMethod(request);
+        }
+
+        @Override
+        public URL getUrl(Request request) throws Exception {
+            return delegate.getUrl(request);
+        }
+
+        @Override
+        public int getStatusCode(Response response) throws Exception {
+            return delegate.getStatusCode(response);
+        }
+
+        @Override
+        public Optional<String> getHeader(Response response, String name) throws Exception {
+            return delegate.getHeader(response, name);
+        }
+
+        @Override
+        public Optional<String> readBody(Response response) throws Exception {
+            return delegate.readBody(response);
+        }
+
+        @Override
+        public Optional<String> peekBody(Response response, int maxBytes) throws Exception {
+            return delegate.peekBody(response, maxBytes);
+        }
+
+        @Override
+        public void close(Response response) throws Exception {
+            delegate.close(response);
+        }
+    }
+
+    /**
+     * Adapts a function throwing checked exceptions for use in a completion stage.
+     */
+    private static <T, R> Function<T, R> unchecked(ThrowingFunction<T, R> function) {
+        return value -> {
+            try {
+                return function.apply(value);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ThrowingFunction<T, R> {
+        R apply(T value) throws Exception;
+    }
+
+    private record ResourceRequest<Request>(Request request, String method, URL url, Route route) {}
+
+    private record BatchAccessToken(String tokenValue, String ath) {}
+
+    /**
+     * A DPoP key with its signer and public JWK, which don't change between proofs.
+     */
+    private record DPoPSigner(String keyId, KeyPair keyPair, JwsSigner signer, Jwk jwk) {
+        static DPoPSigner create(OAuth2Config config, String keyId) {
+            return create(config, keyId, config.getDPoPKeyProvider().getKey(keyId).getKeyPair());
+        }
+
+        static DPoPSigner create(OAuth2Config config, String keyId, KeyPair keyPair) {
+            try {
+                var alg = JwsAlgorithm.fromKey(keyPair.getPublic());
+                var signer = new JcaJwsSigner(keyPair.getPrivate(), alg, config.getJcaProvider(alg).orElse(null));
+                return new DPoPSigner(keyId, keyPair, signer, Jwk.fromKey(keyPair.getPublic()));
+            } catch (OAuth2ClientException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new OAuth2ClientException("Failed to create DPoP proof", e);
+            }
+        }
+    }
+
+    private record AccessTokenRequest(String formBody, HttpHeaders headers) {}
+
+    /**
+     * Either a stored access token to use instead of requesting one, or how long to wait before requesting one.
+     */
+    private record TokenRequestAdmission(AccessToken coveringToken, Duration delay) {}
+
     private record AccessTokenResult<Response>(AccessToken accessToken, Response errorResponse) {
         static <Response> AccessTokenResult<Response> from(AccessToken accessToken) {
             return new AccessTokenResult<>(accessToken, null);
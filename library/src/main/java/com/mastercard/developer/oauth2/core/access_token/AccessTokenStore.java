@@ -5,6 +5,8 @@ import java.util.Optional;
 /**
  * Interface for caching and retrieving OAuth 2.0 access tokens.
  * Implementations should handle token expiration and provide thread-safe operations.
+ * Tokens expiring within the threshold of an {@link ExpirationThresholdPolicy} should be treated as expired, with the
+ * policy given to {@link com.mastercard.developer.oauth2.config.OAuth2Config} so that it is told the token endpoint latency.
  */
 public interface AccessTokenStore {
     /**
@@ -17,4 +19,12 @@ public interface AccessTokenStore {
      * Returns an empty {@link Optional} if no token was found, or if the stored token has expired.
      */
     Optional<AccessToken> get(AccessTokenFilter filter);
+
+    /**
+     * Retrieves an access token matching the specified JKT (if any) and granted at least the specified scopes.
+     * Used instead of waiting when token requests are rate limited. Defaults to {@link #get(AccessTokenFilter)}.
+     */
+    default Optional<AccessToken> getCovering(AccessTokenFilter filter) {
+        return get(filter);
+    }
 }
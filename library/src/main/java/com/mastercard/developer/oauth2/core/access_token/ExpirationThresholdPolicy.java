@@ -0,0 +1,32 @@
+package com.mastercard.developer.oauth2.core.access_token;
+
+import java.time.Duration;
+
+/**
+ * Decides how long before their expiry access tokens stop being returned by an {@link AccessTokenStore}, so that
+ * tokens don't expire on their way to the resource server.
+ * The handler reports the latency of every token endpoint request, which adaptive policies can use.
+ */
+public interface ExpirationThresholdPolicy {
+    /**
+     * Default threshold, used when no other value is known.
+     */
+    Duration DEFAULT_THRESHOLD = Duration.ofSeconds(60);
+
+    /**
+     * Returns the current threshold. Called for every token lookup, so it should be cheap.
+     */
+    Duration getThreshold();
+
+    /**
+     * Records the time taken by a request to the token endpoint. Does nothing by default.
+     */
+    default void recordTokenRequest(Duration latency) {}
+
+    /**
+     * Returns a policy with a constant threshold.
+     */
+    static ExpirationThresholdPolicy fixed(Duration threshold) {
+        return new FixedExpirationThresholdPolicy(threshold);
+    }
+}
@@ -0,0 +1,28 @@
+package com.mastercard.developer.oauth2.core.access_token;
+
+import java.time.Duration;
+
+/**
+ * An {@link ExpirationThresholdPolicy} with a constant threshold.
+ */
+final class FixedExpirationThresholdPolicy implements ExpirationThresholdPolicy {
+
+    private final Duration threshold;
+
+    FixedExpirationThresholdPolicy(Duration threshold) {
+        if (threshold == null || threshold.isNegative()) {
+            throw new IllegalArgumentException("Threshold must not be negative");
+        }
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    @Override
+    public String toString() {
+        return "FixedExpirationThresholdPolicy[threshold=" + threshold + "]";
+    }
+}
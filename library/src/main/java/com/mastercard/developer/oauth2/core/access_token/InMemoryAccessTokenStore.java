@@ -1,7 +1,7 @@
 package com.mastercard.developer.oauth2.core.access_token;
 
+import java.time.Clock;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -10,11 +10,49 @@ import java.util.concurrent.ConcurrentHashMap;
  * This implementation uses a {@link ConcurrentHashMap} to store tokens and automatically
  * removes expired tokens during put operations. Tokens are indexed by a combination
  * of their JKT and sorted scopes to ensure consistent lookups.
+ * Expiry is checked against the given {@link Clock}, the system UTC clock by default. Tokens stop being returned
+ * when they expire within the threshold given by the {@link ExpirationThresholdPolicy}, 60 seconds by default.
  */
 public final class InMemoryAccessTokenStore implements AccessTokenStore {
 
-    private static final Duration expirationThreshold = Duration.ofSeconds(60);
     private final ConcurrentHashMap<String, AccessToken> store = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final ExpirationThresholdPolicy expirationThresholdPolicy;
+
+    /**
+     * Creates a store checking expiry against the system UTC clock.
+     */
+    public InMemoryAccessTokenStore() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Creates a store checking expiry against the given clock.
+     */
+    public InMemoryAccessTokenStore(Clock clock) {
+        this(clock, ExpirationThresholdPolicy.fixed(ExpirationThresholdPolicy.DEFAULT_THRESHOLD));
+    }
+
+    /**
+     * Creates a store checking expiry against the given clock, with the threshold given by the policy.
+     */
+    public InMemoryAccessTokenStore(Clock clock, ExpirationThresholdPolicy expirationThresholdPolicy) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock must not be null");
+        }
+        if (expirationThresholdPolicy == null) {
+            throw new IllegalArgumentException("Expiration threshold policy must not be null");
+        }
+        this.clock = clock;
+        this.expirationThresholdPolicy = expirationThresholdPolicy;
+    }
+
+    /**
+     * Returns the current expiration threshold: tokens expiring within it are no longer returned.
+     */
+    public Duration getExpirationThreshold() {
+        return expirationThresholdPolicy.getThreshold();
+    }
 
     @Override
     public void put(AccessToken accessToken) {
@@ -30,11 +68,36 @@ public final class InMemoryAccessTokenStore implements AccessTokenStore {
     @Override
     public Optional<AccessToken> get(AccessTokenFilter filter) {
         String key = createKey(filter.jkt().orElse(null), filter.scopes());
-        var threshold = Instant.now().plus(expirationThreshold);
-        AccessToken accessToken = store.computeIfPresent(key, (k, existing) -> existing.expiresAt().isBefore(threshold) ? null : existing);
+        long thresholdMillis = clock.millis() + getExpirationThreshold().toMillis();
+        AccessToken accessToken = store.computeIfPresent(key, (k, existing) -> existing.expiresAt().toEpochMilli() < thresholdMillis ? null : existing);
         return Optional.ofNullable(accessToken);
     }
 
+    /**
+     * Looks for the exact scopes first, then scans the store for the token covering the scopes with the latest expiry.
+     */
+    @Override
+    public Optional<AccessToken> getCovering(AccessTokenFilter filter) {
+        Optional<AccessToken> exactToken = get(filter);
+        if (exactToken.isPresent()) {
+            return exactToken;
+        }
+        String jkt = filter.jkt().orElse(null);
+        long thresholdMillis = clock.millis() + getExpirationThreshold().toMillis();
+        AccessToken coveringToken = null;
+        for (AccessToken accessToken : store.values()) {
+            if (
+                (jkt == null || jkt.equals(accessToken.jkt())) &&
+                accessToken.expiresAt().toEpochMilli() >= thresholdMillis &&
+                accessToken.scopes().containsAll(filter.scopes()) &&
+                (coveringToken == null || accessToken.expiresAt().isAfter(coveringToken.expiresAt()))
+            ) {
+                coveringToken = accessToken;
+            }
+        }
+        return Optional.ofNullable(coveringToken);
+    }
+
     /**
      * Creates a normalized cache key from a JKT and scopes.
      * Scopes are sorted alphabetically to ensure consistent key generation
@@ -52,12 +115,12 @@ public final class InMemoryAccessTokenStore implements AccessTokenStore {
      * This method is called during put operations to prevent unbounded memory growth.
      */
     private void removeExpiredTokens() {
-        var now = Instant.now();
+        long nowMillis = clock.millis();
         store
             .entrySet()
             .removeIf(entry -> {
                 AccessToken accessToken = entry.getValue();
-                return accessToken == null || accessToken.expiresAt().isBefore(now);
+                return accessToken == null || accessToken.expiresAt().toEpochMilli() < nowMillis;
             });
     }
 }
@@ -0,0 +1,106 @@
+package com.mastercard.developer.oauth2.core.access_token;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * An {@link ExpirationThresholdPolicy} adding a per-instance jitter to the threshold of another policy, so that instances
+ * started together and getting tokens with the same lifetime don't all renew them at the same time.
+ * The jitter is between zero (inclusive) and the maximum jitter (exclusive), derived from a hash of the instance ID
+ * and the client ID: it is stable across restarts of an instance, and spread across instances.
+ * <p>
+ * The threshold plus the maximum jitter must stay well below the access token lifetime, otherwise tokens would be
+ * renewed on every request. For instance, with 15-minute tokens and a 60-second threshold, a maximum jitter of
+ * 5 minutes renews tokens after 9 to 14 minutes.
+ */
+public final class JitteredExpirationThresholdPolicy implements ExpirationThresholdPolicy {
+
+    private final ExpirationThresholdPolicy delegate;
+    private final Duration jitter;
+    private volatile Thresholds thresholds;
+
+    /**
+     * Creates a policy with a jitter seeded from the default instance ID, see {@link #defaultInstanceId()}.
+     */
+    public JitteredExpirationThresholdPolicy(ExpirationThresholdPolicy delegate, Duration maxJitter, String clientId) {
+        this(delegate, maxJitter, defaultInstanceId(), clientId);
+    }
+
+    /**
+     * Creates a policy with a jitter seeded from the given instance ID and client ID.
+     */
+    public JitteredExpirationThresholdPolicy(ExpirationThresholdPolicy delegate, Duration maxJitter, String instanceId, String clientId) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate policy must not be null");
+        }
+        if (maxJitter == null || maxJitter.isNegative()) {
+            throw new IllegalArgumentException("Max jitter must not be negative");
+        }
+        if (instanceId == null || clientId == null) {
+            throw new IllegalArgumentException("Instance ID and client ID must not be null");
+        }
+        this.delegate = delegate;
+        this.jitter = maxJitter.isZero() ? Duration.ZERO : Duration.ofNanos(Math.floorMod(seed(instanceId, clientId), maxJitter.toNanos()));
+    }
+
+    /**
+     * Returns an ID for this process: the HOSTNAME (COMPUTERNAME on Windows) environment variable, which is unique per
+     * container in most orchestrators, or a random ID when not set. The host name isn't resolved, since that can block
+     * on a DNS lookup.
+     */
+    public static String defaultInstanceId() {
+        for (String variable : List.of("HOSTNAME", "COMPUTERNAME")) {
+            String hostname = System.getenv(variable);
+            if (hostname != null && !hostname.isBlank()) {
+                return hostname;
+            }
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Returns the jitter added to the threshold of the delegate policy.
+     */
+    public Duration getJitter() {
+        return jitter;
+    }
+
+    @Override
+    public Duration getThreshold() {
+        // The sum is cached, since the delegate threshold rarely changes and this is called for every token lookup
+        Duration base = delegate.getThreshold();
+        Thresholds current = thresholds;
+        if (current == null || current.base() != base) {
+            current = new Thresholds(base, base.plus(jitter));
+            thresholds = current;
+        }
+        return current.jittered();
+    }
+
+    @Override
+    public void recordTokenRequest(Duration latency) {
+        delegate.recordTokenRequest(latency);
+    }
+
+    private static long seed(String instanceId, String clientId) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((instanceId + '\n' + clientId).getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(hash).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Thresholds(Duration base, Duration jittered) {}
+
+    @Override
+    public String toString() {
+        return "JitteredExpirationThresholdPolicy[delegate=" + delegate + ", jitter=" + jitter + "]";
+    }
+}
@@ -0,0 +1,71 @@
+package com.mastercard.developer.oauth2.core.access_token;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * An {@link ExpirationThresholdPolicy} adapting to the authorization server: the threshold is the 99th percentile of
+ * the latest token endpoint latencies, plus the clock skew tolerance (usually {@link
+ * com.mastercard.developer.oauth2.config.OAuth2Config#getClockSkewTolerance()}).
+ * Until a latency is recorded, the threshold is {@link ExpirationThresholdPolicy#DEFAULT_THRESHOLD}.
+ * <p>
+ * The same instance must be given to the configuration, which records latencies, and to the access token store, which
+ * reads the threshold.
+ */
+public final class LatencyBasedExpirationThresholdPolicy implements ExpirationThresholdPolicy {
+
+    private static final int DEFAULT_WINDOW_SIZE = 256;
+
+    private final Duration clockSkewTolerance;
+    private final long[] latencies;
+    private int count;
+    private int next;
+    private volatile Duration threshold = DEFAULT_THRESHOLD;
+
+    /**
+     * Creates a policy computing the percentile over the latest 256 token endpoint latencies.
+     */
+    public LatencyBasedExpirationThresholdPolicy(Duration clockSkewTolerance) {
+        this(clockSkewTolerance, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a policy computing the percentile over the given number of latest token endpoint latencies.
+     */
+    public LatencyBasedExpirationThresholdPolicy(Duration clockSkewTolerance, int windowSize) {
+        if (clockSkewTolerance == null || clockSkewTolerance.isNegative()) {
+            throw new IllegalArgumentException("Clock skew tolerance must not be negative");
+        }
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+        this.clockSkewTolerance = clockSkewTolerance;
+        this.latencies = new long[windowSize];
+    }
+
+    @Override
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    @Override
+    public void recordTokenRequest(Duration latency) {
+        if (latency == null || latency.isNegative()) {
+            return;
+        }
+        synchronized (latencies) {
+            latencies[next] = latency.toNanos();
+            next = (next + 1) % latencies.length;
+            count = Math.min(count + 1, latencies.length);
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            long p99Nanos = sorted[(int) Math.ceil(count * 0.99) - 1];
+            threshold = Duration.ofNanos(p99Nanos).plus(clockSkewTolerance);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyBasedExpirationThresholdPolicy[threshold=" + threshold + "]";
+    }
+}
@@ -0,0 +1,144 @@
+package com.mastercard.developer.oauth2.core.clock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Clock} returning a cached time with a one-second resolution, refreshed by a background ticker.
+ * Reading the time neither calls the underlying clock nor allocates, which suits the time checks made for every request
+ * (access token expiry, JWT "iat", "nbf" and "exp" claims), none of which need more than seconds.
+ * The time returned lags the underlying clock by less than a second plus the tick interval.
+ * <p>
+ * The shared instance returned by {@link #systemUTC()} is the default clock of
+ * {@link com.mastercard.developer.oauth2.config.OAuth2Config}, its ticker runs on a daemon thread and can't be stopped.
+ * Other instances must be closed to stop their ticker.
+ */
+public final class CoarseClock extends Clock implements AutoCloseable {
+
+    private static final Duration DEFAULT_TICK_INTERVAL = Duration.ofMillis(100);
+
+    private final Clock source;
+    private final ScheduledExecutorService ticker;
+    private final boolean shared;
+    private volatile Instant now;
+
+    /**
+     * Creates a clock caching the time of the given clock, and starts a ticker refreshing it at the given interval.
+     */
+    public CoarseClock(Clock source, Duration tickInterval) {
+        this(source, tickInterval, false);
+    }
+
+    private CoarseClock(Clock source, Duration tickInterval, boolean shared) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source clock must not be null");
+        }
+        if (tickInterval == null || tickInterval.isNegative() || tickInterval.isZero()) {
+            throw new IllegalArgumentException("Tick interval must be positive");
+        }
+        this.source = source;
+        this.shared = shared;
+        this.now = Instant.ofEpochSecond(Math.floorDiv(source.millis(), 1000));
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "oauth2-clock-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalNanos = tickInterval.toNanos();
+        ticker.scheduleAtFixedRate(this::tick, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the shared clock caching the system UTC time.
+     */
+    public static CoarseClock systemUTC() {
+        return SystemHolder.INSTANCE;
+    }
+
+    private static final class SystemHolder {
+
+        private static final CoarseClock INSTANCE = new CoarseClock(Clock.systemUTC(), DEFAULT_TICK_INTERVAL, true);
+    }
+
+    /**
+     * Reads the underlying clock, and replaces the cached time when a new second has started.
+     */
+    void tick() {
+        long epochSecond = Math.floorDiv(source.millis(), 1000);
+        if (epochSecond != now.getEpochSecond()) {
+            now = Instant.ofEpochSecond(epochSecond);
+        }
+    }
+
+    @Override
+    public Instant instant() {
+        return now;
+    }
+
+    @Override
+    public long millis() {
+        return now.toEpochMilli();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return source.getZone();
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        if (zone.equals(getZone())) {
+            return this;
+        }
+        return new ZonedView(this, zone);
+    }
+
+    /**
+     * Stops the ticker, the time returned no longer changes afterward. Does nothing for the shared instance.
+     */
+    @Override
+    public void close() {
+        if (!shared) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads the cached time of a {@link CoarseClock} in another time zone.
+     */
+    private static final class ZonedView extends Clock {
+
+        private final CoarseClock clock;
+        private final ZoneId zone;
+
+        private ZonedView(CoarseClock clock, ZoneId zone) {
+            this.clock = clock;
+            this.zone = zone;
+        }
+
+        @Override
+        public Instant instant() {
+            return clock.instant();
+        }
+
+        @Override
+        public long millis() {
+            return clock.millis();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return clock.withZone(zone);
+        }
+    }
+}
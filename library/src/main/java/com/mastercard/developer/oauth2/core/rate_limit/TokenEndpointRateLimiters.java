@@ -0,0 +1,59 @@
+package com.mastercard.developer.oauth2.core.rate_limit;
+
+import com.mastercard.developer.oauth2.core.route.RouteCache;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates and keeps one {@link TokenRequestRateLimiter} per token endpoint, all with the same limits.
+ * Configurations using the same token endpoint get the same limiter, so their requests are limited together, which
+ * matches authorization server quotas.
+ * <p>
+ * Example usage:
+ * <pre>
+ * TokenEndpointRateLimiters limiters = new TokenEndpointRateLimiters(10, 10, 50, Duration.ofSeconds(5));
+ * OAuth2Config config = OAuth2Config.builder()
+ *     .tokenEndpoint(tokenEndpoint)
+ *     .tokenRequestRateLimiter(limiters.forEndpoint(tokenEndpoint))
+ *     // ...
+ *     .build();
+ * </pre>
+ */
+public final class TokenEndpointRateLimiters {
+
+    private final double requestsPerSecond;
+    private final int burst;
+    private final int maxQueuedRequests;
+    private final Duration maxWait;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, TokenRequestRateLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates limiters with the given limits, see {@link TokenRequestRateLimiter}.
+     */
+    public TokenEndpointRateLimiters(double requestsPerSecond, int burst, int maxQueuedRequests, Duration maxWait) {
+        this(requestsPerSecond, burst, maxQueuedRequests, maxWait, Clock.systemUTC());
+    }
+
+    /**
+     * Creates limiters with the given limits, timed with the given clock.
+     */
+    public TokenEndpointRateLimiters(double requestsPerSecond, int burst, int maxQueuedRequests, Duration maxWait, Clock clock) {
+        TokenRequestRateLimiter.validate(requestsPerSecond, burst, maxQueuedRequests, maxWait, clock);
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+        this.maxQueuedRequests = maxQueuedRequests;
+        this.maxWait = maxWait;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the limiter for the given token endpoint. Query and fragment parts are ignored.
+     */
+    public TokenRequestRateLimiter forEndpoint(URL tokenEndpoint) {
+        String key = RouteCache.toHtu(tokenEndpoint.toString());
+        return limiters.computeIfAbsent(key, k -> new TokenRequestRateLimiter(requestsPerSecond, burst, maxQueuedRequests, maxWait, clock));
+    }
+}
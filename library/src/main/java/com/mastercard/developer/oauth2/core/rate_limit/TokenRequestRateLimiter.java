@@ -0,0 +1,183 @@
+package com.mastercard.developer.oauth2.core.rate_limit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Token bucket limiting the rate of access token requests.
+ * The bucket holds up to `burst` permits and is refilled at `requestsPerSecond`. A request taking a permit from an empty
+ * bucket is delayed until the permit would have been added, so the rate is never exceeded.
+ * For admission control, {@link #tryReserve()} bounds the number of delayed requests and their wait.
+ * <p>
+ * Limits apply per instance: give the same instance to several {@link com.mastercard.developer.oauth2.config.OAuth2Config}
+ * to cap their token requests together, for instance across a process, or use {@link TokenEndpointRateLimiters} for a
+ * limiter per token endpoint.
+ */
+public final class TokenRequestRateLimiter {
+
+    private static final TokenRequestRateLimiter UNLIMITED = new TokenRequestRateLimiter();
+
+    private final boolean unlimited;
+    private final double intervalMillis;
+    private final int burst;
+    private final int maxQueuedRequests;
+    private final long maxWaitMillis;
+    private final Clock clock;
+    private double storedPermits;
+    private double nextFreeMillis;
+
+    private TokenRequestRateLimiter() {
+        this.unlimited = true;
+        this.intervalMillis = 0;
+        this.burst = 0;
+        this.maxQueuedRequests = 0;
+        this.maxWaitMillis = 0;
+        this.clock = null;
+    }
+
+    /**
+     * Creates a limiter allowing the given number of requests per second, with bursts of the same size (at least 1).
+     */
+    public TokenRequestRateLimiter(double requestsPerSecond) {
+        this(requestsPerSecond, (int) Math.max(1, Math.ceil(requestsPerSecond)), Clock.systemUTC());
+    }
+
+    /**
+     * Creates a limiter allowing the given number of requests per second and burst size, timed with the given clock.
+     */
+    public TokenRequestRateLimiter(double requestsPerSecond, int burst, Clock clock) {
+        this(requestsPerSecond, burst, Integer.MAX_VALUE, null, clock);
+    }
+
+    /**
+     * Creates a limiter allowing the given number of requests per second and burst size, timed with the given clock.
+     * {@link #tryReserve()} rejects requests when the given number of requests are already waiting for a permit, or
+     * when the wait would exceed the given maximum (null for no maximum).
+     */
+    public TokenRequestRateLimiter(double requestsPerSecond, int burst, int maxQueuedRequests, Duration maxWait, Clock clock) {
+        validate(requestsPerSecond, burst, maxQueuedRequests, maxWait, clock);
+        this.unlimited = false;
+        this.intervalMillis = 1000 / requestsPerSecond;
+        this.burst = burst;
+        this.maxQueuedRequests = maxQueuedRequests;
+        this.maxWaitMillis = maxWait == null ? Long.MAX_VALUE : maxWait.toMillis();
+        this.clock = clock;
+        this.storedPermits = burst;
+        this.nextFreeMillis = clock.millis();
+    }
+
+    static void validate(double requestsPerSecond, int burst, int maxQueuedRequests, Duration maxWait, Clock clock) {
+        if (!(requestsPerSecond > 0) || Double.isInfinite(requestsPerSecond)) {
+            throw new IllegalArgumentException("Requests per second must be positive");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("Burst must be positive");
+        }
+        if (maxQueuedRequests < 0) {
+            throw new IllegalArgumentException("Max queued requests must not be negative");
+        }
+        if (maxWait != null && maxWait.isNegative()) {
+            throw new IllegalArgumentException("Max wait must not be negative");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock must not be null");
+        }
+    }
+
+    /**
+     * Returns a limiter that never delays requests.
+     */
+    public static TokenRequestRateLimiter unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Takes a permit, and returns how long the request must wait before being sent (zero if a permit was available).
+     * The queue and wait limits don't apply, this is meant for requests already admitted (like retries).
+     */
+    public Duration reserve() {
+        if (unlimited) {
+            return Duration.ZERO;
+        }
+        long waitMillis;
+        synchronized (this) {
+            long nowMillis = clock.millis();
+            refill(nowMillis);
+            waitMillis = (long) Math.ceil(take(nowMillis));
+        }
+        return waitMillis == 0 ? Duration.ZERO : Duration.ofMillis(waitMillis);
+    }
+
+    /**
+     * Takes a permit, unless the maximum number of requests are already waiting for one or the wait would exceed the
+     * maximum. Returns how long the request must wait before being sent, or empty if the request is rejected (in which
+     * case no permit is taken).
+     */
+    public Optional<Duration> tryReserve() {
+        if (unlimited) {
+            return Optional.of(Duration.ZERO);
+        }
+        long waitMillis;
+        synchronized (this) {
+            long nowMillis = clock.millis();
+            refill(nowMillis);
+            if (storedPermits < 1) {
+                double queuedRequests = Math.ceil(Math.max(0, nextFreeMillis - nowMillis) / intervalMillis);
+                double wait = nextFreeMillis + (1 - storedPermits) * intervalMillis - nowMillis;
+                if (queuedRequests >= maxQueuedRequests || wait > maxWaitMillis) {
+                    return Optional.empty();
+                }
+            }
+            waitMillis = (long) Math.ceil(take(nowMillis));
+        }
+        return Optional.of(waitMillis == 0 ? Duration.ZERO : Duration.ofMillis(waitMillis));
+    }
+
+    /**
+     * Takes a permit if one is available now, without waiting.
+     */
+    public boolean tryAcquire() {
+        if (unlimited) {
+            return true;
+        }
+        synchronized (this) {
+            long nowMillis = clock.millis();
+            refill(nowMillis);
+            if (storedPermits < 1) {
+                return false;
+            }
+            take(nowMillis);
+            return true;
+        }
+    }
+
+    /**
+     * Adds the permits earned since the last refill, unless permits were borrowed and aren't paid back yet.
+     */
+    private void refill(long nowMillis) {
+        if (nowMillis > nextFreeMillis) {
+            storedPermits = Math.min(burst, storedPermits + (nowMillis - nextFreeMillis) / intervalMillis);
+            nextFreeMillis = nowMillis;
+        }
+    }
+
+    /**
+     * Takes a stored permit, or borrows one from the future by pushing back the time the next permit is free.
+     * Returns how long the caller must wait for its permit, in milliseconds.
+     */
+    private double take(long nowMillis) {
+        if (storedPermits >= 1) {
+            storedPermits -= 1;
+            return 0;
+        }
+        nextFreeMillis += (1 - storedPermits) * intervalMillis;
+        storedPermits = 0;
+        return nextFreeMillis - nowMillis;
+    }
+
+    @Override
+    public String toString() {
+        return unlimited ? "TokenRequestRateLimiter[unlimited]" : "TokenRequestRateLimiter[requestsPerSecond=%s, burst=%d]".formatted(1000 / intervalMillis, burst);
+    }
+}
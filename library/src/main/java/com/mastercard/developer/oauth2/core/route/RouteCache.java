@@ -0,0 +1,155 @@
+package com.mastercard.developer.oauth2.core.route;
+
+import com.mastercard.developer.oauth2.core.scope.ScopeResolver;
+import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
+import java.net.URI;
+import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of per-route values that don't change between requests: the normalized DPoP "htu" claim
+ * and the scopes returned by the {@link ScopeResolver}.
+ * Routes are keyed by scope resolver, method, scheme, host, port, path and query, so a cache shared between
+ * configurations or used with a resolver reading the query never returns scopes resolved for another route.
+ * Once the cache holds {@code maxSize} routes, the least recently used route is evicted, so high-cardinality paths
+ * (e.g. containing IDs) can't grow the cache without bounds nor keep out new routes.
+ * Use {@link #getStats()} to monitor the hit ratio and decide on the size limit.
+ * Caching is disabled by default in {@link com.mastercard.developer.oauth2.config.OAuth2Config}, since it assumes
+ * the scope resolver returns the same scopes for the same route.
+ */
+public final class RouteCache {
+
+    /**
+     * Default maximum number of cached routes.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final int maxSize;
+    private final Map<Key, Route> routes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache holding up to {@link #DEFAULT_MAX_SIZE} routes.
+     */
+    public RouteCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a cache holding up to the given number of routes. A size of 0 disables caching.
+     */
+    public RouteCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Max size must not be negative");
+        }
+        this.maxSize = maxSize;
+        this.routes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Route> eldest) {
+                if (size() <= RouteCache.this.maxSize) {
+                    return false;
+                }
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the values for the route of the given request, computing them on a cache miss.
+     */
+    public Route get(String httpMethod, URL url, ScopeResolver scopeResolver) {
+        if (maxSize == 0) {
+            misses.increment();
+            return resolve(httpMethod, url, scopeResolver);
+        }
+        var key = new Key(scopeResolver, httpMethod, url.getProtocol(), url.getHost(), url.getPort(), url.getPath(), url.getQuery());
+        Route route;
+        synchronized (routes) {
+            route = routes.get(key);
+        }
+        if (route != null) {
+            hits.increment();
+            return route;
+        }
+        misses.increment();
+        route = resolve(httpMethod, url, scopeResolver);
+        synchronized (routes) {
+            Route existing = routes.putIfAbsent(key, route);
+            return existing != null ? existing : route;
+        }
+    }
+
+    private static Route resolve(String httpMethod, URL url, ScopeResolver scopeResolver) {
+        return new Route(toHtu(url.toString()), Collections.unmodifiableSet(new LinkedHashSet<>(scopeResolver.resolve(httpMethod, url))));
+    }
+
+    /**
+     * Removes all cached routes. Statistics are kept.
+     */
+    public void clear() {
+        synchronized (routes) {
+            routes.clear();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     */
+    public Stats getStats() {
+        int size;
+        synchronized (routes) {
+            size = routes.size();
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    /**
+     * Returns the HTTP URI of a request without query and fragment parts, as expected in the DPoP "htu" claim.
+     * See: <a href="https://datatracker.ietf.org/doc/html/rfc9449#DPoP-Proof-Syntax">DPoP Proof JWT Syntax</a>
+     */
+    public static String toHtu(String url) {
+        try {
+            var uri = new URI(url);
+            return new URI(uri.getScheme(), null, uri.getHost(), uri.getPort(), uri.getPath(), null, null).toString();
+        } catch (Exception e) {
+            throw new OAuth2ClientException("Failed to strip query and fragment parts from URL: %s".formatted(url), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RouteCache[maxSize=%d, %s]".formatted(maxSize, getStats());
+    }
+
+    /**
+     * Values cached for a route.
+     */
+    public record Route(String htu, Set<String> scopes) {}
+
+    /**
+     * Cache statistics. Evictions count the routes removed to make room for new ones.
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+        /**
+         * Returns the ratio of lookups served from the cache, between 0 and 1.
+         */
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    private record Key(ScopeResolver scopeResolver, String httpMethod, String scheme, String host, int port, String path, String query) {}
+}
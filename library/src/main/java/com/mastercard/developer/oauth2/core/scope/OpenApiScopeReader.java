@@ -0,0 +1,279 @@
+package com.mastercard.developer.oauth2.core.scope;
+
+import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the operations and their scopes from an OpenAPI document in YAML format, without a YAML library.
+ * Only the subset of YAML needed to find servers, paths, operations, {@code x-scopes} extensions and
+ * {@code security} requirements is understood: block mappings and sequences, and single-line flow sequences.
+ * Anything else found in {@code x-scopes} or {@code security} (flow mappings, multi-line flow sequences, block scalars,
+ * anchors, aliases or tags) is rejected, rather than silently missing scopes.
+ * Security requirements are alternatives, so the scopes of the first requirement listed are used.
+ */
+final class OpenApiScopeReader {
+
+    private static final Set<String> METHODS = Set.of("get", "put", "post", "delete", "options", "head", "patch", "trace");
+    private static final String PATHS = "paths";
+    private static final String SECURITY = "security";
+    private static final String SCOPES_EXTENSION = "x-scopes";
+
+    private final List<String> serverPaths = new ArrayList<>();
+    private final Map<String, Set<String>> extensionScopes = new LinkedHashMap<>();
+    private final Map<String, List<Set<String>>> securityRequirements = new LinkedHashMap<>();
+    private final Set<String> operations = new LinkedHashSet<>();
+    private List<Set<String>> rootSecurityRequirements = List.of();
+    private int lineNumber;
+    private String line;
+
+    private OpenApiScopeReader() {}
+
+    /**
+     * An operation declared in the document, with its path template prefixed with a server path.
+     */
+    record Operation(String method, String pathTemplate, Set<String> scopes) {}
+
+    static List<Operation> read(InputStream openApiInputStream) throws IOException {
+        var reader = new OpenApiScopeReader();
+        reader.parse(new BufferedReader(new InputStreamReader(openApiInputStream, StandardCharsets.UTF_8)));
+        return reader.getOperations();
+    }
+
+    private void parse(BufferedReader reader) throws IOException {
+        List<Integer> indents = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String content = line.strip();
+            if (content.isEmpty() || content.startsWith("#")) {
+                continue;
+            }
+            int indent = line.indexOf(content);
+            while (!indents.isEmpty() && indents.get(indents.size() - 1) >= indent) {
+                indents.remove(indents.size() - 1);
+                keys.remove(keys.size() - 1);
+            }
+            String[] keyValue;
+            boolean item = content.equals("-") || content.startsWith("- ");
+            if (item) {
+                String itemContent = content.substring(1).strip();
+                keyValue = splitKeyValue(itemContent);
+                if (keyValue == null) {
+                    onScalarItem(keys, stripComment(itemContent).strip());
+                    continue;
+                }
+                indent = line.indexOf(itemContent, indent + 1);
+            } else {
+                keyValue = splitKeyValue(content);
+                if (keyValue == null) {
+                    if (isScopeContext(keys)) {
+                        throw unsupported();
+                    }
+                    continue; // Multi-line scalar
+                }
+            }
+            indents.add(indent);
+            keys.add(keyValue[0]);
+            onKey(keys, keyValue[1], item);
+        }
+    }
+
+    private void onKey(List<String> keys, String value, boolean item) {
+        int depth = keys.size();
+        String first = keys.get(0);
+        if (depth == 2 && "servers".equals(first) && "url".equals(keys.get(1))) {
+            serverPaths.add(serverPath(unquote(value)));
+            return;
+        }
+        if (depth == 3 && isOperation(keys)) {
+            operations.add(operationKey(keys));
+            return;
+        }
+        if (!isScopeContext(keys)) {
+            return;
+        }
+        String key = keys.get(depth - 1);
+        if (key.startsWith("{") || key.startsWith("[") || key.startsWith("?")) {
+            throw unsupported();
+        }
+        boolean operation = isOperation(keys);
+        if (operation && depth == 4 && SCOPES_EXTENSION.equals(keys.get(3))) {
+            extensionScopes.computeIfAbsent(operationKey(keys), k -> new LinkedHashSet<>()).addAll(flowSequence(value));
+        } else if (operation && depth == 4) {
+            securityRequirements.put(operationKey(keys), emptySequence(value));
+        } else if (operation && depth == 5 && SECURITY.equals(keys.get(3))) {
+            addRequirementScopes(securityRequirements.get(operationKey(keys)), flowSequence(value), item);
+        } else if (!operation && depth == 1) {
+            rootSecurityRequirements = emptySequence(value);
+        } else if (!operation && depth == 2) {
+            addRequirementScopes(rootSecurityRequirements, flowSequence(value), item);
+        } else {
+            throw unsupported();
+        }
+    }
+
+    private void onScalarItem(List<String> keys, String value) {
+        int depth = keys.size();
+        if (!isScopeContext(keys)) {
+            return;
+        }
+        checkScalar(value);
+        boolean operation = isOperation(keys);
+        if (operation && depth == 4 && SCOPES_EXTENSION.equals(keys.get(3))) {
+            extensionScopes.computeIfAbsent(operationKey(keys), k -> new LinkedHashSet<>()).add(unquote(value));
+        } else if (operation && depth == 5 && SECURITY.equals(keys.get(3))) {
+            lastRequirement(securityRequirements.get(operationKey(keys))).add(unquote(value));
+        } else if (!operation && depth == 2) {
+            lastRequirement(rootSecurityRequirements).add(unquote(value));
+        } else {
+            throw unsupported(); // Security requirements must be mappings of scheme names to scopes
+        }
+    }
+
+    /**
+     * Adds the scopes of a security scheme to the current requirement, or to a new requirement when the
+     * scheme starts a new sequence item (requirements are alternatives, schemes in a requirement are all needed).
+     */
+    private static void addRequirementScopes(List<Set<String>> requirements, Set<String> scopes, boolean item) {
+        if (item || requirements.isEmpty()) {
+            requirements.add(new LinkedHashSet<>());
+        }
+        lastRequirement(requirements).addAll(scopes);
+    }
+
+    private static Set<String> lastRequirement(List<Set<String>> requirements) {
+        return requirements.get(requirements.size() - 1);
+    }
+
+    private List<Operation> getOperations() {
+        List<String> basePaths = serverPaths.isEmpty() ? List.of("") : serverPaths.stream().distinct().toList();
+        List<Operation> result = new ArrayList<>();
+        for (String basePath : basePaths) {
+            for (String operation : operations) {
+                int separator = operation.indexOf(' ');
+                List<Set<String>> requirements = securityRequirements.getOrDefault(operation, rootSecurityRequirements);
+                Set<String> scopes = extensionScopes.getOrDefault(operation, requirements.isEmpty() ? Set.of() : requirements.get(0));
+                result.add(new Operation(operation.substring(0, separator), basePath + operation.substring(separator + 1), scopes));
+            }
+        }
+        return result;
+    }
+
+    private static boolean isOperation(List<String> keys) {
+        return keys.size() >= 3 && PATHS.equals(keys.get(0)) && keys.get(1).startsWith("/") && METHODS.contains(keys.get(2));
+    }
+
+    /**
+     * Returns true when the keys are inside an {@code x-scopes} extension or a {@code security} requirement.
+     */
+    private static boolean isScopeContext(List<String> keys) {
+        if (keys.isEmpty()) {
+            return false;
+        }
+        if (SECURITY.equals(keys.get(0))) {
+            return true;
+        }
+        return keys.size() >= 4 && isOperation(keys) && (SCOPES_EXTENSION.equals(keys.get(3)) || SECURITY.equals(keys.get(3)));
+    }
+
+    /**
+     * Parses the value of a "security:" key, which can only be empty (followed by a block sequence) or "[]".
+     */
+    private List<Set<String>> emptySequence(String value) {
+        if (!flowSequence(value).isEmpty()) {
+            throw unsupported();
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Parses a single-line flow sequence (e.g. "[a, b]") or a plain scalar into a set of values.
+     */
+    private Set<String> flowSequence(String value) {
+        Set<String> values = new LinkedHashSet<>();
+        if (!value.startsWith("[")) {
+            checkScalar(value);
+            if (!value.isEmpty()) {
+                values.add(unquote(value));
+            }
+            return values;
+        }
+        if (!value.endsWith("]")) {
+            throw unsupported();
+        }
+        for (String item : value.substring(1, value.length() - 1).split(",")) {
+            String scope = item.strip();
+            checkScalar(scope);
+            if (!scope.isEmpty()) {
+                values.add(unquote(scope));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Rejects scalars this reader can't parse: flow collections, block scalars, anchors, aliases and tags.
+     */
+    private void checkScalar(String value) {
+        if (!value.isEmpty() && "{}[]|>&*!".indexOf(value.charAt(0)) >= 0) {
+            throw unsupported();
+        }
+    }
+
+    private OAuth2ClientException unsupported() {
+        String message = "Unsupported YAML at line %d (supported subset: block mappings and sequences, single-line flow sequences): %s";
+        return new OAuth2ClientException(message.formatted(lineNumber, line.strip()));
+    }
+
+    private static String operationKey(List<String> keys) {
+        return keys.get(2) + " " + keys.get(1);
+    }
+
+    /**
+     * Splits "key: value" or "key:" into a key and a (possibly empty) value. Returns null if the text isn't a mapping entry.
+     */
+    private static String[] splitKeyValue(String text) {
+        int from = 0;
+        if (text.startsWith("'") || text.startsWith("\"")) {
+            from = text.indexOf(text.charAt(0), 1);
+            if (from < 0) {
+                return null;
+            }
+        }
+        for (int i = text.indexOf(':', from); i >= 0; i = text.indexOf(':', i + 1)) {
+            if (i == text.length() - 1 || text.charAt(i + 1) == ' ') {
+                return new String[] { unquote(text.substring(0, i).strip()), stripComment(text.substring(i + 1)).strip() };
+            }
+        }
+        return null;
+    }
+
+    private static String serverPath(String url) {
+        int schemeEnd = url.indexOf("://");
+        int pathStart = schemeEnd < 0 ? 0 : url.indexOf('/', schemeEnd + 3);
+        String path = pathStart < 0 ? "" : url.substring(pathStart);
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static String stripComment(String value) {
+        int comment = value.indexOf(" #");
+        return comment < 0 ? value : value.substring(0, comment);
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && (value.startsWith("'") && value.endsWith("'") || value.startsWith("\"") && value.endsWith("\""))) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+}
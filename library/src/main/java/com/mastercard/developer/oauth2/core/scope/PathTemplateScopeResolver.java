@@ -0,0 +1,297 @@
+package com.mastercard.developer.oauth2.core.scope;
+
+import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A {@link ScopeResolver} returning the scopes declared for the operation matching the HTTP method and URL path,
+ * so that access tokens only carry the scopes needed for the API being called.
+ * <p>
+ * Path templates (e.g. {@code /api/resources/{id}}) are compiled into a trie of path segments, where literal segments
+ * take precedence over template variables. Resolution walks the URL path once, without regular expressions and without
+ * allocating. Requests that don't match any operation get the default scopes (empty unless configured).
+ * <p>
+ * Instances can be created with {@link #builder()}, from a mapping file (see {@link #fromMapping(InputStream)})
+ * or from an OpenAPI document (see {@link #fromOpenApi(InputStream)}).
+ */
+public final class PathTemplateScopeResolver implements ScopeResolver {
+
+    private final Node root;
+    private final Set<String> defaultScopes;
+    private final Set<String> allScopes;
+
+    private PathTemplateScopeResolver(Builder builder) {
+        this.root = builder.root.freeze();
+        this.defaultScopes = Collections.unmodifiableSet(new LinkedHashSet<>(builder.defaultScopes));
+        Set<String> scopes = new LinkedHashSet<>(defaultScopes);
+        root.collectScopes(scopes);
+        this.allScopes = Collections.unmodifiableSet(scopes);
+    }
+
+    /**
+     * Create a new builder for {@link PathTemplateScopeResolver}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Loads a resolver from a mapping file. See {@link #fromMapping(InputStream)}.
+     */
+    public static PathTemplateScopeResolver fromMapping(Path mappingFilePath) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(mappingFilePath)) {
+            return fromMapping(inputStream);
+        }
+    }
+
+    /**
+     * Loads a resolver from a mapping file, with one operation per line: the HTTP method, the path template
+     * and the scopes, separated by whitespace. Blank lines and lines starting with '#' are ignored.
+     * Example:
+     * <pre>
+     * # METHOD  PATH                  SCOPES
+     * GET       /api/resources/{id}   service:read
+     * POST      /api/resources        service:read service:write
+     * </pre>
+     */
+    public static PathTemplateScopeResolver fromMapping(InputStream mappingInputStream) throws IOException {
+        var builder = builder();
+        var reader = new BufferedReader(new InputStreamReader(mappingInputStream, StandardCharsets.UTF_8));
+        String line;
+        var lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] parts = trimmed.split("\\s+");
+            if (parts.length < 2 || !parts[1].startsWith("/")) {
+                throw new OAuth2ClientException("Invalid scope mapping at line %d: %s".formatted(lineNumber, line));
+            }
+            builder.add(parts[0], parts[1], new LinkedHashSet<>(Arrays.asList(parts).subList(2, parts.length)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Loads a resolver from an OpenAPI document. See {@link #fromOpenApi(InputStream)}.
+     */
+    public static PathTemplateScopeResolver fromOpenApi(Path openApiFilePath) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(openApiFilePath)) {
+            return fromOpenApi(inputStream);
+        }
+    }
+
+    /**
+     * Loads a resolver from an OpenAPI document in YAML format. Scopes are read, for each operation, from the
+     * {@code x-scopes} extension or from the first of the operation's {@code security} requirements (falling back to the
+     * document's {@code security} requirements), since requirements are alternatives. Path templates are prefixed with
+     * the path of each server URL. Only the block-style YAML commonly used for OpenAPI documents is supported: an
+     * {@link OAuth2ClientException} is thrown for flow mappings, multi-line flow sequences, block scalars, anchors,
+     * aliases or tags in {@code x-scopes} or {@code security}.
+     */
+    public static PathTemplateScopeResolver fromOpenApi(InputStream openApiInputStream) throws IOException {
+        var builder = builder();
+        OpenApiScopeReader.read(openApiInputStream).forEach(operation -> builder.add(operation.method(), operation.pathTemplate(), operation.scopes()));
+        return builder.build();
+    }
+
+    @Override
+    public Set<String> resolve(String httpMethod, URL url) {
+        Set<String> scopes = match(root, httpMethod, url.getPath(), 0);
+        return scopes != null ? scopes : defaultScopes;
+    }
+
+    @Override
+    public Set<String> allScopes() {
+        return allScopes;
+    }
+
+    /**
+     * Walks the trie from the given node for the path segments starting at the given index, trying literal segments
+     * before template variables. Returns null when no operation matches.
+     */
+    private static Set<String> match(Node node, String httpMethod, String path, int from) {
+        int start = from;
+        int length = path.length();
+        while (start < length && path.charAt(start) == '/') {
+            start++;
+        }
+        if (start == length) {
+            return node.getScopes(httpMethod);
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = length;
+        }
+        int literalIndex = node.findLiteral(path, start, end);
+        if (literalIndex >= 0) {
+            Set<String> scopes = match(node.literalChildren[literalIndex], httpMethod, path, end);
+            if (scopes != null) {
+                return scopes;
+            }
+        }
+        return node.variableChild != null ? match(node.variableChild, httpMethod, path, end) : null;
+    }
+
+    /**
+     * Builder for constructing {@link PathTemplateScopeResolver} instances.
+     */
+    public static final class Builder {
+
+        private final MutableNode root = new MutableNode();
+        private Set<String> defaultScopes = Set.of();
+
+        private Builder() {}
+
+        /**
+         * Adds the scopes required by an operation. Scopes are merged when the same operation is added more than once.
+         * Path segments between braces (e.g. {@code {id}}) match any value.
+         */
+        public Builder add(String httpMethod, String pathTemplate, Set<String> scopes) {
+            if (httpMethod == null || httpMethod.isBlank()) {
+                throw new IllegalArgumentException("HTTP method is required");
+            }
+            if (pathTemplate == null || !pathTemplate.startsWith("/")) {
+                throw new IllegalArgumentException("Path template must start with '/'");
+            }
+            MutableNode node = root;
+            for (String segment : pathTemplate.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (segment.startsWith("{") && segment.endsWith("}")) {
+                    if (node.variableChild == null) {
+                        node.variableChild = new MutableNode();
+                    }
+                    node = node.variableChild;
+                } else {
+                    node = node.literalChildren.computeIfAbsent(segment, s -> new MutableNode());
+                }
+            }
+            node.scopes.computeIfAbsent(httpMethod.trim().toUpperCase(Locale.ROOT), m -> new LinkedHashSet<>()).addAll(scopes);
+            return this;
+        }
+
+        /**
+         * Sets the scopes returned for requests not matching any operation.
+         * Default is no scope.
+         */
+        public Builder defaultScopes(Set<String> defaultScopes) {
+            this.defaultScopes = defaultScopes == null ? Set.of() : defaultScopes;
+            return this;
+        }
+
+        /**
+         * Builds the PathTemplateScopeResolver instance.
+         */
+        public PathTemplateScopeResolver build() {
+            return new PathTemplateScopeResolver(this);
+        }
+    }
+
+    private static final class MutableNode {
+
+        private final TreeMap<String, MutableNode> literalChildren = new TreeMap<>();
+        private final Map<String, Set<String>> scopes = new LinkedHashMap<>();
+        private MutableNode variableChild;
+
+        @SuppressWarnings("unchecked")
+        Node freeze() {
+            String[] literals = literalChildren.keySet().toArray(new String[0]);
+            Node[] children = literalChildren.values().stream().map(MutableNode::freeze).toArray(Node[]::new);
+            String[] methods = scopes.keySet().toArray(new String[0]);
+            Set<String>[] methodScopes = scopes.values().stream().map(s -> Collections.unmodifiableSet(new LinkedHashSet<>(s))).toArray(Set[]::new);
+            return new Node(literals, children, variableChild != null ? variableChild.freeze() : null, methods, methodScopes);
+        }
+    }
+
+    /**
+     * Immutable trie node. Literal children are sorted for binary search, operations are kept in small arrays indexed by method.
+     */
+    private static final class Node {
+
+        private final String[] literals;
+        private final Node[] literalChildren;
+        private final Node variableChild;
+        private final String[] methods;
+        private final Set<String>[] methodScopes;
+
+        Node(String[] literals, Node[] literalChildren, Node variableChild, String[] methods, Set<String>[] methodScopes) {
+            this.literals = literals;
+            this.literalChildren = literalChildren;
+            this.variableChild = variableChild;
+            this.methods = methods;
+            this.methodScopes = methodScopes;
+        }
+
+        Set<String> getScopes(String httpMethod) {
+            for (var i = 0; i < methods.length; i++) {
+                if (methods[i].equalsIgnoreCase(httpMethod)) {
+                    return methodScopes[i];
+                }
+            }
+            return null;
+        }
+
+        int findLiteral(String path, int start, int end) {
+            int low = 0;
+            int high = literals.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = compare(path, start, end, literals[middle]);
+                if (comparison < 0) {
+                    high = middle - 1;
+                } else if (comparison > 0) {
+                    low = middle + 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -1;
+        }
+
+        void collectScopes(Set<String> scopes) {
+            for (Set<String> s : methodScopes) {
+                scopes.addAll(s);
+            }
+            for (Node child : literalChildren) {
+                child.collectScopes(scopes);
+            }
+            if (variableChild != null) {
+                variableChild.collectScopes(scopes);
+            }
+        }
+
+        /**
+         * Compares a region of the path to a literal segment, consistently with {@link String#compareTo(String)}.
+         */
+        private static int compare(String path, int start, int end, String literal) {
+            int regionLength = end - start;
+            int min = Math.min(regionLength, literal.length());
+            for (var i = 0; i < min; i++) {
+                int difference = path.charAt(start + i) - literal.charAt(i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return regionLength - literal.length();
+        }
+    }
+}
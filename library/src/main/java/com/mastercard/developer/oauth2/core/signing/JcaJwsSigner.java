@@ -0,0 +1,98 @@
+package com.mastercard.developer.oauth2.core.signing;
+
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.Signature;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PSSParameterSpec;
+import java.util.Optional;
+
+/**
+ * A {@link JwsSigner} signing with a {@link PrivateKey} through the Java Cryptography Architecture.
+ * By default, the most preferred installed provider supporting the algorithm is used. A specific provider
+ * (SunEC, SunRsaSign, a registered third-party provider, ...) can be selected instead.
+ */
+public final class JcaJwsSigner implements JwsSigner {
+
+    private final PrivateKey key;
+    private final JwsAlgorithm alg;
+    private final Provider provider;
+
+    /**
+     * Creates a new signer for the given key, using the algorithm matching the key type and the default JCA provider selection.
+     */
+    public JcaJwsSigner(PrivateKey key) {
+        this(key, null);
+    }
+
+    /**
+     * Creates a new signer for the given key, using the algorithm matching the key type and the given provider
+     * (the default JCA provider selection when null).
+     */
+    public JcaJwsSigner(PrivateKey key, Provider provider) {
+        this(key, key == null ? null : JwsAlgorithm.fromKey(key), provider);
+    }
+
+    /**
+     * Creates a new signer for the given key, algorithm and provider (the default JCA provider selection when null).
+     */
+    public JcaJwsSigner(PrivateKey key, JwsAlgorithm alg, Provider provider) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key must not be null");
+        }
+        if (alg == null) {
+            throw new IllegalArgumentException("Algorithm must not be null");
+        }
+        this.key = key;
+        this.alg = alg;
+        this.provider = provider;
+    }
+
+    @Override
+    public JwsAlgorithm getAlgorithm() {
+        return alg;
+    }
+
+    /**
+     * Returns the selected provider, or an empty {@link Optional} when the default selection applies.
+     */
+    public Optional<Provider> getProvider() {
+        return Optional.ofNullable(provider);
+    }
+
+    @Override
+    public byte[] sign(byte[] signingInput) throws GeneralSecurityException {
+        Signature signature = newSignature(alg, provider);
+        signature.initSign(key);
+        signature.update(signingInput);
+        return signature.sign();
+    }
+
+    /**
+     * Returns the JCA signature algorithm name for a JWS algorithm.
+     */
+    static String jcaAlgorithm(JwsAlgorithm alg) {
+        return switch (alg) {
+            case PS256 -> "RSASSA-PSS";
+            case ES256 -> "SHA256withECDSAinP1363Format"; // Can emit ECDSA signatures in the P1363 (r||s) format directly
+        };
+    }
+
+    /**
+     * Creates a {@link Signature} for a JWS algorithm, from the given provider or from the default providers when null.
+     */
+    static Signature newSignature(JwsAlgorithm alg, Provider providerOrNull) throws GeneralSecurityException {
+        String jcaAlgorithm = jcaAlgorithm(alg);
+        Signature signature = providerOrNull == null ? Signature.getInstance(jcaAlgorithm) : Signature.getInstance(jcaAlgorithm, providerOrNull);
+        if (alg == JwsAlgorithm.PS256) {
+            signature.setParameter(new PSSParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, 32, 1));
+        }
+        return signature;
+    }
+
+    @Override
+    public String toString() {
+        return "JcaJwsSigner[alg=%s, provider=%s]".formatted(alg.alg(), provider == null ? "default" : provider.getName());
+    }
+}
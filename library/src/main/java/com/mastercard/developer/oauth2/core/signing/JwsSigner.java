@@ -0,0 +1,57 @@
+package com.mastercard.developer.oauth2.core.signing;
+
+import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Signs JWS signing inputs (client assertions) with a key owned by the signer.
+ * Implementations can sign with a local {@link java.security.PrivateKey} (see {@link JcaJwsSigner}), or delegate signing
+ * to an external signer (HSM, KMS, ...) holding a key that can't be exported.
+ */
+public interface JwsSigner {
+    /**
+     * Returns the algorithm of the signatures, as set in the "alg" header of the JWS.
+     */
+    JwsAlgorithm getAlgorithm();
+
+    /**
+     * Signs a JWS signing input and returns the raw signature bytes
+     * (RSASSA-PSS signature for PS256, R||S concatenation for ES256).
+     */
+    byte[] sign(byte[] signingInput) throws GeneralSecurityException;
+
+    /**
+     * Signs a JWS signing input asynchronously.
+     * The default implementation signs on the calling thread and returns a completed future.
+     */
+    default CompletableFuture<byte[]> signAsync(byte[] signingInput) {
+        try {
+            return CompletableFuture.completedFuture(sign(signingInput));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Signs several JWS signing inputs and returns the signatures in the same order.
+     * The default implementation starts all asynchronous signatures before waiting for any of them.
+     */
+    default List<byte[]> signAll(List<byte[]> signingInputs) throws GeneralSecurityException {
+        var futures = new ArrayList<CompletableFuture<byte[]>>(signingInputs.size());
+        signingInputs.forEach(signingInput -> futures.add(signAsync(signingInput)));
+        var signatures = new ArrayList<byte[]>(futures.size());
+        try {
+            futures.forEach(future -> signatures.add(future.join()));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof GeneralSecurityException cause) {
+                throw cause;
+            }
+            throw new OAuth2ClientException("Failed to sign JWS signing inputs", e.getCause());
+        }
+        return signatures;
+    }
+}
@@ -0,0 +1,21 @@
+package com.mastercard.developer.oauth2.http;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Abstraction for HTTP clients with a non-blocking API. Clients with both a blocking and a non-blocking API
+ * can implement both this interface and {@link HttpAdapter}.
+ */
+@SuppressWarnings("squid:S00119") // For readability, we keep generic type names as 'Request' and 'Response'
+public interface AsyncHttpAdapter<Request, Response> extends HttpMessageAdapter<Request, Response> {
+    /**
+     * Sends a token request to an authorization server, without blocking the calling thread.
+     */
+    CompletableFuture<Response> sendAccessTokenRequestAsync(Request resourceRequest, URL tokenUrl, String formBody, HttpHeaders headers);
+
+    /**
+     * Sends a resource request to a resource server, without blocking the calling thread.
+     */
+    CompletableFuture<Response> sendResourceRequestAsync(Request request, HttpHeaders headers);
+}
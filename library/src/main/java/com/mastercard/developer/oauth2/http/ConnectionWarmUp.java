@@ -0,0 +1,17 @@
+package com.mastercard.developer.oauth2.http;
+
+import java.net.URL;
+import java.time.Duration;
+
+/**
+ * Optional capability of HTTP client adapters: opening a connection ahead of the first request.
+ * Adapters implement it when the underlying client pools connections and can be reached outside a request.
+ */
+@FunctionalInterface
+public interface ConnectionWarmUp {
+    /**
+     * Opens a connection to the given URL and leaves it in the connection pool of the underlying client, for the next
+     * requests to the same origin to reuse it. Typically sends a HEAD request and discards the response, whatever its status.
+     */
+    void warmUp(URL url, Duration timeout) throws Exception;
+}
@@ -1,21 +1,93 @@
 package com.mastercard.developer.oauth2.http;
 
-import java.util.LinkedHashSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a set of HTTP headers.
+ * Headers are kept in parallel arrays, with the constant names of {@link StandardHttpHeader} and their precomputed
+ * lowercase hashes, so that adding, looking up and iterating over the few headers of a request doesn't allocate or
+ * compare strings needlessly. Names are case-insensitive.
  */
-public final class HttpHeaders extends LinkedHashSet<HttpHeaders.HttpHeader> {
+public final class HttpHeaders implements Iterable<HttpHeaders.HttpHeader> {
+
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private String[] names;
+    private String[] values;
+    private int[] hashes;
+    private int size;
+    private final boolean immutable;
+
+    public HttpHeaders() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    private HttpHeaders(int capacity) {
+        this.names = new String[capacity];
+        this.values = new String[capacity];
+        this.hashes = new int[capacity];
+        this.immutable = false;
+    }
+
+    /**
+     * Creates a mutable copy of the given headers, with room for a few more.
+     */
+    public HttpHeaders(HttpHeaders headers) {
+        int capacity = headers.size + DEFAULT_CAPACITY;
+        this.names = Arrays.copyOf(headers.names, capacity);
+        this.values = Arrays.copyOf(headers.values, capacity);
+        this.hashes = Arrays.copyOf(headers.hashes, capacity);
+        this.size = headers.size;
+        this.immutable = false;
+    }
+
+    private HttpHeaders(String[] names, String[] values, int[] hashes, int size) {
+        this.names = names;
+        this.values = values;
+        this.hashes = hashes;
+        this.size = size;
+        this.immutable = true;
+    }
+
+    /**
+     * Returns an immutable copy of these headers, to be used as a template for headers sent with every request.
+     * Mutable copies of the template are created with {@link #HttpHeaders(HttpHeaders)}.
+     */
+    public HttpHeaders toImmutable() {
+        if (immutable) {
+            return this;
+        }
+        return new HttpHeaders(Arrays.copyOf(names, size), Arrays.copyOf(values, size), Arrays.copyOf(hashes, size), size);
+    }
 
     /**
      * Adds/replaces a header.
      */
     public HttpHeaders add(StandardHttpHeader header, String value) {
+        if (immutable) {
+            throw new UnsupportedOperationException("Headers are immutable");
+        }
         if (value != null && !value.isEmpty()) {
-            var headerName = header.value();
-            removeIf(h -> h.name().equalsIgnoreCase(headerName));
-            add(new HttpHeader(headerName, value));
+            int index = indexOf(header.lowerCaseHash(), header.value());
+            if (index >= 0) {
+                values[index] = value;
+                return this;
+            }
+            if (size == names.length) {
+                grow();
+            }
+            names[size] = header.value();
+            values[size] = value;
+            hashes[size] = header.lowerCaseHash();
+            size++;
         }
         return this;
     }
@@ -24,17 +96,96 @@ public final class HttpHeaders extends LinkedHashSet<HttpHeaders.HttpHeader> {
      * Gets the value of the header with the given name.
      */
     public Optional<String> get(String headerName) {
-        return stream()
-            .filter(header -> header.name().equalsIgnoreCase(headerName))
-            .findFirst()
-            .map(HttpHeader::value);
+        int index = indexOf(StandardHttpHeader.lowerCaseHash(headerName), headerName);
+        return index >= 0 ? Optional.of(values[index]) : Optional.empty();
     }
 
     /**
      * Checks if a header with the given name exists.
      */
     public boolean contains(String name) {
-        return stream().anyMatch(header -> header.name().equalsIgnoreCase(name));
+        return indexOf(StandardHttpHeader.lowerCaseHash(name), name) >= 0;
+    }
+
+    /**
+     * Returns the number of headers.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if there is no header.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void forEach(Consumer<? super HttpHeader> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(new HttpHeader(names[i], values[i]));
+        }
+    }
+
+    @Override
+    public Iterator<HttpHeader> iterator() {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public HttpHeader next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                var header = new HttpHeader(names[index], values[index]);
+                index++;
+                return header;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<HttpHeader> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream over the headers, in insertion order.
+     */
+    public Stream<HttpHeader> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            builder.append(i > 0 ? ", " : "").append(names[i]).append(": ").append(values[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    private int indexOf(int lowerCaseHash, String name) {
+        for (int i = 0; i < size; i++) {
+            // Header names are constants, so most matches are found by identity
+            if (hashes[i] == lowerCaseHash && (names[i] == name || names[i].equalsIgnoreCase(name))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void grow() {
+        int capacity = names.length * 2;
+        names = Arrays.copyOf(names, capacity);
+        values = Arrays.copyOf(values, capacity);
+        hashes = Arrays.copyOf(hashes, capacity);
     }
 
     /**
@@ -0,0 +1,57 @@
+package com.mastercard.developer.oauth2.http;
+
+import java.net.URL;
+import java.util.Optional;
+
+/**
+ * Accessors for the requests and responses of an HTTP client, shared by {@link HttpAdapter} (blocking sends)
+ * and {@link AsyncHttpAdapter} (non-blocking sends).
+ * Status and headers are available once a response is returned (or its future completed). Adapters for streaming
+ * clients may still be receiving the body at that point, so reading it can wait for the rest of the response.
+ */
+@SuppressWarnings("squid:S00119") // For readability, we keep generic type names as 'Request' and 'Response'
+public interface HttpMessageAdapter<Request, Response> {
+    /**
+     * Maximum number of bytes peeked from error response bodies, for `use_dpop_nonce` detection and logging.
+     * Adapters for streaming clients buffer (at least) that many bytes of non-2xx responses, for {@link #peekBody} to return them.
+     */
+    int BODY_PEEK_LIMIT = 8 * 1024;
+
+    /**
+     * Extracts the HTTP method from a request.
+     */
+    String getMethod(Request request);
+
+    /**
+     * Extracts the URL from a request.
+     */
+    URL getUrl(Request request) throws Exception;
+
+    /**
+     * Gets the status code from a response.
+     */
+    int getStatusCode(Response response) throws Exception;
+
+    /**
+     * Gets a header value from a response.
+     */
+    Optional<String> getHeader(Response response, String name) throws Exception;
+
+    /**
+     * Reads a response body as a string.
+     */
+    Optional<String> readBody(Response response) throws Exception;
+
+    /**
+     * Reads the beginning of a response body as a string, leaving the whole body readable by the caller.
+     * Used to inspect error responses without buffering large bodies. The default implementation reads the whole body.
+     */
+    default Optional<String> peekBody(Response response, int maxBytes) throws Exception {
+        return readBody(response).map(body -> body.length() > maxBytes ? body.substring(0, maxBytes) : body);
+    }
+
+    /**
+     * Closes a response and releases resources.
+     */
+    void close(Response response) throws Exception;
+}
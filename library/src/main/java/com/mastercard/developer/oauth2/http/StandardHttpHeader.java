@@ -13,12 +13,31 @@ public enum StandardHttpHeader {
     DPOP("DPoP");
 
     private final String value;
+    private final int lowerCaseHash;
 
     StandardHttpHeader(String value) {
         this.value = value;
+        this.lowerCaseHash = lowerCaseHash(value);
     }
 
     public String value() {
         return value;
     }
+
+    int lowerCaseHash() {
+        return lowerCaseHash;
+    }
+
+    /**
+     * Returns the hash code of the given header name in lowercase, without creating the lowercase string.
+     * Header names are ASCII tokens, as per RFC 9110.
+     */
+    static int lowerCaseHash(String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            hash = 31 * hash + (c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c);
+        }
+        return hash;
+    }
 }
@@ -0,0 +1,495 @@
+package com.mastercard.developer.oauth2.http.apache;
+
+import static com.mastercard.developer.oauth2.http.apache.ApacheAsyncHttpAdapter.*;
+
+import com.mastercard.developer.oauth2.http.AsyncHttpAdapter;
+import com.mastercard.developer.oauth2.http.HttpHeaders;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.impl.BasicEntityDetails;
+import org.apache.hc.core5.http.nio.AsyncDataConsumer;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.support.BasicRequestBuilder;
+
+/**
+ * Internal adapter for Apache HttpClient async API, used from the execution chain of {@link OAuth2HttpAsyncClient}.
+ * Resource responses are streamed to the caller's callback as they arrive. Token responses are buffered. Non-2xx responses
+ * (which may have to be checked for a `use_dpop_nonce` error, and whose body is logged) have their first {@link #BODY_PEEK_LIMIT}
+ * bytes buffered, which are then replayed to the caller's callback, followed by the rest of the body.
+ */
+record ApacheAsyncHttpAdapter(CloseableHttpAsyncClient delegate) implements AsyncHttpAdapter<ApacheAsyncRequestContext, ApacheAsyncResponseContext> {
+    /**
+     * Context attribute marking token requests, which go through the same client but must not be intercepted.
+     */
+    static final String TOKEN_REQUEST_ATTRIBUTE = "oauth2.token-request";
+
+    /**
+     * Request context holding the arguments of the execution chain handler, and whether the request was already sent
+     * and its response already passed to the caller's callback.
+     */
+    record ApacheAsyncRequestContext(
+        HttpRequest request,
+        AsyncEntityProducer entityProducer,
+        AsyncExecChain.Scope scope,
+        AsyncExecChain chain,
+        AsyncExecCallback callback,
+        AtomicBoolean sent,
+        AtomicBoolean forwarded
+    ) {
+        ApacheAsyncRequestContext(HttpRequest request, AsyncEntityProducer entityProducer, AsyncExecChain.Scope scope, AsyncExecChain chain, AsyncExecCallback callback) {
+            this(request, entityProducer, scope, chain, callback, new AtomicBoolean(), new AtomicBoolean());
+        }
+    }
+
+    /**
+     * Response context holding the response head and either the buffered body (the beginning of the body when the consumer
+     * still has the rest of the body to pass on), or nothing when the response was already passed to the caller's callback.
+     */
+    record ApacheAsyncResponseContext(HttpResponse response, byte[] body, ContentType contentType, PrefixDataConsumer rest) {
+        boolean isForwarded() {
+            return body == null;
+        }
+    }
+
+    @Override
+    public String getMethod(ApacheAsyncRequestContext request) {
+        return request.request().getMethod();
+    }
+
+    @Override
+    public URL getUrl(ApacheAsyncRequestContext request) throws Exception {
+        URI uri = request.request().getUri();
+        if (!uri.isAbsolute()) {
+            uri = URI.create(request.scope().route.getTargetHost().toURI() + request.request().getRequestUri());
+        }
+        return uri.toURL();
+    }
+
+    @Override
+    public CompletableFuture<ApacheAsyncResponseContext> sendAccessTokenRequestAsync(ApacheAsyncRequestContext resourceRequest, URL tokenUrl, String formBody, HttpHeaders headers) {
+        var future = new CompletableFuture<ApacheAsyncResponseContext>();
+        try {
+            var requestBuilder = SimpleRequestBuilder.post(tokenUrl.toURI()).setBody(formBody, ContentType.APPLICATION_FORM_URLENCODED);
+            headers.forEach(header -> requestBuilder.addHeader(header.name(), header.value()));
+            var context = HttpClientContext.create();
+            context.setAttribute(TOKEN_REQUEST_ATTRIBUTE, Boolean.TRUE);
+            delegate.execute(requestBuilder.build(), context, new FutureCallback<>() {
+                @Override
+                public void completed(SimpleHttpResponse response) {
+                    byte[] body = response.getBodyBytes();
+                    future.complete(new ApacheAsyncResponseContext(response, body != null ? body : new byte[0], response.getContentType(), null));
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    future.completeExceptionally(e);
+                }
+
+                @Override
+                public void cancelled() {
+                    future.cancel(false);
+                }
+            });
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<ApacheAsyncResponseContext> sendResourceRequestAsync(ApacheAsyncRequestContext request, HttpHeaders headers) {
+        var future = new CompletableFuture<ApacheAsyncResponseContext>();
+        try {
+            var entityProducer = request.entityProducer();
+            if (request.sent().getAndSet(true) && entityProducer != null) {
+                if (!entityProducer.isRepeatable()) {
+                    throw new IOException("Request entity is not repeatable, the request can't be sent again");
+                }
+                entityProducer.releaseResources();
+            }
+            var requestBuilder = BasicRequestBuilder.copy(request.request());
+            // Add or replace HTTP headers in the original request
+            headers.forEach(header -> {
+                requestBuilder.removeHeaders(header.name());
+                requestBuilder.addHeader(header.name(), header.value());
+            });
+            request.chain().proceed(requestBuilder.build(), entityProducer, request.scope(), new ResourceExecCallback(request, future));
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public int getStatusCode(ApacheAsyncResponseContext response) {
+        return response.response().getCode();
+    }
+
+    @Override
+    public Optional<String> getHeader(ApacheAsyncResponseContext response, String name) {
+        Header header = response.response().getFirstHeader(name);
+        return Optional.ofNullable(header != null ? header.getValue() : null);
+    }
+
+    @Override
+    public Optional<String> readBody(ApacheAsyncResponseContext response) {
+        return peekBody(response, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Optional<String> peekBody(ApacheAsyncResponseContext response, int maxBytes) {
+        if (response.isForwarded()) {
+            // Not buffered, the body belongs to the caller
+            return Optional.empty();
+        }
+        byte[] body = response.body();
+        return Optional.of(new String(body, 0, Math.min(maxBytes, body.length), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close(ApacheAsyncResponseContext response) {
+        if (response.rest() != null) {
+            // Not passed to the caller, the rest of the body is discarded
+            response.rest().drain();
+        }
+    }
+
+    /**
+     * Passes a buffered response to the caller's callback.
+     */
+    static void replay(ApacheAsyncResponseContext response, AsyncExecCallback callback) {
+        if (response.rest() != null) {
+            response.rest().forward(callback);
+            return;
+        }
+        try {
+            byte[] body = response.body();
+            EntityDetails entityDetails = body.length > 0 ? new BasicEntityDetails(body.length, response.contentType()) : null;
+            AsyncDataConsumer dataConsumer = callback.handleResponse(response.response(), entityDetails);
+            if (dataConsumer != null && entityDetails != null) {
+                dataConsumer.consume(ByteBuffer.wrap(body));
+                dataConsumer.streamEnd(null);
+            }
+            callback.completed();
+        } catch (Exception e) {
+            callback.failed(e);
+        }
+    }
+
+    /**
+     * Callback buffering the beginning of non-2xx responses, and passing other responses to the caller's callback.
+     */
+    private static final class ResourceExecCallback implements AsyncExecCallback {
+
+        private final ApacheAsyncRequestContext request;
+        private final CompletableFuture<ApacheAsyncResponseContext> future;
+        private HttpResponse response;
+        private ContentType contentType;
+        private PrefixDataConsumer dataConsumer;
+        private boolean forwarded;
+
+        ResourceExecCallback(ApacheAsyncRequestContext request, CompletableFuture<ApacheAsyncResponseContext> future) {
+            this.request = request;
+            this.future = future;
+        }
+
+        @Override
+        public AsyncDataConsumer handleResponse(HttpResponse response, EntityDetails entityDetails) throws HttpException, IOException {
+            this.response = response;
+            int statusCode = response.getCode();
+            if (statusCode < 200 || statusCode >= 300) {
+                if (entityDetails == null) {
+                    return null;
+                }
+                contentType = ContentType.parseLenient(entityDetails.getContentType());
+                dataConsumer = new PrefixDataConsumer(response, entityDetails, prefix ->
+                    future.complete(new ApacheAsyncResponseContext(response, prefix, contentType, dataConsumer))
+                );
+                return dataConsumer;
+            }
+            forwarded = true;
+            request.forwarded().set(true);
+            AsyncDataConsumer callerDataConsumer = request.callback().handleResponse(response, entityDetails);
+            future.complete(new ApacheAsyncResponseContext(response, null, null, null));
+            return callerDataConsumer;
+        }
+
+        @Override
+        public void handleInformationResponse(HttpResponse response) throws HttpException, IOException {
+            request.callback().handleInformationResponse(response);
+        }
+
+        @Override
+        public void completed() {
+            if (forwarded) {
+                request.callback().completed();
+            } else if (dataConsumer == null || !dataConsumer.terminate(null)) {
+                future.complete(new ApacheAsyncResponseContext(response, dataConsumer != null ? dataConsumer.bytes() : new byte[0], contentType, null));
+            }
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            if (forwarded) {
+                request.callback().failed(cause);
+            } else if (dataConsumer == null || !dataConsumer.terminate(cause)) {
+                future.completeExceptionally(cause);
+            }
+        }
+    }
+
+    /**
+     * Data consumer buffering the beginning of a body. Once {@link #BODY_PEEK_LIMIT} bytes are buffered, no more capacity
+     * is granted until the body is either forwarded to the caller's callback (the buffered bytes first) or drained.
+     */
+    static final class PrefixDataConsumer implements AsyncDataConsumer {
+
+        private enum State {
+            BUFFERING,
+            BUFFERED,
+            FORWARDING,
+            FORWARDED,
+            DRAINING,
+        }
+
+        private final HttpResponse response;
+        private final EntityDetails entityDetails;
+        private final Consumer<byte[]> onBuffered;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private State state = State.BUFFERING;
+        private CapacityChannel capacityChannel;
+        private AsyncDataConsumer callerDataConsumer;
+        private AsyncExecCallback callerCallback;
+        private int forwardedBytes;
+        private boolean streamEnded;
+        private List<? extends Header> trailers;
+        private boolean terminated;
+        private Exception failure;
+        private boolean released;
+
+        PrefixDataConsumer(HttpResponse response, EntityDetails entityDetails, Consumer<byte[]> onBuffered) {
+            this.response = response;
+            this.entityDetails = entityDetails;
+            this.onBuffered = onBuffered;
+        }
+
+        synchronized byte[] bytes() {
+            return buffer.toByteArray();
+        }
+
+        @Override
+        public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+            State current;
+            synchronized (this) {
+                this.capacityChannel = capacityChannel;
+                current = state;
+            }
+            switch (current) {
+                case BUFFERING -> capacityChannel.update(BODY_PEEK_LIMIT);
+                case FORWARDED -> {
+                    if (callerDataConsumer != null) {
+                        callerDataConsumer.updateCapacity(capacityChannel);
+                    } else {
+                        capacityChannel.update(Integer.MAX_VALUE);
+                    }
+                }
+                case DRAINING -> capacityChannel.update(Integer.MAX_VALUE);
+                default -> {
+                    // No more capacity until forwarded or drained
+                }
+            }
+        }
+
+        @Override
+        public void consume(ByteBuffer src) throws IOException {
+            byte[] prefix = null;
+            State current;
+            synchronized (this) {
+                current = state;
+                switch (current) {
+                    case BUFFERING, BUFFERED, FORWARDING -> {
+                        // Data received before forwarding is buffered too, and forwarded in order
+                        byte[] bytes = new byte[src.remaining()];
+                        src.get(bytes);
+                        buffer.write(bytes, 0, bytes.length);
+                        if (current == State.BUFFERING && buffer.size() >= BODY_PEEK_LIMIT) {
+                            state = State.BUFFERED;
+                            prefix = buffer.toByteArray();
+                        }
+                    }
+                    case DRAINING -> src.position(src.limit());
+                    default -> {
+                        // Forwarded below
+                    }
+                }
+            }
+            if (prefix != null) {
+                onBuffered.accept(prefix);
+            } else if (current == State.FORWARDED) {
+                if (callerDataConsumer != null) {
+                    callerDataConsumer.consume(src);
+                } else {
+                    src.position(src.limit());
+                }
+            }
+        }
+
+        @Override
+        public void streamEnd(List<? extends Header> trailers) throws HttpException, IOException {
+            synchronized (this) {
+                if (state != State.FORWARDED) {
+                    streamEnded = true;
+                    this.trailers = trailers;
+                    return;
+                }
+            }
+            if (callerDataConsumer != null) {
+                callerDataConsumer.streamEnd(trailers);
+            }
+        }
+
+        @Override
+        public void releaseResources() {
+            synchronized (this) {
+                released = true;
+                if (state != State.FORWARDED) {
+                    return;
+                }
+            }
+            if (callerDataConsumer != null) {
+                callerDataConsumer.releaseResources();
+            }
+        }
+
+        /**
+         * Defers the completion (or the failure) of the exchange, returning false when the whole body was buffered.
+         */
+        boolean terminate(Exception cause) {
+            synchronized (this) {
+                switch (state) {
+                    case BUFFERING -> {
+                        return false;
+                    }
+                    case FORWARDED -> {
+                        // Passed to the caller's callback below
+                    }
+                    default -> {
+                        terminated = true;
+                        failure = cause;
+                        return true;
+                    }
+                }
+            }
+            if (cause == null) {
+                callerCallback.completed();
+            } else {
+                callerCallback.failed(cause);
+            }
+            return true;
+        }
+
+        /**
+         * Passes the response to the caller's callback: the buffered bytes, then the rest of the body. Events received in
+         * the meantime are passed on in order, before the caller's data consumer gets the capacity to receive the rest.
+         */
+        void forward(AsyncExecCallback callback) {
+            synchronized (this) {
+                state = State.FORWARDING;
+                callerCallback = callback;
+            }
+            try {
+                callerDataConsumer = callback.handleResponse(response, entityDetails);
+                while (true) {
+                    byte[] bytes = null;
+                    boolean ended = false;
+                    boolean done = false;
+                    boolean isReleased;
+                    CapacityChannel channel;
+                    synchronized (this) {
+                        byte[] buffered = buffer.toByteArray();
+                        if (forwardedBytes < buffered.length) {
+                            bytes = Arrays.copyOfRange(buffered, forwardedBytes, buffered.length);
+                            forwardedBytes = buffered.length;
+                        } else if (streamEnded) {
+                            streamEnded = false;
+                            ended = true;
+                        } else {
+                            done = terminated;
+                            state = State.FORWARDED;
+                        }
+                        isReleased = released;
+                        channel = capacityChannel;
+                    }
+                    if (bytes != null) {
+                        if (callerDataConsumer != null) {
+                            callerDataConsumer.consume(ByteBuffer.wrap(bytes));
+                        }
+                    } else if (ended) {
+                        if (callerDataConsumer != null) {
+                            callerDataConsumer.streamEnd(trailers);
+                        }
+                    } else {
+                        if (done) {
+                            if (failure == null) {
+                                callback.completed();
+                            } else {
+                                callback.failed(failure);
+                            }
+                        } else if (channel != null) {
+                            updateCapacity(channel);
+                        }
+                        if (isReleased && callerDataConsumer != null) {
+                            callerDataConsumer.releaseResources();
+                        }
+                        return;
+                    }
+                }
+            } catch (Exception e) {
+                drain();
+                callback.failed(e);
+            }
+        }
+
+        /**
+         * Discards the rest of the body, granting all the capacity needed to receive it.
+         */
+        void drain() {
+            CapacityChannel channel;
+            synchronized (this) {
+                state = State.DRAINING;
+                channel = capacityChannel;
+            }
+            if (channel != null) {
+                try {
+                    channel.update(Integer.MAX_VALUE);
+                } catch (IOException e) {
+                    // The connection is already closed
+                }
+            }
+        }
+    }
+}
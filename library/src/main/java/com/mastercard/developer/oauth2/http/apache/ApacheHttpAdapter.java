@@ -2,27 +2,39 @@ package com.mastercard.developer.oauth2.http.apache;
 
 import static com.mastercard.developer.oauth2.http.apache.ApacheHttpAdapter.ApacheRequestContext;
 
+import com.mastercard.developer.oauth2.http.ConnectionWarmUp;
 import com.mastercard.developer.oauth2.http.HttpAdapter;
 import com.mastercard.developer.oauth2.http.HttpHeaders;
+import com.mastercard.developer.oauth2.internal.io.PeekableInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Optional;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.core5.http.ClassicHttpRequest;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.io.entity.BufferedHttpEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.Timeout;
 
 /**
  * Internal adapter for Apache HttpClient.
  */
-record ApacheHttpAdapter(CloseableHttpClient delegate) implements HttpAdapter<ApacheRequestContext, CloseableHttpResponse> {
+record ApacheHttpAdapter(CloseableHttpClient delegate) implements HttpAdapter<ApacheRequestContext, CloseableHttpResponse>, ConnectionWarmUp {
     record ApacheRequestContext(HttpHost target, ClassicHttpRequest request, HttpContext context) {}
 
     @Override
@@ -54,6 +66,14 @@ record ApacheHttpAdapter(CloseableHttpClient delegate) implements HttpAdapter<Ap
         return CloseableHttpResponse.adapt(delegate.executeOpen(request.target(), requestBuilder.build(), request.context()));
     }
 
+    @Override
+    public void warmUp(URL url, Duration timeout) throws Exception {
+        var context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom().setConnectionRequestTimeout(Timeout.of(timeout)).setResponseTimeout(Timeout.of(timeout)).build());
+        // The response handler consumes the response, releasing the connection to the pool
+        delegate.execute(ClassicRequestBuilder.head(url.toURI()).build(), context, response -> null);
+    }
+
     @Override
     public int getStatusCode(CloseableHttpResponse response) {
         return response.getCode();
@@ -77,6 +97,24 @@ record ApacheHttpAdapter(CloseableHttpClient delegate) implements HttpAdapter<Ap
         return Optional.of(EntityUtils.toString(response.getEntity()));
     }
 
+    @Override
+    public Optional<String> peekBody(CloseableHttpResponse response, int maxBytes) throws Exception {
+        var entity = response.getEntity();
+        if (entity == null) {
+            return Optional.empty();
+        }
+        if (entity.isRepeatable()) {
+            try (InputStream content = entity.getContent()) {
+                return Optional.of(new String(content.readNBytes(maxBytes), StandardCharsets.UTF_8));
+            }
+        }
+        if (!(entity instanceof PeekableHttpEntity)) {
+            entity = new PeekableHttpEntity(entity);
+            response.setEntity(entity);
+        }
+        return Optional.of(new String(((PeekableHttpEntity) entity).peek(maxBytes), StandardCharsets.UTF_8));
+    }
+
     @Override
     public void close(CloseableHttpResponse response) {
         try {
@@ -85,4 +123,48 @@ record ApacheHttpAdapter(CloseableHttpClient delegate) implements HttpAdapter<Ap
             // Ignore
         }
     }
+
+    /**
+     * Streamed entity whose content can be peeked without being consumed. Only the peeked bytes are buffered.
+     */
+    private static final class PeekableHttpEntity extends HttpEntityWrapper {
+
+        private PeekableInputStream content;
+
+        PeekableHttpEntity(HttpEntity entity) {
+            super(entity);
+        }
+
+        byte[] peek(int maxBytes) throws IOException {
+            return getContent().peek(maxBytes);
+        }
+
+        @Override
+        public PeekableInputStream getContent() throws IOException {
+            if (content == null) {
+                content = new PeekableInputStream(super.getContent());
+            }
+            return content;
+        }
+
+        @Override
+        public void writeTo(OutputStream outStream) throws IOException {
+            try (InputStream inStream = getContent()) {
+                inStream.transferTo(outStream);
+            }
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (content != null) {
+                content.close();
+            }
+            super.close();
+        }
+    }
 }
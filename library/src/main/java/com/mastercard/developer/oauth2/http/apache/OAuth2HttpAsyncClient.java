@@ -0,0 +1,141 @@
+package com.mastercard.developer.oauth2.http.apache;
+
+import static com.mastercard.developer.oauth2.http.apache.ApacheAsyncHttpAdapter.*;
+
+import com.mastercard.developer.oauth2.config.OAuth2Config;
+import com.mastercard.developer.oauth2.core.OAuth2Handler;
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.function.Supplier;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.AsyncPushConsumer;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.HandlerFactory;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorStatus;
+import org.apache.hc.core5.util.TimeValue;
+
+/**
+ * An OAuth2-enabled Apache HttpClient, for the async API.
+ * An execution chain handler is added to the client being built: access tokens are requested, DPoP proofs created and
+ * `use_dpop_nonce` errors retried as completion stages, without blocking the client's I/O reactor threads.
+ * Token requests are sent through the same client, so they share its connection pool and I/O reactor.
+ */
+public class OAuth2HttpAsyncClient extends CloseableHttpAsyncClient {
+
+    private static final String EXEC_HANDLER_NAME = "oauth2";
+
+    private final OAuth2Handler handler;
+    private final CloseableHttpAsyncClient delegate;
+    private final ApacheAsyncHttpAdapter adapter;
+
+    /**
+     * Creates a new OAuth2-enabled Apache HttpClient for the async API. The client must be started before use.
+     * @param config  A OAuth2 configuration.
+     * @param builder The builder of the underlying client, to which the OAuth2 execution chain handler is added.
+     */
+    public OAuth2HttpAsyncClient(OAuth2Config config, HttpAsyncClientBuilder builder) {
+        this.handler = new OAuth2Handler(config);
+        this.delegate = builder.addExecInterceptorFirst(EXEC_HANDLER_NAME, this::execute).build();
+        this.adapter = new ApacheAsyncHttpAdapter(delegate);
+    }
+
+    /**
+     * Creates a new OAuth2-enabled Apache HttpClient for the async API, using a default client builder.
+     * The client must be started before use.
+     * @param config   A OAuth2 configuration.
+     */
+    public OAuth2HttpAsyncClient(OAuth2Config config) {
+        this(config, HttpAsyncClients.custom());
+    }
+
+    private void execute(HttpRequest request, AsyncEntityProducer entityProducer, AsyncExecChain.Scope scope, AsyncExecChain chain, AsyncExecCallback callback)
+        throws HttpException, IOException {
+        if (scope.clientContext.getAttribute(TOKEN_REQUEST_ATTRIBUTE) != null) {
+            // Token request sent by the adapter
+            chain.proceed(request, entityProducer, scope, callback);
+            return;
+        }
+        var requestContext = new ApacheAsyncRequestContext(request, entityProducer, scope, chain, callback);
+        handler
+            .executeAsync(requestContext, adapter)
+            .whenComplete((response, failure) -> {
+                if (requestContext.forwarded().get()) {
+                    // The response was already streamed to the callback
+                    return;
+                }
+                if (failure == null) {
+                    replay(response, callback);
+                } else {
+                    callback.failed(toException(failure));
+                }
+            });
+    }
+
+    private static Exception toException(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause instanceof IOException || cause instanceof HttpException) {
+            return (Exception) cause;
+        }
+        return new IOException("Failed to execute request", cause);
+    }
+
+    @Override
+    public void start() {
+        delegate.start();
+    }
+
+    @Override
+    public IOReactorStatus getStatus() {
+        return delegate.getStatus();
+    }
+
+    @Override
+    public void awaitShutdown(TimeValue waitTime) throws InterruptedException {
+        delegate.awaitShutdown(waitTime);
+    }
+
+    @Override
+    public void initiateShutdown() {
+        delegate.initiateShutdown();
+    }
+
+    @Override
+    protected <T> Future<T> doExecute(
+        HttpHost target,
+        AsyncRequestProducer requestProducer,
+        AsyncResponseConsumer<T> responseConsumer,
+        HandlerFactory<AsyncPushConsumer> pushHandlerFactory,
+        HttpContext context,
+        FutureCallback<T> callback
+    ) {
+        return delegate.execute(target, requestProducer, responseConsumer, pushHandlerFactory, context, callback);
+    }
+
+    @Override
+    public void register(String hostname, String uriPattern, Supplier<AsyncPushConsumer> supplier) {
+        delegate.register(hostname, uriPattern, supplier);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    @Override
+    public void close(CloseMode closeMode) {
+        delegate.close(closeMode);
+    }
+}
@@ -5,6 +5,7 @@ import static com.mastercard.developer.oauth2.http.apache.ApacheHttpAdapter.*;
 import com.mastercard.developer.oauth2.config.OAuth2Config;
 import com.mastercard.developer.oauth2.core.OAuth2Handler;
 import java.io.IOException;
+import java.time.Duration;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
@@ -40,6 +41,16 @@ public class OAuth2HttpClient extends CloseableHttpClient {
         this(config, HttpClients.createDefault());
     }
 
+    /**
+     * Opens a connection to the token endpoint and leaves it in the connection pool, so that the first token request
+     * doesn't pay for the TCP and TLS handshakes. Optional, typically called once at startup.
+     * @param deadline The maximum time to wait for the connection.
+     * @return true when the connection was opened before the deadline.
+     */
+    public boolean warmUp(Duration deadline) {
+        return handler.warmUp(adapter, deadline);
+    }
+
     @Override
     protected CloseableHttpResponse doExecute(HttpHost target, ClassicHttpRequest request, HttpContext context) throws IOException {
         try {
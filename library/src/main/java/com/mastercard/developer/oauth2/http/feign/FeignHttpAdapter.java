@@ -2,25 +2,34 @@ package com.mastercard.developer.oauth2.http.feign;
 
 import static com.mastercard.developer.oauth2.http.feign.FeignHttpAdapter.FeignRequestContext;
 
+import com.mastercard.developer.oauth2.http.ConnectionWarmUp;
 import com.mastercard.developer.oauth2.http.HttpAdapter;
 import com.mastercard.developer.oauth2.http.HttpHeaders;
+import com.mastercard.developer.oauth2.internal.io.PeekableInputStream;
 import feign.Client;
 import feign.Request;
 import feign.Response;
 import feign.Util;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URI;
 import java.net.URL;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Internal adapter for Feign Client.
+ * Response bodies keep the original stream and are passed as-is to the caller. Only the bytes peeked at by the
+ * handler (token responses, and the beginning of error bodies checked for a `use_dpop_nonce` error and logged) are buffered.
  */
-record FeignHttpAdapter(Client delegate) implements HttpAdapter<FeignRequestContext, Response> {
+record FeignHttpAdapter(Client delegate) implements HttpAdapter<FeignRequestContext, Response>, ConnectionWarmUp {
     record FeignRequestContext(Request request, Request.Options options) {}
 
     @Override
@@ -38,7 +47,15 @@ record FeignHttpAdapter(Client delegate) implements HttpAdapter<FeignRequestCont
         var requestHeaders = new LinkedHashMap<String, Collection<String>>();
         headers.forEach(header -> requestHeaders.put(header.name(), List.of(header.value())));
         var tokenRequest = Request.create(Request.HttpMethod.POST, tokenUrl.toString(), requestHeaders, formBody.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, null);
-        return withReusableBody(delegate.execute(tokenRequest, new Request.Options()));
+        return withPeekableBody(delegate.execute(tokenRequest, new Request.Options()));
+    }
+
+    @Override
+    public void warmUp(URL url, Duration timeout) throws Exception {
+        var request = Request.create(Request.HttpMethod.HEAD, url.toString(), Map.of(), null, StandardCharsets.UTF_8, null);
+        try (Response ignored = delegate.execute(request, new Request.Options(timeout, timeout, false))) {
+            // The response has no body, the connection is released when closed
+        }
     }
 
     @Override
@@ -58,7 +75,7 @@ record FeignHttpAdapter(Client delegate) implements HttpAdapter<FeignRequestCont
             originalRequest.charset(),
             originalRequest.requestTemplate()
         );
-        return withReusableBody(delegate.execute(resourceRequest, request.options()));
+        return withPeekableBody(delegate.execute(resourceRequest, request.options()));
     }
 
     @Override
@@ -77,10 +94,19 @@ record FeignHttpAdapter(Client delegate) implements HttpAdapter<FeignRequestCont
 
     @Override
     public Optional<String> readBody(Response response) throws Exception {
-        if (response.body() == null) {
+        return peekBody(response, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Optional<String> peekBody(Response response, int maxBytes) throws Exception {
+        Response.Body body = response.body();
+        if (body == null) {
             return Optional.empty();
         }
-        return Optional.of(Util.toString(response.body().asReader(StandardCharsets.UTF_8)));
+        if (body instanceof PeekableBody peekableBody) {
+            return Optional.of(new String(peekableBody.peek(maxBytes), StandardCharsets.UTF_8));
+        }
+        return Optional.of(new String(body.asInputStream().readNBytes(maxBytes), StandardCharsets.UTF_8));
     }
 
     @Override
@@ -90,12 +116,63 @@ record FeignHttpAdapter(Client delegate) implements HttpAdapter<FeignRequestCont
         }
     }
 
-    private Response withReusableBody(Response response) throws IOException {
+    private static Response withPeekableBody(Response response) {
         Response.Body body = response.body();
-        if (body == null) {
+        if (body == null || body.isRepeatable()) {
+            // Already in memory, can be read more than once
             return response;
         }
-        var bodyString = Util.toString(body.asReader(StandardCharsets.UTF_8));
-        return response.toBuilder().body(bodyString, StandardCharsets.UTF_8).build();
+        return response.toBuilder().body(new PeekableBody(body)).build();
+    }
+
+    /**
+     * Body whose stream is passed to the caller as-is, with only the bytes peeked by the adapter being buffered.
+     */
+    private static final class PeekableBody implements Response.Body {
+
+        private final Response.Body body;
+        private PeekableInputStream inputStream;
+
+        PeekableBody(Response.Body body) {
+            this.body = body;
+        }
+
+        byte[] peek(int maxBytes) throws IOException {
+            return asInputStream().peek(maxBytes);
+        }
+
+        @Override
+        public Integer length() {
+            return body.length();
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return false;
+        }
+
+        @Override
+        public synchronized PeekableInputStream asInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new PeekableInputStream(body.asInputStream());
+            }
+            return inputStream;
+        }
+
+        // Keep this without @Override
+        // Abstract up to Feign 11, default method since Feign 12
+        public Reader asReader() throws IOException {
+            return asReader(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Reader asReader(Charset charset) throws IOException {
+            return new InputStreamReader(asInputStream(), charset);
+        }
+
+        @Override
+        public void close() throws IOException {
+            body.close();
+        }
     }
 }
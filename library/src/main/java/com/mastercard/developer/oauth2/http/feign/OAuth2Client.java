@@ -8,6 +8,7 @@ import feign.Client;
 import feign.Request;
 import feign.Response;
 import java.io.IOException;
+import java.time.Duration;
 
 /**
  * An OAuth2-enabled Feign Client.
@@ -35,6 +36,16 @@ public final class OAuth2Client implements Client {
         this(config, new Client.Default(null, null));
     }
 
+    /**
+     * Opens a connection to the token endpoint with the delegate client, so that the first token request doesn't pay
+     * for the TCP and TLS handshakes when the delegate pools connections. Optional, typically called once at startup.
+     * @param deadline The maximum time to wait for the connection.
+     * @return true when the connection was opened before the deadline.
+     */
+    public boolean warmUp(Duration deadline) {
+        return handler.warmUp(adapter, deadline);
+    }
+
     @Override
     public Response execute(Request request, Request.Options options) throws IOException {
         try {
@@ -2,42 +2,77 @@ package com.mastercard.developer.oauth2.http.java;
 
 import static com.mastercard.developer.oauth2.http.java.JavaHttpAdapter.*;
 
-import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
+import com.mastercard.developer.oauth2.http.AsyncHttpAdapter;
+import com.mastercard.developer.oauth2.http.ConnectionWarmUp;
 import com.mastercard.developer.oauth2.http.HttpAdapter;
 import com.mastercard.developer.oauth2.http.HttpHeaders;
-import java.io.IOException;
-import java.io.InputStream;
+import com.mastercard.developer.oauth2.internal.io.PrefixBufferingSubscriber;
+import java.io.ByteArrayOutputStream;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Flow;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.net.ssl.SSLSession;
 
 /**
  * Internal adapter for Java HttpClient.
+ * Resource response bodies are passed as-is to the caller's {@link HttpResponse.BodySubscriber}, with the client's
+ * backpressure. Token responses are buffered. Non-2xx responses (which may have to be checked for a `use_dpop_nonce` error,
+ * and whose body is logged) have their first {@link #BODY_PEEK_LIMIT} bytes buffered, which are then replayed to the caller's
+ * body subscriber, followed by the rest of the body.
  */
-record JavaHttpAdapter(HttpClient delegate) implements HttpAdapter<JavaRequestContext, JavaResponseContext> {
+record JavaHttpAdapter(HttpClient delegate)
+    implements HttpAdapter<JavaRequestContext, JavaResponseContext>, AsyncHttpAdapter<JavaRequestContext, JavaResponseContext>, ConnectionWarmUp {
     /**
-     * Request context holding the {@link HttpRequest} and the body handler to be used for the response.
+     * Request context holding the {@link HttpRequest}, the body handler to be used for the response and,
+     * for asynchronous requests, an optional push promise handler.
      */
-    record JavaRequestContext(HttpRequest httpRequest, HttpResponse.BodyHandler<?> bodyHandler) {}
+    record JavaRequestContext(HttpRequest httpRequest, HttpResponse.BodyHandler<?> bodyHandler, HttpResponse.PushPromiseHandler<?> pushPromiseHandler) {
+        JavaRequestContext(HttpRequest httpRequest, HttpResponse.BodyHandler<?> bodyHandler) {
+            this(httpRequest, bodyHandler, null);
+        }
+    }
 
     /**
-     * Response context holding the internal response with a string response body, and a response
-     * adapted to the original {@link HttpResponse.BodyHandler}.
+     * Response context holding the internal response and the original {@link HttpResponse.BodyHandler}.
      */
-    record JavaResponseContext(HttpResponse<?> internalResponse, HttpResponse<?> response) {}
+    record JavaResponseContext(HttpResponse<InternalBody> internalResponse, HttpResponse.BodyHandler<?> bodyHandler) {
+        /**
+         * Returns the response with a body of the type expected by the caller. Buffered bodies are replayed to the
+         * caller's body handler, so this is meant to be called once, for the response returned to the caller.
+         */
+        HttpResponse<?> response() {
+            return responseAsync().join();
+        }
+
+        /**
+         * Same as {@link #response()}, without waiting for the caller's body handler to complete.
+         */
+        CompletableFuture<HttpResponse<?>> responseAsync() {
+            return toCallerResponse(internalResponse, bodyHandler).thenApply(response -> response);
+        }
+    }
+
+    /**
+     * Body of an internal response: either the body produced by the caller's body handler, or the buffered bytes
+     * (the beginning of the body when the rest is still to be read).
+     */
+    record InternalBody(Object callerBody, byte[] bytes, PrefixBufferingSubscriber<List<ByteBuffer>> rest) {
+        boolean isBuffered() {
+            return bytes != null;
+        }
+    }
 
     @Override
     public String getMethod(JavaRequestContext request) {
@@ -51,29 +86,43 @@ record JavaHttpAdapter(HttpClient delegate) implements HttpAdapter<JavaRequestCo
 
     @Override
     public JavaResponseContext sendAccessTokenRequest(JavaRequestContext resourceRequest, URL tokenUrl, String formBody, HttpHeaders headers) throws Exception {
-        var requestBuilder = HttpRequest.newBuilder().uri(tokenUrl.toURI()).POST(HttpRequest.BodyPublishers.ofString(formBody));
-        addHeaders(requestBuilder, headers);
-        var tokenResponse = delegate.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString());
-        HttpResponse<?> actualResponse = new WithTransformedBodyResponse<>(tokenResponse, resourceRequest.bodyHandler());
-        return new JavaResponseContext(tokenResponse, actualResponse);
+        var tokenResponse = delegate.send(createAccessTokenRequest(tokenUrl, formBody, headers), bufferingBodyHandler());
+        return new JavaResponseContext(tokenResponse, resourceRequest.bodyHandler());
+    }
+
+    @Override
+    public CompletableFuture<JavaResponseContext> sendAccessTokenRequestAsync(JavaRequestContext resourceRequest, URL tokenUrl, String formBody, HttpHeaders headers) {
+        try {
+            return delegate
+                .sendAsync(createAccessTokenRequest(tokenUrl, formBody, headers), bufferingBodyHandler())
+                .thenApply(tokenResponse -> new JavaResponseContext(tokenResponse, resourceRequest.bodyHandler()));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
     }
 
     @Override
     public JavaResponseContext sendResourceRequest(JavaRequestContext request, HttpHeaders headers) throws Exception {
-        var originalRequest = request.httpRequest();
-        var body = originalRequest.bodyPublisher().orElse(HttpRequest.BodyPublishers.noBody());
-        var requestBuilder = HttpRequest.newBuilder(originalRequest.uri()).method(originalRequest.method(), body);
-        originalRequest
-            .headers()
-            .map()
-            .entrySet()
-            .stream()
-            .filter(entry -> !headers.contains(entry.getKey()))
-            .forEach(entry -> entry.getValue().forEach(value -> requestBuilder.header(entry.getKey(), value)));
-        addHeaders(requestBuilder, headers);
-        var resourceResponse = delegate.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString());
-        HttpResponse<?> actualResponse = new WithTransformedBodyResponse<>(resourceResponse, request.bodyHandler());
-        return new JavaResponseContext(resourceResponse, actualResponse);
+        var resourceResponse = delegate.send(createResourceRequest(request, headers), resourceBodyHandler(request.bodyHandler()));
+        return new JavaResponseContext(resourceResponse, request.bodyHandler());
+    }
+
+    @Override
+    public CompletableFuture<JavaResponseContext> sendResourceRequestAsync(JavaRequestContext request, HttpHeaders headers) {
+        CompletableFuture<HttpResponse<InternalBody>> resourceResponse;
+        HttpResponse.BodyHandler<InternalBody> bodyHandler = resourceBodyHandler(request.bodyHandler());
+        if (request.pushPromiseHandler() == null) {
+            resourceResponse = delegate.sendAsync(createResourceRequest(request, headers), bodyHandler);
+        } else {
+            resourceResponse = delegate.sendAsync(createResourceRequest(request, headers), bodyHandler, adapt(request.pushPromiseHandler()));
+        }
+        return resourceResponse.thenApply(response -> new JavaResponseContext(response, request.bodyHandler()));
+    }
+
+    @Override
+    public void warmUp(URL url, Duration timeout) throws Exception {
+        var request = HttpRequest.newBuilder(url.toURI()).method("HEAD", HttpRequest.BodyPublishers.noBody()).timeout(timeout).build();
+        delegate.send(request, HttpResponse.BodyHandlers.discarding());
     }
 
     @Override
@@ -87,35 +136,132 @@ record JavaHttpAdapter(HttpClient delegate) implements HttpAdapter<JavaRequestCo
     }
 
     @Override
-    public Optional<String> readBody(JavaResponseContext response) throws Exception {
-        return readBody(response.internalResponse());
+    public Optional<String> readBody(JavaResponseContext response) {
+        return peekBody(response, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Optional<String> peekBody(JavaResponseContext response, int maxBytes) {
+        InternalBody body = response.internalResponse().body();
+        if (body == null || !body.isBuffered()) {
+            // Not buffered, the body belongs to the caller
+            return Optional.empty();
+        }
+        return Optional.of(new String(body.bytes(), 0, Math.min(maxBytes, body.bytes().length), StandardCharsets.UTF_8));
     }
 
     @Override
     public void close(JavaResponseContext response) {
-        // No-op
+        InternalBody body = response.internalResponse().body();
+        if (body != null && body.rest() != null) {
+            // Not passed to the caller, stop reading the body
+            body.rest().cancel();
+        }
+    }
+
+    private static HttpRequest createAccessTokenRequest(URL tokenUrl, String formBody, HttpHeaders headers) throws URISyntaxException {
+        var requestBuilder = HttpRequest.newBuilder().uri(tokenUrl.toURI()).POST(HttpRequest.BodyPublishers.ofString(formBody));
+        addHeaders(requestBuilder, headers);
+        return requestBuilder.build();
+    }
+
+    private static HttpRequest createResourceRequest(JavaRequestContext request, HttpHeaders headers) {
+        var originalRequest = request.httpRequest();
+        var body = originalRequest.bodyPublisher().orElse(HttpRequest.BodyPublishers.noBody());
+        var requestBuilder = HttpRequest.newBuilder(originalRequest.uri()).method(originalRequest.method(), body);
+        originalRequest
+            .headers()
+            .map()
+            .entrySet()
+            .stream()
+            .filter(entry -> !headers.contains(entry.getKey()))
+            .forEach(entry -> entry.getValue().forEach(value -> requestBuilder.header(entry.getKey(), value)));
+        addHeaders(requestBuilder, headers);
+        return requestBuilder.build();
     }
 
     private static void addHeaders(HttpRequest.Builder builder, HttpHeaders headers) {
         headers.forEach(header -> builder.header(header.name(), header.value()));
     }
 
+    /**
+     * Body handler buffering the response bytes.
+     */
+    private static HttpResponse.BodyHandler<InternalBody> bufferingBodyHandler() {
+        return responseInfo -> HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(), bytes -> new InternalBody(null, bytes, null));
+    }
+
+    /**
+     * Body handler buffering the beginning of the response bytes.
+     */
+    private static HttpResponse.BodyHandler<InternalBody> prefixBufferingBodyHandler() {
+        return responseInfo -> new PrefixBodySubscriber(new PrefixBufferingSubscriber<>(BODY_PEEK_LIMIT, JavaHttpAdapter::copy, bytes -> List.of(ByteBuffer.wrap(bytes))));
+    }
+
+    private static void copy(List<ByteBuffer> buffers, ByteArrayOutputStream out) {
+        for (ByteBuffer buffer : buffers) {
+            ByteBuffer duplicate = buffer.duplicate();
+            byte[] bytes = new byte[duplicate.remaining()];
+            duplicate.get(bytes);
+            out.writeBytes(bytes);
+        }
+    }
+
+    /**
+     * Body handler buffering the beginning of non-2xx responses, and passing other responses to the caller's body handler.
+     */
+    private static HttpResponse.BodyHandler<InternalBody> resourceBodyHandler(HttpResponse.BodyHandler<?> callerBodyHandler) {
+        return responseInfo -> {
+            int statusCode = responseInfo.statusCode();
+            if (statusCode < 200 || statusCode >= 300) {
+                return prefixBufferingBodyHandler().apply(responseInfo);
+            }
+            return passthroughBodyHandler(callerBodyHandler).apply(responseInfo);
+        };
+    }
+
+    private static HttpResponse.BodyHandler<InternalBody> passthroughBodyHandler(HttpResponse.BodyHandler<?> callerBodyHandler) {
+        return responseInfo -> HttpResponse.BodySubscribers.mapping(callerBodyHandler.apply(responseInfo), body -> new InternalBody(body, null, null));
+    }
+
+    @SuppressWarnings("unchecked") // Type is preserved through the internal body
+    private static <T> CompletableFuture<HttpResponse<T>> toCallerResponse(HttpResponse<InternalBody> internalResponse, HttpResponse.BodyHandler<T> bodyHandler) {
+        InternalBody body = internalResponse.body();
+        if (body == null) {
+            return CompletableFuture.completedFuture(new WithTransformedBodyResponse<>(internalResponse, null));
+        }
+        if (!body.isBuffered()) {
+            return CompletableFuture.completedFuture(new WithTransformedBodyResponse<>(internalResponse, (T) body.callerBody()));
+        }
+        var subscriber = bodyHandler.apply(new ResponseInfoImpl(internalResponse));
+        if (body.rest() == null) {
+            subscriber.onSubscribe(new ReplaySubscription(subscriber, body.bytes()));
+        } else {
+            // Publishes the buffered bytes, then the rest of the body
+            body.rest().subscribe(subscriber);
+        }
+        return subscriber.getBody().toCompletableFuture().thenApply(callerBody -> new WithTransformedBodyResponse<>(internalResponse, callerBody));
+    }
+
+    /**
+     * Adapts the caller's push promise handler, so that pushed responses are passed to the body handler
+     * chosen by the caller for each push promise.
+     */
+    private static <T> HttpResponse.PushPromiseHandler<InternalBody> adapt(HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+        return (initiatingRequest, pushPromiseRequest, acceptor) ->
+            pushPromiseHandler.applyPushPromise(initiatingRequest, pushPromiseRequest, bodyHandler ->
+                acceptor.apply(passthroughBodyHandler(bodyHandler)).thenCompose(pushedResponse -> toCallerResponse(pushedResponse, bodyHandler))
+            );
+    }
+
     private static class WithTransformedBodyResponse<T> implements HttpResponse<T> {
 
         private final HttpResponse<?> originalResponse;
         private final T adaptedBody;
 
-        public WithTransformedBodyResponse(HttpResponse<?> originalResponse, HttpResponse.BodyHandler<T> bodyHandler) throws IOException {
-            var responseInfo = new ResponseInfoImpl(originalResponse);
-            var subscriber = bodyHandler.apply(responseInfo);
-            subscriber.onSubscribe(new NullSubscription());
-            String body = readBody(originalResponse).orElse("");
-            if (!body.isEmpty()) {
-                subscriber.onNext(List.of(ByteBuffer.wrap(body.getBytes(StandardCharsets.UTF_8))));
-            }
-            subscriber.onComplete();
+        WithTransformedBodyResponse(HttpResponse<?> originalResponse, T adaptedBody) {
             this.originalResponse = originalResponse;
-            this.adaptedBody = subscriber.getBody().toCompletableFuture().join();
+            this.adaptedBody = adaptedBody;
         }
 
         @Override
@@ -176,26 +322,68 @@ record JavaHttpAdapter(HttpClient delegate) implements HttpAdapter<JavaRequestCo
         }
     }
 
-    private record NullSubscription() implements Flow.Subscription {
+    /**
+     * Body subscriber completing its body once the beginning of the response bytes is buffered.
+     */
+    private record PrefixBodySubscriber(PrefixBufferingSubscriber<List<ByteBuffer>> subscriber) implements HttpResponse.BodySubscriber<InternalBody> {
         @Override
-        public void request(long n) {
-            // No-op
+        public CompletionStage<InternalBody> getBody() {
+            return subscriber.prefix().thenApply(prefix -> new InternalBody(null, prefix.bytes(), prefix.whole() ? null : subscriber));
         }
 
         @Override
-        public void cancel() {
-            // No-op
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscriber.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            subscriber.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
         }
     }
 
-    private static Optional<String> readBody(HttpResponse<?> response) throws IOException {
-        var body = response.body();
-        if (body == null) return Optional.empty();
-        if (body instanceof String bodyString) return Optional.of(bodyString);
-        if (body instanceof byte[] bodyBytes) return Optional.of(new String(bodyBytes, StandardCharsets.UTF_8));
-        if (body instanceof InputStream bodyInputStream) return Optional.of(new String(bodyInputStream.readAllBytes(), StandardCharsets.UTF_8));
-        if (body instanceof Stream<?> bodyStream) return Optional.of(bodyStream.map(Objects::toString).collect(Collectors.joining()));
-        if (body instanceof Path bodyPath) return Optional.of(Files.readString(bodyPath));
-        throw new OAuth2ClientException("Unsupported body type: " + body.getClass().getName());
+    /**
+     * Subscription delivering buffered bytes to a body subscriber, once requested.
+     */
+    private static final class ReplaySubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super List<ByteBuffer>> subscriber;
+        private final byte[] bytes;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        ReplaySubscription(Flow.Subscriber<? super List<ByteBuffer>> subscriber, byte[] bytes) {
+            this.subscriber = subscriber;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void request(long n) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            if (n <= 0) {
+                subscriber.onError(new IllegalArgumentException("Non-positive subscription request: " + n));
+                return;
+            }
+            if (bytes.length > 0) {
+                subscriber.onNext(List.of(ByteBuffer.wrap(bytes)));
+            }
+            subscriber.onComplete();
+        }
+
+        @Override
+        public void cancel() {
+            done.set(true);
+        }
     }
 }
@@ -31,7 +31,7 @@ public final class OAuth2HttpClient extends HttpClient {
      * @param config       A OAuth2 configuration.
      * @param baseBuilder  A HttpClient builder to use as a starting point.
      */
-    public static HttpClient.Builder newBuilder(OAuth2Config config, HttpClient.Builder baseBuilder) {
+    public static Builder newBuilder(OAuth2Config config, HttpClient.Builder baseBuilder) {
         return new Builder(config, baseBuilder);
     }
 
@@ -39,14 +39,17 @@ public final class OAuth2HttpClient extends HttpClient {
      * Creates a builder of OAuth2-enabled Java HttpClients.
      * @param config   A OAuth2 configuration.
      */
-    public static HttpClient.Builder newBuilder(OAuth2Config config) {
+    public static Builder newBuilder(OAuth2Config config) {
         return new Builder(config);
     }
 
-    private OAuth2HttpClient(OAuth2Config config, HttpClient.Builder baseBuilder) {
+    private OAuth2HttpClient(OAuth2Config config, HttpClient.Builder baseBuilder, Duration warmUpDeadline) {
         this.handler = new OAuth2Handler(config);
         this.delegate = baseBuilder.build();
         this.adapter = new JavaHttpAdapter(delegate);
+        if (warmUpDeadline != null) {
+            handler.warmUp(adapter, warmUpDeadline);
+        }
     }
 
     @SuppressWarnings("unchecked") // Type is preserved through the adapter
@@ -63,16 +66,20 @@ public final class OAuth2HttpClient extends HttpClient {
 
     @Override
     public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler) {
-        throw new UnsupportedOperationException("Async version with OAuth2 not implemented");
+        return sendAsync(request, responseBodyHandler, null);
     }
 
+    @SuppressWarnings("unchecked") // Type is preserved through the adapter
     @Override
     public <T> CompletableFuture<HttpResponse<T>> sendAsync(
         HttpRequest request,
         HttpResponse.BodyHandler<T> responseBodyHandler,
         HttpResponse.PushPromiseHandler<T> pushPromiseHandler
     ) {
-        throw new UnsupportedOperationException("Async version with OAuth2 not implemented");
+        return handler
+            .executeAsync(new JavaRequestContext(request, responseBodyHandler, pushPromiseHandler), adapter)
+            .thenCompose(JavaResponseContext::responseAsync)
+            .thenApply(response -> (HttpResponse<T>) response);
     }
 
     @Override
@@ -125,14 +132,27 @@ public final class OAuth2HttpClient extends HttpClient {
         return delegate.newWebSocketBuilder();
     }
 
-    public record Builder(OAuth2Config config, HttpClient.Builder delegate) implements HttpClient.Builder {
+    public record Builder(OAuth2Config config, HttpClient.Builder delegate, Duration warmUpDeadline) implements HttpClient.Builder {
+        public Builder(OAuth2Config config, HttpClient.Builder delegate) {
+            this(config, delegate, null);
+        }
+
         public Builder(OAuth2Config config) {
             this(config, HttpClient.newBuilder());
         }
 
+        /**
+         * Makes {@link #build()} open a connection to the token endpoint before returning the client, so that the first
+         * token request doesn't pay for the TCP and TLS handshakes. The client is returned anyway after the deadline.
+         * @param deadline The maximum time to wait for the connection.
+         */
+        public Builder warmUp(Duration deadline) {
+            return new Builder(config, delegate, deadline);
+        }
+
         @Override
         public HttpClient build() {
-            return new OAuth2HttpClient(config, delegate);
+            return new OAuth2HttpClient(config, delegate, warmUpDeadline);
         }
 
         @Override
@@ -0,0 +1,382 @@
+package com.mastercard.developer.oauth2.http.jetty;
+
+import static com.mastercard.developer.oauth2.http.jetty.JettyHttpAdapter.*;
+
+import com.mastercard.developer.oauth2.http.AsyncHttpAdapter;
+import com.mastercard.developer.oauth2.http.HttpHeaders;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.jetty.client.BufferingResponseListener;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.Request;
+import org.eclipse.jetty.client.Response;
+import org.eclipse.jetty.client.Result;
+import org.eclipse.jetty.client.StringRequestContent;
+import org.eclipse.jetty.client.transport.HttpResponse;
+import org.eclipse.jetty.http.HttpField;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.io.content.ByteBufferContentSource;
+
+/**
+ * Internal adapter for Jetty HttpClient.
+ * Resource response events are passed to the caller's {@link Response.Listener} as they arrive, content included, with
+ * Jetty's demand-based flow control. Token responses are buffered. Non-2xx responses (which may have to be checked for
+ * a `use_dpop_nonce` error, and whose body is logged) have their first {@link #BODY_PEEK_LIMIT} bytes buffered, which are
+ * then replayed to the caller's listener, followed by the rest of the content.
+ */
+record JettyHttpAdapter(HttpClient delegate) implements AsyncHttpAdapter<JettyRequestContext, JettyResponseContext> {
+    /**
+     * Tag given to token requests. Jetty pools connections per destination, and the tag is part of the destination,
+     * so token requests never wait for (or hold) connections used for API calls.
+     */
+    static final String TOKEN_DESTINATION_TAG = "oauth2-token-endpoint";
+
+    /**
+     * Request context holding the caller's request and listener, and whether the request was already sent and its
+     * response already passed to the caller's listener.
+     */
+    record JettyRequestContext(Request request, Response.Listener listener, AtomicBoolean sent, AtomicBoolean forwarded) {
+        JettyRequestContext(Request request, Response.Listener listener) {
+            this(request, listener, new AtomicBoolean(), new AtomicBoolean());
+        }
+    }
+
+    /**
+     * Response context holding the response and either the buffered body (the beginning of the body when the listener
+     * still has the rest of the content to pass on), or nothing when the response was already passed to the caller's listener.
+     */
+    record JettyResponseContext(Response response, byte[] body, ResourceResponseListener rest) {
+        boolean isForwarded() {
+            return body == null;
+        }
+    }
+
+    @Override
+    public String getMethod(JettyRequestContext request) {
+        return request.request().getMethod();
+    }
+
+    @Override
+    public URL getUrl(JettyRequestContext request) throws Exception {
+        return request.request().getURI().toURL();
+    }
+
+    @Override
+    public CompletableFuture<JettyResponseContext> sendAccessTokenRequestAsync(JettyRequestContext resourceRequest, URL tokenUrl, String formBody, HttpHeaders headers) {
+        var future = new CompletableFuture<JettyResponseContext>();
+        try {
+            delegate
+                .newRequest(tokenUrl.toURI())
+                .method(HttpMethod.POST)
+                .tag(TOKEN_DESTINATION_TAG)
+                .headers(fields -> headers.forEach(header -> fields.put(header.name(), header.value())))
+                .body(new StringRequestContent("application/x-www-form-urlencoded", formBody, StandardCharsets.UTF_8))
+                .send(
+                    new BufferingResponseListener() {
+                        @Override
+                        public void onComplete(Result result) {
+                            if (result.isFailed()) {
+                                future.completeExceptionally(result.getFailure());
+                            } else {
+                                future.complete(new JettyResponseContext(result.getResponse(), getContent(), null));
+                            }
+                        }
+                    }
+                );
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<JettyResponseContext> sendResourceRequestAsync(JettyRequestContext request, HttpHeaders headers) {
+        var future = new CompletableFuture<JettyResponseContext>();
+        try {
+            Request originalRequest = request.request();
+            Request.Content body = originalRequest.getBody();
+            if (request.sent().getAndSet(true) && body != null && !body.rewind()) {
+                throw new IOException("Request content is not reproducible, the request can't be sent again");
+            }
+            copyRequest(originalRequest, headers).send(new ResourceResponseListener(request, future));
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public int getStatusCode(JettyResponseContext response) {
+        return response.response().getStatus();
+    }
+
+    @Override
+    public Optional<String> getHeader(JettyResponseContext response, String name) {
+        return Optional.ofNullable(response.response().getHeaders().get(name));
+    }
+
+    @Override
+    public Optional<String> readBody(JettyResponseContext response) {
+        return peekBody(response, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Optional<String> peekBody(JettyResponseContext response, int maxBytes) {
+        if (response.isForwarded()) {
+            // Not buffered, the body belongs to the caller
+            return Optional.empty();
+        }
+        byte[] body = response.body();
+        return Optional.of(new String(body, 0, Math.min(maxBytes, body.length), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close(JettyResponseContext response) {
+        if (response.rest() != null) {
+            // Not passed to the caller, stop reading the content
+            response.response().abort(new CancellationException("Response closed before its content was read"));
+        }
+    }
+
+    /**
+     * Passes a buffered response to the caller's listener.
+     */
+    static void replay(JettyResponseContext response, JettyRequestContext request) {
+        Response jettyResponse = response.response();
+        if (response.rest() != null) {
+            response.rest().forwardRest(jettyResponse);
+            return;
+        }
+        Response.Listener listener = request.listener();
+        forwardHead(jettyResponse, listener);
+        if (response.body().length > 0) {
+            listener.onContentSource(jettyResponse, new ByteBufferContentSource(ByteBuffer.wrap(response.body())));
+        }
+        listener.onSuccess(jettyResponse);
+        listener.onComplete(new Result(request.request(), jettyResponse));
+    }
+
+    /**
+     * Passes a failure to the caller's listener.
+     */
+    static void fail(Throwable failure, JettyRequestContext request) {
+        Response response = new HttpResponse(request.request());
+        request.listener().onFailure(response, failure);
+        request.listener().onComplete(new Result(request.request(), failure, response, failure));
+    }
+
+    private static void forwardHead(Response response, Response.Listener listener) {
+        listener.onBegin(response);
+        for (HttpField field : response.getHeaders()) {
+            listener.onHeader(response, field);
+        }
+        listener.onHeaders(response);
+    }
+
+    /**
+     * Copies the caller's request, since a Jetty request can't be sent twice, with the given headers added or replaced.
+     */
+    private Request copyRequest(Request originalRequest, HttpHeaders headers) {
+        Request request = delegate
+            .newRequest(originalRequest.getURI())
+            .method(originalRequest.getMethod())
+            .version(originalRequest.getVersion())
+            .body(originalRequest.getBody())
+            .idleTimeout(originalRequest.getIdleTimeout(), TimeUnit.MILLISECONDS)
+            .timeout(originalRequest.getTimeout(), TimeUnit.MILLISECONDS)
+            .followRedirects(originalRequest.isFollowRedirects())
+            .tag(originalRequest.getTag())
+            .headers(fields -> {
+                fields.add(originalRequest.getHeaders());
+                // Add or replace HTTP headers in the original request
+                headers.forEach(header -> fields.put(header.name(), header.value()));
+            });
+        originalRequest.getAttributes().forEach(request::attribute);
+        return request;
+    }
+
+    /**
+     * Listener buffering the beginning of non-2xx responses, and passing other responses to the caller's listener.
+     */
+    static final class ResourceResponseListener implements Response.Listener {
+
+        private final JettyRequestContext request;
+        private final CompletableFuture<JettyResponseContext> future;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private Content.Source contentSource;
+        private boolean buffered;
+        private boolean forwarded;
+        private boolean pendingSuccess;
+        private Throwable pendingFailure;
+        private Result pendingResult;
+
+        ResourceResponseListener(JettyRequestContext request, CompletableFuture<JettyResponseContext> future) {
+            this.request = request;
+            this.future = future;
+        }
+
+        @Override
+        public void onHeaders(Response response) {
+            int statusCode = response.getStatus();
+            if (statusCode >= 200 && statusCode < 300) {
+                synchronized (this) {
+                    forwarded = true;
+                }
+                request.forwarded().set(true);
+                forwardHead(response, request.listener());
+                future.complete(new JettyResponseContext(response, null, null));
+            }
+        }
+
+        @Override
+        public void onContentSource(Response response, Content.Source contentSource) {
+            if (isForwarded()) {
+                request.listener().onContentSource(response, contentSource);
+            } else {
+                this.contentSource = contentSource;
+                Response.Listener.super.onContentSource(response, contentSource);
+            }
+        }
+
+        @Override
+        public void onContent(Response response, Content.Chunk chunk, Runnable demander) {
+            ByteBuffer content = chunk.getByteBuffer().duplicate();
+            byte[] bytes = new byte[content.remaining()];
+            content.get(bytes);
+            buffer.write(bytes, 0, bytes.length);
+            if (chunk.isLast() || buffer.size() < BODY_PEEK_LIMIT) {
+                demander.run();
+                return;
+            }
+            // The rest of the content is left in the content source, until passed to the caller's listener
+            synchronized (this) {
+                buffered = true;
+            }
+            future.complete(new JettyResponseContext(response, buffer.toByteArray(), this));
+        }
+
+        @Override
+        public void onSuccess(Response response) {
+            synchronized (this) {
+                if (!forwarded) {
+                    pendingSuccess = buffered;
+                    return;
+                }
+            }
+            request.listener().onSuccess(response);
+        }
+
+        @Override
+        public void onFailure(Response response, Throwable failure) {
+            synchronized (this) {
+                if (!forwarded) {
+                    pendingFailure = buffered ? failure : null;
+                    return;
+                }
+            }
+            request.listener().onFailure(response, failure);
+        }
+
+        @Override
+        public void onComplete(Result result) {
+            synchronized (this) {
+                if (!forwarded && buffered) {
+                    pendingResult = result;
+                    return;
+                }
+            }
+            if (isForwarded()) {
+                forwardComplete(result);
+            } else if (result.isFailed()) {
+                future.completeExceptionally(result.getFailure());
+            } else {
+                future.complete(new JettyResponseContext(result.getResponse(), buffer.toByteArray(), null));
+            }
+        }
+
+        /**
+         * Passes the response to the caller's listener: the buffered beginning of the content, then the rest of the content
+         * and the events received in the meantime.
+         */
+        void forwardRest(Response response) {
+            Response.Listener listener = request.listener();
+            forwardHead(response, listener);
+            listener.onContentSource(response, new PrefixedContentSource(ByteBuffer.wrap(buffer.toByteArray()), contentSource));
+            boolean success;
+            Throwable failure;
+            Result result;
+            synchronized (this) {
+                forwarded = true;
+                success = pendingSuccess;
+                failure = pendingFailure;
+                result = pendingResult;
+            }
+            if (success) {
+                listener.onSuccess(response);
+            }
+            if (failure != null) {
+                listener.onFailure(response, failure);
+            }
+            if (result != null) {
+                forwardComplete(result);
+            }
+        }
+
+        private synchronized boolean isForwarded() {
+            return forwarded;
+        }
+
+        private void forwardComplete(Result result) {
+            // Report the caller's request rather than the copy that was sent
+            request.listener().onComplete(new Result(request.request(), result.getRequestFailure(), result.getResponse(), result.getResponseFailure()));
+        }
+    }
+
+    /**
+     * Content source returning buffered bytes, then the content of another source.
+     */
+    private static final class PrefixedContentSource implements Content.Source {
+
+        private final Content.Source rest;
+        private volatile ByteBuffer prefix;
+
+        PrefixedContentSource(ByteBuffer prefix, Content.Source rest) {
+            this.prefix = prefix;
+            this.rest = rest;
+        }
+
+        @Override
+        public Content.Chunk read() {
+            ByteBuffer bytes = prefix;
+            if (bytes != null) {
+                prefix = null;
+                return Content.Chunk.from(bytes, false);
+            }
+            return rest.read();
+        }
+
+        @Override
+        public void demand(Runnable demandCallback) {
+            if (prefix != null) {
+                demandCallback.run();
+                return;
+            }
+            rest.demand(demandCallback);
+        }
+
+        @Override
+        public void fail(Throwable failure) {
+            prefix = null;
+            rest.fail(failure);
+        }
+    }
+}
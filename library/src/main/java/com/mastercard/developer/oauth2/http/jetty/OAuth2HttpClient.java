@@ -0,0 +1,58 @@
+package com.mastercard.developer.oauth2.http.jetty;
+
+import static com.mastercard.developer.oauth2.http.jetty.JettyHttpAdapter.*;
+
+import com.mastercard.developer.oauth2.config.OAuth2Config;
+import com.mastercard.developer.oauth2.core.OAuth2Handler;
+import java.util.concurrent.CompletionException;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.Request;
+import org.eclipse.jetty.client.Response;
+
+/**
+ * An OAuth2-enabled Jetty HttpClient.
+ * The OAuth2 flow runs on the client's threads without blocking: access tokens are requested with the client itself (to
+ * a dedicated destination, so with their own connection pool), and `use_dpop_nonce` errors are retried asynchronously.
+ * Requests are built with {@link HttpClient#newRequest(java.net.URI)} and sent with {@link #send(Request, Response.Listener)}.
+ */
+public class OAuth2HttpClient {
+
+    private final OAuth2Handler handler;
+    private final JettyHttpAdapter adapter;
+
+    /**
+     * Creates a new OAuth2-enabled Jetty HttpClient.
+     * The delegate lifecycle is left to the caller, it must be started before sending requests.
+     * @param config   A OAuth2 configuration.
+     * @param delegate The underlying HttpClient to send requests with.
+     */
+    public OAuth2HttpClient(OAuth2Config config, HttpClient delegate) {
+        this.handler = new OAuth2Handler(config);
+        this.adapter = new JettyHttpAdapter(delegate);
+    }
+
+    /**
+     * Sends a request, and notifies the given listener of the response events.
+     * The request is copied for each attempt, since it may have to be sent again with a DPoP nonce. Listeners
+     * registered on the request itself aren't notified: pass a {@link Response.Listener} instead, for instance
+     * a {@link org.eclipse.jetty.client.BufferingResponseListener} or an {@link org.eclipse.jetty.client.InputStreamResponseListener}.
+     * @param request  The request, built with the underlying HttpClient.
+     * @param listener The listener to notify of the response events.
+     */
+    public void send(Request request, Response.Listener listener) {
+        var requestContext = new JettyRequestContext(request, listener);
+        handler
+            .executeAsync(requestContext, adapter)
+            .whenComplete((response, failure) -> {
+                if (requestContext.forwarded().get()) {
+                    // The response was already streamed to the listener
+                    return;
+                }
+                if (failure == null) {
+                    replay(response, requestContext);
+                } else {
+                    fail(failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure, requestContext);
+                }
+            });
+    }
+}
@@ -3,10 +3,18 @@ package com.mastercard.developer.oauth2.http.okhttp3;
 import com.mastercard.developer.oauth2.config.OAuth2Config;
 import com.mastercard.developer.oauth2.core.OAuth2Handler;
 import java.io.IOException;
+import java.time.Duration;
 import okhttp3.*;
 
 /**
  * An OAuth2 interceptor for OkHttp.
+ * Access tokens are requested with a client derived from the application client, so that token calls share its
+ * {@link ConnectionPool} and {@link Dispatcher} (and TLS sessions) instead of opening connections of their own:
+ * <pre>
+ * OkHttpClient baseClient = new OkHttpClient.Builder().build();
+ * OkHttpClient client = baseClient.newBuilder().addInterceptor(new OAuth2Interceptor(config, baseClient)).build();
+ * </pre>
+ * The token endpoint connection can be opened in that shared pool at startup with {@link #warmUp(Duration)}.
  */
 @SuppressWarnings("NullableProblems") // OkHttp API nullability varies across versions
 public final class OAuth2Interceptor implements Interceptor {
@@ -14,24 +22,47 @@ public final class OAuth2Interceptor implements Interceptor {
     private final OAuth2Handler handler;
     private final OkHttpAdapter adapter;
 
+    /**
+     * Creates a new OAuth2 interceptor for OkHttp, sending token requests with the given client.
+     * @param config      A OAuth2 configuration.
+     * @param baseClient  The client to send token requests with, typically the one the application client is derived
+     *                    from with {@link OkHttpClient#newBuilder()}. It must not include this interceptor.
+     */
+    public OAuth2Interceptor(OAuth2Config config, OkHttpClient baseClient) {
+        this.handler = new OAuth2Handler(config);
+        this.adapter = new OkHttpAdapter(baseClient);
+    }
+
     /**
      * Creates a new OAuth2 interceptor for OkHttp.
+     * Clients built from the same builder share its connection pool and dispatcher, so token calls use the ones of the
+     * application client when it's built from this builder too (or from {@code baseClient.newBuilder()}).
      * @param config       A OAuth2 configuration.
      * @param baseBuilder  A OkHttpClient builder to use as a starting point.
      */
     public OAuth2Interceptor(OAuth2Config config, OkHttpClient.Builder baseBuilder) {
-        this.handler = new OAuth2Handler(config);
-        this.adapter = new OkHttpAdapter(baseBuilder.build());
+        this(config, baseBuilder.build());
     }
 
     /**
      * Creates a new OAuth2 interceptor for OkHttp.
+     * Token calls use a connection pool and a dispatcher of their own, prefer {@link #OAuth2Interceptor(OAuth2Config, OkHttpClient)}.
      * @param config      A OAuth2 configuration.
      */
     public OAuth2Interceptor(OAuth2Config config) {
         this(config, new OkHttpClient.Builder());
     }
 
+    /**
+     * Opens a connection to the token endpoint and leaves it in the connection pool, so that the first token request
+     * doesn't pay for the TCP and TLS handshakes. Optional, typically called once at startup.
+     * @param deadline The maximum time to wait for the connection.
+     * @return true when the connection was opened before the deadline.
+     */
+    public boolean warmUp(Duration deadline) {
+        return handler.warmUp(adapter, deadline);
+    }
+
     @Override
     public Response intercept(Chain chain) throws IOException {
         try {
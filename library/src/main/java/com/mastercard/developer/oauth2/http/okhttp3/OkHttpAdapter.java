@@ -1,15 +1,19 @@
 package com.mastercard.developer.oauth2.http.okhttp3;
 
+import com.mastercard.developer.oauth2.http.ConnectionWarmUp;
 import com.mastercard.developer.oauth2.http.HttpAdapter;
 import com.mastercard.developer.oauth2.http.HttpHeaders;
+import java.io.IOException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import okhttp3.*;
 
 /**
  * Internal adapter for OkHttp.
  */
-record OkHttpAdapter(OkHttpClient delegate) implements HttpAdapter<Interceptor.Chain, Response> {
+record OkHttpAdapter(OkHttpClient delegate) implements HttpAdapter<Interceptor.Chain, Response>, ConnectionWarmUp {
     @Override
     public String getMethod(Interceptor.Chain chain) {
         return chain.request().method();
@@ -28,6 +32,15 @@ record OkHttpAdapter(OkHttpClient delegate) implements HttpAdapter<Interceptor.C
         return delegate.newCall(builder.build()).execute();
     }
 
+    @Override
+    public void warmUp(URL url, Duration timeout) throws IOException {
+        var call = delegate.newCall(new Request.Builder().url(url).head().build());
+        call.timeout().timeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        try (Response ignored = call.execute()) {
+            // The response has no body, the connection is released when closed
+        }
+    }
+
     @Override
     public Response sendResourceRequest(Interceptor.Chain request, HttpHeaders headers) throws Exception {
         Request originalRequest = request.request();
@@ -59,6 +72,11 @@ record OkHttpAdapter(OkHttpClient delegate) implements HttpAdapter<Interceptor.C
         }
     }
 
+    @Override
+    public Optional<String> peekBody(Response response, int maxBytes) throws Exception {
+        return Optional.of(response.peekBody(maxBytes).string());
+    }
+
     @Override
     public void close(Response response) {
         response.close();
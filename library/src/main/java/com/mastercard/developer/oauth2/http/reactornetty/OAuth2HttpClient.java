@@ -0,0 +1,98 @@
+package com.mastercard.developer.oauth2.http.reactornetty;
+
+import static com.mastercard.developer.oauth2.http.reactornetty.ReactorNettyHttpAdapter.*;
+
+import com.mastercard.developer.oauth2.config.OAuth2Config;
+import com.mastercard.developer.oauth2.core.OAuth2Handler;
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import org.reactivestreams.Publisher;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+
+/**
+ * An OAuth2-enabled Reactor Netty HttpClient.
+ * The OAuth2 flow runs on the client's event loops: access tokens are requested (with the client itself, so sharing its
+ * connection pool), DPoP proofs created and `use_dpop_nonce` errors retried as completion stages, without blocking.
+ * Response bodies are passed to the receiver as they arrive, the way {@link HttpClient.ResponseReceiver#response(BiFunction)} does.
+ */
+public class OAuth2HttpClient {
+
+    private final OAuth2Handler handler;
+    private final ReactorNettyHttpAdapter adapter;
+
+    /**
+     * Creates a new OAuth2-enabled Reactor Netty HttpClient.
+     * @param config   A OAuth2 configuration.
+     * @param delegate The underlying HttpClient to send requests with.
+     */
+    public OAuth2HttpClient(OAuth2Config config, HttpClient delegate) {
+        this.handler = new OAuth2Handler(config);
+        this.adapter = new ReactorNettyHttpAdapter(delegate);
+    }
+
+    /**
+     * Creates a new OAuth2-enabled Reactor Netty HttpClient using a default HttpClient delegate.
+     * @param config   A OAuth2 configuration.
+     */
+    public OAuth2HttpClient(OAuth2Config config) {
+        this(config, HttpClient.create());
+    }
+
+    /**
+     * Sends a request without a body, and extracts a response flux from the response and its body.
+     * See {@link #request(HttpMethod, String, HttpHeaders, byte[], BiFunction)}.
+     */
+    public <V> Flux<V> request(HttpMethod method, String uri, BiFunction<? super HttpClientResponse, ? super ByteBufFlux, ? extends Publisher<V>> receiver) {
+        return request(method, uri, EmptyHttpHeaders.INSTANCE, null, receiver);
+    }
+
+    /**
+     * Sends a request, and extracts a response flux from the response and its body.
+     * The request body is kept as a byte array, since the request may have to be sent again with a DPoP nonce.
+     * @param method   The HTTP method.
+     * @param uri      The request URI, absolute or relative to the base URL of the underlying HttpClient.
+     * @param headers  The request headers.
+     * @param body     The request body, or null.
+     * @param receiver The function extracting a publisher from the response and its body.
+     */
+    public <V> Flux<V> request(
+        HttpMethod method,
+        String uri,
+        HttpHeaders headers,
+        byte[] body,
+        BiFunction<? super HttpClientResponse, ? super ByteBufFlux, ? extends Publisher<V>> receiver
+    ) {
+        var requestContext = new ReactorNettyRequestContext(method, uri, headers, body);
+        return Mono.fromFuture(() -> handler.executeAsync(requestContext, adapter)).flatMapMany(response -> receive(response, receiver));
+    }
+
+    private static <V> Flux<V> receive(
+        ReactorNettyResponseContext response,
+        BiFunction<? super HttpClientResponse, ? super ByteBufFlux, ? extends Publisher<V>> receiver
+    ) {
+        if (response.isAggregated()) {
+            return Flux.from(receiver.apply(response.response(), ByteBufFlux.fromInbound(Mono.just(response.body()))));
+        }
+        var connection = response.connection();
+        var subscribed = new AtomicBoolean();
+        // Non-2xx responses are published from their buffered beginning
+        Flux<ByteBuf> inbound = response.rest() == null ? connection.inbound().receive() : JdkFlowAdapter.flowPublisherToFlux(response.rest());
+        var body = ByteBufFlux.fromInbound(inbound.doOnSubscribe(subscription -> subscribed.set(true)));
+        return Flux.from(receiver.apply(response.response(), body)).doFinally(signal -> {
+            if (!subscribed.get() || signal == SignalType.CANCEL) {
+                // Body not read until the end, the connection can't be reused
+                connection.dispose();
+            }
+        });
+    }
+}
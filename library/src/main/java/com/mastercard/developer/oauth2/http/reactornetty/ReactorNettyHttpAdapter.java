@@ -0,0 +1,148 @@
+package com.mastercard.developer.oauth2.http.reactornetty;
+
+import static com.mastercard.developer.oauth2.http.reactornetty.ReactorNettyHttpAdapter.*;
+
+import com.mastercard.developer.oauth2.http.AsyncHttpAdapter;
+import com.mastercard.developer.oauth2.http.HttpHeaders;
+import com.mastercard.developer.oauth2.internal.io.PrefixBufferingSubscriber;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.Connection;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+
+/**
+ * Internal adapter for Reactor Netty HttpClient.
+ * Token and resource requests are sent with the same client, so they share its connection pool and event loops.
+ * Resource response bodies are left on the connection, for the caller to stream them. Token responses are aggregated.
+ * Non-2xx responses (which may have to be checked for a `use_dpop_nonce` error, and whose body is logged) have their first
+ * {@link #BODY_PEEK_LIMIT} bytes buffered, which are then passed to the caller, followed by the rest of the body.
+ */
+record ReactorNettyHttpAdapter(HttpClient delegate) implements AsyncHttpAdapter<ReactorNettyRequestContext, ReactorNettyResponseContext> {
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    /**
+     * Request context holding the method, URI, headers and (optional) body of the request.
+     */
+    record ReactorNettyRequestContext(HttpMethod method, String uri, io.netty.handler.codec.http.HttpHeaders headers, byte[] body) {}
+
+    /**
+     * Response context holding the response and either the aggregated body, or the connection the body can be read from
+     * (and, for non-2xx responses, the beginning of the body with a publisher of the buffered bytes and the rest of the body).
+     */
+    record ReactorNettyResponseContext(HttpClientResponse response, Connection connection, byte[] body, PrefixBufferingSubscriber<ByteBuf> rest) {
+        boolean isAggregated() {
+            return body != null && rest == null;
+        }
+    }
+
+    @Override
+    public String getMethod(ReactorNettyRequestContext request) {
+        return request.method().name();
+    }
+
+    @Override
+    public URL getUrl(ReactorNettyRequestContext request) throws Exception {
+        URI uri = URI.create(request.uri());
+        if (!uri.isAbsolute() && delegate.configuration().baseUrl() != null) {
+            uri = URI.create(delegate.configuration().baseUrl() + request.uri());
+        }
+        return uri.toURL();
+    }
+
+    @Override
+    public CompletableFuture<ReactorNettyResponseContext> sendAccessTokenRequestAsync(
+        ReactorNettyRequestContext resourceRequest,
+        URL tokenUrl,
+        String formBody,
+        HttpHeaders headers
+    ) {
+        return delegate
+            .headers(requestHeaders -> {
+                requestHeaders.set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_X_WWW_FORM_URLENCODED);
+                headers.forEach(header -> requestHeaders.set(header.name(), header.value()));
+            })
+            .post()
+            .uri(tokenUrl.toString())
+            .send(ByteBufFlux.fromInbound(Mono.just(formBody.getBytes(StandardCharsets.UTF_8))))
+            .responseSingle((response, body) -> body.asByteArray().defaultIfEmpty(EMPTY_BODY).map(bytes -> new ReactorNettyResponseContext(response, null, bytes, null)))
+            .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<ReactorNettyResponseContext> sendResourceRequestAsync(ReactorNettyRequestContext request, HttpHeaders headers) {
+        var requestSender = delegate
+            .headers(requestHeaders -> {
+                requestHeaders.add(request.headers());
+                // Add or replace HTTP headers in the original request
+                headers.forEach(header -> requestHeaders.set(header.name(), header.value()));
+            })
+            .request(request.method())
+            .uri(request.uri());
+        var responseReceiver = request.body() != null ? requestSender.send(ByteBufFlux.fromInbound(Mono.just(request.body()))) : requestSender;
+        return responseReceiver
+            .responseConnection((response, connection) -> {
+                int statusCode = response.status().code();
+                if (statusCode < 200 || statusCode >= 300) {
+                    var rest = new PrefixBufferingSubscriber<ByteBuf>(BODY_PEEK_LIMIT, (buffer, out) -> out.writeBytes(ByteBufUtil.getBytes(buffer)), Unpooled::wrappedBuffer);
+                    JdkFlowAdapter.publisherToFlowPublisher(connection.inbound().receive()).subscribe(rest);
+                    return Mono.fromFuture(rest.prefix()).map(prefix ->
+                        prefix.whole()
+                            ? new ReactorNettyResponseContext(response, null, prefix.bytes(), null)
+                            : new ReactorNettyResponseContext(response, connection, prefix.bytes(), rest)
+                    );
+                }
+                // The body is left on the connection, for the caller to stream it
+                return Mono.just(new ReactorNettyResponseContext(response, connection, null, null));
+            })
+            .next()
+            .toFuture();
+    }
+
+    @Override
+    public int getStatusCode(ReactorNettyResponseContext response) {
+        return response.response().status().code();
+    }
+
+    @Override
+    public Optional<String> getHeader(ReactorNettyResponseContext response, String name) {
+        return Optional.ofNullable(response.response().responseHeaders().get(name));
+    }
+
+    @Override
+    public Optional<String> readBody(ReactorNettyResponseContext response) {
+        return peekBody(response, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Optional<String> peekBody(ReactorNettyResponseContext response, int maxBytes) {
+        if (response.body() == null) {
+            // Not buffered, the body belongs to the caller
+            return Optional.empty();
+        }
+        byte[] body = response.body();
+        return Optional.of(new String(body, 0, Math.min(maxBytes, body.length), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close(ReactorNettyResponseContext response) {
+        if (response.rest() != null) {
+            response.rest().cancel();
+        }
+        if (!response.isAggregated()) {
+            response.connection().dispose();
+        }
+    }
+}
@@ -5,8 +5,10 @@ import static com.mastercard.developer.oauth2.http.spring.restclient.RestClientH
 import com.mastercard.developer.oauth2.config.OAuth2Config;
 import com.mastercard.developer.oauth2.core.OAuth2Handler;
 import java.io.IOException;
+import java.time.Duration;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 
@@ -28,10 +30,22 @@ public final class OAuth2ClientHttpRequestInterceptor implements ClientHttpReque
         this.adapter = new RestClientHttpAdapter();
     }
 
+    /**
+     * Opens a connection to the token endpoint with the given request factory, so that the first token request doesn't
+     * pay for the TCP and TLS handshakes. Pass the request factory of the RestClient this interceptor is registered with,
+     * since connections are pooled by the factory. Optional, typically called once at startup.
+     * @param requestFactory The request factory of the RestClient.
+     * @param deadline       The maximum time to wait for the connection.
+     * @return true when the connection was opened before the deadline.
+     */
+    public boolean warmUp(ClientHttpRequestFactory requestFactory, Duration deadline) {
+        return handler.warmUp(new RequestFactoryWarmUp(requestFactory), deadline);
+    }
+
     @Override
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
         try {
-            return handler.execute(new SpringRequestContext(request, new String(body), execution), adapter);
+            return handler.execute(new SpringRequestContext(request, body, execution), adapter);
         } catch (IOException e) {
             throw e;
         } catch (Exception e) {
@@ -2,19 +2,22 @@ package com.mastercard.developer.oauth2.http.spring.restclient;
 
 import static com.mastercard.developer.oauth2.http.spring.restclient.RestClientHttpAdapter.SpringRequestContext;
 
+import com.mastercard.developer.oauth2.http.ConnectionWarmUp;
 import com.mastercard.developer.oauth2.http.HttpAdapter;
 import com.mastercard.developer.oauth2.http.HttpHeaders;
-import java.io.ByteArrayInputStream;
+import com.mastercard.developer.oauth2.internal.io.PeekableInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpResponse;
 
 /**
@@ -22,7 +25,10 @@ import org.springframework.http.client.ClientHttpResponse;
  */
 @SuppressWarnings("NullableProblems") // Spring API nullability varies across versions
 record RestClientHttpAdapter() implements HttpAdapter<SpringRequestContext, ClientHttpResponse> {
-    record SpringRequestContext(HttpRequest request, String body, ClientHttpRequestExecution execution) {}
+    /**
+     * Request context holding the original request, its body (passed as-is on every send, never decoded) and the request execution.
+     */
+    record SpringRequestContext(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) {}
 
     @Override
     public String getMethod(SpringRequestContext context) {
@@ -60,7 +66,7 @@ record RestClientHttpAdapter() implements HttpAdapter<SpringRequestContext, Clie
                 return httpHeaders;
             }
         };
-        return new BufferedClientHttpResponse(resourceRequest.execution().execute(tokenRequest, formBody.getBytes()));
+        return new PeekableClientHttpResponse(resourceRequest.execution().execute(tokenRequest, formBody.getBytes(StandardCharsets.UTF_8)));
     }
 
     @Override
@@ -71,7 +77,7 @@ record RestClientHttpAdapter() implements HttpAdapter<SpringRequestContext, Clie
             httpHeaders.remove(header.name());
             httpHeaders.set(header.name(), header.value());
         });
-        return new BufferedClientHttpResponse(request.execution().execute(request.request(), request.body().getBytes()));
+        return new PeekableClientHttpResponse(request.execution().execute(request.request(), request.body()));
     }
 
     @Override
@@ -86,7 +92,15 @@ record RestClientHttpAdapter() implements HttpAdapter<SpringRequestContext, Clie
 
     @Override
     public Optional<String> readBody(ClientHttpResponse response) throws IOException {
-        return Optional.of(new String(response.getBody().readAllBytes()));
+        return peekBody(response, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Optional<String> peekBody(ClientHttpResponse response, int maxBytes) throws IOException {
+        if (response instanceof PeekableClientHttpResponse peekableResponse) {
+            return Optional.of(new String(peekableResponse.getBody().peek(maxBytes), StandardCharsets.UTF_8));
+        }
+        return Optional.of(new String(response.getBody().readNBytes(maxBytes), StandardCharsets.UTF_8));
     }
 
     @Override
@@ -94,14 +108,30 @@ record RestClientHttpAdapter() implements HttpAdapter<SpringRequestContext, Clie
         response.close();
     }
 
-    private static final class BufferedClientHttpResponse implements ClientHttpResponse {
+    /**
+     * Connection warm-up through the request factory of a RestClient, since requests sent through the interceptor chain
+     * can't be issued outside a request.
+     */
+    record RequestFactoryWarmUp(ClientHttpRequestFactory requestFactory) implements ConnectionWarmUp {
+        @Override
+        public void warmUp(URL url, Duration timeout) throws Exception {
+            // Timeouts are the ones configured on the request factory
+            try (ClientHttpResponse ignored = requestFactory.createRequest(url.toURI(), HttpMethod.HEAD).execute()) {
+                // The response has no body, the connection is released when closed
+            }
+        }
+    }
+
+    /**
+     * Response whose body is streamed to the caller, with only the bytes peeked by the adapter being buffered.
+     */
+    private static final class PeekableClientHttpResponse implements ClientHttpResponse {
 
         private final ClientHttpResponse clientHttpResponse;
-        private final byte[] bodyBytes;
+        private PeekableInputStream body;
 
-        BufferedClientHttpResponse(ClientHttpResponse clientHttpResponse) throws IOException {
+        PeekableClientHttpResponse(ClientHttpResponse clientHttpResponse) {
             this.clientHttpResponse = clientHttpResponse;
-            this.bodyBytes = clientHttpResponse.getBody().readAllBytes();
         }
 
         @Override
@@ -120,8 +150,11 @@ record RestClientHttpAdapter() implements HttpAdapter<SpringRequestContext, Clie
         }
 
         @Override
-        public InputStream getBody() {
-            return new ByteArrayInputStream(bodyBytes);
+        public PeekableInputStream getBody() throws IOException {
+            if (body == null) {
+                body = new PeekableInputStream(clientHttpResponse.getBody());
+            }
+            return body;
         }
 
         @Override
@@ -3,7 +3,7 @@ package com.mastercard.developer.oauth2.http.spring.webclient;
 import static com.mastercard.developer.oauth2.http.spring.webclient.WebClientHttpAdapter.*;
 
 import com.mastercard.developer.oauth2.config.OAuth2Config;
-import org.springframework.http.HttpStatusCode;
+import java.time.Duration;
 import org.springframework.web.reactive.function.client.*;
 import reactor.core.publisher.Mono;
 
@@ -21,17 +21,19 @@ public record OAuth2Filter(ReactiveOAuth2Handler handler, WebClientHttpAdapter a
         this(new ReactiveOAuth2Handler(config), new WebClientHttpAdapter(baseBuilder.build()));
     }
 
+    /**
+     * Opens a connection to the token endpoint, so that the first token request doesn't pay for the TCP and TLS handshakes.
+     * Blocks until the connection is opened or the deadline is reached. Optional, typically called once at startup.
+     * @param deadline The maximum time to wait for the connection.
+     * @return true when the connection was opened before the deadline.
+     */
+    public boolean warmUp(Duration deadline) {
+        return handler.warmUp(adapter, deadline);
+    }
+
     @Override
     public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
-        return handler
-            .execute(new ReactiveRequestContext(request, next), adapter)
-            .flatMap(materializedResponse ->
-                Mono.just(
-                    ClientResponse.create(HttpStatusCode.valueOf(materializedResponse.statusCode()), ExchangeStrategies.withDefaults().messageReaders())
-                        .headers(headers -> headers.addAll(materializedResponse.headers()))
-                        .body(materializedResponse.body())
-                        .build()
-                )
-            );
+        return Mono.deferContextual(context -> handler.execute(new ReactiveRequestContext(request, next, context), adapter))
+            .map(MaterializedResponse::toClientResponse);
     }
 }
@@ -2,14 +2,16 @@ package com.mastercard.developer.oauth2.http.spring.webclient;
 
 import com.mastercard.developer.oauth2.config.OAuth2Config;
 import com.mastercard.developer.oauth2.core.OAuth2Handler;
-import com.mastercard.developer.oauth2.http.HttpAdapter;
+import com.mastercard.developer.oauth2.http.AsyncHttpAdapter;
+import com.mastercard.developer.oauth2.http.ConnectionWarmUp;
+import java.time.Duration;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 /**
  * A reactive wrapper around {@link OAuth2Handler} that provides non-blocking operations.
- * This handler executes OAuth2 operations on a bounded elastic scheduler to avoid
- * blocking reactive pipelines.
+ * The OAuth2 flow (token lookup, token request, DPoP proof, exchange and nonce retries) is chained on the
+ * completion of the underlying exchanges, so no thread is blocked or borrowed from a scheduler while requests are in flight.
+ * Cancelling the subscription cancels the exchange in flight, and releases a response received afterwards.
  */
 @SuppressWarnings("squid:S00119") // For readability, we keep generic type names as 'Request' and 'Response'
 final class ReactiveOAuth2Handler {
@@ -24,19 +26,17 @@ final class ReactiveOAuth2Handler {
     }
 
     /**
-     * Executes the OAuth2 flow reactively.
+     * Executes the OAuth2 flow reactively. Nothing happens until the returned {@link Mono} is subscribed to.
      */
-    public <Request, Response> Mono<Response> execute(Request request, ReactiveHttpAdapter<Request, Response> adapter) {
-        return Mono.fromCallable(() -> handler.execute(request, adapter.toBlockingAdapter())).subscribeOn(Schedulers.boundedElastic());
+    public <Request, Response> Mono<Response> execute(Request request, AsyncHttpAdapter<Request, Response> adapter) {
+        return Mono.fromFuture(() -> handler.executeAsync(request, adapter), false); // Cancellation is propagated to the future
     }
 
     /**
-     * Interface for reactive HTTP adapters.
+     * Opens a connection to the token endpoint, see {@link OAuth2Handler#warmUp}. Blocks the calling thread until the
+     * connection is opened or the deadline is reached, so it's meant to be called at startup, not from a reactive pipeline.
      */
-    public interface ReactiveHttpAdapter<Request, Response> {
-        /**
-         * Converts this reactive adapter to a blocking adapter for use with {@link OAuth2Handler}.
-         */
-        HttpAdapter<Request, Response> toBlockingAdapter();
+    public boolean warmUp(ConnectionWarmUp adapter, Duration deadline) {
+        return handler.warmUp(adapter, deadline);
     }
 }
@@ -3,40 +3,92 @@ package com.mastercard.developer.oauth2.http.spring.webclient;
 import static com.mastercard.developer.oauth2.http.spring.webclient.WebClientHttpAdapter.MaterializedResponse;
 import static com.mastercard.developer.oauth2.http.spring.webclient.WebClientHttpAdapter.ReactiveRequestContext;
 
-import com.mastercard.developer.oauth2.http.HttpAdapter;
+import com.mastercard.developer.oauth2.http.AsyncHttpAdapter;
+import com.mastercard.developer.oauth2.http.ConnectionWarmUp;
 import com.mastercard.developer.oauth2.http.HttpHeaders;
+import com.mastercard.developer.oauth2.internal.io.PrefixBufferingSubscriber;
+import java.io.ByteArrayOutputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.adapter.JdkFlowAdapter;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
 
 /**
  * Internal adapter for Spring WebClient.
  */
-record WebClientHttpAdapter(WebClient delegate) implements ReactiveOAuth2Handler.ReactiveHttpAdapter<ReactiveRequestContext, MaterializedResponse> {
-    record ReactiveRequestContext(ClientRequest request, ExchangeFunction next) {}
+record WebClientHttpAdapter(WebClient delegate) implements AsyncHttpAdapter<ReactiveRequestContext, MaterializedResponse>, ConnectionWarmUp {
+    /**
+     * Request context holding the original request, the next exchange function in the filter chain,
+     * and the Reactor context of the subscriber, propagated to the exchanges made on its behalf.
+     */
+    record ReactiveRequestContext(ClientRequest request, ExchangeFunction next, ContextView context) {
+        ReactiveRequestContext(ClientRequest request, ExchangeFunction next) {
+            this(request, next, Context.empty());
+        }
+    }
+
+    /**
+     * Response context holding the client response and, for token responses and error responses, its body.
+     * The body of successful resource responses isn't read, so that the caller can stream it. Error responses only have
+     * their first {@link AsyncHttpAdapter#BODY_PEEK_LIMIT} bytes read, with a publisher of the buffered bytes and the rest of the body.
+     */
+    record MaterializedResponse(ClientResponse clientResponse, String body, PrefixBufferingSubscriber<DataBuffer> rest) {
+        boolean isMaterialized() {
+            return body != null;
+        }
+
+        /**
+         * Returns the response to pass to the caller, with the whole body when it was read.
+         */
+        ClientResponse toClientResponse() {
+            if (!isMaterialized()) {
+                return clientResponse;
+            }
+            // Not mutated from the original response, which would subscribe to the original body to release it
+            var builder = ClientResponse.create(clientResponse.statusCode(), clientResponse.strategies())
+                .headers(headers -> headers.addAll(clientResponse.headers().asHttpHeaders()))
+                .cookies(cookies -> cookies.addAll(clientResponse.cookies()))
+                .request(clientResponse.request());
+            return (rest == null ? builder.body(body) : builder.body(JdkFlowAdapter.flowPublisherToFlux(rest))).build();
+        }
+    }
 
     @Override
-    public HttpAdapter<ReactiveRequestContext, MaterializedResponse> toBlockingAdapter() {
-        return new BlockingAdapter(this);
+    public String getMethod(ReactiveRequestContext context) {
+        return context.request().method().name();
     }
 
-    Mono<MaterializedResponse> sendAccessTokenRequestReactive(URL tokenUrl, String formBody, HttpHeaders headers) {
+    @Override
+    public URL getUrl(ReactiveRequestContext context) throws Exception {
+        return context.request().url().toURL();
+    }
+
+    @Override
+    public CompletableFuture<MaterializedResponse> sendAccessTokenRequestAsync(ReactiveRequestContext resourceRequest, URL tokenUrl, String formBody, HttpHeaders headers) {
         var requestSpec = delegate.post().uri(tokenUrl.toString());
         headers.forEach(header -> requestSpec.header(header.name(), header.value()));
-        return requestSpec
-            .bodyValue(formBody)
-            .exchangeToMono(response ->
-                response
-                    .bodyToMono(String.class)
-                    .defaultIfEmpty("")
-                    .map(body -> new MaterializedResponse(response.statusCode().value(), response.headers().asHttpHeaders(), body))
-            );
+        return requestSpec.bodyValue(formBody).exchangeToMono(WebClientHttpAdapter::materialize).contextWrite(resourceRequest.context()).toFuture();
     }
 
-    Mono<MaterializedResponse> sendResourceRequestReactive(ReactiveRequestContext request, HttpHeaders headers) {
+    @Override
+    public void warmUp(URL url, Duration timeout) {
+        delegate.head().uri(url.toString()).exchangeToMono(ClientResponse::releaseBody).block(timeout);
+    }
+
+    @Override
+    public CompletableFuture<MaterializedResponse> sendResourceRequestAsync(ReactiveRequestContext request, HttpHeaders headers) {
         var originalRequest = request.request();
         // Add or replace HTTP headers in the original request
         var updatedRequest = ClientRequest.from(originalRequest)
@@ -45,58 +97,52 @@ record WebClientHttpAdapter(WebClient delegate) implements ReactiveOAuth2Handler
         return request
             .next()
             .exchange(updatedRequest)
-            .flatMap(response ->
-                response
-                    .bodyToMono(String.class)
-                    .defaultIfEmpty("")
-                    .map(body -> new MaterializedResponse(response.statusCode().value(), response.headers().asHttpHeaders(), body))
-            );
+            .flatMap(response -> response.statusCode().is2xxSuccessful() ? Mono.just(new MaterializedResponse(response, null, null)) : materialize(response))
+            .contextWrite(request.context())
+            .toFuture();
     }
 
-    record MaterializedResponse(int statusCode, org.springframework.http.HttpHeaders headers, String body) {}
-
-    /**
-     * Blocking adapter that wraps the reactive adapter for use with OAuth2Handler.
-     */
-    private record BlockingAdapter(WebClientHttpAdapter reactiveAdapter) implements HttpAdapter<ReactiveRequestContext, MaterializedResponse> {
-        @Override
-        public String getMethod(ReactiveRequestContext context) {
-            return context.request().method().name();
-        }
-
-        @Override
-        public URL getUrl(ReactiveRequestContext context) throws Exception {
-            return context.request().url().toURL();
-        }
-
-        @Override
-        public MaterializedResponse sendAccessTokenRequest(ReactiveRequestContext resourceRequest, URL tokenUrl, String formBody, HttpHeaders headers) {
-            return reactiveAdapter.sendAccessTokenRequestReactive(tokenUrl, formBody, headers).block();
-        }
+    @Override
+    public int getStatusCode(MaterializedResponse response) {
+        return response.clientResponse().statusCode().value();
+    }
 
-        @Override
-        public MaterializedResponse sendResourceRequest(ReactiveRequestContext request, HttpHeaders headers) {
-            return reactiveAdapter.sendResourceRequestReactive(request, headers).block();
-        }
+    @Override
+    public Optional<String> getHeader(MaterializedResponse response, String name) {
+        return response.clientResponse().headers().header(name).stream().findFirst();
+    }
 
-        @Override
-        public int getStatusCode(MaterializedResponse response) {
-            return response.statusCode;
-        }
+    @Override
+    public Optional<String> readBody(MaterializedResponse response) {
+        return Optional.ofNullable(response.body);
+    }
 
-        @Override
-        public Optional<String> getHeader(MaterializedResponse response, String name) {
-            return Optional.ofNullable(response.headers.getFirst(name));
+    @Override
+    public void close(MaterializedResponse response) {
+        if (response.rest() != null) {
+            response.rest().cancel();
+        } else if (!response.isMaterialized()) {
+            response.clientResponse().releaseBody().subscribe();
         }
+    }
 
-        @Override
-        public Optional<String> readBody(MaterializedResponse response) {
-            return Optional.ofNullable(response.body);
+    private static Mono<MaterializedResponse> materialize(ClientResponse response) {
+        if (response.statusCode().is2xxSuccessful()) {
+            // Bounded by the max in-memory size of the codecs
+            return response.bodyToMono(String.class).defaultIfEmpty("").map(body -> new MaterializedResponse(response, body, null));
         }
+        var rest = new PrefixBufferingSubscriber<DataBuffer>(BODY_PEEK_LIMIT, WebClientHttpAdapter::copyAndRelease, DefaultDataBufferFactory.sharedInstance::wrap);
+        JdkFlowAdapter.publisherToFlowPublisher(response.bodyToFlux(DataBuffer.class)).subscribe(rest);
+        return Mono.fromFuture(rest.prefix()).map(prefix -> new MaterializedResponse(response, new String(prefix.bytes(), StandardCharsets.UTF_8), rest));
+    }
 
-        @Override
-        public void close(MaterializedResponse response) {
-            // No-op
+    private static void copyAndRelease(DataBuffer buffer, ByteArrayOutputStream out) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            out.writeBytes(bytes);
+        } finally {
+            DataBufferUtils.release(buffer);
         }
     }
 }
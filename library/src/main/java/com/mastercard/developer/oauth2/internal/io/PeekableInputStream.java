@@ -0,0 +1,28 @@
+package com.mastercard.developer.oauth2.internal.io;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An input stream whose next bytes can be read ahead without being consumed, so that a response body
+ * can be inspected and still be streamed to its final reader. Only the peeked bytes are buffered.
+ */
+public final class PeekableInputStream extends BufferedInputStream {
+
+    public PeekableInputStream(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * Returns up to {@code maxBytes} of the next bytes in the stream. The stream position is left unchanged.
+     */
+    public synchronized byte[] peek(int maxBytes) throws IOException {
+        mark(maxBytes);
+        try {
+            return readNBytes(maxBytes);
+        } finally {
+            reset();
+        }
+    }
+}
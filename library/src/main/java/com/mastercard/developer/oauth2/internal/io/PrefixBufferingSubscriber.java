@@ -0,0 +1,203 @@
+package com.mastercard.developer.oauth2.internal.io;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A subscriber reading the beginning of a body, up to a limit, so that it can be inspected before the body is passed on.
+ * The rest of the body isn't requested until this subscriber is itself subscribed to: it then publishes the buffered
+ * bytes followed by the rest of the body, with the demand of its own (single) subscriber.
+ */
+public final class PrefixBufferingSubscriber<T> implements Flow.Subscriber<T>, Flow.Publisher<T>, Flow.Subscription {
+
+    /**
+     * The buffered beginning of a body, and whether it's the whole body.
+     */
+    public record Prefix(byte[] bytes, boolean whole) {}
+
+    private enum State {
+        BUFFERING,
+        READY,
+        PUBLISHING,
+        STREAMING,
+    }
+
+    private final int limit;
+    private final BiConsumer<T, ByteArrayOutputStream> copier;
+    private final Function<byte[], T> wrapper;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final CompletableFuture<Prefix> prefix = new CompletableFuture<>();
+    private volatile Flow.Subscription upstream;
+    private Flow.Subscriber<? super T> downstream;
+    private State state = State.BUFFERING;
+    private long pendingDemand;
+    private boolean completed;
+    private Throwable failure;
+
+    /**
+     * @param limit   The number of bytes to buffer, more can be buffered when the limit falls within an item.
+     * @param copier  Appends the bytes of an item to a buffer.
+     * @param wrapper Creates an item from the buffered bytes.
+     */
+    public PrefixBufferingSubscriber(int limit, BiConsumer<T, ByteArrayOutputStream> copier, Function<byte[], T> wrapper) {
+        this.limit = limit;
+        this.copier = copier;
+        this.wrapper = wrapper;
+    }
+
+    /**
+     * Returns a future completed once the limit is reached or the whole body was read.
+     */
+    public CompletableFuture<Prefix> prefix() {
+        return prefix;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        upstream = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(T item) {
+        Flow.Subscriber<? super T> target;
+        synchronized (this) {
+            target = state == State.STREAMING ? downstream : null;
+        }
+        if (target != null) {
+            target.onNext(item);
+            return;
+        }
+        copier.accept(item, buffer);
+        if (buffer.size() < limit) {
+            upstream.request(1);
+            return;
+        }
+        synchronized (this) {
+            state = State.READY;
+        }
+        prefix.complete(new Prefix(buffer.toByteArray(), false));
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        terminate(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        terminate(null);
+    }
+
+    private void terminate(Throwable throwable) {
+        State current;
+        synchronized (this) {
+            current = state;
+            if (current != State.STREAMING) {
+                // Signaled to the subscriber after the buffered bytes
+                completed = true;
+                failure = throwable;
+                state = current == State.BUFFERING ? State.READY : current;
+            }
+        }
+        if (current == State.BUFFERING) {
+            if (throwable != null) {
+                prefix.completeExceptionally(throwable);
+            } else {
+                prefix.complete(new Prefix(buffer.toByteArray(), true));
+            }
+        } else if (current == State.STREAMING) {
+            if (throwable != null) {
+                downstream.onError(throwable);
+            } else {
+                downstream.onComplete();
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        boolean first;
+        synchronized (this) {
+            first = downstream == null;
+            if (first) {
+                downstream = subscriber;
+            }
+        }
+        if (!first) {
+            subscriber.onSubscribe(new NoOpSubscription());
+            subscriber.onError(new IllegalStateException("Only one subscriber is supported"));
+            return;
+        }
+        subscriber.onSubscribe(this);
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            cancel();
+            downstream.onError(new IllegalArgumentException("Non-positive subscription request: " + n));
+            return;
+        }
+        State current;
+        synchronized (this) {
+            current = state;
+            if (current == State.PUBLISHING) {
+                // Requested while the buffered bytes are being published, saturated as per Reactive Streams §3.17
+                pendingDemand = pendingDemand + n < 0 ? Long.MAX_VALUE : pendingDemand + n;
+                return;
+            }
+            if (current == State.READY) {
+                state = State.PUBLISHING;
+                pendingDemand = n - 1;
+            }
+        }
+        if (current == State.STREAMING) {
+            upstream.request(n);
+            return;
+        }
+        if (buffer.size() > 0) {
+            downstream.onNext(wrapper.apply(buffer.toByteArray()));
+        }
+        long demand;
+        boolean done;
+        Throwable error;
+        synchronized (this) {
+            state = State.STREAMING;
+            demand = pendingDemand;
+            done = completed;
+            error = failure;
+        }
+        if (error != null) {
+            downstream.onError(error);
+        } else if (done) {
+            downstream.onComplete();
+        } else if (demand > 0) {
+            upstream.request(demand);
+        }
+    }
+
+    @Override
+    public void cancel() {
+        Flow.Subscription subscription = upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private static final class NoOpSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            // No-op
+        }
+
+        @Override
+        public void cancel() {
+            // No-op
+        }
+    }
+}
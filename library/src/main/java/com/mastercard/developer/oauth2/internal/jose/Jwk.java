@@ -1,7 +1,7 @@
 package com.mastercard.developer.oauth2.internal.jose;
 
 import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
-import com.mastercard.developer.oauth2.internal.json.JsonProvider;
+import com.mastercard.developer.oauth2.json.JsonProvider;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.*;
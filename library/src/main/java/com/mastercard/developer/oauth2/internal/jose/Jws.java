@@ -1,10 +1,11 @@
 package com.mastercard.developer.oauth2.internal.jose;
 
+import com.mastercard.developer.oauth2.core.signing.JcaJwsSigner;
+import com.mastercard.developer.oauth2.core.signing.JwsAlgorithm;
+import com.mastercard.developer.oauth2.core.signing.JwsSigner;
 import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
 import java.nio.charset.StandardCharsets;
 import java.security.*;
-import java.security.spec.MGF1ParameterSpec;
-import java.security.spec.PSSParameterSpec;
 import java.util.Base64;
 
 /**
@@ -21,32 +22,20 @@ public final class Jws {
      * Signs a JWT using the specified private key and algorithm.
      */
     public static void sign(Jwt jwt, PrivateKey privateKey, JwsAlgorithm alg) {
+        sign(jwt, new JcaJwsSigner(privateKey, alg, null));
+    }
+
+    /**
+     * Signs a JWT using the specified signer.
+     */
+    public static void sign(Jwt jwt, JwsSigner signer) {
         try {
-            jwt.addHeaderParam("alg", alg.alg());
+            jwt.addHeaderParam("alg", signer.getAlgorithm().alg());
             String signingInput = jwt.getSigningInput();
-            byte[] signatureBytes = signBytes(signingInput.getBytes(StandardCharsets.US_ASCII), privateKey, alg);
+            byte[] signatureBytes = signer.sign(signingInput.getBytes(StandardCharsets.US_ASCII));
             jwt.setSignature(Base64.getUrlEncoder().withoutPadding().encodeToString(signatureBytes));
         } catch (Exception e) {
             throw new OAuth2ClientException("Failed to sign JWT", e);
         }
     }
-
-    private static byte[] signBytes(byte[] data, PrivateKey key, JwsAlgorithm alg)
-        throws NoSuchAlgorithmException, InvalidAlgorithmParameterException, InvalidKeyException, SignatureException {
-        Signature sig;
-        switch (alg) {
-            case PS256:
-                sig = Signature.getInstance("RSASSA-PSS");
-                sig.setParameter(new PSSParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, 32, 1));
-                break;
-            case ES256:
-                sig = Signature.getInstance("SHA256withECDSAinP1363Format"); // Can emit ECDSA signatures in the P1363 (r||s) format directly
-                break;
-            default:
-                throw new IllegalStateException("Unsupported alg: " + alg);
-        }
-        sig.initSign(key);
-        sig.update(data);
-        return sig.sign();
-    }
 }
@@ -0,0 +1,277 @@
+package com.mastercard.developer.oauth2.internal.jose;
+
+import com.mastercard.developer.oauth2.core.signing.JwsSigner;
+import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes small, fixed-shape JWS (such as DPoP proofs and client assertions) straight to the compact serialization,
+ * without going through {@link Jwt} maps and a {@link com.mastercard.developer.oauth2.json.JsonProvider}.
+ * Members are written in the order they are added, JSON text is encoded as UTF-8 into a reusable buffer,
+ * base64url-encoded directly into the output buffer, and the final compact serialization is the only String allocated.
+ * Instances are not thread-safe, use {@link #get()} to obtain the writer bound to the current thread.
+ * Usage:
+ * <pre>
+ * String jws = JwsCompactWriter.get()
+ *     .startHeader().add("alg", signer.getAlgorithm().alg()).add("typ", "JWT")
+ *     .startPayload().add("sub", "user123").add("iat", issuedAt)
+ *     .sign(signer);
+ * </pre>
+ */
+public final class JwsCompactWriter {
+
+    private static final ThreadLocal<JwsCompactWriter> WRITERS = ThreadLocal.withInitial(JwsCompactWriter::new);
+    private static final byte[] BASE64URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final String[] JWK_MEMBERS = { "kty", "crv", "x", "y", "e", "n" };
+
+    private byte[] json = new byte[512];
+    private int jsonLength;
+    private byte[] out = new byte[1024];
+    private int outLength;
+    private boolean firstMember;
+
+    JwsCompactWriter() {}
+
+    /**
+     * Returns the writer bound to the current thread, ready to write a new JWS.
+     */
+    public static JwsCompactWriter get() {
+        return WRITERS.get();
+    }
+
+    /**
+     * Starts the JOSE header, discarding anything previously written.
+     */
+    public JwsCompactWriter startHeader() {
+        jsonLength = 0;
+        outLength = 0;
+        openObject();
+        return this;
+    }
+
+    /**
+     * Ends the JOSE header and starts the claims set.
+     */
+    public JwsCompactWriter startPayload() {
+        flushObject();
+        appendOut((byte) '.');
+        openObject();
+        return this;
+    }
+
+    /**
+     * Adds a string member. The member is skipped if the value is null.
+     */
+    public JwsCompactWriter add(String name, String valueOrNull) {
+        if (valueOrNull != null) {
+            writeName(name);
+            writeString(valueOrNull);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a number member.
+     */
+    public JwsCompactWriter add(String name, long value) {
+        writeName(name);
+        writeLong(value);
+        return this;
+    }
+
+    /**
+     * Adds a public JWK member, with members written in the "kty", "crv", "x", "y" (EC) or "kty", "e", "n" (RSA) order.
+     */
+    public JwsCompactWriter add(String name, Jwk jwk) {
+        writeName(name);
+        openObject();
+        for (String member : JWK_MEMBERS) {
+            add(member, jwk.get(member));
+        }
+        closeObject();
+        firstMember = false;
+        return this;
+    }
+
+    /**
+     * Ends the claims set, signs the signing input and returns the JWS compact serialization.
+     */
+    public String sign(JwsSigner signer) {
+        flushObject();
+        byte[] signature;
+        try {
+            signature = signer.sign(Arrays.copyOf(out, outLength));
+        } catch (Exception e) {
+            throw new OAuth2ClientException("Failed to sign JWT", e);
+        }
+        appendOut((byte) '.');
+        encodeBase64Url(signature, signature.length);
+        return new String(out, 0, outLength, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Ends the claims set and returns the signing input (base64url-encoded header and payload separated by a dot).
+     */
+    public String getSigningInput() {
+        flushObject();
+        return new String(out, 0, outLength, StandardCharsets.US_ASCII);
+    }
+
+    private void openObject() {
+        appendJson((byte) '{');
+        firstMember = true;
+    }
+
+    private void closeObject() {
+        appendJson((byte) '}');
+    }
+
+    private void flushObject() {
+        closeObject();
+        encodeBase64Url(json, jsonLength);
+        jsonLength = 0;
+    }
+
+    private void writeName(String name) {
+        if (!firstMember) {
+            appendJson((byte) ',');
+        }
+        firstMember = false;
+        writeString(name);
+        appendJson((byte) ':');
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        if (value < 0) {
+            appendJson((byte) '-');
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        ensureJsonCapacity(digits);
+        for (int i = jsonLength + digits - 1; i >= jsonLength; i--) {
+            json[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        jsonLength += digits;
+    }
+
+    private void writeAscii(String ascii) {
+        for (var i = 0; i < ascii.length(); i++) {
+            appendJson((byte) ascii.charAt(i));
+        }
+    }
+
+    /**
+     * Writes a JSON string as UTF-8, escaping quotes, backslashes and control characters.
+     */
+    private void writeString(String value) {
+        appendJson((byte) '"');
+        int length = value.length();
+        for (var i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                appendJson((byte) '\\');
+                appendJson((byte) c);
+            } else if (c < 0x20) {
+                writeControlCharacter(c);
+            } else if (c < 0x80) {
+                appendJson((byte) c);
+            } else if (c < 0x800) {
+                appendJson((byte) (0xC0 | (c >> 6)));
+                appendJson((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                appendJson((byte) (0xF0 | (codePoint >> 18)));
+                appendJson((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                appendJson((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                appendJson((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                appendJson((byte) '?'); // Same replacement as String.getBytes(UTF_8) for unpaired surrogates
+            } else {
+                appendJson((byte) (0xE0 | (c >> 12)));
+                appendJson((byte) (0x80 | ((c >> 6) & 0x3F)));
+                appendJson((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        appendJson((byte) '"');
+    }
+
+    private void writeControlCharacter(char c) {
+        appendJson((byte) '\\');
+        switch (c) {
+            case '\b' -> appendJson((byte) 'b');
+            case '\t' -> appendJson((byte) 't');
+            case '\n' -> appendJson((byte) 'n');
+            case '\f' -> appendJson((byte) 'f');
+            case '\r' -> appendJson((byte) 'r');
+            default -> {
+                appendJson((byte) 'u');
+                appendJson((byte) '0');
+                appendJson((byte) '0');
+                appendJson(HEX[c >> 4]);
+                appendJson(HEX[c & 0xF]);
+            }
+        }
+    }
+
+    /**
+     * Base64url-encodes (without padding) the first bytes of the given array directly into the output buffer.
+     */
+    private void encodeBase64Url(byte[] src, int length) {
+        ensureOutCapacity(((length + 2) / 3) * 4);
+        byte[] dst = out;
+        int d = outLength;
+        int s = 0;
+        int end = length - length % 3;
+        while (s < end) {
+            int bits = ((src[s++] & 0xFF) << 16) | ((src[s++] & 0xFF) << 8) | (src[s++] & 0xFF);
+            dst[d++] = BASE64URL[(bits >>> 18) & 0x3F];
+            dst[d++] = BASE64URL[(bits >>> 12) & 0x3F];
+            dst[d++] = BASE64URL[(bits >>> 6) & 0x3F];
+            dst[d++] = BASE64URL[bits & 0x3F];
+        }
+        int remaining = length - end;
+        if (remaining == 1) {
+            int bits = (src[s] & 0xFF) << 16;
+            dst[d++] = BASE64URL[(bits >>> 18) & 0x3F];
+            dst[d++] = BASE64URL[(bits >>> 12) & 0x3F];
+        } else if (remaining == 2) {
+            int bits = ((src[s] & 0xFF) << 16) | ((src[s + 1] & 0xFF) << 8);
+            dst[d++] = BASE64URL[(bits >>> 18) & 0x3F];
+            dst[d++] = BASE64URL[(bits >>> 12) & 0x3F];
+            dst[d++] = BASE64URL[(bits >>> 6) & 0x3F];
+        }
+        outLength = d;
+    }
+
+    private void appendJson(byte b) {
+        ensureJsonCapacity(1);
+        json[jsonLength++] = b;
+    }
+
+    private void appendOut(byte b) {
+        ensureOutCapacity(1);
+        out[outLength++] = b;
+    }
+
+    private void ensureJsonCapacity(int extra) {
+        if (jsonLength + extra > json.length) {
+            json = Arrays.copyOf(json, Math.max(json.length * 2, jsonLength + extra));
+        }
+    }
+
+    private void ensureOutCapacity(int extra) {
+        if (outLength + extra > out.length) {
+            out = Arrays.copyOf(out, Math.max(out.length * 2, outLength + extra));
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.mastercard.developer.oauth2.internal.jose;
 
-import com.mastercard.developer.oauth2.internal.json.JsonProvider;
-import com.mastercard.developer.oauth2.internal.json.exception.OAuth2ClientJsonException;
+import com.mastercard.developer.oauth2.json.JsonProvider;
+import com.mastercard.developer.oauth2.json.exception.OAuth2ClientJsonException;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Map;
@@ -14,6 +14,7 @@ public final class Jwt {
 
     private final Map<String, Object> header = new ConcurrentHashMap<>();
     private final Map<String, Object> payload = new ConcurrentHashMap<>();
+    private String signingInput;
     private String signature;
 
     /**
@@ -23,9 +24,10 @@ public final class Jwt {
     public void addHeaderParam(String key, Object value) {
         if (value == null) {
             header.remove(key);
-            return;
+        } else {
+            header.put(key, value);
         }
-        header.put(key, value);
+        signingInput = null;
     }
 
     /**
@@ -35,15 +37,24 @@ public final class Jwt {
     public void addClaim(String key, Object value) {
         if (value == null) {
             payload.remove(key);
-            return;
+        } else {
+            payload.put(key, value);
         }
-        payload.put(key, value);
+        signingInput = null;
     }
 
     /**
      * Generates the signing input for the JWT (base64url-encoded header and payload separated by a dot).
+     * The result is cached until the header or payload changes.
      */
     public String getSigningInput() throws OAuth2ClientJsonException {
+        if (signingInput == null) {
+            signingInput = writeSigningInput();
+        }
+        return signingInput;
+    }
+
+    private String writeSigningInput() throws OAuth2ClientJsonException {
         var jsonProvider = JsonProvider.getInstance();
         String headerJson = jsonProvider.write(header);
         String payloadJson = jsonProvider.write(payload);
@@ -0,0 +1,188 @@
+package com.mastercard.developer.oauth2.internal.json;
+
+import com.mastercard.developer.oauth2.json.JsonProvider;
+import com.mastercard.developer.oauth2.json.exception.OAuth2ClientJsonException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads OAuth2 access token responses (see <a href="https://datatracker.ietf.org/doc/html/rfc6749#section-5.1">RFC 6749 Section 5.1</a>)
+ * in a single pass, without building a {@link java.util.Map} tree.
+ * Only `access_token`, `token_type`, `expires_in` and `scope` are kept, other members are validated and skipped.
+ * Scopes matching one of the known scopes are returned as the known {@link String} instances, so that tokens don't hold
+ * on to copies of the same few scope strings.
+ */
+public final class AccessTokenResponseParser {
+
+    private static final String READ_ERROR = "Failed to read JSON";
+
+    private static final String ACCESS_TOKEN = "access_token";
+    private static final String TOKEN_TYPE = "token_type";
+    private static final String EXPIRES_IN = "expires_in";
+    private static final String SCOPE = "scope";
+    private static final String[] MEMBER_NAMES = { ACCESS_TOKEN, TOKEN_TYPE, EXPIRES_IN, SCOPE };
+
+    private AccessTokenResponseParser() {}
+
+    /**
+     * The members read from an access token response. Missing or null members are null, except scopes which are empty.
+     */
+    public record ParsedAccessTokenResponse(String accessToken, String tokenType, Long expiresIn, Set<String> scopes) {}
+
+    /**
+     * Parses an access token response, interning scopes against the given known scopes.
+     * Throws {@link OAuth2ClientJsonException} if the text isn't a JSON object or if a member has an unexpected type.
+     */
+    public static ParsedAccessTokenResponse parse(String json, Set<String> knownScopes) throws OAuth2ClientJsonException {
+        if (json == null) {
+            throw new OAuth2ClientJsonException(READ_ERROR);
+        }
+        try {
+            var reader = new JsonReader(json);
+            String accessToken = null;
+            String tokenType = null;
+            Long expiresIn = null;
+            Set<String> scopes = Set.of();
+            reader.expect('{');
+            if (!reader.consumeIf('}')) {
+                do {
+                    String member = readMemberName(reader);
+                    reader.expect(':');
+                    switch (member) {
+                        case ACCESS_TOKEN -> accessToken = readNullableString(reader, member);
+                        case TOKEN_TYPE -> tokenType = readNullableString(reader, member);
+                        case EXPIRES_IN -> expiresIn = readNullableLong(reader, member);
+                        case SCOPE -> scopes = readNullableScopes(reader, member, knownScopes == null ? Set.of() : knownScopes);
+                        default -> reader.skipValue();
+                    }
+                } while (reader.consumeIf(','));
+                reader.expect('}');
+            }
+            reader.expectEnd();
+            return new ParsedAccessTokenResponse(accessToken, tokenType, expiresIn, scopes);
+        } catch (IllegalArgumentException e) {
+            throw new OAuth2ClientJsonException(READ_ERROR, e);
+        }
+    }
+
+    /**
+     * Reads an access token response already parsed into a {@link Map} tree by a {@link JsonProvider}, interning scopes
+     * against the given known scopes.
+     * Throws {@link OAuth2ClientJsonException} if a member has an unexpected type.
+     */
+    public static ParsedAccessTokenResponse fromMap(Map<String, Object> jsonMap, Set<String> knownScopes) throws OAuth2ClientJsonException {
+        String accessToken = getMember(jsonMap, ACCESS_TOKEN, String.class);
+        String tokenType = getMember(jsonMap, TOKEN_TYPE, String.class);
+        Number expiresIn = getMember(jsonMap, EXPIRES_IN, Number.class);
+        String scope = getMember(jsonMap, SCOPE, String.class);
+        Set<String> scopes = scope == null ? Set.of() : splitScopes(scope, 0, scope.length(), knownScopes == null ? Set.of() : knownScopes);
+        return new ParsedAccessTokenResponse(accessToken, tokenType, expiresIn == null ? null : expiresIn.longValue(), scopes);
+    }
+
+    private static <T> T getMember(Map<String, Object> jsonMap, String member, Class<T> type) throws OAuth2ClientJsonException {
+        Object value = jsonMap.get(member);
+        if (value == null) {
+            return null;
+        }
+        if (!type.isInstance(value)) {
+            throw new OAuth2ClientJsonException("Unexpected value type for member: " + member);
+        }
+        return type.cast(value);
+    }
+
+    /**
+     * Reads a member name, returning the constant for the names of interest to avoid copying them.
+     */
+    private static String readMemberName(JsonReader reader) {
+        int end = reader.skipString();
+        int start = reader.lastStringStart();
+        if (reader.lastStringEscaped()) {
+            return reader.decode(start, end);
+        }
+        for (String name : MEMBER_NAMES) {
+            if (name.length() == end - start && reader.json().regionMatches(start, name, 0, name.length())) {
+                return name;
+            }
+        }
+        return "";
+    }
+
+    private static String readNullableString(JsonReader reader, String member) throws OAuth2ClientJsonException {
+        if (reader.consumeNull()) {
+            return null;
+        }
+        if (reader.peek() != '"') {
+            throw new OAuth2ClientJsonException("Unexpected value type for member: " + member);
+        }
+        return reader.readString();
+    }
+
+    private static Long readNullableLong(JsonReader reader, String member) throws OAuth2ClientJsonException {
+        if (reader.consumeNull()) {
+            return null;
+        }
+        if (!JsonReader.isNumberStart(reader.peek())) {
+            throw new OAuth2ClientJsonException("Unexpected value type for member: " + member);
+        }
+        return reader.readLong();
+    }
+
+    private static Set<String> readNullableScopes(JsonReader reader, String member, Set<String> knownScopes) throws OAuth2ClientJsonException {
+        if (reader.consumeNull()) {
+            return Set.of();
+        }
+        if (reader.peek() != '"') {
+            throw new OAuth2ClientJsonException("Unexpected value type for member: " + member);
+        }
+        int end = reader.skipString();
+        int start = reader.lastStringStart();
+        String value = reader.json();
+        if (reader.lastStringEscaped()) {
+            // Escaped scopes are unusual enough to be decoded first
+            value = reader.decode(start, end);
+            start = 0;
+            end = value.length();
+        }
+        return splitScopes(value, start, end, knownScopes);
+    }
+
+    private static Set<String> splitScopes(String value, int start, int end, Set<String> knownScopes) {
+        List<String> scopes = new ArrayList<>(4);
+        int i = start;
+        while (i < end) {
+            while (i < end && isScopeDelimiter(value.charAt(i))) {
+                i++;
+            }
+            int scopeStart = i;
+            while (i < end && !isScopeDelimiter(value.charAt(i))) {
+                i++;
+            }
+            if (i > scopeStart) {
+                scopes.add(intern(value, scopeStart, i, knownScopes));
+            }
+        }
+        return Set.copyOf(scopes);
+    }
+
+    /**
+     * Returns the known scope equal to the given region, or a copy of the region. Known scopes are only a few, so they
+     * are compared without creating a substring to look them up.
+     */
+    private static String intern(String value, int start, int end, Set<String> knownScopes) {
+        for (String knownScope : knownScopes) {
+            if (knownScope.length() == end - start && value.regionMatches(start, knownScope, 0, knownScope.length())) {
+                return knownScope;
+            }
+        }
+        return value.substring(start, end);
+    }
+
+    /**
+     * Scopes are delimited by spaces, but any whitespace is accepted for consistency with previous versions.
+     */
+    private static boolean isScopeDelimiter(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == 0x0B;
+    }
+}
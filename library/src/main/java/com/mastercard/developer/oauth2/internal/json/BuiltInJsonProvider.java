@@ -0,0 +1,133 @@
+package com.mastercard.developer.oauth2.internal.json;
+
+import com.mastercard.developer.oauth2.json.JsonProvider;
+import com.mastercard.developer.oauth2.json.JsonProviderPriority;
+import com.mastercard.developer.oauth2.json.exception.OAuth2ClientJsonException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A JSON provider with no dependency, covering the JSON handled by this library: access token responses, error
+ * responses, JWKs and JWT headers and claims.
+ * Objects are read as {@link java.util.LinkedHashMap}, arrays as {@link java.util.List}, and numbers as {@link Long},
+ * {@link BigInteger} or {@link Double}. Maps, iterables, arrays, strings, numbers, booleans and null can be written.
+ */
+@JsonProviderPriority(100)
+public class BuiltInJsonProvider implements JsonProvider {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    @Override
+    public Map<String, Object> parse(String json) throws OAuth2ClientJsonException {
+        try {
+            var reader = new JsonReader(json);
+            Map<String, Object> map = reader.readObject();
+            reader.expectEnd();
+            return map;
+        } catch (Exception e) {
+            throw new OAuth2ClientJsonException("Failed to read JSON", e);
+        }
+    }
+
+    @Override
+    public Optional<Map<String, Object>> tryParse(String json) {
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(parse(json));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String write(Map<String, Object> jsonMap) throws OAuth2ClientJsonException {
+        try {
+            var builder = new StringBuilder(256);
+            writeValue(builder, jsonMap);
+            return builder.toString();
+        } catch (Exception e) {
+            throw new OAuth2ClientJsonException("Failed to write JSON", e);
+        }
+    }
+
+    private static void writeValue(StringBuilder builder, Object value) {
+        if (value == null) {
+            builder.append("null");
+        } else if (value instanceof String string) {
+            writeString(builder, string);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte || value instanceof BigInteger) {
+            builder.append(value);
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            if (!Double.isFinite(number)) {
+                throw new IllegalArgumentException("Non-finite numbers can't be written to JSON: " + number);
+            }
+            builder.append(value);
+        } else if (value instanceof BigDecimal decimal) {
+            builder.append(decimal.toString());
+        } else if (value instanceof Boolean) {
+            builder.append(value);
+        } else if (value instanceof Map<?, ?> map) {
+            writeObject(builder, map);
+        } else if (value instanceof Iterable<?> iterable) {
+            builder.append('[');
+            boolean first = true;
+            for (Object element : iterable) {
+                if (!first) {
+                    builder.append(',');
+                }
+                writeValue(builder, element);
+                first = false;
+            }
+            builder.append(']');
+        } else if (value instanceof Object[] array) {
+            writeValue(builder, Arrays.asList(array));
+        } else {
+            throw new IllegalArgumentException("Unsupported JSON value type: " + value.getClass().getName());
+        }
+    }
+
+    private static void writeObject(StringBuilder builder, Map<?, ?> map) {
+        builder.append('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                builder.append(',');
+            }
+            writeString(builder, String.valueOf(entry.getKey()));
+            builder.append(':');
+            writeValue(builder, entry.getValue());
+            first = false;
+        }
+        builder.append('}');
+    }
+
+    private static void writeString(StringBuilder builder, String string) {
+        builder.append('"');
+        int start = 0;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            builder.append(string, start, i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\b' -> builder.append("\\b");
+                case '\f' -> builder.append("\\f");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> builder.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+            }
+            start = i + 1;
+        }
+        builder.append(string, start, string.length()).append('"');
+    }
+}
@@ -2,11 +2,14 @@ package com.mastercard.developer.oauth2.internal.json;
 
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
-import com.mastercard.developer.oauth2.internal.json.exception.OAuth2ClientJsonException;
+import com.mastercard.developer.oauth2.json.JsonProvider;
+import com.mastercard.developer.oauth2.json.JsonProviderPriority;
+import com.mastercard.developer.oauth2.json.exception.OAuth2ClientJsonException;
 import java.lang.reflect.Type;
 import java.util.Map;
 import java.util.Optional;
 
+@JsonProviderPriority(20)
 public class GsonJsonProvider implements JsonProvider {
 
     private static final Gson gson = new Gson();
@@ -1,11 +1,14 @@
 package com.mastercard.developer.oauth2.internal.json;
 
-import com.mastercard.developer.oauth2.internal.json.exception.OAuth2ClientJsonException;
+import com.mastercard.developer.oauth2.json.JsonProvider;
+import com.mastercard.developer.oauth2.json.JsonProviderPriority;
+import com.mastercard.developer.oauth2.json.exception.OAuth2ClientJsonException;
 import java.util.Map;
 import java.util.Optional;
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
 
+@JsonProviderPriority(30)
 public class JacksonJsonProvider implements JsonProvider {
 
     private static final ObjectMapper mapper = new ObjectMapper();
@@ -0,0 +1,135 @@
+package com.mastercard.developer.oauth2.internal.json;
+
+/**
+ * Scans OAuth2 error responses (see <a href="https://datatracker.ietf.org/doc/html/rfc6749#section-5.2">RFC 6749 Section 5.2</a>)
+ * for a given `error` code, without building a {@link java.util.Map} tree.
+ * Only the members of the top-level object are looked at, nested values are skipped, and the scan stops as soon as the
+ * `error` member is found or after a given number of characters. Error codes can't contain quotes or backslashes, so
+ * values are compared as they are written.
+ */
+public final class JsonErrorScanner {
+
+    private static final String ERROR_MEMBER = "error";
+
+    private JsonErrorScanner() {}
+
+    /**
+     * Returns true if the top-level `error` member of the given JSON text is the given error code.
+     * Returns false for any other content, including invalid or truncated JSON.
+     */
+    public static boolean hasError(CharSequence json, String errorCode, int maxChars) {
+        if (json == null) {
+            return false;
+        }
+        int limit = Math.min(json.length(), maxChars);
+        int i = skipWhitespace(json, 0, limit);
+        if (i >= limit || json.charAt(i) != '{') {
+            return false;
+        }
+        i++;
+        while (true) {
+            i = skipWhitespace(json, i, limit);
+            if (i >= limit || json.charAt(i) != '"') {
+                return false;
+            }
+            int keyEnd = skipString(json, i, limit);
+            if (keyEnd < 0) {
+                return false;
+            }
+            boolean isErrorMember = regionEquals(json, i + 1, keyEnd - 1, ERROR_MEMBER);
+            i = skipWhitespace(json, keyEnd, limit);
+            if (i >= limit || json.charAt(i) != ':') {
+                return false;
+            }
+            i = skipWhitespace(json, i + 1, limit);
+            if (i >= limit) {
+                return false;
+            }
+            int valueEnd = skipValue(json, i, limit);
+            if (valueEnd < 0) {
+                return false;
+            }
+            if (isErrorMember) {
+                return json.charAt(i) == '"' && regionEquals(json, i + 1, valueEnd - 1, errorCode);
+            }
+            i = skipWhitespace(json, valueEnd, limit);
+            if (i >= limit || json.charAt(i) != ',') {
+                return false;
+            }
+            i++;
+        }
+    }
+
+    private static int skipWhitespace(CharSequence json, int i, int limit) {
+        while (i < limit) {
+            char c = json.charAt(i);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index following the string starting at the given index, or -1 if it isn't terminated.
+     */
+    private static int skipString(CharSequence json, int i, int limit) {
+        for (i++; i < limit; i++) {
+            char c = json.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index following the value starting at the given index, or -1 if it isn't terminated.
+     */
+    private static int skipValue(CharSequence json, int i, int limit) {
+        char first = json.charAt(i);
+        if (first == '"') {
+            return skipString(json, i, limit);
+        }
+        if (first != '{' && first != '[') {
+            // Number, boolean or null
+            while (i < limit && ",} \t\n\r".indexOf(json.charAt(i)) < 0) {
+                i++;
+            }
+            return i < limit ? i : -1;
+        }
+        int depth = 0;
+        while (i < limit) {
+            char c = json.charAt(i);
+            if (c == '"') {
+                i = skipString(json, i, limit);
+                if (i < 0) {
+                    return -1;
+                }
+                continue;
+            }
+            if (c == '{' || c == '[') {
+                depth++;
+            } else if ((c == '}' || c == ']') && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static boolean regionEquals(CharSequence json, int start, int end, String expected) {
+        if (end - start != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (json.charAt(start + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
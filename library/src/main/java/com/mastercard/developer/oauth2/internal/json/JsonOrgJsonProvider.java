@@ -1,10 +1,13 @@
 package com.mastercard.developer.oauth2.internal.json;
 
-import com.mastercard.developer.oauth2.internal.json.exception.OAuth2ClientJsonException;
+import com.mastercard.developer.oauth2.json.JsonProvider;
+import com.mastercard.developer.oauth2.json.JsonProviderPriority;
+import com.mastercard.developer.oauth2.json.exception.OAuth2ClientJsonException;
 import java.util.Map;
 import java.util.Optional;
 import org.json.JSONObject;
 
+@JsonProviderPriority(10)
 public class JsonOrgJsonProvider implements JsonProvider {
 
     @Override
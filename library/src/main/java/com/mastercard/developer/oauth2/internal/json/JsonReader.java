@@ -0,0 +1,356 @@
+package com.mastercard.developer.oauth2.internal.json;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal JSON reader over a string, shared by the built-in parsers.
+ * Values can be read into {@link Map} trees, or walked token by token to read only some of them.
+ * Syntax errors are reported with an {@link IllegalArgumentException} giving the offset of the error.
+ */
+final class JsonReader {
+
+    private static final int MAX_DEPTH = 64;
+
+    private final String json;
+    private int position;
+    private int stringStart; // Start index of the content of the last string skipped
+    private boolean escaped; // Whether the last string skipped contains escape sequences
+
+    JsonReader(String json) {
+        this.json = json;
+    }
+
+    String json() {
+        return json;
+    }
+
+    int lastStringStart() {
+        return stringStart;
+    }
+
+    boolean lastStringEscaped() {
+        return escaped;
+    }
+
+    /**
+     * Skips whitespace, and returns the next character without consuming it.
+     */
+    char peek() {
+        skipWhitespace();
+        if (position >= json.length()) {
+            throw error("unexpected end of input");
+        }
+        return json.charAt(position);
+    }
+
+    boolean consumeIf(char c) {
+        skipWhitespace();
+        if (position < json.length() && json.charAt(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    void expect(char c) {
+        if (!consumeIf(c)) {
+            throw error("'" + c + "' expected");
+        }
+    }
+
+    void expectEnd() {
+        skipWhitespace();
+        if (position != json.length()) {
+            throw error("end of input expected");
+        }
+    }
+
+    boolean consumeNull() {
+        return consumeLiteral("null");
+    }
+
+    /**
+     * Reads a JSON object into a {@link Map}, keeping the order of its members.
+     */
+    Map<String, Object> readObject() {
+        return readObject(0);
+    }
+
+    /**
+     * Reads any JSON value: objects as {@link Map}, arrays as {@link List}, numbers as {@link Long}, {@link BigInteger}
+     * or {@link Double}, strings, booleans and null.
+     */
+    Object readValue() {
+        return readValue(0);
+    }
+
+    /**
+     * Skips the string at the current position, and returns the index of its closing quote.
+     * The content of the string starts at {@link #lastStringStart()}, and can be decoded with {@link #decode(int, int)}.
+     */
+    int skipString() {
+        if (peek() != '"') {
+            throw error("string expected");
+        }
+        stringStart = position + 1;
+        escaped = false;
+        for (int i = stringStart; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c == '"') {
+                position = i + 1;
+                return i;
+            }
+            if (c == '\\') {
+                escaped = true;
+                i++;
+            } else if (c < 0x20) {
+                position = i;
+                throw error("control character in string");
+            }
+        }
+        throw error("unterminated string");
+    }
+
+    /**
+     * Reads the string at the current position.
+     */
+    String readString() {
+        int end = skipString();
+        return decode(stringStart, end);
+    }
+
+    /**
+     * Reads the number at the current position as a long, truncating any fraction.
+     */
+    long readLong() {
+        peek();
+        int start = position;
+        boolean integral = skipNumber();
+        if (integral && position - start <= 18) {
+            return Long.parseLong(json, start, position, 10);
+        }
+        return (long) Double.parseDouble(json.substring(start, position));
+    }
+
+    /**
+     * Skips the value at the current position.
+     */
+    void skipValue() {
+        skipValue(0);
+    }
+
+    static boolean isNumberStart(char c) {
+        return c == '-' || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Decodes the string content between the given indexes, as returned by {@link #skipString()}.
+     */
+    String decode(int start, int end) {
+        int index = escaped ? json.indexOf('\\', start) : -1;
+        if (index < 0 || index >= end) {
+            return json.substring(start, end);
+        }
+        var builder = new StringBuilder(end - start).append(json, start, index);
+        for (int i = index; i < end; i++) {
+            char c = json.charAt(i);
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+            char escapedChar = json.charAt(++i);
+            switch (escapedChar) {
+                case '"', '\\', '/' -> builder.append(escapedChar);
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 't' -> builder.append('\t');
+                case 'u' -> {
+                    if (i + 4 >= end) {
+                        throw error("invalid unicode escape sequence");
+                    }
+                    try {
+                        builder.append((char) Integer.parseInt(json, i + 1, i + 5, 16));
+                    } catch (NumberFormatException e) {
+                        throw error("invalid unicode escape sequence");
+                    }
+                    i += 4;
+                }
+                default -> throw error("invalid escape sequence");
+            }
+        }
+        return builder.toString();
+    }
+
+    private Map<String, Object> readObject(int depth) {
+        checkDepth(depth);
+        expect('{');
+        Map<String, Object> map = new LinkedHashMap<>();
+        if (!consumeIf('}')) {
+            do {
+                String name = readString();
+                expect(':');
+                map.put(name, readValue(depth + 1));
+            } while (consumeIf(','));
+            expect('}');
+        }
+        return map;
+    }
+
+    private List<Object> readArray(int depth) {
+        checkDepth(depth);
+        expect('[');
+        List<Object> list = new ArrayList<>();
+        if (!consumeIf(']')) {
+            do {
+                list.add(readValue(depth + 1));
+            } while (consumeIf(','));
+            expect(']');
+        }
+        return list;
+    }
+
+    private Object readValue(int depth) {
+        char c = peek();
+        if (c == '"') {
+            return readString();
+        }
+        if (c == '{') {
+            return readObject(depth);
+        }
+        if (c == '[') {
+            return readArray(depth);
+        }
+        if (isNumberStart(c)) {
+            return readNumber();
+        }
+        if (consumeNull()) {
+            return null;
+        }
+        if (consumeLiteral("true")) {
+            return Boolean.TRUE;
+        }
+        if (consumeLiteral("false")) {
+            return Boolean.FALSE;
+        }
+        throw error("value expected");
+    }
+
+    private Number readNumber() {
+        int start = position;
+        boolean integral = skipNumber();
+        if (!integral) {
+            return Double.parseDouble(json.substring(start, position));
+        }
+        if (position - start <= 18) {
+            return Long.parseLong(json, start, position, 10);
+        }
+        var value = new BigInteger(json.substring(start, position));
+        return value.bitLength() < Long.SIZE ? (Number) value.longValue() : value;
+    }
+
+    private void skipValue(int depth) {
+        checkDepth(depth);
+        char c = peek();
+        if (c == '"') {
+            skipString();
+        } else if (c == '{') {
+            position++;
+            if (!consumeIf('}')) {
+                do {
+                    skipString();
+                    expect(':');
+                    skipValue(depth + 1);
+                } while (consumeIf(','));
+                expect('}');
+            }
+        } else if (c == '[') {
+            position++;
+            if (!consumeIf(']')) {
+                do {
+                    skipValue(depth + 1);
+                } while (consumeIf(','));
+                expect(']');
+            }
+        } else if (isNumberStart(c)) {
+            skipNumber();
+        } else if (!consumeNull() && !consumeLiteral("true") && !consumeLiteral("false")) {
+            throw error("value expected");
+        }
+    }
+
+    /**
+     * Skips the number at the current position, and returns true if it has no fraction or exponent.
+     */
+    private boolean skipNumber() {
+        boolean integral = true;
+        consumeChar('-');
+        if (!consumeChar('0')) {
+            skipDigits();
+        }
+        if (consumeChar('.')) {
+            integral = false;
+            skipDigits();
+        }
+        if (consumeChar('e') || consumeChar('E')) {
+            integral = false;
+            if (!consumeChar('+')) {
+                consumeChar('-');
+            }
+            skipDigits();
+        }
+        return integral;
+    }
+
+    private void skipDigits() {
+        int start = position;
+        while (position < json.length() && json.charAt(position) >= '0' && json.charAt(position) <= '9') {
+            position++;
+        }
+        if (position == start) {
+            throw error("digit expected");
+        }
+    }
+
+    private boolean consumeChar(char c) {
+        if (position < json.length() && json.charAt(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean consumeLiteral(String literal) {
+        skipWhitespace();
+        if (json.startsWith(literal, position)) {
+            position += literal.length();
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (position < json.length()) {
+            char c = json.charAt(position);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private void checkDepth(int depth) {
+        if (depth > MAX_DEPTH) {
+            throw error("maximum nesting depth exceeded");
+        }
+    }
+
+    private IllegalArgumentException error(String reason) {
+        return new IllegalArgumentException("Invalid JSON at offset %d: %s".formatted(position, reason));
+    }
+}
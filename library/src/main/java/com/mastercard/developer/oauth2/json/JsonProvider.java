@@ -0,0 +1,44 @@
+package com.mastercard.developer.oauth2.json;
+
+import com.mastercard.developer.oauth2.json.exception.OAuth2ClientJsonException;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Provides JSON serialization and deserialization.
+ */
+public interface JsonProvider {
+    /**
+     * Parses JSON text into a {@link Map} tree.
+     * Throws {@link OAuth2ClientJsonException} if the operation fails.
+     */
+    Map<String, Object> parse(String json) throws OAuth2ClientJsonException;
+
+    /**
+     * Parses JSON text into a {@link Map} tree.
+     * Returns an empty {@link Optional} if parsing fails.
+     */
+    Optional<Map<String, Object>> tryParse(String json);
+
+    /**
+     * Writes a {@link Map} tree to a JSON text.
+     */
+    String write(Map<String, Object> jsonMap) throws OAuth2ClientJsonException;
+
+    /**
+     * Returns a singleton instance of the {@link JsonProvider} with the highest {@link JsonProviderPriority} among the
+     * ones registered in {@code META-INF/services/com.mastercard.developer.oauth2.json.JsonProvider} files.
+     * Providers whose library isn't on the classpath are skipped. A provider can also be set with
+     * {@link com.mastercard.developer.oauth2.config.OAuth2Config.OAuth2ConfigBuilder#jsonProvider(JsonProvider)}.
+     */
+    static JsonProvider getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    class Holder {
+
+        private Holder() {}
+
+        static final JsonProvider INSTANCE = JsonProviders.load();
+    }
+}
@@ -0,0 +1,22 @@
+package com.mastercard.developer.oauth2.json;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the priority of a {@link JsonProvider} implementation, when selected among the providers found with
+ * {@link java.util.ServiceLoader}. The provider with the highest priority is used, and providers without this annotation
+ * have a priority of 0.
+ * Built-in priorities are 100 for the built-in provider, then 30 for Jackson, 20 for Gson and 10 for org.json, so a custom
+ * provider must declare more than 100 to be preferred.
+ * The priority is read from the class, so that only the selected provider is instantiated.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JsonProviderPriority {
+    int value();
+}
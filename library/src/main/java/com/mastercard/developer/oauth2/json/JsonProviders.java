@@ -0,0 +1,72 @@
+package com.mastercard.developer.oauth2.json;
+
+import com.mastercard.developer.oauth2.internal.json.BuiltInJsonProvider;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Selects the {@link JsonProvider} to use, among the ones registered for {@link ServiceLoader}.
+ */
+final class JsonProviders {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonProviders.class);
+
+    private JsonProviders() {}
+
+    /**
+     * Loads the registered providers, and returns the one with the highest priority.
+     */
+    static JsonProvider load() {
+        return select(ServiceLoader.load(JsonProvider.class, JsonProvider.class.getClassLoader()).stream().iterator());
+    }
+
+    /**
+     * Returns the provider with the highest {@link JsonProviderPriority}, the first one in case of a tie.
+     * Priorities are read from the provider classes, which are loaded but not initialized, so only the selected provider
+     * is instantiated. Providers that can't be loaded or instantiated, typically because their JSON library is missing,
+     * are skipped. Falls back to the {@link BuiltInJsonProvider} if no provider is available.
+     */
+    static JsonProvider select(Iterator<ServiceLoader.Provider<JsonProvider>> providers) {
+        List<Candidate> candidates = new ArrayList<>();
+        while (true) {
+            try {
+                if (!providers.hasNext()) {
+                    break;
+                }
+                ServiceLoader.Provider<JsonProvider> provider = providers.next();
+                candidates.add(new Candidate(provider, priority(provider.type())));
+            } catch (ServiceConfigurationError | LinkageError e) {
+                logger.debug("Skipping unavailable JSON provider: {}", e.getMessage());
+            }
+        }
+        // Stable sort, keeping the registration order of providers with the same priority
+        candidates.sort(Comparator.comparingInt(Candidate::priority).reversed());
+        JsonProvider selected = null;
+        for (Candidate candidate : candidates) {
+            try {
+                selected = candidate.provider().get();
+                break;
+            } catch (ServiceConfigurationError | LinkageError e) {
+                logger.debug("Skipping unavailable JSON provider: {}", e.getMessage());
+            }
+        }
+        if (selected == null) {
+            selected = new BuiltInJsonProvider();
+        }
+        logger.debug("Using JSON provider: {}", selected.getClass().getName());
+        return selected;
+    }
+
+    private static int priority(Class<?> type) {
+        JsonProviderPriority priority = type.getAnnotation(JsonProviderPriority.class);
+        return priority != null ? priority.value() : 0;
+    }
+
+    private record Candidate(ServiceLoader.Provider<JsonProvider> provider, int priority) {}
+}
@@ -7,13 +7,24 @@ import static org.mockito.Mockito.when;
 
 import com.mastercard.developer.oauth2.config.OAuth2Config.OAuth2ConfigBuilder;
 import com.mastercard.developer.oauth2.config.exception.OAuth2ClientConfigException;
+import com.mastercard.developer.oauth2.core.access_token.AccessToken;
+import com.mastercard.developer.oauth2.core.access_token.AccessTokenFilter;
+import com.mastercard.developer.oauth2.core.access_token.AccessTokenStore;
+import com.mastercard.developer.oauth2.core.access_token.ExpirationThresholdPolicy;
+import com.mastercard.developer.oauth2.core.access_token.InMemoryAccessTokenStore;
 import com.mastercard.developer.oauth2.core.dpop.DPoPKey;
 import com.mastercard.developer.oauth2.core.dpop.DPoPKeyProvider;
 import com.mastercard.developer.oauth2.core.dpop.StaticDPoPKeyProvider;
+import com.mastercard.developer.oauth2.core.signing.JcaJwsSigner;
+import com.mastercard.developer.oauth2.core.signing.JwsAlgorithm;
 import com.mastercard.developer.oauth2.http.UserAgent;
 import com.mastercard.developer.oauth2.test.fixtures.BaseTest;
 import com.mastercard.developer.oauth2.test.fixtures.StaticKeys;
+import com.mastercard.developer.oauth2.test.fixtures.TestClock;
+import com.mastercard.developer.oauth2.test.mocks.FakeRemoteJwsSigner;
+import java.security.Security;
 import java.time.Duration;
+import java.time.Instant;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -200,6 +211,160 @@ class OAuth2ConfigTest extends BaseTest {
         assertNull(ex.getCause());
     }
 
+    @Test
+    void build_ShouldUseClientSigner_WhenClientKeyMissing() {
+        // GIVEN
+        try (var clientSigner = new FakeRemoteJwsSigner(StaticKeys.EC_KEY_PAIR.getPrivate(), JwsAlgorithm.ES256)) {
+            sampleConfigBuilder.clientKey(null).clientSigner(clientSigner);
+
+            // WHEN
+            OAuth2Config config = sampleConfigBuilder.build();
+
+            // THEN
+            assertSame(clientSigner, config.getClientSigner());
+            assertNull(config.getClientKey());
+        }
+    }
+
+    @Test
+    void build_ShouldCreateClientSignerWithSelectedProvider_WhenClientKeySet() {
+        // GIVEN
+        var sunRsaSign = Security.getProvider("SunRsaSign");
+
+        // WHEN
+        OAuth2Config config = sampleConfigBuilder.jcaProvider(JwsAlgorithm.PS256, sunRsaSign).build();
+
+        // THEN
+        var clientSigner = assertInstanceOf(JcaJwsSigner.class, config.getClientSigner());
+        assertEquals(JwsAlgorithm.PS256, clientSigner.getAlgorithm());
+        assertSame(sunRsaSign, clientSigner.getProvider().get());
+        assertSame(sunRsaSign, config.getJcaProvider(JwsAlgorithm.PS256).get());
+        assertTrue(config.getJcaProvider(JwsAlgorithm.ES256).isEmpty());
+    }
+
+    @Test
+    void jcaProvider_ShouldRestoreDefaultSelection_WhenProviderNull() {
+        // WHEN
+        OAuth2Config config = sampleConfigBuilder.jcaProvider(JwsAlgorithm.ES256, Security.getProvider("SunEC")).jcaProvider(JwsAlgorithm.ES256, null).build();
+
+        // THEN
+        assertTrue(config.getJcaProvider(JwsAlgorithm.ES256).isEmpty());
+    }
+
+    @Test
+    void build_ShouldThrowConfigException_WhenClockMissing() {
+        // GIVEN
+        sampleConfigBuilder.clock(null);
+
+        // WHEN / THEN
+        var ex = assertThrows(OAuth2ClientConfigException.class, sampleConfigBuilder::build);
+        assertEquals("Clock is required", ex.getMessage());
+        assertNull(ex.getCause());
+    }
+
+    @Test
+    void build_ShouldThrowConfigException_WhenExpirationThresholdPolicyMissing() {
+        // GIVEN
+        sampleConfigBuilder.expirationThresholdPolicy(null);
+
+        // WHEN / THEN
+        var ex = assertThrows(OAuth2ClientConfigException.class, sampleConfigBuilder::build);
+        assertEquals("Expiration threshold policy is required", ex.getMessage());
+        assertNull(ex.getCause());
+    }
+
+    @Test
+    void build_ShouldThrowConfigException_WhenTokenRequestRateLimiterMissing() {
+        // GIVEN
+        sampleConfigBuilder.tokenRequestRateLimiter(null);
+
+        // WHEN / THEN
+        var ex = assertThrows(OAuth2ClientConfigException.class, sampleConfigBuilder::build);
+        assertEquals("Token request rate limiter is required", ex.getMessage());
+        assertNull(ex.getCause());
+    }
+
+    @Test
+    void build_ShouldUseConfiguredPolicy_ForDefaultAccessTokenStore() {
+        // GIVEN
+        var policy = ExpirationThresholdPolicy.fixed(Duration.ofSeconds(10));
+        OAuth2Config config = OAuth2Config.builder()
+            .clientId(sampleClientId)
+            .clientKey(sampleClientKey)
+            .tokenEndpoint(sampleTokenEndpoint)
+            .issuer(sampleIssuer)
+            .scopeResolver(sampleScopeResolver)
+            .kid(sampleClientKid)
+            .dpopKeyProvider(sampleDpopKeyProvider)
+            .expirationThresholdPolicy(policy)
+            .build();
+
+        // WHEN
+        var store = (InMemoryAccessTokenStore) config.getAccessTokenStore();
+
+        // THEN
+        assertSame(policy, config.getExpirationThresholdPolicy());
+        assertEquals(Duration.ofSeconds(10), store.getExpirationThreshold());
+    }
+
+    @Test
+    void build_ShouldUseConfiguredClock_ForDefaultAccessTokenStore() {
+        // GIVEN
+        var clock = new TestClock(Instant.parse("2025-10-10T12:00:00Z"));
+        OAuth2Config config = OAuth2Config.builder()
+            .clientId(sampleClientId)
+            .clientKey(sampleClientKey)
+            .tokenEndpoint(sampleTokenEndpoint)
+            .issuer(sampleIssuer)
+            .scopeResolver(sampleScopeResolver)
+            .kid(sampleClientKid)
+            .dpopKeyProvider(sampleDpopKeyProvider)
+            .clock(clock)
+            .build();
+        AccessTokenStore store = config.getAccessTokenStore();
+        var accessToken = new AccessToken(sampleClientId, sampleScopes, Instant.parse("2025-10-10T13:00:00Z"), sampleJkt, sampleAccessToken);
+        store.put(accessToken);
+
+        // WHEN
+        clock.advance(Duration.ofHours(1));
+
+        // THEN
+        assertSame(clock, config.getClock());
+        assertInstanceOf(InMemoryAccessTokenStore.class, store);
+        assertFalse(store.get(AccessTokenFilter.byScopes(sampleScopes)).isPresent());
+    }
+
+    @Test
+    void build_ShouldThrowConfigException_WhenJsonProviderMissing() {
+        // GIVEN
+        sampleConfigBuilder.jsonProvider(null);
+
+        // WHEN / THEN
+        var ex = assertThrows(OAuth2ClientConfigException.class, sampleConfigBuilder::build);
+        assertEquals("JSON provider is required", ex.getMessage());
+        assertNull(ex.getCause());
+    }
+
+    @Test
+    void build_ShouldNotCacheRoutes_WhenRouteCacheNotSet() {
+        // WHEN
+        OAuth2Config config = sampleConfigBuilder.build();
+
+        // THEN
+        assertEquals(0, config.getRouteCache().getMaxSize());
+    }
+
+    @Test
+    void build_ShouldThrowConfigException_WhenRouteCacheMissing() {
+        // GIVEN
+        sampleConfigBuilder.routeCache(null);
+
+        // WHEN / THEN
+        var ex = assertThrows(OAuth2ClientConfigException.class, sampleConfigBuilder::build);
+        assertEquals("Route cache is required", ex.getMessage());
+        assertNull(ex.getCause());
+    }
+
     @Test
     void build_ShouldThrowConfigException_WhenSecurityProfileMissing() {
         // GIVEN
@@ -356,8 +521,15 @@ class OAuth2ConfigTest extends BaseTest {
                   scopeResolver='StaticScopeResolver',
                   kid='302449525fad5309874b16298f3cbaaf0000000000000000',
                   clientKey='PrivateKey[class=RSAPrivateKeyImpl, algorithm=RSA, format=PKCS#8]',
+                  clientSigner='JcaJwsSigner',
                   dpopKeyProvider='StaticDPoPKeyProvider',
-                  securityProfile='FAPI2SP_PRIVATE_KEY_DPOP'
+                  securityProfile='FAPI2SP_PRIVATE_KEY_DPOP',
+                  jcaProviders='{}',
+                  routeCache='RouteCache',
+                  jsonProvider='BuiltInJsonProvider',
+                  clock='CoarseClock',
+                  expirationThresholdPolicy='FixedExpirationThresholdPolicy',
+                  tokenRequestRateLimiter='TokenRequestRateLimiter'
                 }""";
             assertEquals(normalizeEOL(expected), normalizeEOL(actual));
         } finally {
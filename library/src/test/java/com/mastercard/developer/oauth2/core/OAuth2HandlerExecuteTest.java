@@ -13,16 +13,34 @@ import com.mastercard.developer.oauth2.config.OAuth2Config;
 import com.mastercard.developer.oauth2.core.access_token.AccessToken;
 import com.mastercard.developer.oauth2.core.access_token.AccessTokenFilter;
 import com.mastercard.developer.oauth2.core.access_token.AccessTokenStore;
+import com.mastercard.developer.oauth2.core.access_token.ExpirationThresholdPolicy;
 import com.mastercard.developer.oauth2.core.dpop.DPoPKeyProvider;
+import com.mastercard.developer.oauth2.core.rate_limit.TokenRequestRateLimiter;
+import com.mastercard.developer.oauth2.core.route.RouteCache;
 import com.mastercard.developer.oauth2.core.scope.ScopeResolver;
+import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
+import com.mastercard.developer.oauth2.http.AsyncHttpAdapter;
+import com.mastercard.developer.oauth2.http.ConnectionWarmUp;
 import com.mastercard.developer.oauth2.http.HttpAdapter;
 import com.mastercard.developer.oauth2.http.HttpHeaders;
+import com.mastercard.developer.oauth2.internal.json.GsonJsonProvider;
+import com.mastercard.developer.oauth2.json.JsonProvider;
 import com.mastercard.developer.oauth2.test.fixtures.BaseTest;
+import com.mastercard.developer.oauth2.test.fixtures.TestClock;
 import com.nimbusds.jwt.SignedJWT;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,13 +51,18 @@ import org.mockito.MockitoAnnotations;
 import org.slf4j.LoggerFactory;
 
 /**
- * Tests for the {@link OAuth2Handler} execute method.
+ * Tests for the {@link OAuth2Handler} execute methods.
  */
 @SuppressWarnings("OptionalGetWithoutIsPresent") // Simpler assertions
 class OAuth2HandlerExecuteTest extends BaseTest {
 
+    /**
+     * An adapter with both blocking and non-blocking sends, for the same stubs to serve both execute methods.
+     */
+    interface SyncAndAsyncHttpAdapter<Request, Response> extends HttpAdapter<Request, Response>, AsyncHttpAdapter<Request, Response> {}
+
     @Mock
-    private HttpAdapter<String, String> adapter;
+    private SyncAndAsyncHttpAdapter<String, String> adapter;
 
     @Mock
     private AccessTokenStore tokenStore;
@@ -86,6 +109,7 @@ class OAuth2HandlerExecuteTest extends BaseTest {
             .thenReturn(Optional.of(sampleAccessTokenResponse));
         when(adapter.getStatusCode(tokenResponseObject)).thenReturn(400).thenReturn(200);
         when(adapter.getHeader(tokenResponseObject, DPOP_NONCE.value())).thenReturn(Optional.of(authorizationServerNonce)).thenReturn(Optional.empty());
+        when(adapter.peekBody(any(), anyInt())).thenCallRealMethod(); // Peeks through readBody
         when(adapter.sendResourceRequest(eq(requestObject), any())).thenReturn(responseObject);
         when(adapter.readBody(responseObject)).thenReturn(Optional.empty()).thenReturn(Optional.of("{\"success\":\"true\"}"));
         when(adapter.getStatusCode(responseObject)).thenReturn(401).thenReturn(201);
@@ -133,6 +157,24 @@ class OAuth2HandlerExecuteTest extends BaseTest {
         verify(adapter, times(2)).sendResourceRequest(eq(requestObject), any(HttpHeaders.class));
     }
 
+    @Test
+    void execute_ShouldReuseCachedRoute_WhenSameRouteExecutedAgain() throws Exception {
+        // GIVEN
+        var accessToken = new AccessToken(sampleClientId, sampleScopes, sampleFutureInstant, sampleJkt, sampleAccessToken);
+        when(tokenStore.get(AccessTokenFilter.byJktAndScopes(sampleJkt, sampleScopes))).thenReturn(Optional.of(accessToken));
+        config = sampleConfigBuilder.routeCache(new RouteCache()).build();
+        var handler = new OAuth2Handler(config);
+
+        // WHEN
+        handler.execute(requestObject, adapter);
+        handler.execute(requestObject, adapter);
+
+        // THEN
+        verify(scopeResolver, times(1)).resolve(anyString(), any(URL.class));
+        verify(adapter, times(2)).getUrl(requestObject);
+        assertEquals(1, config.getRouteCache().getStats().hits());
+    }
+
     @Test
     void execute_ShouldReturnErrorResponse_WhenAuthorizationServerError() throws Exception {
         // GIVEN
@@ -196,12 +238,8 @@ class OAuth2HandlerExecuteTest extends BaseTest {
 
         // THEN
         assertEquals(responseObject, response);
-        assertNotNull(
-            listAppender.list
-                .stream()
-                .filter(e -> e.getLevel() == Level.DEBUG && "API call successful (HTTP 201), body: {\"success\":\"true\"}".equals(e.getFormattedMessage()))
-                .findFirst()
-        );
+        assertTrue(listAppender.list.stream().anyMatch(e -> e.getLevel() == Level.DEBUG && "API call successful (HTTP 201)".equals(e.getFormattedMessage())));
+        verify(adapter, never()).readBody(responseObject); // Successful response bodies are left for the caller
 
         // Verify authorization server was called, request headers and DPoP nonces
         var tokenRequestBodyCaptor = ArgumentCaptor.forClass(String.class);
@@ -233,6 +271,7 @@ class OAuth2HandlerExecuteTest extends BaseTest {
         var resourceRequestHeaders = resourceRequestHeadersCaptor.getAllValues();
         verifyResourceRequestHeaders(resourceRequestHeaders.get(0), authorizationServerNonce);
         verifyResourceRequestHeaders(resourceRequestHeaders.get(1), resourceServerNonce);
+        verify(adapter, never()).peekBody(eq(responseObject), anyInt()); // `use_dpop_nonce` found in WWW-Authenticate
 
         // Verify token store was called
         var filter = AccessTokenFilter.byJktAndScopes(sampleJkt, sampleScopes);
@@ -254,6 +293,422 @@ class OAuth2HandlerExecuteTest extends BaseTest {
         verifyNoMoreInteractions(scopeResolver, tokenStore, dpopKeyProvider);
     }
 
+    @Test
+    void execute_ShouldReadAccessTokenResponse_WithConfiguredJsonProvider() throws Exception {
+        // GIVEN
+        JsonProvider jsonProvider = spy(new GsonJsonProvider());
+        config = sampleConfigBuilder.accessTokenStore(tokenStore).dpopKeyProvider(dpopKeyProvider).scopeResolver(scopeResolver).jsonProvider(jsonProvider).build();
+
+        // WHEN
+        new OAuth2Handler(config).execute(requestObject, adapter);
+
+        // THEN
+        verify(jsonProvider).parse(sampleAccessTokenResponse);
+        var accessTokenCaptor = ArgumentCaptor.forClass(AccessToken.class);
+        verify(tokenStore).put(accessTokenCaptor.capture());
+        assertEquals(sampleAccessToken, accessTokenCaptor.getValue().tokenValue());
+        assertEquals(sampleScopes, accessTokenCaptor.getValue().scopes());
+    }
+
+    @Test
+    void execute_ShouldRecordTokenRequestLatencies_WithConfiguredPolicy() throws Exception {
+        // GIVEN
+        ExpirationThresholdPolicy policy = mock(ExpirationThresholdPolicy.class);
+        config = sampleConfigBuilder.accessTokenStore(tokenStore).dpopKeyProvider(dpopKeyProvider).scopeResolver(scopeResolver).expirationThresholdPolicy(policy).build();
+
+        // WHEN
+        new OAuth2Handler(config).execute(requestObject, adapter);
+
+        // THEN: one request rejected for a missing nonce, then one successful request
+        var latencyCaptor = ArgumentCaptor.forClass(Duration.class);
+        verify(policy, times(2)).recordTokenRequest(latencyCaptor.capture());
+        assertTrue(latencyCaptor.getAllValues().stream().noneMatch(Duration::isNegative));
+    }
+
+    @Test
+    void execute_ShouldDelayTokenRequests_WhenRateLimitReached() throws Exception {
+        // GIVEN: a limiter allowing one request every 200 ms, timed with a frozen clock
+        var limiter = new TokenRequestRateLimiter(5, 1, new TestClock(Instant.now()));
+        config = sampleConfigBuilder.accessTokenStore(tokenStore).dpopKeyProvider(dpopKeyProvider).scopeResolver(scopeResolver).tokenRequestRateLimiter(limiter).build();
+
+        // WHEN
+        long start = System.nanoTime();
+        new OAuth2Handler(config).execute(requestObject, adapter);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // THEN: the token request retried with a nonce waited for a permit
+        verify(adapter, times(2)).sendAccessTokenRequest(eq(requestObject), any(), anyString(), any());
+        assertTrue(elapsedMillis >= 200, "Elapsed: " + elapsedMillis);
+        assertEquals(Duration.ofMillis(400), limiter.reserve());
+    }
+
+    @Test
+    void execute_ShouldUseCoveringAccessToken_WhenRateLimitReached() throws Exception {
+        // GIVEN: no permit left, and a stored token with broader scopes
+        var limiter = new TokenRequestRateLimiter(1, 1, new TestClock(Instant.now()));
+        limiter.reserve();
+        config = sampleConfigBuilder.accessTokenStore(tokenStore).dpopKeyProvider(dpopKeyProvider).scopeResolver(scopeResolver).tokenRequestRateLimiter(limiter).build();
+        var broaderScopes = new HashSet<>(sampleScopes);
+        broaderScopes.add("service:scope3");
+        var broaderToken = new AccessToken(sampleClientId, broaderScopes, sampleFutureInstant, sampleJkt, sampleAccessToken);
+        when(tokenStore.getCovering(AccessTokenFilter.byJktAndScopes(sampleJkt, sampleScopes))).thenReturn(Optional.of(broaderToken));
+
+        // WHEN
+        String response = new OAuth2Handler(config).execute(requestObject, adapter);
+
+        // THEN
+        assertEquals(responseObject, response);
+        verify(adapter, never()).sendAccessTokenRequest(any(), any(), any(), any());
+        verify(tokenStore, never()).put(any());
+        assertEquals(Duration.ofSeconds(1), limiter.reserve()); // No permit taken
+    }
+
+    @Test
+    void execute_ShouldThrowException_WhenRateLimitReachedAndQueueIsFull() throws Exception {
+        // GIVEN: no permit left, no room in the queue and no covering token
+        var limiter = new TokenRequestRateLimiter(1, 1, 0, null, new TestClock(Instant.now()));
+        limiter.reserve();
+        config = sampleConfigBuilder.accessTokenStore(tokenStore).dpopKeyProvider(dpopKeyProvider).scopeResolver(scopeResolver).tokenRequestRateLimiter(limiter).build();
+        var handler = new OAuth2Handler(config);
+
+        // WHEN
+        var ex = assertThrows(OAuth2ClientException.class, () -> handler.execute(requestObject, adapter));
+
+        // THEN
+        assertEquals("Token request rate limit exceeded: POST " + sampleTokenEndpoint, ex.getMessage());
+        verify(tokenStore).getCovering(AccessTokenFilter.byJktAndScopes(sampleJkt, sampleScopes));
+        verify(adapter, never()).sendAccessTokenRequest(any(), any(), any(), any());
+    }
+
+    @Test
+    void executeAsync_ShouldFail_WhenRateLimitReachedAndQueueIsFull() throws Exception {
+        // GIVEN
+        var limiter = new TokenRequestRateLimiter(1, 1, 0, null, new TestClock(Instant.now()));
+        limiter.reserve();
+        config = sampleConfigBuilder.accessTokenStore(tokenStore).dpopKeyProvider(dpopKeyProvider).scopeResolver(scopeResolver).tokenRequestRateLimiter(limiter).build();
+
+        // WHEN
+        CompletableFuture<String> future = new OAuth2Handler(config).executeAsync(requestObject, adapter);
+
+        // THEN
+        var ex = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(OAuth2ClientException.class, ex.getCause());
+        verify(adapter, never()).sendAccessTokenRequestAsync(any(), any(), any(), any());
+    }
+
+    @Test
+    void execute_ShouldThrowException_WhenRateLimitReachedAtNonceRetry() throws Exception {
+        // GIVEN: one permit for the first token request, and no room in the queue for its `use_dpop_nonce` retry
+        var limiter = new TokenRequestRateLimiter(1, 1, 0, null, new TestClock(Instant.now()));
+        config = sampleConfigBuilder.accessTokenStore(tokenStore).dpopKeyProvider(dpopKeyProvider).scopeResolver(scopeResolver).tokenRequestRateLimiter(limiter).build();
+        var handler = new OAuth2Handler(config);
+
+        // WHEN
+        var ex = assertThrows(OAuth2ClientException.class, () -> handler.execute(requestObject, adapter));
+
+        // THEN
+        assertEquals("Token request rate limit exceeded: POST " + sampleTokenEndpoint, ex.getMessage());
+        verify(adapter, times(1)).sendAccessTokenRequest(any(), any(), any(), any());
+        verify(adapter).close("token-response-object");
+        verify(adapter, never()).sendResourceRequest(any(), any());
+    }
+
+    @Test
+    void executeAsync_ShouldFail_WhenRateLimitReachedAtNonceRetry() throws Exception {
+        // GIVEN
+        var limiter = new TokenRequestRateLimiter(1, 1, 0, null, new TestClock(Instant.now()));
+        config = sampleConfigBuilder.accessTokenStore(tokenStore).dpopKeyProvider(dpopKeyProvider).scopeResolver(scopeResolver).tokenRequestRateLimiter(limiter).build();
+        when(adapter.sendAccessTokenRequestAsync(eq(requestObject), eq(sampleTokenEndpoint), anyString(), any())).thenReturn(
+            CompletableFuture.completedFuture("token-response-object")
+        );
+
+        // WHEN
+        CompletableFuture<String> future = new OAuth2Handler(config).executeAsync(requestObject, adapter);
+
+        // THEN
+        var ex = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(OAuth2ClientException.class, ex.getCause());
+        assertEquals("Token request rate limit exceeded: POST " + sampleTokenEndpoint, ex.getCause().getMessage());
+        verify(adapter, times(1)).sendAccessTokenRequestAsync(any(), any(), any(), any());
+        verify(adapter, never()).sendResourceRequestAsync(any(), any());
+    }
+
+    @Test
+    void executeAll_ShouldUseOneAccessTokenPerScopeSet_AndReturnResponsesInOrder() throws Exception {
+        // GIVEN
+        var otherUrl = URI.create("http://localhost:63972/api/resources/2").toURL();
+        var otherScopes = Set.of("service:scope3");
+        for (var i = 2; i <= 3; i++) {
+            when(adapter.getUrl("request-" + i)).thenReturn(otherUrl);
+            when(adapter.getMethod("request-" + i)).thenReturn("POST");
+            when(adapter.sendResourceRequest(eq("request-" + i), any())).thenReturn("response-" + i);
+            when(adapter.getStatusCode("response-" + i)).thenReturn(200);
+            when(adapter.readBody("response-" + i)).thenReturn(Optional.empty());
+            when(adapter.getHeader(eq("response-" + i), anyString())).thenReturn(Optional.empty());
+        }
+        when(scopeResolver.resolve("POST", otherUrl)).thenReturn(otherScopes);
+        when(adapter.sendAccessTokenRequest(eq("request-2"), eq(sampleTokenEndpoint), anyString(), any())).thenReturn("token-response-object");
+
+        config = sampleConfigBuilder.routeCache(new RouteCache()).build();
+
+        // WHEN
+        var handler = new OAuth2Handler(config);
+        var responses = handler.executeAll(List.of(requestObject, "request-2", "request-3"), adapter);
+
+        // THEN
+        assertEquals(List.of(responseObject, "response-2", "response-3"), responses);
+
+        // Verify scopes were resolved once per route, and a token was requested for each set of scopes
+        verify(scopeResolver).resolve(sampleResourceMethod, URI.create(sampleResourceUrl).toURL());
+        verify(scopeResolver).resolve("POST", otherUrl);
+        verify(tokenStore).get(AccessTokenFilter.byJktAndScopes(sampleJkt, sampleScopes));
+        verify(tokenStore).get(AccessTokenFilter.byJktAndScopes(sampleJkt, otherScopes));
+        var tokenRequestBodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(adapter, times(2)).sendAccessTokenRequest(eq(requestObject), eq(sampleTokenEndpoint), tokenRequestBodyCaptor.capture(), any());
+        verify(adapter).sendAccessTokenRequest(eq("request-2"), eq(sampleTokenEndpoint), tokenRequestBodyCaptor.capture(), any());
+        List<String> tokenRequestBodies = tokenRequestBodyCaptor.getAllValues();
+        assertTrue(tokenRequestBodies.get(1).contains("scope=service%3Ascope1+service%3Ascope2&"));
+        assertTrue(tokenRequestBodies.get(2).contains("scope=service%3Ascope3&"));
+
+        // Verify each request got its own DPoP proof bound to its URL
+        var resourceRequestHeadersCaptor = ArgumentCaptor.forClass(HttpHeaders.class);
+        verify(adapter).sendResourceRequest(eq("request-2"), resourceRequestHeadersCaptor.capture());
+        verify(adapter).sendResourceRequest(eq("request-3"), resourceRequestHeadersCaptor.capture());
+        var proofs = resourceRequestHeadersCaptor.getAllValues().stream().map(headers -> headers.get(DPOP.value()).get()).toList();
+        assertNotEquals(proofs.get(0), proofs.get(1));
+        for (String proof : proofs) {
+            var claims = SignedJWT.parse(proof).getJWTClaimsSet();
+            assertEquals("POST", claims.getClaim("htm"));
+            assertEquals(otherUrl.toString(), claims.getClaim("htu"));
+            assertEquals(authorizationServerNonce, claims.getClaim("nonce"));
+        }
+        verify(adapter, times(2)).sendResourceRequest(eq(requestObject), any());
+    }
+
+    @Test
+    void executeAll_ShouldCloseResponses_WhenRequestsFail() throws Exception {
+        // GIVEN
+        var accessToken = new AccessToken(sampleClientId, sampleScopes, sampleFutureInstant, sampleJkt, sampleAccessToken);
+        when(tokenStore.get(AccessTokenFilter.byJktAndScopes(sampleJkt, sampleScopes))).thenReturn(Optional.of(accessToken));
+        for (var i = 2; i <= 4; i++) {
+            when(adapter.getUrl("request-" + i)).thenReturn(URI.create(sampleResourceUrl).toURL());
+            when(adapter.getMethod("request-" + i)).thenReturn(sampleResourceMethod);
+        }
+        when(adapter.sendResourceRequest(eq("request-2"), any())).thenThrow(new IOException("Connection reset"));
+        when(adapter.sendResourceRequest(eq("request-3"), any())).thenReturn("response-3");
+        when(adapter.getStatusCode("response-3")).thenReturn(200);
+        when(adapter.getHeader(eq("response-3"), anyString())).thenReturn(Optional.empty());
+        when(adapter.sendResourceRequest(eq("request-4"), any())).thenThrow(new IOException("Read timed out"));
+        var handler = new OAuth2Handler(config);
+        var requests = List.of("request-2", "request-3", "request-4");
+
+        // WHEN
+        var exception = assertThrows(IOException.class, () -> handler.executeAll(requests, adapter));
+
+        // THEN: the first failure is thrown with the other one suppressed, and the successful response is closed
+        assertEquals("Connection reset", exception.getMessage());
+        assertEquals(1, exception.getSuppressed().length);
+        assertEquals("Read timed out", exception.getSuppressed()[0].getMessage());
+        verify(adapter).sendResourceRequest(eq("request-4"), any());
+        verify(adapter).close("response-3");
+    }
+
+    @Test
+    void executeAll_ShouldThrowException_WhenAuthorizationServerError() throws Exception {
+        // GIVEN
+        var errorResponseObject = "token-error-response";
+        when(adapter.sendAccessTokenRequest(eq(requestObject), any(URL.class), anyString(), any(HttpHeaders.class))).thenReturn(errorResponseObject);
+        when(adapter.getStatusCode(errorResponseObject)).thenReturn(500);
+        when(adapter.readBody(errorResponseObject)).thenReturn(Optional.of("{\"error\":\"internal_error\"}"));
+        var handler = new OAuth2Handler(config);
+        var requests = List.of(requestObject, requestObject);
+
+        // WHEN
+        var exception = assertThrows(OAuth2ClientException.class, () -> handler.executeAll(requests, adapter));
+
+        // THEN
+        assertEquals("Access token request failed (HTTP 500)", exception.getMessage());
+        verify(adapter).close(errorResponseObject);
+        verify(adapter, never()).sendResourceRequest(any(), any());
+    }
+
+    @Test
+    void executeAll_ShouldReturnEmptyList_WhenNoRequests() throws Exception {
+        // WHEN
+        var handler = new OAuth2Handler(config);
+        var responses = handler.executeAll(List.<String>of(), adapter);
+
+        // THEN
+        assertTrue(responses.isEmpty());
+        verifyNoInteractions(adapter, scopeResolver, tokenStore);
+    }
+
+    @Test
+    void executeAsync_ShouldExecuteEntireFlow() throws Exception {
+        // GIVEN
+        when(adapter.sendAccessTokenRequestAsync(eq(requestObject), eq(sampleTokenEndpoint), anyString(), any())).thenReturn(
+            CompletableFuture.completedFuture("token-response-object")
+        );
+        when(adapter.sendResourceRequestAsync(eq(requestObject), any())).thenReturn(CompletableFuture.completedFuture(responseObject));
+
+        // WHEN
+        var handler = new OAuth2Handler(config);
+        var response = handler.executeAsync(requestObject, adapter).join();
+
+        // THEN
+        assertEquals(responseObject, response);
+
+        // Verify both `use_dpop_nonce` retries were composed, with the expected DPoP nonces
+        var tokenRequestHeadersCaptor = ArgumentCaptor.forClass(HttpHeaders.class);
+        verify(adapter, times(2)).sendAccessTokenRequestAsync(eq(requestObject), eq(sampleTokenEndpoint), anyString(), tokenRequestHeadersCaptor.capture());
+        verifyTokenRequestHeaders(tokenRequestHeadersCaptor.getAllValues().get(0), null);
+        verifyTokenRequestHeaders(tokenRequestHeadersCaptor.getAllValues().get(1), authorizationServerNonce);
+        var resourceRequestHeadersCaptor = ArgumentCaptor.forClass(HttpHeaders.class);
+        verify(adapter, times(2)).sendResourceRequestAsync(eq(requestObject), resourceRequestHeadersCaptor.capture());
+        verifyResourceRequestHeaders(resourceRequestHeadersCaptor.getAllValues().get(0), authorizationServerNonce);
+        verifyResourceRequestHeaders(resourceRequestHeadersCaptor.getAllValues().get(1), resourceServerNonce);
+
+        // Verify blocking methods were not used
+        verify(adapter, never()).sendAccessTokenRequest(any(), any(), any(), any());
+        verify(adapter, never()).sendResourceRequest(any(), any());
+        verify(tokenStore).put(any(AccessToken.class));
+    }
+
+    @Test
+    void executeAsync_ShouldReturnErrorResponse_WhenAuthorizationServerError() throws Exception {
+        // GIVEN
+        var errorResponseObject = "token-error-response";
+        when(adapter.sendAccessTokenRequestAsync(eq(requestObject), any(URL.class), anyString(), any(HttpHeaders.class))).thenReturn(
+            CompletableFuture.completedFuture(errorResponseObject)
+        );
+        when(adapter.getStatusCode(errorResponseObject)).thenReturn(500);
+        when(adapter.readBody(errorResponseObject)).thenReturn(Optional.of("{\"error\":\"internal_error\"}"));
+
+        // WHEN
+        var handler = new OAuth2Handler(config);
+        var response = handler.executeAsync(requestObject, adapter).join();
+
+        // THEN
+        assertEquals(errorResponseObject, response);
+        verify(adapter, never()).sendResourceRequestAsync(any(), any());
+    }
+
+    @Test
+    void executeAsync_ShouldCancelExchangeInFlight_WhenFutureCancelled() throws Exception {
+        // GIVEN
+        var tokenExchange = new CompletableFuture<String>();
+        when(adapter.sendAccessTokenRequestAsync(eq(requestObject), any(URL.class), anyString(), any(HttpHeaders.class))).thenReturn(tokenExchange);
+        var future = new OAuth2Handler(config).executeAsync(requestObject, adapter);
+
+        // WHEN
+        future.cancel(false);
+
+        // THEN
+        assertTrue(tokenExchange.isCancelled());
+        verify(adapter, never()).sendResourceRequestAsync(any(), any());
+    }
+
+    @Test
+    void executeAsync_ShouldCloseResponse_WhenReceivedAfterCancellation() throws Exception {
+        // GIVEN: an exchange the client can't abort
+        var tokenExchange = new CompletableFuture<String>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                return false;
+            }
+        };
+        when(adapter.sendAccessTokenRequestAsync(eq(requestObject), any(URL.class), anyString(), any(HttpHeaders.class))).thenReturn(tokenExchange);
+        var future = new OAuth2Handler(config).executeAsync(requestObject, adapter);
+        future.cancel(false);
+
+        // WHEN
+        tokenExchange.complete("late-token-response");
+
+        // THEN
+        verify(adapter).close("late-token-response");
+        verify(adapter, times(1)).sendAccessTokenRequestAsync(any(), any(), any(), any());
+        verify(adapter, never()).sendResourceRequestAsync(any(), any());
+    }
+
+    @Test
+    void executeAsync_ShouldCompleteExceptionally_WhenRequestFails() throws Exception {
+        // GIVEN
+        when(adapter.sendAccessTokenRequestAsync(eq(requestObject), any(URL.class), anyString(), any(HttpHeaders.class))).thenReturn(
+            CompletableFuture.failedFuture(new IOException("Connection refused"))
+        );
+
+        // WHEN
+        var handler = new OAuth2Handler(config);
+        var future = handler.executeAsync(requestObject, adapter);
+
+        // THEN
+        var exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(IOException.class, exception.getCause());
+        verify(adapter, never()).sendResourceRequestAsync(any(), any());
+    }
+
+    @Test
+    void executeAsync_ShouldCompleteExceptionally_WhenUrlInvalid() throws Exception {
+        // GIVEN
+        when(adapter.getUrl(requestObject)).thenThrow(new IllegalArgumentException("Invalid URL"));
+
+        // WHEN
+        var handler = new OAuth2Handler(config);
+        var future = handler.executeAsync(requestObject, adapter);
+
+        // THEN
+        var exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        verifyNoInteractions(tokenStore);
+    }
+
+    @Test
+    void warmUp_ShouldReturnTrue_WhenConnectionOpened() throws Exception {
+        // GIVEN
+        var warmUp = mock(ConnectionWarmUp.class);
+
+        // WHEN
+        var handler = new OAuth2Handler(config);
+        boolean warmedUp = handler.warmUp(warmUp, Duration.ofSeconds(5));
+
+        // THEN
+        assertTrue(warmedUp);
+        verify(warmUp).warmUp(sampleTokenEndpoint, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void warmUp_ShouldReturnFalse_WhenDeadlineReached() throws Exception {
+        // GIVEN
+        var warmUp = mock(ConnectionWarmUp.class);
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(10, TimeUnit.SECONDS)).when(warmUp).warmUp(any(URL.class), any(Duration.class));
+
+        // WHEN
+        var handler = new OAuth2Handler(config);
+        long start = System.nanoTime();
+        boolean warmedUp = handler.warmUp(warmUp, Duration.ofMillis(100));
+
+        // THEN
+        assertFalse(warmedUp);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+        release.countDown();
+    }
+
+    @Test
+    void warmUp_ShouldReturnFalse_WhenConnectionFails() throws Exception {
+        // GIVEN
+        var warmUp = mock(ConnectionWarmUp.class);
+        doThrow(new IOException("Connection refused")).when(warmUp).warmUp(any(URL.class), any(Duration.class));
+
+        // WHEN
+        var handler = new OAuth2Handler(config);
+        boolean warmedUp = handler.warmUp(warmUp, Duration.ofSeconds(5));
+
+        // THEN
+        assertFalse(warmedUp);
+        assertTrue(listAppender.list.stream().anyMatch(e -> e.getLevel() == Level.WARN && e.getFormattedMessage().contains("Connection refused")));
+    }
+
     private static void verifyTokenRequestHeaders(HttpHeaders headers, String expectedNonce) throws Exception {
         assertEquals(sampleUserAgent, headers.get(USER_AGENT.value()).get());
         assertEquals(expectedNonce, SignedJWT.parse(headers.get(DPOP.value()).get()).getJWTClaimsSet().getClaim("nonce"));
@@ -6,15 +6,20 @@ import static org.skyscreamer.jsonassert.JSONAssert.*;
 import com.mastercard.developer.oauth2.config.OAuth2Config;
 import com.mastercard.developer.oauth2.core.OAuth2Handler.AccessTokenResponse;
 import com.mastercard.developer.oauth2.core.dpop.StaticDPoPKeyProvider;
+import com.mastercard.developer.oauth2.core.signing.JwsAlgorithm;
 import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
-import com.mastercard.developer.oauth2.internal.json.exception.OAuth2ClientJsonException;
+import com.mastercard.developer.oauth2.json.exception.OAuth2ClientJsonException;
 import com.mastercard.developer.oauth2.test.fixtures.BaseTest;
 import com.mastercard.developer.oauth2.test.fixtures.StaticKeys;
+import com.mastercard.developer.oauth2.test.fixtures.TestClock;
 import com.mastercard.developer.oauth2.test.helpers.JwsUtils;
+import com.mastercard.developer.oauth2.test.mocks.FakeRemoteJwsSigner;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import java.net.URI;
+import java.security.NoSuchAlgorithmException;
+import java.security.Security;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
@@ -76,6 +81,47 @@ class OAuth2HandlerStaticTest extends BaseTest {
         assertDateCloseFrom(nbf, Instant.now().minusSeconds(sampleClockSkewTolerance.getSeconds()));
     }
 
+    @Test
+    void createClientAssertion_ShouldUseConfiguredClock() throws Exception {
+        // GIVEN
+        var clock = new TestClock(Instant.parse("2025-10-10T12:00:00Z"));
+        OAuth2Config config = sampleConfigBuilder.clock(clock).build();
+
+        // WHEN
+        String clientAssertion = OAuth2Handler.createClientAssertion(config);
+
+        // THEN
+        JWTClaimsSet jwtClaimsSet = SignedJWT.parse(clientAssertion).getJWTClaimsSet();
+        assertEquals(Date.from(Instant.parse("2025-10-10T12:00:00Z")), jwtClaimsSet.getIssueTime());
+        assertEquals(Date.from(Instant.parse("2025-10-10T12:01:35Z")), jwtClaimsSet.getExpirationTime());
+        assertEquals(Date.from(Instant.parse("2025-10-10T11:59:55Z")), jwtClaimsSet.getNotBeforeTime());
+    }
+
+    @Test
+    void createClientAssertion_ShouldUseConfiguredSigner() throws Exception {
+        try (var signer = new FakeRemoteJwsSigner(StaticKeys.EC_KEY_PAIR.getPrivate(), JwsAlgorithm.ES256)) {
+            // WHEN
+            OAuth2Config config = sampleConfigBuilder.clientKey(null).clientSigner(signer).build();
+            String clientAssertion = OAuth2Handler.createClientAssertion(config);
+
+            // THEN
+            assertEquals(1, signer.getSignatureCount());
+            var jwt = SignedJWT.parse(clientAssertion);
+            assertEquals("ES256", jwt.getHeader().getAlgorithm().getName());
+            JwsUtils.checkSignatureValid(jwt, StaticKeys.EC_KEY_PAIR.getPublic());
+        }
+    }
+
+    @Test
+    void createTokenRequestDPoP_ShouldSignWithSelectedProvider() throws Exception {
+        // GIVEN: a provider unable to sign ES256
+        OAuth2Config config = sampleConfigBuilder.jcaProvider(JwsAlgorithm.ES256, Security.getProvider("SunRsaSign")).build();
+
+        // WHEN / THEN
+        var ex = assertThrows(OAuth2ClientException.class, () -> OAuth2Handler.createTokenRequestDPoP(config, sampleDpopKid, sampleNonce));
+        assertInstanceOf(NoSuchAlgorithmException.class, ex.getCause());
+    }
+
     @Test
     void createTokenRequestDPoP_ShouldCreateValidSignature_WhenRsaKey() throws Exception {
         // WHEN
@@ -102,6 +148,21 @@ class OAuth2HandlerStaticTest extends BaseTest {
         JwsUtils.checkSignatureValid(jwt);
     }
 
+    @Test
+    void createTokenRequestDPoP_ShouldUseConfiguredClock() throws Exception {
+        // GIVEN
+        var clock = new TestClock(Instant.parse("2025-10-10T12:00:00Z"));
+        OAuth2Config config = sampleConfigBuilder.clock(clock).build();
+
+        // WHEN
+        String dpopProof = OAuth2Handler.createTokenRequestDPoP(config, sampleDpopKid, sampleNonce);
+
+        // THEN
+        JWTClaimsSet jwtClaimsSet = SignedJWT.parse(dpopProof).getJWTClaimsSet();
+        assertEquals(Date.from(Instant.parse("2025-10-10T12:00:00Z")), jwtClaimsSet.getIssueTime());
+        assertEquals(Date.from(Instant.parse("2025-10-10T12:01:35Z")), jwtClaimsSet.getExpirationTime());
+    }
+
     @Test
     void createTokenRequestDPoP_ShouldIncludeExpectedParameters() throws Exception {
         // WHEN
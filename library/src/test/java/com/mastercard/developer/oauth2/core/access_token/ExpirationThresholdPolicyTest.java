@@ -0,0 +1,27 @@
+package com.mastercard.developer.oauth2.core.access_token;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class ExpirationThresholdPolicyTest {
+
+    @Test
+    void fixed_ShouldReturnSameThreshold_WhenLatencyRecorded() {
+        // GIVEN
+        var policy = ExpirationThresholdPolicy.fixed(Duration.ofSeconds(30));
+
+        // WHEN
+        policy.recordTokenRequest(Duration.ofSeconds(10));
+
+        // THEN
+        assertEquals(Duration.ofSeconds(30), policy.getThreshold());
+    }
+
+    @Test
+    void fixed_ShouldThrowException_WhenThresholdIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> ExpirationThresholdPolicy.fixed(null));
+        assertThrows(IllegalArgumentException.class, () -> ExpirationThresholdPolicy.fixed(Duration.ofSeconds(-1)));
+    }
+}
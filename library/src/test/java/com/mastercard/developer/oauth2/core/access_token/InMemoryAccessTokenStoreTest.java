@@ -3,6 +3,8 @@ package com.mastercard.developer.oauth2.core.access_token;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.mastercard.developer.oauth2.test.fixtures.BaseTest;
+import com.mastercard.developer.oauth2.test.fixtures.TestClock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -202,4 +204,121 @@ class InMemoryAccessTokenStoreTest extends BaseTest {
         assertFalse(store.get(AccessTokenFilter.byJktAndScopes(sampleJkt, sampleScopes)).isPresent());
         assertFalse(store.get(AccessTokenFilter.byScopes(sampleScopes)).isPresent());
     }
+
+    @Test
+    void get_ShouldReturnEmpty_WhenClockReachesExpirationThreshold() {
+        // GIVEN
+        var clock = new TestClock(Instant.parse("2025-10-10T12:00:00Z"));
+        var store = new InMemoryAccessTokenStore(clock);
+        var accessToken = new AccessToken(sampleClientId, sampleScopes, Instant.parse("2025-10-10T13:00:00Z"), sampleJkt, sampleAccessToken);
+        store.put(accessToken);
+
+        // WHEN / THEN
+        clock.advance(Duration.ofMinutes(59));
+        assertEquals(accessToken, store.get(AccessTokenFilter.byScopes(sampleScopes)).get());
+        clock.advance(Duration.ofSeconds(1));
+        assertFalse(store.get(AccessTokenFilter.byScopes(sampleScopes)).isPresent());
+    }
+
+    @Test
+    void put_ShouldRemoveTokensExpiredAccordingToClock() {
+        // GIVEN
+        var clock = new TestClock(Instant.parse("2025-10-10T12:00:00Z"));
+        var store = new InMemoryAccessTokenStore(clock);
+        var expiringToken = new AccessToken(sampleClientId, Set.of("service:scope1"), Instant.parse("2025-10-10T12:30:00Z"), sampleJkt, "expiring_token");
+        store.put(expiringToken);
+        clock.advance(Duration.ofHours(1));
+
+        // WHEN
+        store.put(new AccessToken(sampleClientId, Set.of("service:scope2"), Instant.parse("2025-10-10T14:00:00Z"), sampleJkt, "new_token"));
+
+        // THEN
+        clock.advance(Duration.ofHours(-1));
+        assertFalse(store.get(AccessTokenFilter.byScopes(Set.of("service:scope1"))).isPresent());
+    }
+
+    @Test
+    void get_ShouldUseThresholdFromPolicy() {
+        // GIVEN
+        var clock = new TestClock(Instant.parse("2025-10-10T12:00:00Z"));
+        var policy = new LatencyBasedExpirationThresholdPolicy(Duration.ofSeconds(5));
+        var store = new InMemoryAccessTokenStore(clock, policy);
+        var accessToken = new AccessToken(sampleClientId, sampleScopes, Instant.parse("2025-10-10T12:00:10Z"), sampleJkt, sampleAccessToken);
+        store.put(accessToken);
+
+        // WHEN
+        policy.recordTokenRequest(Duration.ofMillis(500));
+
+        // THEN
+        assertEquals(Duration.ofMillis(5500), store.getExpirationThreshold());
+        assertEquals(accessToken, store.get(AccessTokenFilter.byScopes(sampleScopes)).get());
+        clock.advance(Duration.ofSeconds(5));
+        assertFalse(store.get(AccessTokenFilter.byScopes(sampleScopes)).isPresent());
+    }
+
+    @Test
+    void getCovering_ShouldReturnTokenWithBroaderScopes() {
+        // GIVEN
+        var store = new InMemoryAccessTokenStore();
+        var broaderToken = new AccessToken(sampleClientId, Set.of("service:scope1", "service:scope2", "service:scope3"), sampleFutureInstant, sampleJkt, "broader_token");
+        store.put(broaderToken);
+
+        // WHEN / THEN
+        assertFalse(store.get(AccessTokenFilter.byJktAndScopes(sampleJkt, sampleScopes)).isPresent());
+        assertEquals(broaderToken, store.getCovering(AccessTokenFilter.byJktAndScopes(sampleJkt, sampleScopes)).get());
+        assertEquals(broaderToken, store.getCovering(AccessTokenFilter.byScopes(sampleScopes)).get());
+    }
+
+    @Test
+    void getCovering_ShouldPreferExactScopes() {
+        // GIVEN
+        var store = new InMemoryAccessTokenStore();
+        var exactToken = new AccessToken(sampleClientId, sampleScopes, sampleFutureInstant, sampleJkt, "exact_token");
+        store.put(new AccessToken(sampleClientId, Set.of("service:scope1", "service:scope2", "service:scope3"), sampleFutureInstant.plusSeconds(60), sampleJkt, "broader_token"));
+        store.put(exactToken);
+
+        // WHEN / THEN
+        assertEquals(exactToken, store.getCovering(AccessTokenFilter.byJktAndScopes(sampleJkt, sampleScopes)).get());
+    }
+
+    @Test
+    void getCovering_ShouldReturnLatestExpiringToken_WhenSeveralCoverScopes() {
+        // GIVEN
+        var store = new InMemoryAccessTokenStore();
+        var laterToken = new AccessToken(sampleClientId, Set.of("service:scope1", "service:scope3"), sampleFutureInstant.plusSeconds(60), sampleJkt, "later_token");
+        store.put(new AccessToken(sampleClientId, Set.of("service:scope1", "service:scope2"), sampleFutureInstant, sampleJkt, "earlier_token"));
+        store.put(laterToken);
+
+        // WHEN / THEN
+        assertEquals(laterToken, store.getCovering(AccessTokenFilter.byJktAndScopes(sampleJkt, Set.of("service:scope1"))).get());
+    }
+
+    @Test
+    void getCovering_ShouldReturnEmpty_WhenJktMismatchOrTokenExpiring() {
+        // GIVEN
+        var clock = new TestClock(Instant.parse("2025-10-10T12:00:00Z"));
+        var store = new InMemoryAccessTokenStore(clock);
+        var broaderScopes = Set.of("service:scope1", "service:scope2", "service:scope3");
+        store.put(new AccessToken(sampleClientId, broaderScopes, Instant.parse("2025-10-10T13:00:00Z"), "other_jkt", "other_jkt_token"));
+        store.put(new AccessToken(sampleClientId, broaderScopes, Instant.parse("2025-10-10T12:00:30Z"), sampleJkt, "expiring_token"));
+
+        // WHEN / THEN
+        assertFalse(store.getCovering(AccessTokenFilter.byJktAndScopes(sampleJkt, sampleScopes)).isPresent());
+    }
+
+    @Test
+    void getExpirationThreshold_ShouldReturn60Seconds_WhenDefaultPolicy() {
+        assertEquals(Duration.ofSeconds(60), new InMemoryAccessTokenStore().getExpirationThreshold());
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenClockIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new InMemoryAccessTokenStore(null));
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenPolicyIsNull() {
+        var clock = new TestClock(Instant.now());
+        assertThrows(IllegalArgumentException.class, () -> new InMemoryAccessTokenStore(clock, null));
+    }
 }
@@ -0,0 +1,108 @@
+package com.mastercard.developer.oauth2.core.access_token;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class JitteredExpirationThresholdPolicyTest {
+
+    private static final ExpirationThresholdPolicy FIXED_POLICY = ExpirationThresholdPolicy.fixed(Duration.ofSeconds(60));
+    private static final Duration MAX_JITTER = Duration.ofMinutes(5);
+
+    @Test
+    void getJitter_ShouldBeSame_ForSameInstanceAndClient() {
+        // GIVEN
+        var policy1 = new JitteredExpirationThresholdPolicy(FIXED_POLICY, MAX_JITTER, "instance-1", "client");
+        var policy2 = new JitteredExpirationThresholdPolicy(FIXED_POLICY, MAX_JITTER, "instance-1", "client");
+
+        // WHEN / THEN
+        assertEquals(policy1.getJitter(), policy2.getJitter());
+    }
+
+    @Test
+    void getJitter_ShouldBeSpreadWithinMaxJitter_AcrossInstances() {
+        // GIVEN
+        Set<Duration> jitters = new HashSet<>();
+
+        // WHEN
+        for (int i = 0; i < 100; i++) {
+            var policy = new JitteredExpirationThresholdPolicy(FIXED_POLICY, MAX_JITTER, "instance-" + i, "client");
+            Duration jitter = policy.getJitter();
+            assertFalse(jitter.isNegative());
+            assertTrue(jitter.compareTo(MAX_JITTER) < 0);
+            jitters.add(jitter);
+        }
+
+        // THEN
+        assertTrue(jitters.size() > 90, "Jitters aren't spread: " + jitters.size());
+    }
+
+    @Test
+    void getJitter_ShouldDependOnClientId() {
+        // GIVEN
+        var policy1 = new JitteredExpirationThresholdPolicy(FIXED_POLICY, MAX_JITTER, "instance-1", "client-1");
+        var policy2 = new JitteredExpirationThresholdPolicy(FIXED_POLICY, MAX_JITTER, "instance-1", "client-2");
+
+        // WHEN / THEN
+        assertNotEquals(policy1.getJitter(), policy2.getJitter());
+    }
+
+    @Test
+    void getThreshold_ShouldAddJitterToDelegateThreshold() {
+        // GIVEN
+        var delegate = new LatencyBasedExpirationThresholdPolicy(Duration.ofSeconds(5));
+        var policy = new JitteredExpirationThresholdPolicy(delegate, MAX_JITTER, "instance-1", "client");
+        assertEquals(Duration.ofSeconds(60).plus(policy.getJitter()), policy.getThreshold());
+
+        // WHEN
+        policy.recordTokenRequest(Duration.ofSeconds(1));
+
+        // THEN
+        assertEquals(Duration.ofSeconds(6), delegate.getThreshold());
+        assertEquals(Duration.ofSeconds(6).plus(policy.getJitter()), policy.getThreshold());
+    }
+
+    @Test
+    void recordTokenRequest_ShouldDelegate() {
+        // GIVEN
+        var delegate = mock(ExpirationThresholdPolicy.class);
+        var policy = new JitteredExpirationThresholdPolicy(delegate, MAX_JITTER, "instance-1", "client");
+
+        // WHEN
+        policy.recordTokenRequest(Duration.ofMillis(200));
+
+        // THEN
+        verify(delegate).recordTokenRequest(Duration.ofMillis(200));
+    }
+
+    @Test
+    void getJitter_ShouldBeZero_WhenMaxJitterIsZero() {
+        var policy = new JitteredExpirationThresholdPolicy(FIXED_POLICY, Duration.ZERO, "instance-1", "client");
+        assertEquals(Duration.ZERO, policy.getJitter());
+        assertEquals(Duration.ofSeconds(60), policy.getThreshold());
+    }
+
+    @Test
+    void getJitter_ShouldBeWithinMaxJitter_WhenMaxJitterIsBelowOneMillisecond() {
+        var policy = new JitteredExpirationThresholdPolicy(FIXED_POLICY, Duration.ofNanos(500_000), "instance-1", "client");
+        assertFalse(policy.getJitter().isNegative());
+        assertTrue(policy.getJitter().compareTo(Duration.ofNanos(500_000)) < 0);
+    }
+
+    @Test
+    void defaultInstanceId_ShouldNotBeBlank() {
+        assertFalse(JitteredExpirationThresholdPolicy.defaultInstanceId().isBlank());
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new JitteredExpirationThresholdPolicy(null, MAX_JITTER, "instance", "client"));
+        assertThrows(IllegalArgumentException.class, () -> new JitteredExpirationThresholdPolicy(FIXED_POLICY, Duration.ofSeconds(-1), "instance", "client"));
+        assertThrows(IllegalArgumentException.class, () -> new JitteredExpirationThresholdPolicy(FIXED_POLICY, MAX_JITTER, null, "client"));
+        assertThrows(IllegalArgumentException.class, () -> new JitteredExpirationThresholdPolicy(FIXED_POLICY, MAX_JITTER, "instance", null));
+    }
+}
@@ -0,0 +1,69 @@
+package com.mastercard.developer.oauth2.core.access_token;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class LatencyBasedExpirationThresholdPolicyTest {
+
+    @Test
+    void getThreshold_ShouldReturnDefaultThreshold_WhenNoLatencyRecorded() {
+        // GIVEN
+        var policy = new LatencyBasedExpirationThresholdPolicy(Duration.ofSeconds(5));
+
+        // WHEN / THEN
+        assertEquals(Duration.ofSeconds(60), policy.getThreshold());
+    }
+
+    @Test
+    void getThreshold_ShouldReturnP99LatencyPlusClockSkewTolerance() {
+        // GIVEN
+        var policy = new LatencyBasedExpirationThresholdPolicy(Duration.ofSeconds(5));
+
+        // WHEN
+        for (int i = 1; i <= 200; i++) {
+            policy.recordTokenRequest(Duration.ofMillis(i * 10L));
+        }
+
+        // THEN
+        assertEquals(Duration.ofMillis(1980).plusSeconds(5), policy.getThreshold());
+    }
+
+    @Test
+    void getThreshold_ShouldIgnoreOldestLatencies_WhenWindowIsFull() {
+        // GIVEN
+        var policy = new LatencyBasedExpirationThresholdPolicy(Duration.ofSeconds(1), 10);
+        for (int i = 0; i < 10; i++) {
+            policy.recordTokenRequest(Duration.ofSeconds(30));
+        }
+
+        // WHEN
+        for (int i = 0; i < 10; i++) {
+            policy.recordTokenRequest(Duration.ofMillis(200));
+        }
+
+        // THEN
+        assertEquals(Duration.ofMillis(1200), policy.getThreshold());
+    }
+
+    @Test
+    void recordTokenRequest_ShouldIgnoreInvalidLatencies() {
+        // GIVEN
+        var policy = new LatencyBasedExpirationThresholdPolicy(Duration.ofSeconds(5));
+
+        // WHEN
+        policy.recordTokenRequest(null);
+        policy.recordTokenRequest(Duration.ofMillis(-1));
+
+        // THEN
+        assertEquals(Duration.ofSeconds(60), policy.getThreshold());
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyBasedExpirationThresholdPolicy(null));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyBasedExpirationThresholdPolicy(Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyBasedExpirationThresholdPolicy(Duration.ofSeconds(5), 0));
+    }
+}
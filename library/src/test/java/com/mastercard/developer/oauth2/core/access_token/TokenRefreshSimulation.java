@@ -0,0 +1,117 @@
+package com.mastercard.developer.oauth2.core.access_token;
+
+import com.mastercard.developer.oauth2.core.rate_limit.TokenRequestRateLimiter;
+import com.mastercard.developer.oauth2.test.fixtures.TestClock;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Simulates a fleet of instances renewing access tokens against a fake authorization server, and reports the load on
+ * the token endpoint. Instances all start within the same second and get tokens with the same lifetime, which is
+ * the worst case for renewals happening at the same time.
+ * Each instance uses its own {@link InMemoryAccessTokenStore}, {@link JitteredExpirationThresholdPolicy} (when a
+ * maximum jitter is set) and {@link TokenRequestRateLimiter} (when a rate is set), and looks up a token for each of its
+ * scope sets every second. Time is simulated, so hours of traffic are simulated in seconds.
+ */
+final class TokenRefreshSimulation {
+
+    private static final String CLIENT_ID = "simulated_client_id";
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    private TokenRefreshSimulation() {
+        // Static class
+    }
+
+    /**
+     * Parameters of a simulation.
+     *
+     * @param instances                  the number of instances in the fleet
+     * @param tokenLifetime              the lifetime of the tokens issued by the authorization server ("expires_in")
+     * @param maxJitter                  the maximum jitter added to the 60-second expiration threshold, zero for none
+     * @param scopeSetsPerInstance       the number of distinct scope sets each instance needs a token for
+     * @param maxTokenRequestsPerSecond  the token request rate allowed per instance, zero or less for no limit
+     * @param duration                   the simulated time
+     */
+    record Scenario(int instances, Duration tokenLifetime, Duration maxJitter, int scopeSetsPerInstance, double maxTokenRequestsPerSecond, Duration duration) {}
+
+    /**
+     * Load measured on the token endpoint.
+     *
+     * @param totalRequests                 the number of token requests received
+     * @param peakRequestsPerSecond         the highest number of token requests received in one second
+     * @param peakRenewalRequestsPerSecond  the same, only counting requests renewing a previous token (not the initial ones)
+     */
+    record Result(long totalRequests, int peakRequestsPerSecond, int peakRenewalRequestsPerSecond) {}
+
+    /**
+     * Runs the given scenario.
+     */
+    static Result run(Scenario scenario) {
+        if (scenario.instances() <= 0 || scenario.scopeSetsPerInstance() <= 0) {
+            throw new IllegalArgumentException("Instances and scope sets must be positive");
+        }
+        if (scenario.tokenLifetime().compareTo(ExpirationThresholdPolicy.DEFAULT_THRESHOLD.plus(scenario.maxJitter())) <= 0) {
+            throw new IllegalArgumentException("Token lifetime must be longer than the expiration threshold plus the max jitter");
+        }
+        var clock = new TestClock(START);
+        List<Instance> instances = new ArrayList<>();
+        for (int i = 0; i < scenario.instances(); i++) {
+            instances.add(new Instance(scenario, "instance-" + i, clock));
+        }
+        List<AccessTokenFilter> filters = new ArrayList<>();
+        for (int i = 0; i < scenario.scopeSetsPerInstance(); i++) {
+            filters.add(AccessTokenFilter.byScopes(Set.of("simulated:scope" + i)));
+        }
+
+        long totalRequests = 0;
+        int peakRequests = 0;
+        int peakRenewalRequests = 0;
+        long seconds = scenario.duration().toSeconds();
+        for (long second = 0; second < seconds; second++) {
+            int requests = 0;
+            int renewalRequests = 0;
+            for (Instance instance : instances) {
+                for (int i = 0; i < filters.size(); i++) {
+                    AccessTokenFilter filter = filters.get(i);
+                    if (instance.store.get(filter).isPresent() || !instance.limiter.tryAcquire()) {
+                        continue;
+                    }
+                    // Token request to the fake authorization server
+                    requests++;
+                    if (instance.hasRequested[i]) {
+                        renewalRequests++;
+                    }
+                    instance.hasRequested[i] = true;
+                    instance.store.put(new AccessToken(CLIENT_ID, filter.scopes(), clock.instant().plus(scenario.tokenLifetime()), "simulated_access_token"));
+                }
+            }
+            totalRequests += requests;
+            peakRequests = Math.max(peakRequests, requests);
+            peakRenewalRequests = Math.max(peakRenewalRequests, renewalRequests);
+            clock.advance(Duration.ofSeconds(1));
+        }
+        return new Result(totalRequests, peakRequests, peakRenewalRequests);
+    }
+
+    private static final class Instance {
+
+        private final InMemoryAccessTokenStore store;
+        private final TokenRequestRateLimiter limiter;
+        private final boolean[] hasRequested;
+
+        private Instance(Scenario scenario, String instanceId, Clock clock) {
+            ExpirationThresholdPolicy policy = ExpirationThresholdPolicy.fixed(ExpirationThresholdPolicy.DEFAULT_THRESHOLD);
+            if (!scenario.maxJitter().isZero()) {
+                policy = new JitteredExpirationThresholdPolicy(policy, scenario.maxJitter(), instanceId, CLIENT_ID);
+            }
+            double rate = scenario.maxTokenRequestsPerSecond();
+            this.store = new InMemoryAccessTokenStore(clock, policy);
+            this.limiter = rate > 0 ? new TokenRequestRateLimiter(rate, (int) Math.max(1, Math.ceil(rate)), clock) : TokenRequestRateLimiter.unlimited();
+            this.hasRequested = new boolean[scenario.scopeSetsPerInstance()];
+        }
+    }
+}
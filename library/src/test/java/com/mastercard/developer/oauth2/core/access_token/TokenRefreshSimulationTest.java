@@ -0,0 +1,51 @@
+package com.mastercard.developer.oauth2.core.access_token;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mastercard.developer.oauth2.core.access_token.TokenRefreshSimulation.Result;
+import com.mastercard.developer.oauth2.core.access_token.TokenRefreshSimulation.Scenario;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class TokenRefreshSimulationTest {
+
+    private static final Duration TOKEN_LIFETIME = Duration.ofMinutes(15);
+    private static final Duration DURATION = Duration.ofHours(1);
+
+    @Test
+    void run_ShouldReportSynchronizedRenewals_WithoutJitter() {
+        // WHEN
+        Result result = TokenRefreshSimulation.run(new Scenario(200, TOKEN_LIFETIME, Duration.ZERO, 1, 0, DURATION));
+
+        // THEN: every instance renews its token in the same second, every 14 minutes
+        assertEquals(200, result.peakRequestsPerSecond());
+        assertEquals(200, result.peakRenewalRequestsPerSecond());
+        assertEquals(5 * 200, result.totalRequests());
+    }
+
+    @Test
+    void run_ShouldSpreadRenewals_WithJitter() {
+        // WHEN
+        Result result = TokenRefreshSimulation.run(new Scenario(200, TOKEN_LIFETIME, Duration.ofMinutes(5), 1, 0, DURATION));
+
+        // THEN
+        assertEquals(200, result.peakRequestsPerSecond()); // Initial requests
+        assertTrue(result.peakRenewalRequestsPerSecond() <= 10, "Peak renewal QPS: " + result.peakRenewalRequestsPerSecond());
+    }
+
+    @Test
+    void run_ShouldCapRequestsPerInstance_WithRateLimit() {
+        // WHEN
+        Result result = TokenRefreshSimulation.run(new Scenario(50, TOKEN_LIFETIME, Duration.ZERO, 4, 1, DURATION));
+
+        // THEN
+        assertEquals(50, result.peakRequestsPerSecond());
+        assertEquals(50, result.peakRenewalRequestsPerSecond());
+    }
+
+    @Test
+    void run_ShouldThrowException_WhenTokenLifetimeIsTooShort() {
+        var scenario = new Scenario(10, Duration.ofMinutes(5), Duration.ofMinutes(5), 1, 0, DURATION);
+        assertThrows(IllegalArgumentException.class, () -> TokenRefreshSimulation.run(scenario));
+    }
+}
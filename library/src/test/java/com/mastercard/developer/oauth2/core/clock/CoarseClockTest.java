@@ -0,0 +1,116 @@
+package com.mastercard.developer.oauth2.core.clock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mastercard.developer.oauth2.test.fixtures.TestClock;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class CoarseClockTest {
+
+    private static final Duration NO_TICK = Duration.ofDays(1);
+
+    @Test
+    void instant_ShouldReturnSourceTimeTruncatedToSeconds() {
+        // GIVEN
+        var source = new TestClock(Instant.parse("2025-10-10T12:00:00.750Z"));
+
+        // WHEN
+        try (var clock = new CoarseClock(source, NO_TICK)) {
+            // THEN
+            assertEquals(Instant.parse("2025-10-10T12:00:00Z"), clock.instant());
+            assertEquals(Instant.parse("2025-10-10T12:00:00Z").toEpochMilli(), clock.millis());
+        }
+    }
+
+    @Test
+    void tick_ShouldKeepCachedInstant_WhenSameSecond() {
+        // GIVEN
+        var source = new TestClock(Instant.parse("2025-10-10T12:00:00Z"));
+        try (var clock = new CoarseClock(source, NO_TICK)) {
+            Instant before = clock.instant();
+            source.advance(Duration.ofMillis(999));
+
+            // WHEN
+            clock.tick();
+
+            // THEN
+            assertSame(before, clock.instant());
+        }
+    }
+
+    @Test
+    void tick_ShouldUpdateCachedInstant_WhenNewSecond() {
+        // GIVEN
+        var source = new TestClock(Instant.parse("2025-10-10T12:00:00.999Z"));
+        try (var clock = new CoarseClock(source, NO_TICK)) {
+            source.advance(Duration.ofMillis(1));
+
+            // WHEN
+            clock.tick();
+
+            // THEN
+            assertEquals(Instant.parse("2025-10-10T12:00:01Z"), clock.instant());
+        }
+    }
+
+    @Test
+    void instant_ShouldFollowSource_WhenTickerRuns() {
+        // GIVEN
+        var source = new TestClock(Instant.parse("2025-10-10T12:00:00Z"));
+        try (var clock = new CoarseClock(source, Duration.ofMillis(1))) {
+            // WHEN
+            source.advance(Duration.ofHours(1));
+
+            // THEN
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (!clock.instant().equals(Instant.parse("2025-10-10T13:00:00Z")) && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertEquals(Instant.parse("2025-10-10T13:00:00Z"), clock.instant());
+        }
+    }
+
+    @Test
+    void systemUTC_ShouldReturnSharedClockCloseToSystemTime() {
+        // WHEN
+        CoarseClock clock = CoarseClock.systemUTC();
+        clock.close();
+
+        // THEN
+        assertSame(clock, CoarseClock.systemUTC());
+        assertEquals(ZoneOffset.UTC, clock.getZone());
+        long lagSeconds = Instant.now().getEpochSecond() - clock.instant().getEpochSecond();
+        assertTrue(lagSeconds >= 0 && lagSeconds <= 2, "Unexpected lag: " + lagSeconds);
+    }
+
+    @Test
+    void withZone_ShouldReadSameCachedInstant() {
+        // GIVEN
+        var source = new TestClock(Instant.parse("2025-10-10T12:00:00Z"));
+        try (var clock = new CoarseClock(source, NO_TICK)) {
+            var zone = ZoneId.of("Europe/Paris");
+
+            // WHEN
+            Clock zonedClock = clock.withZone(zone);
+
+            // THEN
+            assertEquals(zone, zonedClock.getZone());
+            assertSame(clock.instant(), zonedClock.instant());
+            assertSame(clock, clock.withZone(ZoneOffset.UTC));
+        }
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenInvalidArguments() {
+        var source = Clock.systemUTC();
+        assertThrows(IllegalArgumentException.class, () -> new CoarseClock(null, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new CoarseClock(source, null));
+        assertThrows(IllegalArgumentException.class, () -> new CoarseClock(source, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new CoarseClock(source, Duration.ofSeconds(-1)));
+    }
+}
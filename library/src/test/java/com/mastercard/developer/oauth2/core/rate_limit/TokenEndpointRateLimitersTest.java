@@ -0,0 +1,49 @@
+package com.mastercard.developer.oauth2.core.rate_limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mastercard.developer.oauth2.test.fixtures.TestClock;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class TokenEndpointRateLimitersTest {
+
+    private final TestClock clock = new TestClock(Instant.parse("2025-10-10T12:00:00Z"));
+    private final TokenEndpointRateLimiters limiters = new TokenEndpointRateLimiters(1, 1, 0, Duration.ofSeconds(5), clock);
+
+    @Test
+    void forEndpoint_ShouldReturnSameLimiter_ForSameEndpoint() throws Exception {
+        // GIVEN
+        URL endpoint = URI.create("https://auth.example.com/oauth/token").toURL();
+        URL endpointWithQuery = URI.create("https://auth.example.com/oauth/token?tenant=1").toURL();
+
+        // WHEN / THEN
+        assertSame(limiters.forEndpoint(endpoint), limiters.forEndpoint(endpoint));
+        assertSame(limiters.forEndpoint(endpoint), limiters.forEndpoint(endpointWithQuery));
+    }
+
+    @Test
+    void forEndpoint_ShouldReturnIndependentLimiters_ForDifferentEndpoints() throws Exception {
+        // GIVEN
+        TokenRequestRateLimiter limiter1 = limiters.forEndpoint(URI.create("https://auth1.example.com/oauth/token").toURL());
+        TokenRequestRateLimiter limiter2 = limiters.forEndpoint(URI.create("https://auth2.example.com/oauth/token").toURL());
+
+        // WHEN
+        limiter1.reserve();
+
+        // THEN: limits apply per endpoint
+        assertNotSame(limiter1, limiter2);
+        assertEquals(Optional.empty(), limiter1.tryReserve());
+        assertEquals(Optional.of(Duration.ZERO), limiter2.tryReserve());
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenEndpointRateLimiters(0, 1, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> new TokenEndpointRateLimiters(1, 1, -1, null));
+    }
+}
@@ -0,0 +1,153 @@
+package com.mastercard.developer.oauth2.core.rate_limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mastercard.developer.oauth2.test.fixtures.TestClock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class TokenRequestRateLimiterTest {
+
+    private final TestClock clock = new TestClock(Instant.parse("2025-10-10T12:00:00Z"));
+
+    @Test
+    void reserve_ShouldNotWait_WithinBurst() {
+        // GIVEN
+        var limiter = new TokenRequestRateLimiter(2, 3, clock);
+
+        // WHEN / THEN
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Duration.ZERO, limiter.reserve());
+        }
+    }
+
+    @Test
+    void reserve_ShouldSpreadRequests_WhenBucketIsEmpty() {
+        // GIVEN
+        var limiter = new TokenRequestRateLimiter(2, 1, clock);
+        limiter.reserve();
+
+        // WHEN / THEN
+        assertEquals(Duration.ofMillis(500), limiter.reserve());
+        assertEquals(Duration.ofMillis(1000), limiter.reserve());
+        clock.advance(Duration.ofMillis(250));
+        assertEquals(Duration.ofMillis(1250), limiter.reserve());
+    }
+
+    @Test
+    void reserve_ShouldRefillBucket_UpToBurst() {
+        // GIVEN
+        var limiter = new TokenRequestRateLimiter(1, 2, clock);
+        limiter.reserve();
+        limiter.reserve();
+
+        // WHEN
+        clock.advance(Duration.ofMinutes(1));
+
+        // THEN
+        assertEquals(Duration.ZERO, limiter.reserve());
+        assertEquals(Duration.ZERO, limiter.reserve());
+        assertEquals(Duration.ofSeconds(1), limiter.reserve());
+    }
+
+    @Test
+    void tryAcquire_ShouldReturnFalse_UntilPermitIsAvailable() {
+        // GIVEN
+        var limiter = new TokenRequestRateLimiter(1, 1, clock);
+        assertTrue(limiter.tryAcquire());
+
+        // WHEN / THEN
+        assertFalse(limiter.tryAcquire());
+        clock.advance(Duration.ofMillis(999));
+        assertFalse(limiter.tryAcquire());
+        clock.advance(Duration.ofMillis(1));
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void tryAcquire_ShouldReturnFalse_WhenPermitsAreReserved() {
+        // GIVEN
+        var limiter = new TokenRequestRateLimiter(1, 1, clock);
+        limiter.reserve();
+        limiter.reserve();
+
+        // WHEN
+        clock.advance(Duration.ofSeconds(1));
+
+        // THEN: the permit added meanwhile was already reserved
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    void tryReserve_ShouldRejectRequests_WhenQueueIsFull() {
+        // GIVEN
+        var limiter = new TokenRequestRateLimiter(1, 1, 2, null, clock);
+        assertEquals(Optional.of(Duration.ZERO), limiter.tryReserve());
+
+        // WHEN / THEN
+        assertEquals(Optional.of(Duration.ofSeconds(1)), limiter.tryReserve());
+        assertEquals(Optional.of(Duration.ofSeconds(2)), limiter.tryReserve());
+        assertEquals(Optional.empty(), limiter.tryReserve());
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(Optional.of(Duration.ofSeconds(2)), limiter.tryReserve());
+    }
+
+    @Test
+    void tryReserve_ShouldRejectRequests_WhenWaitExceedsMaxWait() {
+        // GIVEN
+        var limiter = new TokenRequestRateLimiter(10, 1, Integer.MAX_VALUE, Duration.ofMillis(250), clock);
+        limiter.reserve();
+
+        // WHEN / THEN
+        assertEquals(Optional.of(Duration.ofMillis(100)), limiter.tryReserve());
+        assertEquals(Optional.of(Duration.ofMillis(200)), limiter.tryReserve());
+        assertEquals(Optional.empty(), limiter.tryReserve());
+    }
+
+    @Test
+    void tryReserve_ShouldNotTakePermit_WhenRejected() {
+        // GIVEN
+        var limiter = new TokenRequestRateLimiter(1, 1, 0, null, clock);
+        limiter.reserve();
+        assertEquals(Optional.empty(), limiter.tryReserve());
+
+        // WHEN
+        clock.advance(Duration.ofSeconds(1));
+
+        // THEN
+        assertEquals(Optional.of(Duration.ZERO), limiter.tryReserve());
+    }
+
+    @Test
+    void reserve_ShouldIgnoreQueueLimit() {
+        // GIVEN
+        var limiter = new TokenRequestRateLimiter(1, 1, 0, Duration.ZERO, clock);
+        limiter.reserve();
+
+        // WHEN / THEN
+        assertEquals(Duration.ofSeconds(1), limiter.reserve());
+    }
+
+    @Test
+    void unlimited_ShouldNeverWait() {
+        var limiter = TokenRequestRateLimiter.unlimited();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Duration.ZERO, limiter.reserve());
+            assertEquals(Optional.of(Duration.ZERO), limiter.tryReserve());
+            assertTrue(limiter.tryAcquire());
+        }
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenRequestRateLimiter(0));
+        assertThrows(IllegalArgumentException.class, () -> new TokenRequestRateLimiter(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new TokenRequestRateLimiter(Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> new TokenRequestRateLimiter(1, 0, clock));
+        assertThrows(IllegalArgumentException.class, () -> new TokenRequestRateLimiter(1, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> new TokenRequestRateLimiter(1, 1, -1, null, clock));
+        assertThrows(IllegalArgumentException.class, () -> new TokenRequestRateLimiter(1, 1, 1, Duration.ofSeconds(-1), clock));
+    }
+}
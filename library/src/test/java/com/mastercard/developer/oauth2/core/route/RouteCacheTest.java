@@ -0,0 +1,197 @@
+package com.mastercard.developer.oauth2.core.route;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.mastercard.developer.oauth2.core.scope.ScopeResolver;
+import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
+import java.net.URI;
+import java.net.URL;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RouteCacheTest {
+
+    private ScopeResolver scopeResolver;
+
+    @BeforeEach
+    void setUp() {
+        scopeResolver = mock(ScopeResolver.class);
+        when(scopeResolver.resolve(anyString(), any(URL.class))).thenReturn(new LinkedHashSet<>(List.of("service:scope2", "service:scope1")));
+    }
+
+    @Test
+    void get_ShouldReturnNormalizedHtuAndScopes() throws Exception {
+        // GIVEN
+        var cache = new RouteCache();
+        var url = URI.create("https://api.mastercard.com:8443/service/resources/1?param=value#fragment").toURL();
+
+        // WHEN
+        RouteCache.Route route = cache.get("GET", url, scopeResolver);
+
+        // THEN
+        assertEquals("https://api.mastercard.com:8443/service/resources/1", route.htu());
+        assertEquals(List.of("service:scope2", "service:scope1"), List.copyOf(route.scopes()));
+        assertThrows(UnsupportedOperationException.class, () -> route.scopes().add("service:scope3"));
+    }
+
+    @Test
+    void get_ShouldResolveOnce_WhenSameRoute() throws Exception {
+        // GIVEN
+        var cache = new RouteCache();
+
+        // WHEN
+        RouteCache.Route first = cache.get("GET", URI.create("https://api.mastercard.com/resources?page=1").toURL(), scopeResolver);
+        RouteCache.Route second = cache.get("GET", URI.create("https://api.mastercard.com/resources?page=1#top").toURL(), scopeResolver);
+
+        // THEN
+        assertSame(first, second);
+        verify(scopeResolver, times(1)).resolve(anyString(), any(URL.class));
+        assertEquals(new RouteCache.Stats(1, 1, 0, 1), cache.getStats());
+        assertEquals(0.5, cache.getStats().hitRatio());
+    }
+
+    @Test
+    void get_ShouldResolveAgain_WhenQueryDiffers() throws Exception {
+        // GIVEN: a resolver reading the query
+        var cache = new RouteCache();
+        var readUrl = URI.create("https://api.mastercard.com/resources?access=read").toURL();
+        var writeUrl = URI.create("https://api.mastercard.com/resources?access=write").toURL();
+        when(scopeResolver.resolve("GET", readUrl)).thenReturn(Set.of("service:read"));
+        when(scopeResolver.resolve("GET", writeUrl)).thenReturn(Set.of("service:write"));
+
+        // WHEN
+        RouteCache.Route read = cache.get("GET", readUrl, scopeResolver);
+        RouteCache.Route write = cache.get("GET", writeUrl, scopeResolver);
+
+        // THEN
+        assertEquals(Set.of("service:read"), read.scopes());
+        assertEquals(Set.of("service:write"), write.scopes());
+        assertEquals(read.htu(), write.htu());
+    }
+
+    @Test
+    void get_ShouldResolveAgain_WhenScopeResolverDiffers() throws Exception {
+        // GIVEN: a cache shared between configurations
+        var cache = new RouteCache();
+        var url = URI.create("https://api.mastercard.com/resources").toURL();
+        ScopeResolver otherScopeResolver = mock(ScopeResolver.class);
+        when(otherScopeResolver.resolve("GET", url)).thenReturn(Set.of("other:scope"));
+
+        // WHEN
+        RouteCache.Route route = cache.get("GET", url, scopeResolver);
+        RouteCache.Route otherRoute = cache.get("GET", url, otherScopeResolver);
+
+        // THEN
+        assertEquals(Set.of("service:scope1", "service:scope2"), route.scopes());
+        assertEquals(Set.of("other:scope"), otherRoute.scopes());
+        assertSame(otherRoute, cache.get("GET", url, otherScopeResolver));
+    }
+
+    @Test
+    void get_ShouldCacheSeparately_WhenMethodSchemeHostPortOrPathDiffer() throws Exception {
+        // GIVEN
+        var cache = new RouteCache();
+
+        // WHEN
+        cache.get("GET", URI.create("https://api.mastercard.com/resources").toURL(), scopeResolver);
+        cache.get("POST", URI.create("https://api.mastercard.com/resources").toURL(), scopeResolver);
+        cache.get("GET", URI.create("http://api.mastercard.com/resources").toURL(), scopeResolver);
+        cache.get("GET", URI.create("https://sandbox.api.mastercard.com/resources").toURL(), scopeResolver);
+        cache.get("GET", URI.create("https://api.mastercard.com:8443/resources").toURL(), scopeResolver);
+        cache.get("GET", URI.create("https://api.mastercard.com/other").toURL(), scopeResolver);
+
+        // THEN
+        assertEquals(new RouteCache.Stats(0, 6, 0, 6), cache.getStats());
+    }
+
+    @Test
+    void get_ShouldEvictLeastRecentlyUsedRoute_WhenMaxSizeReached() throws Exception {
+        // GIVEN
+        var cache = new RouteCache(2);
+        var url0 = URI.create("https://api.mastercard.com/resources/0").toURL();
+        var url1 = URI.create("https://api.mastercard.com/resources/1").toURL();
+        var url2 = URI.create("https://api.mastercard.com/resources/2").toURL();
+        cache.get("GET", url0, scopeResolver);
+        cache.get("GET", url1, scopeResolver);
+        cache.get("GET", url0, scopeResolver);
+
+        // WHEN
+        RouteCache.Route route = cache.get("GET", url2, scopeResolver);
+
+        // THEN: route 1 was the least recently used
+        assertEquals("https://api.mastercard.com/resources/2", route.htu());
+        assertEquals(new RouteCache.Stats(1, 3, 1, 2), cache.getStats());
+        cache.get("GET", url0, scopeResolver);
+        cache.get("GET", url2, scopeResolver);
+        assertEquals(new RouteCache.Stats(3, 3, 1, 2), cache.getStats());
+        cache.get("GET", url1, scopeResolver);
+        assertEquals(new RouteCache.Stats(3, 4, 2, 2), cache.getStats());
+    }
+
+    @Test
+    void get_ShouldAlwaysResolve_WhenMaxSizeIsZero() throws Exception {
+        // GIVEN
+        var cache = new RouteCache(0);
+        var url = URI.create("https://api.mastercard.com/resources").toURL();
+
+        // WHEN
+        cache.get("GET", url, scopeResolver);
+        cache.get("GET", url, scopeResolver);
+
+        // THEN
+        verify(scopeResolver, times(2)).resolve("GET", url);
+        assertEquals(0, cache.getStats().size());
+    }
+
+    @Test
+    void clear_ShouldRemoveRoutes_AndKeepStats() throws Exception {
+        // GIVEN
+        var cache = new RouteCache();
+        cache.get("GET", URI.create("https://api.mastercard.com/resources").toURL(), scopeResolver);
+
+        // WHEN
+        cache.clear();
+
+        // THEN
+        assertEquals(new RouteCache.Stats(0, 1, 0, 0), cache.getStats());
+    }
+
+    @Test
+    void constructor_ShouldThrowIllegalArgumentException_WhenMaxSizeNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new RouteCache(-1));
+    }
+
+    @Test
+    void hitRatio_ShouldReturnZero_WhenNoLookups() {
+        assertEquals(0, new RouteCache().getStats().hitRatio());
+    }
+
+    @Test
+    void toHtu_ShouldKeepEncodedPath() {
+        assertEquals("https://api.mastercard.com/a%20b", RouteCache.toHtu("https://api.mastercard.com/a%20b?q=1"));
+    }
+
+    @Test
+    void toHtu_ShouldThrowOAuth2ClientException_WhenUrlInvalid() {
+        var ex = assertThrows(OAuth2ClientException.class, () -> RouteCache.toHtu("not a url"));
+        assertEquals("Failed to strip query and fragment parts from URL: not a url", ex.getMessage());
+    }
+
+    @Test
+    void getStats_ShouldReturnSnapshot() throws Exception {
+        // GIVEN
+        var cache = new RouteCache();
+        RouteCache.Stats before = cache.getStats();
+
+        // WHEN
+        cache.get("GET", URI.create("https://api.mastercard.com/resources").toURL(), scopeResolver);
+
+        // THEN
+        assertEquals(new RouteCache.Stats(0, 0, 0, 0), before);
+        assertEquals(new RouteCache.Stats(0, 1, 0, 1), cache.getStats());
+    }
+}
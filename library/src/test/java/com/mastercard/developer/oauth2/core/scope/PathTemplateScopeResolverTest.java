@@ -0,0 +1,235 @@
+package com.mastercard.developer.oauth2.core.scope;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class PathTemplateScopeResolverTest {
+
+    @Test
+    void resolve_ShouldReturnOperationScopes_WhenPathMatchesTemplate() throws Exception {
+        // GIVEN
+        var resolver = PathTemplateScopeResolver.builder()
+            .add("GET", "/api/resources/{id}", Set.of("service:read"))
+            .add("DELETE", "/api/resources/{id}", Set.of("service:write"))
+            .build();
+
+        // WHEN
+        Set<String> getScopes = resolver.resolve("GET", url("https://api.mastercard.com/api/resources/123?expand=true"));
+        Set<String> deleteScopes = resolver.resolve("delete", url("https://api.mastercard.com/api/resources/123"));
+
+        // THEN
+        assertEquals(Set.of("service:read"), getScopes);
+        assertEquals(Set.of("service:write"), deleteScopes);
+    }
+
+    @Test
+    void resolve_ShouldPreferLiteralSegments_AndBacktrackToVariables() throws Exception {
+        // GIVEN
+        var resolver = PathTemplateScopeResolver.builder()
+            .add("GET", "/pets/mine", Set.of("pets:mine"))
+            .add("GET", "/pets/{pet_id}", Set.of("pets:read"))
+            .add("GET", "/pets/{pet_id}/toys", Set.of("toys:read"))
+            .add("POST", "/pets/{pet_id}", Set.of("pets:write"))
+            .build();
+
+        // WHEN / THEN
+        assertEquals(Set.of("pets:mine"), resolver.resolve("GET", url("https://api.mastercard.com/pets/mine")));
+        assertEquals(Set.of("pets:read"), resolver.resolve("GET", url("https://api.mastercard.com/pets/42")));
+        assertEquals(Set.of("toys:read"), resolver.resolve("GET", url("https://api.mastercard.com/pets/mine/toys")));
+        assertEquals(Set.of("pets:write"), resolver.resolve("POST", url("https://api.mastercard.com/pets/mine")));
+    }
+
+    @Test
+    void resolve_ShouldIgnoreEmptySegments() throws Exception {
+        // GIVEN
+        var resolver = PathTemplateScopeResolver.builder().add("GET", "/api/resources/", Set.of("service:read")).build();
+
+        // WHEN / THEN
+        assertEquals(Set.of("service:read"), resolver.resolve("GET", url("https://api.mastercard.com/api//resources")));
+        assertEquals(Set.of("service:read"), resolver.resolve("GET", url("https://api.mastercard.com/api/resources/")));
+    }
+
+    @Test
+    void resolve_ShouldReturnDefaultScopes_WhenNoOperationMatches() throws Exception {
+        // GIVEN
+        var resolver = PathTemplateScopeResolver.builder()
+            .add("GET", "/api/resources/{id}", Set.of("service:read"))
+            .defaultScopes(Set.of("service:default"))
+            .build();
+
+        // WHEN / THEN
+        assertEquals(Set.of("service:default"), resolver.resolve("GET", url("https://api.mastercard.com/api/resources")));
+        assertEquals(Set.of("service:default"), resolver.resolve("GET", url("https://api.mastercard.com/api/resources/1/2")));
+        assertEquals(Set.of("service:default"), resolver.resolve("PUT", url("https://api.mastercard.com/api/resources/1")));
+        assertEquals(Set.of("service:default"), resolver.resolve("GET", url("https://api.mastercard.com/api/resourcez/1")));
+    }
+
+    @Test
+    void resolve_ShouldReturnEmptySet_WhenNoOperationMatchesAndNoDefaultScopes() throws Exception {
+        // GIVEN
+        var resolver = PathTemplateScopeResolver.builder().add("GET", "/api/resources", Set.of("service:read")).build();
+
+        // WHEN / THEN
+        assertEquals(Set.of(), resolver.resolve("GET", url("https://api.mastercard.com/")));
+    }
+
+    @Test
+    void resolve_ShouldReturnSameInstance_ForEachCall() throws Exception {
+        // GIVEN
+        var resolver = PathTemplateScopeResolver.builder().add("GET", "/api/resources/{id}", Set.of("service:read")).build();
+
+        // WHEN
+        Set<String> first = resolver.resolve("GET", url("https://api.mastercard.com/api/resources/1"));
+        Set<String> second = resolver.resolve("GET", url("https://api.mastercard.com/api/resources/2"));
+
+        // THEN
+        assertSame(first, second);
+        assertThrows(UnsupportedOperationException.class, () -> first.add("service:write"));
+    }
+
+    @Test
+    void add_ShouldMergeScopes_WhenSameOperationAddedTwice() throws Exception {
+        // GIVEN
+        var resolver = PathTemplateScopeResolver.builder()
+            .add("GET", "/api/resources/{id}", Set.of("service:read"))
+            .add("get", "/api/resources/{resource_id}", Set.of("service:audit"))
+            .build();
+
+        // WHEN / THEN
+        assertEquals(Set.of("service:read", "service:audit"), resolver.resolve("GET", url("https://api.mastercard.com/api/resources/1")));
+    }
+
+    @Test
+    void add_ShouldThrowIllegalArgumentException_WhenInvalidOperation() {
+        var builder = PathTemplateScopeResolver.builder();
+        var scopes = Set.of("service:read");
+        assertThrows(IllegalArgumentException.class, () -> builder.add(" ", "/api", scopes));
+        assertThrows(IllegalArgumentException.class, () -> builder.add("GET", "api", scopes));
+    }
+
+    @Test
+    void allScopes_ShouldReturnScopesFromAllOperations_AndDefaultScopes() {
+        // GIVEN
+        var resolver = PathTemplateScopeResolver.builder()
+            .add("POST", "/api/resources", Set.of("service:write"))
+            .add("GET", "/api/resources/{id}", Set.of("service:read"))
+            .add("GET", "/api/resources/{id}/history", Set.of("service:read", "service:audit"))
+            .defaultScopes(Set.of("service:default"))
+            .build();
+
+        // WHEN
+        Set<String> scopes = resolver.allScopes();
+
+        // THEN
+        assertEquals(Set.of("service:write", "service:read", "service:audit", "service:default"), scopes);
+    }
+
+    @Test
+    void fromMapping_ShouldLoadOperations() throws Exception {
+        // WHEN
+        var resolver = PathTemplateScopeResolver.fromMapping(Paths.get("./src/test/resources/scopes/scope-mapping.txt"));
+
+        // THEN
+        assertEquals(List.of("service:read", "service:write"), List.copyOf(resolver.resolve("POST", url("https://api.mastercard.com/api/resources"))));
+        assertEquals(Set.of("service:read"), resolver.resolve("GET", url("https://api.mastercard.com/api/resources/1")));
+        assertEquals(Set.of("service:write"), resolver.resolve("DELETE", url("https://api.mastercard.com/api/resources/1")));
+        assertEquals(Set.of("service:read", "service:audit"), resolver.resolve("GET", url("https://api.mastercard.com/api/resources/1/history")));
+        assertEquals(Set.of("service:latest"), resolver.resolve("GET", url("https://api.mastercard.com/api/resources/latest")));
+        assertEquals(Set.of("service:read", "service:write", "service:audit", "service:latest"), resolver.allScopes());
+    }
+
+    @Test
+    void fromMapping_ShouldThrowOAuth2ClientException_WhenLineInvalid() {
+        // GIVEN
+        var mapping = new ByteArrayInputStream("GET /api/resources service:read\nGET api/resources service:read".getBytes(StandardCharsets.UTF_8));
+
+        // WHEN / THEN
+        var ex = assertThrows(OAuth2ClientException.class, () -> PathTemplateScopeResolver.fromMapping(mapping));
+        assertEquals("Invalid scope mapping at line 2: GET api/resources service:read", ex.getMessage());
+    }
+
+    @Test
+    void fromOpenApi_ShouldReadScopesExtension_WhenFakeApi() throws Exception {
+        // WHEN
+        var resolver = PathTemplateScopeResolver.fromOpenApi(Paths.get("../test-clients/src/test/resources/openapi/fake-api.yaml"));
+
+        // THEN
+        assertEquals(Set.of("fake_service:write"), resolver.resolve("POST", url("http://localhost:8080/api/resources")));
+        assertEquals(Set.of("fake_service:read"), resolver.resolve("GET", url("http://localhost:8080/api/resources/8e9d9b3c")));
+        assertEquals(Set.of("fake_service:write"), resolver.resolve("DELETE", url("http://localhost:8080/api/resources/8e9d9b3c")));
+        assertEquals(Set.of("fake_service:write", "fake_service:read"), resolver.allScopes());
+    }
+
+    @Test
+    void fromOpenApi_ShouldReadSecurityRequirements_AndPrefixServerPaths() throws Exception {
+        // WHEN
+        var resolver = PathTemplateScopeResolver.fromOpenApi(Paths.get("./src/test/resources/scopes/secured-api.yaml"));
+
+        // THEN
+        assertEquals(Set.of("secured:read"), resolver.resolve("GET", url("https://api.mastercard.com/secured/v1/accounts")));
+        assertEquals(Set.of("secured:read"), resolver.resolve("GET", url("https://sandbox.api.mastercard.com/secured/v1/accounts")));
+        assertEquals(List.of("secured:write", "secured:read"), List.copyOf(resolver.resolve("POST", url("https://api.mastercard.com/secured/v1/accounts"))));
+        assertEquals(Set.of("secured:admin"), resolver.resolve("DELETE", url("https://api.mastercard.com/secured/v1/accounts/1")));
+        assertEquals(Set.of(), resolver.resolve("HEAD", url("https://api.mastercard.com/secured/v1/accounts/1")));
+        assertEquals(Set.of(), resolver.resolve("GET", url("https://api.mastercard.com/accounts")));
+        assertEquals(Set.of("secured:read", "secured:write", "secured:admin"), resolver.allScopes());
+    }
+
+    @Test
+    void fromOpenApi_ShouldUseFirstSecurityRequirement_WhenRequirementsAreAlternatives() throws Exception {
+        // GIVEN: either "a:read" and "b:read" (two schemes), or "c:read"
+        var openApi = """
+            security:
+              - oAuth2: [ "root:read" ]
+              - apiKey: []
+            paths:
+              /resources:
+                get:
+                  security:
+                    - oAuth2: [ a:read ]
+                      mtls:
+                        - b:read
+                    - oAuth2:
+                        - c:read
+                post:
+                  description: Uses the document security requirements
+            """;
+
+        // WHEN
+        var resolver = PathTemplateScopeResolver.fromOpenApi(new ByteArrayInputStream(openApi.getBytes(StandardCharsets.UTF_8)));
+
+        // THEN
+        assertEquals(Set.of("a:read", "b:read"), resolver.resolve("GET", url("https://api.mastercard.com/resources")));
+        assertEquals(Set.of("root:read"), resolver.resolve("POST", url("https://api.mastercard.com/resources")));
+    }
+
+    @Test
+    void fromOpenApi_ShouldThrowOAuth2ClientException_WhenScopesUseUnsupportedYaml() {
+        // GIVEN
+        var flowMapping = "paths:\n  /resources:\n    get:\n      security: [ { oAuth2: [ a:read ] } ]\n";
+        var multiLineFlowSequence = "paths:\n  /resources:\n    get:\n      x-scopes: [ a:read,\n        b:read ]\n";
+        var alias = "security:\n  - oAuth2: *scopes\n";
+
+        // WHEN / THEN
+        var ex = assertThrows(OAuth2ClientException.class, () -> PathTemplateScopeResolver.fromOpenApi(new ByteArrayInputStream(flowMapping.getBytes(StandardCharsets.UTF_8))));
+        assertEquals(
+            "Unsupported YAML at line 4 (supported subset: block mappings and sequences, single-line flow sequences): security: [ { oAuth2: [ a:read ] } ]",
+            ex.getMessage()
+        );
+        assertThrows(OAuth2ClientException.class, () -> PathTemplateScopeResolver.fromOpenApi(new ByteArrayInputStream(multiLineFlowSequence.getBytes(StandardCharsets.UTF_8))));
+        assertThrows(OAuth2ClientException.class, () -> PathTemplateScopeResolver.fromOpenApi(new ByteArrayInputStream(alias.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static URL url(String url) throws Exception {
+        return URI.create(url).toURL();
+    }
+}
@@ -0,0 +1,127 @@
+package com.mastercard.developer.oauth2.core.signing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mastercard.developer.oauth2.test.fixtures.StaticKeys;
+import com.mastercard.developer.oauth2.test.mocks.FakeRemoteJwsSigner;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Security;
+import java.security.Signature;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PSSParameterSpec;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JcaJwsSignerTest {
+
+    private static final byte[] SIGNING_INPUT = "eyJhbGciOiJFUzI1NiJ9.eyJzdWIiOiJ1c2VyMTIzIn0".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    void sign_ShouldProduceVerifiableES256Signature_WhenDefaultProviders() throws Exception {
+        // GIVEN
+        KeyPair ecKeyPair = StaticKeys.EC_KEY_PAIR;
+        var signer = new JcaJwsSigner(ecKeyPair.getPrivate());
+
+        // WHEN
+        byte[] signature = signer.sign(SIGNING_INPUT);
+
+        // THEN
+        assertEquals(JwsAlgorithm.ES256, signer.getAlgorithm());
+        assertTrue(signer.getProvider().isEmpty());
+        assertEquals(64, signature.length); // R||S
+        assertTrue(verify(SIGNING_INPUT, signature, ecKeyPair.getPublic(), JwsAlgorithm.ES256));
+    }
+
+    @Test
+    void sign_ShouldProduceVerifiablePS256Signature_WhenProviderSelected() throws Exception {
+        // GIVEN
+        KeyPair rsaKeyPair = StaticKeys.RSA_KEY_PAIR;
+        var sunRsaSign = Security.getProvider("SunRsaSign");
+        var signer = new JcaJwsSigner(rsaKeyPair.getPrivate(), sunRsaSign);
+
+        // WHEN
+        byte[] signature = signer.sign(SIGNING_INPUT);
+
+        // THEN
+        assertEquals(JwsAlgorithm.PS256, signer.getAlgorithm());
+        assertSame(sunRsaSign, signer.getProvider().get());
+        assertTrue(verify(SIGNING_INPUT, signature, rsaKeyPair.getPublic(), JwsAlgorithm.PS256));
+    }
+
+    @Test
+    void sign_ShouldThrowInvalidKeyException_WhenKeyDoesNotMatchAlgorithm() {
+        // GIVEN
+        var signer = new JcaJwsSigner(StaticKeys.RSA_KEY_PAIR.getPrivate(), JwsAlgorithm.ES256, null);
+
+        // WHEN / THEN
+        assertThrows(InvalidKeyException.class, () -> signer.sign(SIGNING_INPUT));
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenInvalidArguments() {
+        PrivateKey dsaKey = StaticKeys.DSA_KEY_PAIR.getPrivate();
+        PrivateKey rsaKey = StaticKeys.RSA_KEY_PAIR.getPrivate();
+        assertThrows(IllegalArgumentException.class, () -> new JcaJwsSigner(null));
+        assertThrows(IllegalArgumentException.class, () -> new JcaJwsSigner(rsaKey, null, null));
+        assertThrows(IllegalStateException.class, () -> new JcaJwsSigner(dsaKey));
+    }
+
+    @Test
+    void signAsync_ShouldReturnFailedFuture_WhenSigningFails() {
+        // GIVEN
+        var signer = new JcaJwsSigner(StaticKeys.RSA_KEY_PAIR.getPrivate(), JwsAlgorithm.ES256, null);
+
+        // WHEN
+        var future = signer.signAsync(SIGNING_INPUT);
+
+        // THEN
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    void signAll_ShouldReturnSignaturesInOrder_WhenExternalSigner() throws Exception {
+        // GIVEN
+        KeyPair ecKeyPair = StaticKeys.EC_KEY_PAIR;
+        List<byte[]> signingInputs = List.of("a.b".getBytes(StandardCharsets.US_ASCII), "c.d".getBytes(StandardCharsets.US_ASCII), "e.f".getBytes(StandardCharsets.US_ASCII));
+
+        try (var signer = new FakeRemoteJwsSigner(ecKeyPair.getPrivate(), JwsAlgorithm.ES256)) {
+            // WHEN
+            List<byte[]> signatures = signer.signAll(signingInputs);
+
+            // THEN
+            assertEquals(3, signatures.size());
+            assertEquals(3, signer.getSignatureCount());
+            for (int i = 0; i < signingInputs.size(); i++) {
+                assertTrue(verify(signingInputs.get(i), signatures.get(i), ecKeyPair.getPublic(), JwsAlgorithm.ES256));
+            }
+        }
+    }
+
+    @Test
+    void signAll_ShouldThrowInvalidKeyException_WhenOneSignatureFails() {
+        // GIVEN
+        List<byte[]> signingInputs = List.of(SIGNING_INPUT, SIGNING_INPUT);
+
+        try (var signer = new FakeRemoteJwsSigner(StaticKeys.RSA_KEY_PAIR.getPrivate(), JwsAlgorithm.ES256)) {
+            // WHEN / THEN
+            assertThrows(InvalidKeyException.class, () -> signer.signAll(signingInputs));
+        }
+    }
+
+    private static boolean verify(byte[] signingInput, byte[] signature, PublicKey publicKey, JwsAlgorithm alg) throws Exception {
+        Signature verifier;
+        if (alg == JwsAlgorithm.PS256) {
+            verifier = Signature.getInstance("RSASSA-PSS");
+            verifier.setParameter(new PSSParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, 32, 1));
+        } else {
+            verifier = Signature.getInstance("SHA256withECDSAinP1363Format");
+        }
+        verifier.initVerify(publicKey);
+        verifier.update(signingInput);
+        return verifier.verify(signature);
+    }
+}
@@ -0,0 +1,91 @@
+package com.mastercard.developer.oauth2.core.signing;
+
+import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
+import java.nio.charset.StandardCharsets;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.Security;
+import java.security.Signature;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compares the signing speed of the JCA providers installed in the JVM for a JWS algorithm.
+ * Results can be used to select a provider for the keys held locally, with
+ * {@link com.mastercard.developer.oauth2.config.OAuth2Config.OAuth2ConfigBuilder#jcaProvider}.
+ */
+final class JcaProviderBenchmark {
+
+    private static final int DEFAULT_WARMUP_ITERATIONS = 200;
+    private static final int DEFAULT_ITERATIONS = 500;
+
+    // A signing input with the typical size of a DPoP proof
+    private static final byte[] SAMPLE_SIGNING_INPUT = "x".repeat(600).getBytes(StandardCharsets.US_ASCII);
+
+    private JcaProviderBenchmark() {
+        // Static class
+    }
+
+    /**
+     * Average signing time measured for a provider.
+     */
+    record Result(Provider provider, Duration averageSigningTime) {}
+
+    /**
+     * Signs a sample input with every installed provider supporting the algorithm and the given key.
+     * Returns results sorted from fastest to slowest. Providers failing to sign are left out.
+     */
+    static List<Result> run(PrivateKey key, JwsAlgorithm alg, int warmupIterations, int iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Iterations must be positive");
+        }
+        String jcaAlgorithm = JcaJwsSigner.jcaAlgorithm(alg);
+        var results = new ArrayList<Result>();
+        for (Provider provider : Security.getProviders()) {
+            if (provider.getService("Signature", jcaAlgorithm) == null) {
+                continue;
+            }
+            try {
+                for (int i = 0; i < warmupIterations; i++) {
+                    signOnce(key, alg, provider);
+                }
+                long start = System.nanoTime();
+                for (int i = 0; i < iterations; i++) {
+                    signOnce(key, alg, provider);
+                }
+                results.add(new Result(provider, Duration.ofNanos((System.nanoTime() - start) / iterations)));
+            } catch (Exception e) {
+                // This provider doesn't accept the key, try next
+            }
+        }
+        results.sort(Comparator.comparing(Result::averageSigningTime));
+        return results;
+    }
+
+    /**
+     * Returns the fastest installed provider for the algorithm and the given key.
+     */
+    static Provider fastest(PrivateKey key, JwsAlgorithm alg) {
+        return fastest(key, alg, DEFAULT_WARMUP_ITERATIONS, DEFAULT_ITERATIONS);
+    }
+
+    /**
+     * Returns the fastest installed provider for the algorithm and the given key, measured with the given iterations.
+     */
+    static Provider fastest(PrivateKey key, JwsAlgorithm alg, int warmupIterations, int iterations) {
+        return run(key, alg, warmupIterations, iterations)
+            .stream()
+            .findFirst()
+            .map(Result::provider)
+            .orElseThrow(() -> new OAuth2ClientException("No installed provider can sign %s with the given key".formatted(alg.alg())));
+    }
+
+    private static void signOnce(PrivateKey key, JwsAlgorithm alg, Provider provider) throws Exception {
+        Signature signature = JcaJwsSigner.newSignature(alg, provider);
+        signature.initSign(key);
+        signature.update(SAMPLE_SIGNING_INPUT);
+        signature.sign();
+    }
+}
@@ -0,0 +1,56 @@
+package com.mastercard.developer.oauth2.core.signing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
+import com.mastercard.developer.oauth2.test.fixtures.StaticKeys;
+import java.security.PrivateKey;
+import org.junit.jupiter.api.Test;
+
+class JcaProviderBenchmarkTest {
+
+    @Test
+    void run_ShouldReturnResultsSortedByAverageSigningTime() {
+        // WHEN
+        var results = JcaProviderBenchmark.run(StaticKeys.EC_KEY_PAIR.getPrivate(), JwsAlgorithm.ES256, 2, 5);
+
+        // THEN
+        assertFalse(results.isEmpty());
+        assertTrue(results.stream().anyMatch(result -> "SunEC".equals(result.provider().getName())));
+        for (int i = 1; i < results.size(); i++) {
+            assertTrue(results.get(i - 1).averageSigningTime().compareTo(results.get(i).averageSigningTime()) <= 0);
+        }
+    }
+
+    @Test
+    void run_ShouldThrowIllegalArgumentException_WhenIterationsNotPositive() {
+        // GIVEN
+        PrivateKey key = StaticKeys.EC_KEY_PAIR.getPrivate();
+
+        // WHEN / THEN
+        assertThrows(IllegalArgumentException.class, () -> JcaProviderBenchmark.run(key, JwsAlgorithm.ES256, 0, 0));
+    }
+
+    @Test
+    void fastest_ShouldReturnProviderAbleToSign() throws Exception {
+        // GIVEN
+        PrivateKey key = StaticKeys.RSA_KEY_PAIR.getPrivate();
+
+        // WHEN
+        var provider = JcaProviderBenchmark.fastest(key, JwsAlgorithm.PS256, 2, 5);
+
+        // THEN
+        var signer = new JcaJwsSigner(key, provider);
+        assertNotNull(signer.sign(new byte[] { 1, 2, 3 }));
+    }
+
+    @Test
+    void fastest_ShouldThrowOAuth2ClientException_WhenNoProviderAcceptsKey() {
+        // GIVEN
+        PrivateKey key = StaticKeys.RSA_KEY_PAIR.getPrivate();
+
+        // WHEN / THEN
+        var ex = assertThrows(OAuth2ClientException.class, () -> JcaProviderBenchmark.fastest(key, JwsAlgorithm.ES256, 2, 5));
+        assertEquals("No installed provider can sign ES256 with the given key", ex.getMessage());
+    }
+}
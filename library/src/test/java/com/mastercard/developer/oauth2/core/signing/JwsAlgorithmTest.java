@@ -1,4 +1,4 @@
-package com.mastercard.developer.oauth2.internal.jose;
+package com.mastercard.developer.oauth2.core.signing;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -3,6 +3,8 @@ package com.mastercard.developer.oauth2.http;
 import static com.mastercard.developer.oauth2.http.StandardHttpHeader.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -162,4 +164,62 @@ class HttpHeadersTest {
         assertEquals(name, header.name());
         assertEquals(value, header.value());
     }
+
+    @Test
+    void add_ShouldKeepInsertionOrder_WhenHeaderIsReplaced() {
+        // GIVEN
+        headers.add(USER_AGENT, "agent").add(CONTENT_TYPE, "text/plain").add(ACCEPT, "application/json").add(DPOP, "proof").add(AUTHORIZATION, "DPoP token");
+
+        // WHEN
+        headers.add(CONTENT_TYPE, "application/json");
+
+        // THEN
+        List<String> names = new ArrayList<>();
+        headers.forEach(header -> names.add(header.name()));
+        assertEquals(List.of(USER_AGENT.value(), CONTENT_TYPE.value(), ACCEPT.value(), DPOP.value(), AUTHORIZATION.value()), names);
+        assertEquals("application/json", headers.get(CONTENT_TYPE.value()).orElseThrow());
+    }
+
+    @Test
+    void stream_ShouldReturnHeadersInInsertionOrder_WhenHeadersAreAdded() {
+        // GIVEN
+        headers.add(USER_AGENT, "agent").add(ACCEPT, "application/json").add(DPOP, "proof");
+
+        // WHEN
+        var result = headers.stream().map(HttpHeaders.HttpHeader::name).toList();
+
+        // THEN
+        assertEquals(List.of(USER_AGENT.value(), ACCEPT.value(), DPOP.value()), result);
+        assertEquals(3, headers.stream().spliterator().getExactSizeIfKnown());
+    }
+
+    @Test
+    void toImmutable_ShouldRejectChanges_WhenHeadersAreATemplate() {
+        // GIVEN
+        var template = headers.add(CONTENT_TYPE, "application/json").toImmutable();
+
+        // WHEN
+        var exception = assertThrows(UnsupportedOperationException.class, () -> template.add(ACCEPT, "application/json"));
+
+        // THEN
+        assertEquals("Headers are immutable", exception.getMessage());
+        assertSame(template, template.toImmutable());
+    }
+
+    @Test
+    void copy_ShouldLeaveTemplateUnchanged_WhenCopyIsModified() {
+        // GIVEN
+        var template = headers.add(USER_AGENT, "agent").add(ACCEPT, "application/json").toImmutable();
+
+        // WHEN
+        var copy = new HttpHeaders(template).add(DPOP, "proof").add(ACCEPT, "application/xml");
+
+        // THEN
+        assertEquals(2, template.size());
+        assertEquals("application/json", template.get(ACCEPT.value()).orElseThrow());
+        assertFalse(template.contains(DPOP.value()));
+        assertEquals(3, copy.size());
+        assertEquals("application/xml", copy.get(ACCEPT.value()).orElseThrow());
+        assertEquals("proof", copy.get("dpop").orElseThrow());
+    }
 }
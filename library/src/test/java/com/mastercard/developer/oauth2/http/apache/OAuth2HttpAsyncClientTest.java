@@ -0,0 +1,197 @@
+package com.mastercard.developer.oauth2.http.apache;
+
+import static com.mastercard.developer.oauth2.http.StandardHttpHeader.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.skyscreamer.jsonassert.JSONAssert.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.mastercard.developer.oauth2.core.OAuth2Handler;
+import com.mastercard.developer.oauth2.http.HttpMessageAdapter;
+import com.mastercard.developer.oauth2.test.fixtures.BaseClientTest;
+import com.mastercard.developer.oauth2.test.fixtures.TestConfig;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.LoggerFactory;
+
+class OAuth2HttpAsyncClientTest extends BaseClientTest {
+
+    private static CloseableHttpAsyncClient httpClient(TestConfig testConfig) {
+        var httpClient = new OAuth2HttpAsyncClient(testConfig.getOAuth2Config());
+        httpClient.start();
+        return httpClient;
+    }
+
+    @ParameterizedTest
+    @MethodSource("testConfigProvider")
+    void client_ShouldSucceed(Supplier<TestConfig> configSupplier) throws Exception {
+        // GIVEN
+        TestConfig testConfig = configSupplier.get();
+        CloseableHttpAsyncClient httpClient = httpClient(testConfig);
+        try (httpClient) {
+            // WHEN: create resource
+            SimpleHttpResponse response = httpClient.execute(createPostRequest(testConfig), null).get(10, TimeUnit.SECONDS);
+            // THEN
+            assertEquals(200, response.getCode());
+            String resource = response.getBodyText();
+            assertTrue(resource.contains("id")); // Resource created
+            var resourceId = readResourceId(resource);
+
+            // WHEN: fetch resource
+            response = httpClient.execute(createGetRequest(testConfig, resourceId), null).get(10, TimeUnit.SECONDS);
+            // THEN
+            assertEquals(200, response.getCode());
+            assertTrue(response.getBodyText().contains("id")); // Resource fetched
+
+            // WHEN: delete resource
+            response = httpClient.execute(createDeleteRequest(testConfig, resourceId), null).get(10, TimeUnit.SECONDS);
+            // THEN
+            assertEquals(204, response.getCode()); // Resource deleted
+        }
+    }
+
+    @Test
+    void client_ShouldCompleteAllRequests_WhenSentConcurrentlyWithSingleIoThread() throws Exception {
+        // GIVEN: a single I/O reactor thread, which would be starved by any blocking call
+        TestConfig testConfig = getFakeConfig();
+        var builder = HttpAsyncClients.custom().setIOReactorConfig(IOReactorConfig.custom().setIoThreadCount(1).build());
+        CloseableHttpAsyncClient httpClient = new OAuth2HttpAsyncClient(testConfig.getOAuth2Config(), builder);
+        httpClient.start();
+        try (httpClient) {
+            // WHEN
+            List<Future<SimpleHttpResponse>> futures = IntStream.range(0, 20)
+                .mapToObj(i -> httpClient.execute(createPostRequest(testConfig), null))
+                .toList();
+
+            // THEN
+            for (Future<SimpleHttpResponse> future : futures) {
+                SimpleHttpResponse response = future.get(10, TimeUnit.SECONDS);
+                assertEquals(200, response.getCode());
+                assertEquals("{\"id\":\"1\"}", response.getBodyText(), true);
+            }
+        }
+    }
+
+    @Test
+    void client_ShouldReturnErrorResponse_WhenAuthorizationServerError() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        useInvalidClientAssertionScenario(); // Force an authentication server error
+
+        CloseableHttpAsyncClient httpClient = httpClient(testConfig);
+        try (httpClient) {
+            // WHEN
+            SimpleHttpResponse response = httpClient.execute(createPostRequest(testConfig), null).get(10, TimeUnit.SECONDS);
+
+            // THEN
+            assertEquals(400, response.getCode());
+            assertEquals("{\"error\":\"invalid_client\",\"error_description\":\"client_assertion signature couldn't be verified\"}", response.getBodyText());
+        }
+    }
+
+    @Test
+    void client_ShouldReturnErrorResponse_WhenResourceServerError() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        useInsufficientScopeScenario(); // Force a resource server error
+
+        CloseableHttpAsyncClient httpClient = httpClient(testConfig);
+        try (httpClient) {
+            // WHEN
+            SimpleHttpResponse response = httpClient.execute(createPostRequest(testConfig), null).get(10, TimeUnit.SECONDS);
+
+            // THEN
+            assertEquals(403, response.getCode());
+            assertEquals(
+                "Dpop error:\"insufficient_scope\", error_description:\"requested scope is not permitted\", algs:\"ES256 PS256\"",
+                response.getFirstHeader(WWW_AUTHENTICATE.value()).getValue()
+            );
+            assertEquals("{\"error\":\"insufficient_scope\",\"error_description\":\"requested scope is not permitted\"}", response.getBodyText(), true);
+        }
+    }
+
+    @Test
+    void client_ShouldPassBinaryBodyThrough_WhenResponseFromResourceServer() throws Exception {
+        // GIVEN
+        byte[] binaryBody = new byte[1024 * 1024];
+        new Random(42).nextBytes(binaryBody); // Not valid UTF-8
+        useBinaryDownloadScenario(binaryBody);
+        TestConfig testConfig = getFakeConfig();
+
+        CloseableHttpAsyncClient httpClient = httpClient(testConfig);
+        try (httpClient) {
+            // WHEN
+            SimpleHttpResponse response = httpClient.execute(createGetRequest(testConfig, "1"), null).get(10, TimeUnit.SECONDS);
+
+            // THEN
+            assertEquals(200, response.getCode());
+            assertArrayEquals(binaryBody, response.getBodyBytes());
+        }
+    }
+
+    @Test
+    void client_ShouldPassLargeErrorBodyThrough_WhenResourceServerError() throws Exception {
+        // GIVEN
+        String errorBody = "0123456789".repeat(100_000);
+        useServerErrorScenario(errorBody.getBytes(StandardCharsets.UTF_8));
+        TestConfig testConfig = getFakeConfig();
+        var handlerLogger = (Logger) LoggerFactory.getLogger(OAuth2Handler.class);
+        var listAppender = new ListAppender<ILoggingEvent>();
+        listAppender.start();
+        handlerLogger.addAppender(listAppender);
+
+        CloseableHttpAsyncClient httpClient = httpClient(testConfig);
+        try (httpClient) {
+            // WHEN
+            SimpleHttpResponse response = httpClient.execute(createGetRequest(testConfig, "1"), null).get(10, TimeUnit.SECONDS);
+
+            // THEN
+            assertEquals(500, response.getCode());
+            assertEquals(errorBody, response.getBodyText());
+            String expectedLog = "API call failed (HTTP 500), body: " + errorBody.substring(0, HttpMessageAdapter.BODY_PEEK_LIMIT);
+            assertTrue(listAppender.list.stream().anyMatch(e -> e.getLevel() == Level.ERROR && expectedLog.equals(e.getFormattedMessage())));
+        } finally {
+            handlerLogger.detachAppender(listAppender);
+        }
+    }
+
+    /**
+     * Adds default headers that are expected to be replaced. Servers will complain in case they are not.
+     */
+    private static SimpleRequestBuilder withDummyHeaders(SimpleRequestBuilder builder) {
+        return builder.setHeader(USER_AGENT.value(), "Dummy").setHeader(AUTHORIZATION.value(), "Dummy").setHeader(DPOP.value(), "Dummy");
+    }
+
+    private static SimpleHttpRequest createPostRequest(TestConfig testConfig) {
+        return withDummyHeaders(
+            SimpleRequestBuilder.post(testConfig.getCreateResourceUri())
+                .setHeader(ACCEPT.value(), "application/json")
+                .setBody(testConfig.getResourceJson(), ContentType.APPLICATION_JSON)
+        ).build();
+    }
+
+    private static SimpleHttpRequest createGetRequest(TestConfig testConfig, String resourceId) {
+        return withDummyHeaders(SimpleRequestBuilder.get(testConfig.getFetchResourceUri(resourceId)).setHeader(ACCEPT.value(), "application/json")).build();
+    }
+
+    private static SimpleHttpRequest createDeleteRequest(TestConfig testConfig, String resourceId) {
+        return withDummyHeaders(SimpleRequestBuilder.delete(testConfig.getDeleteResourceUri(resourceId))).build();
+    }
+}
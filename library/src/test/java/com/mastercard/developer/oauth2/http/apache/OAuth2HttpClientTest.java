@@ -14,6 +14,7 @@ import com.mastercard.developer.test.openapi_generator.petstore.apache.api.PetsA
 import com.mastercard.developer.test.openapi_generator.petstore.apache.model.Dog;
 import com.mastercard.developer.test.openapi_generator.petstore.apache.model.NewDog;
 import com.mastercard.developer.test.openapi_generator.petstore.apache.model.PetStatus;
+import java.time.Duration;
 import java.util.function.Supplier;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
@@ -128,6 +129,22 @@ class OAuth2HttpClientTest extends BaseClientTest {
         api.deleteDog(dog.getId());
     }
 
+    @Test
+    void warmUp_ShouldOpenTokenEndpointConnection() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        try (var httpClient = new OAuth2HttpClient(testConfig.getOAuth2Config())) {
+            // WHEN
+            boolean warmedUp = httpClient.warmUp(Duration.ofSeconds(5));
+
+            // THEN
+            assertTrue(warmedUp);
+            assertEquals(1, countAuthorizationServerRequests("HEAD"));
+            int statusCode = httpClient.execute(createPostRequest(testConfig), response -> response.getCode());
+            assertEquals(200, statusCode);
+        }
+    }
+
     @Test
     void client_ShouldReturnErrorResponse_WhenAuthorizationServerError() throws Exception {
         // GIVEN
@@ -15,6 +15,7 @@ import com.mastercard.developer.test.openapi_generator.petstore.feign.model.PetS
 import feign.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
@@ -119,6 +120,23 @@ class OAuth2ClientTest extends BaseClientTest {
         api.deleteDog(dog.getId());
     }
 
+    @Test
+    void warmUp_ShouldOpenTokenEndpointConnection() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        var feignClient = new OAuth2Client(testConfig.getOAuth2Config());
+
+        // WHEN
+        boolean warmedUp = feignClient.warmUp(Duration.ofSeconds(5));
+
+        // THEN
+        assertTrue(warmedUp);
+        assertEquals(1, countAuthorizationServerRequests("HEAD"));
+        try (Response response = feignClient.execute(createPostRequest(testConfig), new Request.Options())) {
+            assertEquals(200, response.status());
+        }
+    }
+
     @Test
     void client_ShouldReturnErrorResponse_WhenAuthorizationServerError() throws Exception {
         // GIVEN
@@ -207,6 +225,24 @@ class OAuth2ClientTest extends BaseClientTest {
         );
     }
 
+    @Test
+    void client_ShouldPassBinaryBodyThrough_WhenResponseFromResourceServer() throws Exception {
+        // GIVEN
+        byte[] binaryBody = new byte[8 * 1024 * 1024];
+        new Random(42).nextBytes(binaryBody); // Not valid UTF-8
+        useBinaryDownloadScenario(binaryBody);
+        TestConfig testConfig = getFakeConfig();
+        Client feignClient = new OAuth2Client(testConfig.getOAuth2Config());
+
+        // WHEN
+        try (Response response = feignClient.execute(createGetRequest(testConfig, "1"), new Request.Options())) {
+            // THEN
+            assertEquals(200, response.status());
+            assertFalse(response.body().isRepeatable()); // Streamed, not buffered
+            assertArrayEquals(binaryBody, response.body().asInputStream().readAllBytes());
+        }
+    }
+
     /**
      * Adds default headers that are expected to be replaced. Servers will complain in case they are not.
      */
@@ -4,6 +4,8 @@ import static com.mastercard.developer.oauth2.http.StandardHttpHeader.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.skyscreamer.jsonassert.JSONAssert.*;
 
+import com.mastercard.developer.oauth2.http.HttpAdapter;
+import com.mastercard.developer.oauth2.http.HttpHeaders;
 import com.mastercard.developer.oauth2.test.fixtures.BaseClientTest;
 import com.mastercard.developer.oauth2.test.fixtures.TestConfig;
 import com.mastercard.developer.test.openapi_generator.fake.java.api.ResourcesApi;
@@ -18,10 +20,20 @@ import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -138,6 +150,20 @@ class OAuth2HttpClientTest extends BaseClientTest {
         }
     }
 
+    @Test
+    void builder_ShouldWarmUpTokenEndpointConnection_WhenWarmUpRequested() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+
+        // WHEN
+        HttpClient httpClient = OAuth2HttpClient.newBuilder(testConfig.getOAuth2Config()).warmUp(Duration.ofSeconds(5)).build();
+
+        // THEN
+        assertEquals(1, countAuthorizationServerRequests("HEAD"));
+        HttpResponse<String> response = httpClient.send(createPostRequest(testConfig), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+    }
+
     @Test
     void client_ShouldReturnErrorResponse_WhenAuthorizationServerError() throws Exception {
         // GIVEN
@@ -435,6 +461,206 @@ class OAuth2HttpClientTest extends BaseClientTest {
         assertEquals(400, response.statusCode());
     }
 
+    @Test
+    void sendAsync_ShouldSucceed_WhenFakeServers() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        HttpClient client = httpClient(testConfig).build();
+
+        // WHEN: create resource
+        HttpResponse<String> postResponse = client.sendAsync(createPostRequest(testConfig), HttpResponse.BodyHandlers.ofString()).get();
+        // THEN
+        assertEquals(200, postResponse.statusCode());
+        String resourceId = readResourceId(postResponse.body());
+
+        // WHEN: fetch resource
+        HttpResponse<byte[]> getResponse = client.sendAsync(createGetRequest(testConfig, resourceId), HttpResponse.BodyHandlers.ofByteArray()).get();
+        // THEN
+        assertEquals(200, getResponse.statusCode());
+        assertTrue(new String(getResponse.body()).contains("id"));
+
+        // WHEN: delete resource
+        HttpResponse<Void> deleteResponse = client.sendAsync(createDeleteRequest(testConfig, resourceId), HttpResponse.BodyHandlers.discarding()).get();
+        // THEN
+        assertEquals(204, deleteResponse.statusCode());
+    }
+
+    @Test
+    void sendAsync_ShouldCompleteAllRequests_WhenSentConcurrently() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        HttpClient client = httpClient(testConfig).build();
+        HttpRequest postRequest = createPostRequest(testConfig);
+
+        // WHEN
+        List<CompletableFuture<HttpResponse<String>>> futures = IntStream.range(0, 20)
+            .mapToObj(i -> client.sendAsync(postRequest, HttpResponse.BodyHandlers.ofString()))
+            .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+
+        // THEN
+        for (CompletableFuture<HttpResponse<String>> future : futures) {
+            HttpResponse<String> response = future.get();
+            assertEquals(200, response.statusCode());
+            assertEquals("{\"id\":\"1\"}", response.body(), true);
+        }
+    }
+
+    @Test
+    void sendAsync_ShouldReturnErrorResponse_WhenAuthorizationServerError() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        useInvalidClientAssertionScenario(); // Force an authentication server error
+        HttpClient client = httpClient(testConfig).build();
+
+        // WHEN
+        HttpResponse<String> response = client.sendAsync(createPostRequest(testConfig), HttpResponse.BodyHandlers.ofString()).get();
+
+        // THEN
+        assertEquals(400, response.statusCode());
+        assertEquals("{\"error\":\"invalid_client\",\"error_description\":\"client_assertion signature couldn't be verified\"}", response.body(), true);
+    }
+
+    @Test
+    void sendAsync_ShouldReturnErrorResponse_WhenResourceServerError() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        useInsufficientScopeScenario(); // Force a resource server error
+        HttpClient client = httpClient(testConfig).build();
+
+        // WHEN
+        HttpResponse<String> response = client.sendAsync(createPostRequest(testConfig), HttpResponse.BodyHandlers.ofString(), null).get();
+
+        // THEN
+        assertEquals(403, response.statusCode());
+        assertEquals("{\"error\":\"insufficient_scope\",\"error_description\":\"requested scope is not permitted\"}", response.body(), true);
+    }
+
+    @Test
+    void client_ShouldPassBinaryBodyThrough_WhenResponseFromResourceServer() throws Exception {
+        // GIVEN
+        byte[] binaryBody = new byte[1024 * 1024];
+        new Random(42).nextBytes(binaryBody); // Not valid UTF-8
+        useBinaryDownloadScenario(binaryBody);
+        TestConfig testConfig = getFakeConfig();
+        HttpClient client = httpClient(testConfig).build();
+
+        // WHEN
+        HttpResponse<byte[]> response = client.send(createGetRequest(testConfig, "1"), HttpResponse.BodyHandlers.ofByteArray());
+
+        // THEN
+        assertEquals(200, response.statusCode());
+        assertArrayEquals(binaryBody, response.body());
+    }
+
+    @Test
+    void client_ShouldHonorSubscriberDemand_WhenResponseFromResourceServer() throws Exception {
+        // GIVEN
+        byte[] binaryBody = new byte[1024 * 1024];
+        new Random(42).nextBytes(binaryBody);
+        useBinaryDownloadScenario(binaryBody);
+        TestConfig testConfig = getFakeConfig();
+        HttpClient client = httpClient(testConfig).build();
+        var subscriber = new OneByOneSubscriber();
+
+        // WHEN
+        HttpResponse<Void> response = client.send(createGetRequest(testConfig, "1"), HttpResponse.BodyHandlers.fromSubscriber(subscriber));
+
+        // THEN
+        assertEquals(200, response.statusCode());
+        assertEquals(binaryBody.length, subscriber.received.get());
+        assertTrue(subscriber.completed.get());
+    }
+
+    @Test
+    void client_ShouldHonorSubscriberDemand_WhenResponseFromAuthorizationServer() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        useInvalidClientAssertionScenario(); // Force an authentication server error (buffered, then replayed)
+        HttpClient client = httpClient(testConfig).build();
+        var subscriber = new OneByOneSubscriber();
+
+        // WHEN
+        HttpResponse<Void> response = client.send(createPostRequest(testConfig), HttpResponse.BodyHandlers.fromSubscriber(subscriber));
+
+        // THEN
+        assertEquals(400, response.statusCode());
+        assertEquals(
+            "{\"error\":\"invalid_client\",\"error_description\":\"client_assertion signature couldn't be verified\"}".length(),
+            subscriber.received.get()
+        );
+        assertTrue(subscriber.completed.get());
+    }
+
+    @Test
+    void client_ShouldPassLargeErrorBodyThrough_WhenResourceServerError() throws Exception {
+        // GIVEN
+        String errorBody = "0123456789".repeat(100_000);
+        useServerErrorScenario(errorBody.getBytes(StandardCharsets.UTF_8));
+        TestConfig testConfig = getFakeConfig();
+        HttpClient client = httpClient(testConfig).build();
+
+        // WHEN
+        HttpResponse<String> response = client.send(createGetRequest(testConfig, "1"), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> asyncResponse = client.sendAsync(createGetRequest(testConfig, "1"), HttpResponse.BodyHandlers.ofString()).get();
+
+        // THEN
+        assertEquals(500, response.statusCode());
+        assertEquals(errorBody, response.body());
+        assertEquals(500, asyncResponse.statusCode());
+        assertEquals(errorBody, asyncResponse.body());
+    }
+
+    @Test
+    void adapter_ShouldPeekBeginningOfBody_WhenResourceServerError() throws Exception {
+        // GIVEN
+        String errorBody = "0123456789".repeat(100_000);
+        useServerErrorScenario(errorBody.getBytes(StandardCharsets.UTF_8));
+        TestConfig testConfig = getFakeConfig();
+        var adapter = new JavaHttpAdapter(HttpClient.newHttpClient());
+        var request = new JavaHttpAdapter.JavaRequestContext(createGetRequest(testConfig, "1"), HttpResponse.BodyHandlers.ofString());
+
+        // WHEN
+        var response = adapter.sendResourceRequest(request, new HttpHeaders());
+
+        // THEN
+        assertEquals(500, adapter.getStatusCode(response));
+        assertEquals(errorBody.substring(0, HttpAdapter.BODY_PEEK_LIMIT), adapter.peekBody(response, HttpAdapter.BODY_PEEK_LIMIT).orElseThrow());
+        assertEquals(errorBody, response.response().body());
+    }
+
+    /**
+     * Body subscriber requesting one list of buffers at a time.
+     */
+    private static final class OneByOneSubscriber implements Flow.Subscriber<List<ByteBuffer>> {
+
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            buffers.forEach(buffer -> received.addAndGet(buffer.remaining()));
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            // No-op
+        }
+
+        @Override
+        public void onComplete() {
+            completed.set(true);
+        }
+    }
+
     /**
      * Adds default headers that are expected to be replaced. Servers will complain in case they are not.
      */
@@ -0,0 +1,247 @@
+package com.mastercard.developer.oauth2.http.jetty;
+
+import static com.mastercard.developer.oauth2.http.StandardHttpHeader.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.skyscreamer.jsonassert.JSONAssert.*;
+
+import com.mastercard.developer.oauth2.http.HttpHeaders;
+import com.mastercard.developer.oauth2.test.fixtures.BaseClientTest;
+import com.mastercard.developer.oauth2.test.fixtures.TestConfig;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.eclipse.jetty.client.BufferingResponseListener;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.Request;
+import org.eclipse.jetty.client.Result;
+import org.eclipse.jetty.client.StringRequestContent;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class OAuth2HttpClientTest extends BaseClientTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private HttpClient jettyClient;
+
+    private record ResponseResult(int statusCode, HttpFields headers, byte[] body) {
+        String bodyText() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    @BeforeEach
+    void startJettyClient() throws Exception {
+        jettyClient = new HttpClient();
+        jettyClient.start();
+    }
+
+    @AfterEach
+    void stopJettyClient() throws Exception {
+        jettyClient.stop();
+    }
+
+    @ParameterizedTest
+    @MethodSource("testConfigProvider")
+    void client_ShouldSucceed(Supplier<TestConfig> configSupplier) throws Exception {
+        // GIVEN
+        TestConfig testConfig = configSupplier.get();
+        var httpClient = new OAuth2HttpClient(testConfig.getOAuth2Config(), jettyClient);
+
+        // WHEN: create resource
+        ResponseResult result = send(httpClient, createResourceRequest(testConfig)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        // THEN
+        assertEquals(200, result.statusCode());
+        String resource = result.bodyText();
+        assertTrue(resource.contains("id")); // Resource created
+        var resourceId = readResourceId(resource);
+
+        // WHEN: fetch resource
+        Request getRequest = withDummyHeaders(jettyClient.newRequest(URI.create(testConfig.getFetchResourceUri(resourceId))));
+        getRequest.headers(h -> h.put(ACCEPT.value(), "application/json"));
+        result = send(httpClient, getRequest).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        // THEN
+        assertEquals(200, result.statusCode());
+        assertTrue(result.bodyText().contains("id")); // Resource fetched
+
+        // WHEN: delete resource
+        Request deleteRequest = withDummyHeaders(jettyClient.newRequest(URI.create(testConfig.getDeleteResourceUri(resourceId))).method(HttpMethod.DELETE));
+        result = send(httpClient, deleteRequest).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        // THEN
+        assertEquals(204, result.statusCode()); // Resource deleted
+    }
+
+    @Test
+    void client_ShouldCompleteAllRequests_WhenSentConcurrentlyWithFewThreads() throws Exception {
+        // GIVEN: a small thread pool, which would be starved by any blocking call
+        TestConfig testConfig = getFakeConfig();
+        var smallClient = new HttpClient();
+        smallClient.setExecutor(new QueuedThreadPool(4, 1));
+        smallClient.start();
+        try {
+            var httpClient = new OAuth2HttpClient(testConfig.getOAuth2Config(), smallClient);
+
+            // WHEN
+            List<CompletableFuture<ResponseResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(send(httpClient, createResourceRequest(smallClient, testConfig)));
+            }
+
+            // THEN
+            for (CompletableFuture<ResponseResult> future : futures) {
+                ResponseResult result = future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                assertEquals(200, result.statusCode());
+                assertTrue(result.bodyText().contains("id"));
+            }
+        } finally {
+            smallClient.stop();
+        }
+    }
+
+    @Test
+    void client_ShouldSendTokenRequestsToDedicatedDestination() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        var httpClient = new OAuth2HttpClient(testConfig.getOAuth2Config(), jettyClient);
+
+        // WHEN
+        ResponseResult result = send(httpClient, createResourceRequest(testConfig)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // THEN
+        assertEquals(200, result.statusCode());
+        assertTrue(jettyClient.getDestinations().stream().anyMatch(destination -> JettyHttpAdapter.TOKEN_DESTINATION_TAG.equals(destination.getOrigin().getTag())));
+        assertTrue(jettyClient.getDestinations().stream().anyMatch(destination -> destination.getOrigin().getTag() == null));
+    }
+
+    @Test
+    void client_ShouldReturnErrorResponse_WhenAuthorizationServerError() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        useInvalidClientAssertionScenario(); // Force an authentication server error
+        var httpClient = new OAuth2HttpClient(testConfig.getOAuth2Config(), jettyClient);
+
+        // WHEN
+        ResponseResult result = send(httpClient, createResourceRequest(testConfig)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // THEN
+        assertEquals(400, result.statusCode());
+        assertEquals("{\"error\":\"invalid_client\",\"error_description\":\"client_assertion signature couldn't be verified\"}", result.bodyText());
+    }
+
+    @Test
+    void client_ShouldReturnErrorResponse_WhenResourceServerError() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        useInsufficientScopeScenario(); // Force a resource server error
+        var httpClient = new OAuth2HttpClient(testConfig.getOAuth2Config(), jettyClient);
+
+        // WHEN
+        ResponseResult result = send(httpClient, createResourceRequest(testConfig)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // THEN
+        assertEquals(403, result.statusCode());
+        assertEquals(
+            "Dpop error:\"insufficient_scope\", error_description:\"requested scope is not permitted\", algs:\"ES256 PS256\"",
+            result.headers().get(WWW_AUTHENTICATE.value())
+        );
+        assertEquals("{\"error\":\"insufficient_scope\",\"error_description\":\"requested scope is not permitted\"}", result.bodyText(), true);
+    }
+
+    @Test
+    void client_ShouldPassBinaryBodyThrough_WhenResponseFromResourceServer() throws Exception {
+        // GIVEN
+        byte[] binaryBody = new byte[1024 * 1024];
+        new Random(42).nextBytes(binaryBody); // Not valid UTF-8
+        useBinaryDownloadScenario(binaryBody);
+        TestConfig testConfig = getFakeConfig();
+        var httpClient = new OAuth2HttpClient(testConfig.getOAuth2Config(), jettyClient);
+
+        // WHEN
+        ResponseResult result = send(httpClient, withDummyHeaders(jettyClient.newRequest(URI.create(testConfig.getFetchResourceUri("1"))))).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // THEN
+        assertEquals(200, result.statusCode());
+        assertArrayEquals(binaryBody, result.body());
+    }
+
+    @Test
+    void client_ShouldPassLargeErrorBodyThrough_WhenResourceServerError() throws Exception {
+        // GIVEN
+        String errorBody = "0123456789".repeat(100_000);
+        useServerErrorScenario(errorBody.getBytes(StandardCharsets.UTF_8));
+        TestConfig testConfig = getFakeConfig();
+        var httpClient = new OAuth2HttpClient(testConfig.getOAuth2Config(), jettyClient);
+
+        // WHEN
+        ResponseResult result = send(httpClient, withDummyHeaders(jettyClient.newRequest(URI.create(testConfig.getFetchResourceUri("1"))))).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // THEN
+        assertEquals(500, result.statusCode());
+        assertEquals(errorBody, result.bodyText());
+    }
+
+    @Test
+    void adapter_ShouldPeekBeginningOfBody_WhenResourceServerError() throws Exception {
+        // GIVEN
+        String errorBody = "0123456789".repeat(100_000);
+        useServerErrorScenario(errorBody.getBytes(StandardCharsets.UTF_8));
+        TestConfig testConfig = getFakeConfig();
+        var adapter = new JettyHttpAdapter(jettyClient);
+        var request = new JettyHttpAdapter.JettyRequestContext(withDummyHeaders(jettyClient.newRequest(URI.create(testConfig.getFetchResourceUri("1")))), new BufferingResponseListener() {});
+
+        // WHEN
+        var response = adapter.sendResourceRequestAsync(request, new HttpHeaders()).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // THEN
+        assertEquals(500, adapter.getStatusCode(response));
+        assertEquals(errorBody.substring(0, JettyHttpAdapter.BODY_PEEK_LIMIT), adapter.peekBody(response, JettyHttpAdapter.BODY_PEEK_LIMIT).orElseThrow());
+        assertDoesNotThrow(() -> adapter.close(response)); // Rest of the content not read
+    }
+
+    private Request createResourceRequest(TestConfig testConfig) {
+        return createResourceRequest(jettyClient, testConfig);
+    }
+
+    private static Request createResourceRequest(HttpClient client, TestConfig testConfig) {
+        return withDummyHeaders(client.newRequest(URI.create(testConfig.getCreateResourceUri())))
+            .method(HttpMethod.POST)
+            .headers(h -> h.put(ACCEPT.value(), "application/json"))
+            .body(new StringRequestContent("application/json", testConfig.getResourceJson()));
+    }
+
+    private static CompletableFuture<ResponseResult> send(OAuth2HttpClient httpClient, Request request) {
+        var future = new CompletableFuture<ResponseResult>();
+        httpClient.send(
+            request,
+            new BufferingResponseListener(4 * 1024 * 1024) {
+                @Override
+                public void onComplete(Result result) {
+                    if (result.isFailed()) {
+                        future.completeExceptionally(result.getFailure());
+                    } else {
+                        future.complete(new ResponseResult(result.getResponse().getStatus(), result.getResponse().getHeaders(), getContent()));
+                    }
+                }
+            }
+        );
+        return future;
+    }
+
+    /**
+     * Adds default headers that are expected to be replaced. Servers will complain in case they are not.
+     */
+    private static Request withDummyHeaders(Request request) {
+        return request.headers(h -> h.put(USER_AGENT.value(), "Dummy").put(AUTHORIZATION.value(), "Dummy").put(DPOP.value(), "Dummy"));
+    }
+}
@@ -12,6 +12,7 @@ import com.mastercard.developer.test.openapi_generator.petstore.okhttp.api.PetsA
 import com.mastercard.developer.test.openapi_generator.petstore.okhttp.model.Dog;
 import com.mastercard.developer.test.openapi_generator.petstore.okhttp.model.NewDog;
 import com.mastercard.developer.test.openapi_generator.petstore.okhttp.model.PetStatus;
+import java.time.Duration;
 import java.util.function.Supplier;
 import okhttp3.*;
 import okhttp3.logging.HttpLoggingInterceptor;
@@ -25,7 +26,7 @@ class OAuth2InterceptorTest extends BaseClientTest {
         var loggingInterceptor = new HttpLoggingInterceptor(System.out::println);
         loggingInterceptor.setLevel(HttpLoggingInterceptor.Level.BODY);
         OkHttpClient baseClient = new OkHttpClient.Builder().addInterceptor(loggingInterceptor).build();
-        return baseClient.newBuilder().addInterceptor(new OAuth2Interceptor(testConfig.getOAuth2Config(), baseClient.newBuilder())).build();
+        return baseClient.newBuilder().addInterceptor(new OAuth2Interceptor(testConfig.getOAuth2Config(), baseClient)).build();
     }
 
     @ParameterizedTest
@@ -200,6 +201,44 @@ class OAuth2InterceptorTest extends BaseClientTest {
         assertEquals("{\"error\":\"insufficient_scope\",\"error_description\":\"requested scope is not permitted\"}", ex.getResponseBody());
     }
 
+    @Test
+    void client_ShouldSendTokenRequestsOnApplicationConnectionPool() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        OkHttpClient baseClient = new OkHttpClient();
+        OkHttpClient httpClient = baseClient.newBuilder().addInterceptor(new OAuth2Interceptor(testConfig.getOAuth2Config(), baseClient)).build();
+
+        // WHEN
+        try (Response response = httpClient.newCall(createPostRequest(testConfig)).execute()) {
+            // THEN
+            assertEquals(200, response.code());
+        }
+        assertSame(baseClient.connectionPool(), httpClient.connectionPool());
+        assertSame(baseClient.dispatcher(), httpClient.dispatcher());
+        assertEquals(2, httpClient.connectionPool().idleConnectionCount()); // One for the authorization server, one for the resource server
+    }
+
+    @Test
+    void warmUp_ShouldLeaveTokenEndpointConnectionInPool() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        OkHttpClient baseClient = new OkHttpClient();
+        var interceptor = new OAuth2Interceptor(testConfig.getOAuth2Config(), baseClient);
+        OkHttpClient httpClient = baseClient.newBuilder().addInterceptor(interceptor).build();
+
+        // WHEN
+        boolean warmedUp = interceptor.warmUp(Duration.ofSeconds(5));
+
+        // THEN
+        assertTrue(warmedUp);
+        assertEquals(1, countAuthorizationServerRequests("HEAD"));
+        assertEquals(1, httpClient.connectionPool().idleConnectionCount());
+        try (Response response = httpClient.newCall(createPostRequest(testConfig)).execute()) {
+            assertEquals(200, response.code());
+        }
+        assertEquals(2, httpClient.connectionPool().idleConnectionCount()); // Token request sent on the warmed-up connection
+    }
+
     /**
      * Adds default headers that are expected to be replaced. Servers will complain in case they are not.
      */
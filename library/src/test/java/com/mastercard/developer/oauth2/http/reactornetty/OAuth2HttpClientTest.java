@@ -0,0 +1,210 @@
+package com.mastercard.developer.oauth2.http.reactornetty;
+
+import static com.mastercard.developer.oauth2.http.StandardHttpHeader.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.skyscreamer.jsonassert.JSONAssert.*;
+
+import com.mastercard.developer.oauth2.test.fixtures.BaseClientTest;
+import com.mastercard.developer.oauth2.test.fixtures.TestConfig;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.netty.resources.LoopResources;
+
+class OAuth2HttpClientTest extends BaseClientTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private record Result(int statusCode, HttpHeaders headers, byte[] body) {
+        String bodyText() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static OAuth2HttpClient httpClient(TestConfig testConfig) {
+        return new OAuth2HttpClient(testConfig.getOAuth2Config());
+    }
+
+    @ParameterizedTest
+    @MethodSource("testConfigProvider")
+    void client_ShouldSucceed(Supplier<TestConfig> configSupplier) throws Exception {
+        // GIVEN
+        TestConfig testConfig = configSupplier.get();
+        OAuth2HttpClient httpClient = httpClient(testConfig);
+
+        // WHEN: create resource
+        Result result = createResource(httpClient, testConfig).block(TIMEOUT);
+        // THEN
+        assertEquals(200, result.statusCode());
+        String resource = result.bodyText();
+        assertTrue(resource.contains("id")); // Resource created
+        var resourceId = readResourceId(resource);
+
+        // WHEN: fetch resource
+        HttpHeaders getHeaders = dummyHeaders().set(ACCEPT.value(), "application/json");
+        result = execute(httpClient.request(HttpMethod.GET, testConfig.getFetchResourceUri(resourceId), getHeaders, null, OAuth2HttpClientTest::toResult));
+        // THEN
+        assertEquals(200, result.statusCode());
+        assertTrue(result.bodyText().contains("id")); // Resource fetched
+
+        // WHEN: delete resource
+        result = execute(httpClient.request(HttpMethod.DELETE, testConfig.getDeleteResourceUri(resourceId), dummyHeaders(), null, OAuth2HttpClientTest::toResult));
+        // THEN
+        assertEquals(204, result.statusCode()); // Resource deleted
+    }
+
+    @Test
+    void client_ShouldCompleteAllRequests_WhenSentConcurrentlyWithSingleEventLoop() {
+        // GIVEN: a single event loop thread, which would be starved by any blocking call
+        TestConfig testConfig = getFakeConfig();
+        LoopResources loopResources = LoopResources.create("oauth2-test", 1, true);
+        try {
+            var httpClient = new OAuth2HttpClient(testConfig.getOAuth2Config(), HttpClient.create().runOn(loopResources));
+
+            // WHEN
+            List<Result> results = Flux.range(0, 20).flatMap(i -> createResource(httpClient, testConfig)).collectList().block(TIMEOUT);
+
+            // THEN
+            assertEquals(20, results.size());
+            results.forEach(result -> {
+                assertEquals(200, result.statusCode());
+                assertTrue(result.bodyText().contains("id"));
+            });
+        } finally {
+            loopResources.dispose();
+        }
+    }
+
+    @Test
+    void client_ShouldSupportRelativeUri_WhenBaseUrlConfigured() {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        var httpClient = new OAuth2HttpClient(testConfig.getOAuth2Config(), HttpClient.create().baseUrl(testConfig.getApiBaseUrl()));
+        String relativeUri = testConfig.getFetchResourceUri("1").substring(testConfig.getApiBaseUrl().length());
+
+        // WHEN
+        Result result = execute(httpClient.request(HttpMethod.GET, relativeUri, OAuth2HttpClientTest::toResult));
+
+        // THEN
+        assertEquals(200, result.statusCode());
+    }
+
+    @Test
+    void client_ShouldReturnErrorResponse_WhenAuthorizationServerError() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        useInvalidClientAssertionScenario(); // Force an authentication server error
+        OAuth2HttpClient httpClient = httpClient(testConfig);
+
+        // WHEN
+        Result result = createResource(httpClient, testConfig).block(TIMEOUT);
+
+        // THEN
+        assertEquals(400, result.statusCode());
+        assertEquals("{\"error\":\"invalid_client\",\"error_description\":\"client_assertion signature couldn't be verified\"}", result.bodyText());
+    }
+
+    @Test
+    void client_ShouldReturnErrorResponse_WhenResourceServerError() throws Exception {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        useInsufficientScopeScenario(); // Force a resource server error
+        OAuth2HttpClient httpClient = httpClient(testConfig);
+
+        // WHEN
+        Result result = createResource(httpClient, testConfig).block(TIMEOUT);
+
+        // THEN
+        assertEquals(403, result.statusCode());
+        assertEquals(
+            "Dpop error:\"insufficient_scope\", error_description:\"requested scope is not permitted\", algs:\"ES256 PS256\"",
+            result.headers().get(WWW_AUTHENTICATE.value())
+        );
+        assertEquals("{\"error\":\"insufficient_scope\",\"error_description\":\"requested scope is not permitted\"}", result.bodyText(), true);
+    }
+
+    @Test
+    void client_ShouldPassBinaryBodyThrough_WhenResponseFromResourceServer() {
+        // GIVEN
+        byte[] binaryBody = new byte[1024 * 1024];
+        new Random(42).nextBytes(binaryBody); // Not valid UTF-8
+        useBinaryDownloadScenario(binaryBody);
+        TestConfig testConfig = getFakeConfig();
+        OAuth2HttpClient httpClient = httpClient(testConfig);
+
+        // WHEN
+        Result result = execute(httpClient.request(HttpMethod.GET, testConfig.getFetchResourceUri("1"), dummyHeaders(), null, OAuth2HttpClientTest::toResult));
+
+        // THEN
+        assertEquals(200, result.statusCode());
+        assertArrayEquals(binaryBody, result.body());
+    }
+
+    @Test
+    void client_ShouldPassLargeErrorBodyThrough_WhenResourceServerError() {
+        // GIVEN
+        String errorBody = "0123456789".repeat(100_000);
+        useServerErrorScenario(errorBody.getBytes(StandardCharsets.UTF_8));
+        TestConfig testConfig = getFakeConfig();
+        OAuth2HttpClient httpClient = httpClient(testConfig);
+
+        // WHEN
+        Result result = execute(httpClient.request(HttpMethod.GET, testConfig.getFetchResourceUri("1"), dummyHeaders(), null, OAuth2HttpClientTest::toResult));
+
+        // THEN
+        assertEquals(500, result.statusCode());
+        assertEquals(errorBody, result.bodyText());
+    }
+
+    @Test
+    void adapter_ShouldPeekBeginningOfBody_WhenResourceServerError() {
+        // GIVEN
+        String errorBody = "0123456789".repeat(100_000);
+        useServerErrorScenario(errorBody.getBytes(StandardCharsets.UTF_8));
+        TestConfig testConfig = getFakeConfig();
+        var adapter = new ReactorNettyHttpAdapter(HttpClient.create());
+        var request = new ReactorNettyHttpAdapter.ReactorNettyRequestContext(HttpMethod.GET, testConfig.getFetchResourceUri("1"), dummyHeaders(), null);
+
+        // WHEN
+        var response = adapter.sendResourceRequestAsync(request, new com.mastercard.developer.oauth2.http.HttpHeaders()).join();
+
+        // THEN
+        assertEquals(500, adapter.getStatusCode(response));
+        assertEquals(errorBody.substring(0, ReactorNettyHttpAdapter.BODY_PEEK_LIMIT), adapter.peekBody(response, ReactorNettyHttpAdapter.BODY_PEEK_LIMIT).orElseThrow());
+        assertDoesNotThrow(() -> adapter.close(response)); // Rest of the body not read
+    }
+
+    private static Mono<Result> createResource(OAuth2HttpClient httpClient, TestConfig testConfig) {
+        HttpHeaders headers = dummyHeaders().set(ACCEPT.value(), "application/json").set(CONTENT_TYPE.value(), "application/json");
+        byte[] body = testConfig.getResourceJson().getBytes(StandardCharsets.UTF_8);
+        return httpClient.request(HttpMethod.POST, testConfig.getCreateResourceUri(), headers, body, OAuth2HttpClientTest::toResult).single();
+    }
+
+    private static Mono<Result> toResult(HttpClientResponse response, ByteBufFlux body) {
+        return body.aggregate().asByteArray().defaultIfEmpty(new byte[0]).map(bytes -> new Result(response.status().code(), response.responseHeaders(), bytes));
+    }
+
+    private static Result execute(Flux<Result> results) {
+        return results.single().block(TIMEOUT);
+    }
+
+    /**
+     * Returns default headers that are expected to be replaced. Servers will complain in case they are not.
+     */
+    private static HttpHeaders dummyHeaders() {
+        return new DefaultHttpHeaders().set(USER_AGENT.value(), "Dummy").set(AUTHORIZATION.value(), "Dummy").set(DPOP.value(), "Dummy");
+    }
+}
@@ -12,9 +12,12 @@ import com.mastercard.developer.test.openapi_generator.petstore.restclient.api.P
 import com.mastercard.developer.test.openapi_generator.petstore.restclient.model.Dog;
 import com.mastercard.developer.test.openapi_generator.petstore.restclient.model.NewDog;
 import com.mastercard.developer.test.openapi_generator.petstore.restclient.model.PetStatus;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
@@ -23,6 +26,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 
@@ -121,6 +125,54 @@ class OAuth2ClientHttpRequestInterceptorTest extends BaseClientTest {
         api.deleteDog(dog.getId());
     }
 
+    @Test
+    void client_ShouldSendRequestBodyBytesUnchanged() {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        byte[] body = { '{', '"', 'i', 'd', '"', ':', '"', (byte) 0xC3, (byte) 0xA9, (byte) 0xFF, '"', '}' }; // Includes invalid UTF-8
+        List<byte[]> sentBodies = new CopyOnWriteArrayList<>();
+        RestClient restClient = RestClient.builder()
+            .requestInterceptor(new OAuth2ClientHttpRequestInterceptor(testConfig.getOAuth2Config()))
+            .requestInterceptor((request, requestBody, execution) -> {
+                if (request.getURI().getPath().startsWith("/api")) {
+                    sentBodies.add(requestBody);
+                }
+                return execution.execute(request, requestBody);
+            })
+            .build();
+
+        // WHEN
+        ResponseEntity<String> entity = restClient
+            .post()
+            .uri(testConfig.getCreateResourceUri())
+            .headers(withDummyHeaders(Map.of(ACCEPT.value(), "application/json", CONTENT_TYPE.value(), "application/json")))
+            .body(body)
+            .retrieve()
+            .toEntity(String.class);
+
+        // THEN
+        assertEquals(200, entity.getStatusCode().value());
+        assertEquals(2, sentBodies.size()); // First attempt and `use_dpop_nonce` retry
+        sentBodies.forEach(sentBody -> assertArrayEquals(body, sentBody));
+    }
+
+    @Test
+    void warmUp_ShouldOpenTokenEndpointConnection() {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        var requestFactory = new JdkClientHttpRequestFactory();
+        var interceptor = new OAuth2ClientHttpRequestInterceptor(testConfig.getOAuth2Config());
+        RestClient restClient = RestClient.builder().requestFactory(requestFactory).requestInterceptor(interceptor).build();
+
+        // WHEN
+        boolean warmedUp = interceptor.warmUp(requestFactory, Duration.ofSeconds(5));
+
+        // THEN
+        assertTrue(warmedUp);
+        assertEquals(1, countAuthorizationServerRequests("HEAD"));
+        assertEquals(200, createPostSpec(restClient, testConfig).retrieve().toBodilessEntity().getStatusCode().value());
+    }
+
     @Test
     void client_ShouldThrowHttpClientErrorException_WhenAuthorizationServerError() {
         // GIVEN
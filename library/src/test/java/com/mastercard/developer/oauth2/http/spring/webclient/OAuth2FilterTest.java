@@ -12,20 +12,32 @@ import com.mastercard.developer.test.openapi_generator.petstore.webclient.api.Pe
 import com.mastercard.developer.test.openapi_generator.petstore.webclient.model.Dog;
 import com.mastercard.developer.test.openapi_generator.petstore.webclient.model.NewDog;
 import com.mastercard.developer.test.openapi_generator.petstore.webclient.model.PetStatus;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunctions;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 class OAuth2FilterTest extends BaseClientTest {
 
@@ -125,6 +137,23 @@ class OAuth2FilterTest extends BaseClientTest {
         }
     }
 
+    @Test
+    void warmUp_ShouldOpenTokenEndpointConnection() {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        WebClient.Builder baseBuilder = WebClient.builder();
+        var filter = new OAuth2Filter(testConfig.getOAuth2Config(), baseBuilder);
+        WebClient webClient = baseBuilder.filter(filter).build();
+
+        // WHEN
+        boolean warmedUp = filter.warmUp(Duration.ofSeconds(5));
+
+        // THEN
+        assertTrue(warmedUp);
+        assertEquals(1, countAuthorizationServerRequests("HEAD"));
+        assertEquals(200, createPostSpec(webClient, testConfig).retrieve().toBodilessEntity().block().getStatusCode().value());
+    }
+
     @Test
     void client_ShouldThrowWebClientResponseException_WhenAuthorizationServerError() {
         // GIVEN
@@ -201,6 +230,89 @@ class OAuth2FilterTest extends BaseClientTest {
         assertEquals("{\"error\":\"insufficient_scope\",\"error_description\":\"requested scope is not permitted\"}", ex.getResponseBodyAsString(), true);
     }
 
+    @Test
+    void client_ShouldNotUseBoundedElasticThreads_WhenRequestsSentConcurrently() {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        WebClient webClient = clientWithFilter(testConfig);
+
+        // WHEN
+        List<String> threadNames = Flux.range(0, 50)
+            .flatMap(i -> createPostSpec(webClient, testConfig).retrieve().bodyToMono(String.class).map(body -> Thread.currentThread().getName()))
+            .collectList()
+            .block();
+
+        // THEN
+        assertNotNull(threadNames);
+        assertEquals(50, threadNames.size());
+        assertTrue(threadNames.stream().noneMatch(name -> name.startsWith("boundedElastic")), threadNames::toString);
+    }
+
+    @Test
+    void client_ShouldPropagateReactorContext_ToNextFilters() {
+        // GIVEN
+        TestConfig testConfig = getFakeConfig();
+        WebClient.Builder baseBuilder = WebClient.builder();
+        List<Object> contextValues = new CopyOnWriteArrayList<>();
+        ExchangeFilterFunction contextCapturingFilter = (request, next) ->
+            Mono.deferContextual(context -> {
+                contextValues.add(context.getOrDefault("trace-id", "<none>"));
+                return next.exchange(request);
+            });
+        WebClient webClient = baseBuilder.filter(new OAuth2Filter(testConfig.getOAuth2Config(), WebClient.builder())).filter(contextCapturingFilter).build();
+
+        // WHEN
+        String body = createPostSpec(webClient, testConfig).retrieve().bodyToMono(String.class).contextWrite(Context.of("trace-id", "1234")).block();
+
+        // THEN
+        assertNotNull(body);
+        assertFalse(contextValues.isEmpty());
+        assertTrue(contextValues.stream().allMatch("1234"::equals), contextValues::toString);
+    }
+
+    @Test
+    void client_ShouldPassLargeBinaryErrorBodyThrough_WhenResourceServerError() {
+        // GIVEN
+        byte[] errorBody = new byte[200_000];
+        for (int i = 0; i < errorBody.length; i++) {
+            errorBody[i] = (byte) i;
+        }
+        useServerErrorScenario(errorBody);
+        TestConfig testConfig = getFakeConfig();
+        WebClient webClient = clientWithFilter(testConfig);
+
+        // WHEN
+        byte[] body = createGetSpec(webClient, testConfig, "1")
+            .exchangeToMono(response -> {
+                assertEquals(500, response.statusCode().value());
+                return response.bodyToMono(byte[].class);
+            })
+            .block();
+
+        // THEN
+        assertArrayEquals(errorBody, body);
+    }
+
+    @Test
+    void adapter_ShouldPeekBeginningOfBody_WhenResourceServerError() throws Exception {
+        // GIVEN
+        String errorBody = "0123456789".repeat(100_000);
+        useServerErrorScenario(errorBody.getBytes(StandardCharsets.UTF_8));
+        TestConfig testConfig = getFakeConfig();
+        var adapter = new WebClientHttpAdapter(WebClient.create());
+        var request = ClientRequest.create(HttpMethod.GET, URI.create(testConfig.getFetchResourceUri("1"))).build();
+        var context = new WebClientHttpAdapter.ReactiveRequestContext(request, ExchangeFunctions.create(new JdkClientHttpConnector()));
+
+        // WHEN
+        var response = adapter.sendResourceRequestAsync(context, new com.mastercard.developer.oauth2.http.HttpHeaders()).join();
+
+        // THEN
+        assertEquals(500, adapter.getStatusCode(response));
+        assertEquals(errorBody.substring(0, WebClientHttpAdapter.BODY_PEEK_LIMIT), adapter.peekBody(response, WebClientHttpAdapter.BODY_PEEK_LIMIT).orElseThrow());
+        assertTrue(adapter.readBody(response).orElseThrow().length() < errorBody.length()); // Rest of the body not read
+        assertDoesNotThrow(() -> adapter.close(response));
+    }
+
     /**
      * Adds default headers that are expected to be replaced. Servers will complain in case they are not.
      */
@@ -0,0 +1,52 @@
+package com.mastercard.developer.oauth2.internal.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class PeekableInputStreamTest {
+
+    @Test
+    void peek_ShouldNotConsumeBytes() throws Exception {
+        // GIVEN
+        var inputStream = new PeekableInputStream(new ByteArrayInputStream("{\"error\":\"use_dpop_nonce\"}".getBytes(StandardCharsets.UTF_8)));
+
+        // WHEN
+        byte[] peeked = inputStream.peek(9);
+
+        // THEN
+        assertEquals("{\"error\":", new String(peeked, StandardCharsets.UTF_8));
+        assertEquals("{\"error\":\"use_dpop_nonce\"}", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void peek_ShouldReturnAllBytes_WhenStreamShorterThanMaxBytes() throws Exception {
+        // GIVEN
+        var inputStream = new PeekableInputStream(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+
+        // WHEN
+        byte[] first = inputStream.peek(Integer.MAX_VALUE);
+        byte[] second = inputStream.peek(1024);
+
+        // THEN
+        assertEquals("{}", new String(first, StandardCharsets.UTF_8));
+        assertEquals("{}", new String(second, StandardCharsets.UTF_8));
+        assertEquals("{}", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void peek_ShouldPeekFromCurrentPosition() throws Exception {
+        // GIVEN
+        var inputStream = new PeekableInputStream(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4 }));
+        assertEquals(1, inputStream.read());
+
+        // WHEN
+        byte[] peeked = inputStream.peek(2);
+
+        // THEN
+        assertArrayEquals(new byte[] { 2, 3 }, peeked);
+        assertArrayEquals(new byte[] { 2, 3, 4 }, inputStream.readAllBytes());
+    }
+}
@@ -0,0 +1,95 @@
+package com.mastercard.developer.oauth2.internal.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import org.junit.jupiter.api.Test;
+
+class PrefixBufferingSubscriberTest {
+
+    @Test
+    void prefix_ShouldCompleteWithBufferedBytes_WhenLimitReached() throws Exception {
+        // GIVEN
+        var upstream = new RecordingSubscription();
+        var subscriber = newSubscriber(4);
+        subscriber.onSubscribe(upstream);
+
+        // WHEN
+        subscriber.onNext(bytes("ab"));
+        subscriber.onNext(bytes("cdef"));
+
+        // THEN
+        var prefix = subscriber.prefix().get();
+        assertEquals("abcdef", new String(prefix.bytes(), StandardCharsets.UTF_8));
+        assertFalse(prefix.whole());
+        assertEquals(List.of(1L, 1L), upstream.requests); // Nothing requested past the limit
+    }
+
+    @Test
+    void request_ShouldSaturateDemand_WhenRequestedWhilePublishingBufferedBytes() {
+        // GIVEN
+        var upstream = new RecordingSubscription();
+        var subscriber = newSubscriber(4);
+        subscriber.onSubscribe(upstream);
+        subscriber.onNext(bytes("abcd"));
+        var received = new CopyOnWriteArrayList<String>();
+        subscriber.subscribe(
+            new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    // Requested below
+                }
+
+                @Override
+                public void onNext(byte[] item) {
+                    received.add(new String(item, StandardCharsets.UTF_8));
+                    subscriber.request(Long.MAX_VALUE - 1);
+                    subscriber.request(5);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    fail(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    // Not expected
+                }
+            }
+        );
+
+        // WHEN
+        subscriber.request(1);
+
+        // THEN
+        assertEquals(List.of("abcd"), received);
+        assertEquals(Long.MAX_VALUE, upstream.requests.get(upstream.requests.size() - 1));
+    }
+
+    private static PrefixBufferingSubscriber<byte[]> newSubscriber(int limit) {
+        return new PrefixBufferingSubscriber<>(limit, (item, out) -> out.writeBytes(item), bytes -> bytes);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class RecordingSubscription implements Flow.Subscription {
+
+        private final List<Long> requests = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void request(long n) {
+            requests.add(n);
+        }
+
+        @Override
+        public void cancel() {
+            // No-op
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.mastercard.developer.oauth2.internal.jose;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mastercard.developer.oauth2.core.signing.JcaJwsSigner;
+import com.mastercard.developer.oauth2.core.signing.JwsAlgorithm;
+import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
+import com.mastercard.developer.oauth2.internal.json.GsonJsonProvider;
+import com.mastercard.developer.oauth2.internal.json.JacksonJsonProvider;
+import com.mastercard.developer.oauth2.json.JsonProvider;
+import com.mastercard.developer.oauth2.test.fixtures.StaticKeys;
+import com.mastercard.developer.oauth2.test.helpers.JwsUtils;
+import com.nimbusds.jwt.SignedJWT;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class JwsCompactWriterTest {
+
+    static Stream<Arguments> jsonProviders() {
+        return Stream.of(createArgument(JacksonJsonProvider::new), createArgument(GsonJsonProvider::new));
+    }
+
+    private static Arguments createArgument(Supplier<JsonProvider> jsonProviderSupplier) {
+        return Arguments.of(jsonProviderSupplier.get());
+    }
+
+    @ParameterizedTest
+    @MethodSource("jsonProviders")
+    void getSigningInput_ShouldMatchJsonProviderBytes_WhenDPoPProofShape(JsonProvider provider) throws Exception {
+        // GIVEN
+        var jwk = Jwk.fromKey(StaticKeys.EC_KEY_PAIR.getPublic());
+        Map<String, Object> jwkMap = new LinkedHashMap<>();
+        jwkMap.put("kty", jwk.get("kty"));
+        jwkMap.put("crv", jwk.get("crv"));
+        jwkMap.put("x", jwk.get("x"));
+        jwkMap.put("y", jwk.get("y"));
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", "ES256");
+        header.put("typ", "dpop+jwt");
+        header.put("kid", "c7d1ea92-d802-4ce6-bb85-eeccf9a982d3");
+        header.put("jwk", jwkMap);
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("jti", "AbCdEfGhIjKlMnOp");
+        payload.put("htm", "GET");
+        payload.put("htu", "https://api.mastercard.com/service/resources/1");
+        payload.put("iat", 1760099966L);
+        payload.put("exp", 1760100061L);
+        payload.put("ath", "fUHyO2r2Z3DZ53EsNrWBb0xWXoaNy59IiKCAqksmQEo");
+        payload.put("nonce", "744cee0b7fe7830d2dc26d6f1901c53f");
+
+        // WHEN
+        String signingInput = JwsCompactWriter.get()
+            .startHeader()
+            .add("alg", "ES256")
+            .add("typ", "dpop+jwt")
+            .add("kid", "c7d1ea92-d802-4ce6-bb85-eeccf9a982d3")
+            .add("jwk", jwk)
+            .startPayload()
+            .add("jti", "AbCdEfGhIjKlMnOp")
+            .add("htm", "GET")
+            .add("htu", "https://api.mastercard.com/service/resources/1")
+            .add("iat", 1760099966L)
+            .add("exp", 1760100061L)
+            .add("ath", "fUHyO2r2Z3DZ53EsNrWBb0xWXoaNy59IiKCAqksmQEo")
+            .add("nonce", "744cee0b7fe7830d2dc26d6f1901c53f")
+            .getSigningInput();
+
+        // THEN
+        assertArrayEquals(referenceSigningInput(provider, header, payload), signingInput.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @ParameterizedTest
+    @MethodSource("jsonProviders")
+    void getSigningInput_ShouldMatchJsonProviderBytes_WhenClientAssertionShape(JsonProvider provider) throws Exception {
+        // GIVEN
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", "PS256");
+        header.put("typ", "JWT");
+        header.put("kid", "302449525fad5309874b16298f3cbaaf0000000000000000");
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("jti", "x9Rt-Ld_0qPzWv3A");
+        payload.put("sub", "ZvT0sklPsqzTNgKJIiex5_wppXz0Tj2wl33LUZtXmCQH8dry");
+        payload.put("iss", "ZvT0sklPsqzTNgKJIiex5_wppXz0Tj2wl33LUZtXmCQH8dry");
+        payload.put("aud", "https://sandbox.api.mastercard.com");
+        payload.put("iat", 1760099966L);
+        payload.put("exp", 1760100061L);
+        payload.put("nbf", 0L);
+
+        // WHEN
+        String signingInput = JwsCompactWriter.get()
+            .startHeader()
+            .add("alg", "PS256")
+            .add("typ", "JWT")
+            .add("kid", "302449525fad5309874b16298f3cbaaf0000000000000000")
+            .startPayload()
+            .add("jti", "x9Rt-Ld_0qPzWv3A")
+            .add("sub", "ZvT0sklPsqzTNgKJIiex5_wppXz0Tj2wl33LUZtXmCQH8dry")
+            .add("iss", "ZvT0sklPsqzTNgKJIiex5_wppXz0Tj2wl33LUZtXmCQH8dry")
+            .add("aud", "https://sandbox.api.mastercard.com")
+            .add("iat", 1760099966L)
+            .add("exp", 1760100061L)
+            .add("nbf", 0L)
+            .getSigningInput();
+
+        // THEN
+        assertArrayEquals(referenceSigningInput(provider, header, payload), signingInput.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void getSigningInput_ShouldMatchJacksonBytes_WhenValuesNeedEscaping() throws Exception {
+        // GIVEN
+        var value = "quote\" backslash\\ controls\b\t\n\f\r\u0001\u001f latiné cjk中 emoji😀 " + "a".repeat(5000);
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("typ", value);
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("min", Long.MIN_VALUE);
+        payload.put("negative", -42L);
+        payload.put("max", Long.MAX_VALUE);
+
+        // WHEN
+        String signingInput = JwsCompactWriter.get()
+            .startHeader()
+            .add("typ", value)
+            .startPayload()
+            .add("min", Long.MIN_VALUE)
+            .add("negative", -42L)
+            .add("max", Long.MAX_VALUE)
+            .getSigningInput();
+
+        // THEN
+        assertArrayEquals(referenceSigningInput(new JacksonJsonProvider(), header, payload), signingInput.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void add_ShouldSkipMember_WhenValueNull() {
+        // WHEN
+        String signingInput = JwsCompactWriter.get().startHeader().add("alg", "PS256").add("kid", (String) null).startPayload().add("sub", "user123").getSigningInput();
+
+        // THEN
+        assertEquals("eyJhbGciOiJQUzI1NiJ9.eyJzdWIiOiJ1c2VyMTIzIn0", signingInput);
+    }
+
+    @Test
+    void add_ShouldWriteRsaJwkMembersInOrder() {
+        // GIVEN
+        var jwk = Jwk.fromKey(StaticKeys.RSA_KEY_PAIR.getPublic());
+
+        // WHEN
+        String signingInput = JwsCompactWriter.get().startHeader().add("jwk", jwk).startPayload().getSigningInput();
+
+        // THEN
+        String header = new String(Base64.getUrlDecoder().decode(signingInput.split("\\.")[0]), StandardCharsets.UTF_8);
+        assertEquals("{\"jwk\":{\"kty\":\"RSA\",\"e\":\"%s\",\"n\":\"%s\"}}".formatted(jwk.get("e"), jwk.get("n")), header);
+    }
+
+    @Test
+    void startHeader_ShouldDiscardPreviousContent_WhenWriterReused() {
+        // GIVEN
+        JwsCompactWriter.get().startHeader().add("typ", "x".repeat(3000)).startPayload().add("sub", "y".repeat(3000)).getSigningInput();
+
+        // WHEN
+        String signingInput = JwsCompactWriter.get().startHeader().add("alg", "PS256").startPayload().add("sub", "user123").getSigningInput();
+
+        // THEN
+        assertEquals("eyJhbGciOiJQUzI1NiJ9.eyJzdWIiOiJ1c2VyMTIzIn0", signingInput);
+    }
+
+    @Test
+    void sign_ShouldProduceValidES256Jws() throws Exception {
+        // GIVEN
+        var keyPair = StaticKeys.EC_KEY_PAIR;
+
+        // WHEN
+        String jws = JwsCompactWriter.get()
+            .startHeader()
+            .add("alg", "ES256")
+            .add("typ", "JWT")
+            .startPayload()
+            .add("sub", "test-ec")
+            .sign(new JcaJwsSigner(keyPair.getPrivate()));
+
+        // THEN
+        SignedJWT signedJwt = SignedJWT.parse(jws);
+        JwsUtils.checkSignatureValid(signedJwt, keyPair.getPublic());
+        assertEquals("test-ec", signedJwt.getJWTClaimsSet().getSubject());
+    }
+
+    @Test
+    void sign_ShouldProduceValidPS256Jws() throws Exception {
+        // GIVEN
+        var keyPair = StaticKeys.RSA_KEY_PAIR;
+
+        // WHEN
+        String jws = JwsCompactWriter.get()
+            .startHeader()
+            .add("alg", "PS256")
+            .add("typ", "JWT")
+            .startPayload()
+            .add("sub", "test-rsa")
+            .sign(new JcaJwsSigner(keyPair.getPrivate()));
+
+        // THEN
+        SignedJWT signedJwt = SignedJWT.parse(jws);
+        JwsUtils.checkSignatureValid(signedJwt, keyPair.getPublic());
+        assertEquals("test-rsa", signedJwt.getJWTClaimsSet().getSubject());
+    }
+
+    @Test
+    void sign_ShouldThrowOAuth2ClientException_WhenSigningFails() {
+        // GIVEN
+        var writer = JwsCompactWriter.get().startHeader().add("alg", "ES256").startPayload().add("sub", "wrong-key-type");
+        var signer = new JcaJwsSigner(StaticKeys.RSA_KEY_PAIR.getPrivate(), JwsAlgorithm.ES256, null);
+
+        // WHEN / THEN
+        var ex = assertThrows(OAuth2ClientException.class, () -> writer.sign(signer));
+        assertEquals("Failed to sign JWT", ex.getMessage());
+    }
+
+    private static byte[] referenceSigningInput(JsonProvider provider, Map<String, Object> header, Map<String, Object> payload) throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "%s.%s".formatted(
+                encoder.encodeToString(provider.write(header).getBytes(StandardCharsets.UTF_8)),
+                encoder.encodeToString(provider.write(payload).getBytes(StandardCharsets.UTF_8))
+            )
+            .getBytes(StandardCharsets.US_ASCII);
+    }
+}
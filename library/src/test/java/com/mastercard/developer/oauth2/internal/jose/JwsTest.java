@@ -2,6 +2,7 @@ package com.mastercard.developer.oauth2.internal.jose;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.mastercard.developer.oauth2.core.signing.JwsAlgorithm;
 import com.mastercard.developer.oauth2.exception.OAuth2ClientException;
 import com.mastercard.developer.oauth2.test.fixtures.StaticKeys;
 import com.mastercard.developer.oauth2.test.helpers.JwsUtils;
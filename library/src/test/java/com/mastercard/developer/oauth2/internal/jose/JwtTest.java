@@ -88,6 +88,20 @@ class JwtTest {
         assertEquals("eyJhbGciOiJQUzI1NiJ9.eyJzdWIiOiJ1c2VyMTIzIn0", signingInput);
     }
 
+    @Test
+    void getSigningInput_ShouldReflectChanges_WhenCalledAgainAfterClaimAdded() throws Exception {
+        // GIVEN
+        jwt.addHeaderParam("alg", "PS256");
+        String initialSigningInput = jwt.getSigningInput();
+
+        // WHEN
+        jwt.addClaim("sub", "user123");
+
+        // THEN
+        assertEquals("eyJhbGciOiJQUzI1NiJ9.e30", initialSigningInput);
+        assertEquals("eyJhbGciOiJQUzI1NiJ9.eyJzdWIiOiJ1c2VyMTIzIn0", jwt.getSigningInput());
+    }
+
     @Test
     void getJwsCompactSerialization_ShouldReturnSerialized_WhenSignatureSet() throws Exception {
         // GIVEN
@@ -0,0 +1,145 @@
+package com.mastercard.developer.oauth2.internal.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mastercard.developer.oauth2.internal.json.AccessTokenResponseParser.ParsedAccessTokenResponse;
+import com.mastercard.developer.oauth2.json.JsonProvider;
+import com.mastercard.developer.oauth2.json.exception.OAuth2ClientJsonException;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AccessTokenResponseParserTest {
+
+    private static final Set<String> KNOWN_SCOPES = Set.of("service:scope1", "service:scope2");
+
+    static Stream<Arguments> responsesAndJsonProviders() {
+        var responses = Stream.of(
+            "{\"access_token\":\"eyJ4NXQjUzI1NiI6Ii...oPIq4PZf2WaMxLow\",\"token_type\":\"DPoP\",\"expires_in\":900,\"scope\":\"service:scope1 service:scope2\"}",
+            """
+            {
+              "access_token": "eyJ4NXQjUzI1NiI6Ii...oPIq4PZf2WaMxLow",
+              "token_type": "DPoP",
+              "expires_in": 900,
+              "scope": "  service:scope1\\tservice:scope3  "
+            }""",
+            "{\"scope\":\"service:scope1\",\"expires_in\":3600,\"access_token\":\"token\"}",
+            "{\"access_token\":\"to\\\"ken\\u00e9\\/\",\"token_type\":\"DPoP\",\"expires_in\":900.0,\"scope\":\"service\\/scope1\"}",
+            """
+            {"access_token":"token","expires_in":1.2e3,"issued_token_type":null,"authorization_details":[{"type":"payment","amounts":[1,2.5,-3e-2],"ok":true}],"extra":false}""",
+            "{\"access_token\":\"token\",\"expires_in\":900}",
+            "{\"token_type\":\"DPoP\",\"scope\":\"service:scope2\"}",
+            "{}"
+        );
+        return responses.flatMap(response ->
+            Stream.of(
+                createArgument(response, BuiltInJsonProvider::new),
+                createArgument(response, JsonOrgJsonProvider::new),
+                createArgument(response, JacksonJsonProvider::new),
+                createArgument(response, GsonJsonProvider::new)
+            )
+        );
+    }
+
+    private static Arguments createArgument(String response, Supplier<JsonProvider> jsonProviderSupplier) {
+        JsonProvider provider = jsonProviderSupplier.get();
+        return Arguments.of(response, Named.of(provider.getClass().getSimpleName(), provider));
+    }
+
+    @ParameterizedTest
+    @MethodSource("responsesAndJsonProviders")
+    void parse_ShouldReadSameValuesAsJsonProvider(String response, JsonProvider provider) throws Exception {
+        // GIVEN
+        Map<String, Object> map = provider.parse(response);
+
+        // WHEN
+        ParsedAccessTokenResponse parsedResponse = AccessTokenResponseParser.parse(response, KNOWN_SCOPES);
+
+        // THEN
+        assertEquals(map.get("access_token"), parsedResponse.accessToken());
+        assertEquals(map.get("token_type"), parsedResponse.tokenType());
+        var expiresIn = (Number) map.get("expires_in");
+        assertEquals(expiresIn == null ? null : expiresIn.longValue(), parsedResponse.expiresIn());
+        var scope = (String) map.get("scope");
+        assertEquals(scope == null ? Set.of() : Set.of(scope.trim().split("\\s+")), parsedResponse.scopes());
+    }
+
+    @ParameterizedTest
+    @MethodSource("responsesAndJsonProviders")
+    void fromMap_ShouldReadSameValuesAsParse(String response, JsonProvider provider) throws Exception {
+        // GIVEN
+        Map<String, Object> map = provider.parse(response);
+
+        // WHEN
+        ParsedAccessTokenResponse parsedResponse = AccessTokenResponseParser.fromMap(map, KNOWN_SCOPES);
+
+        // THEN
+        assertEquals(AccessTokenResponseParser.parse(response, KNOWN_SCOPES), parsedResponse);
+    }
+
+    @Test
+    void parse_ShouldReturnKnownScopeInstances_WhenScopesAreKnown() throws Exception {
+        // GIVEN
+        var response = "{\"access_token\":\"token\",\"expires_in\":900,\"scope\":\"service:scope2 service:scope3\"}";
+
+        // WHEN
+        ParsedAccessTokenResponse parsedResponse = AccessTokenResponseParser.parse(response, KNOWN_SCOPES);
+
+        // THEN
+        assertEquals(Set.of("service:scope2", "service:scope3"), parsedResponse.scopes());
+        String knownScope = KNOWN_SCOPES.stream().filter("service:scope2"::equals).findFirst().orElseThrow();
+        assertSame(knownScope, parsedResponse.scopes().stream().filter("service:scope2"::equals).findFirst().orElseThrow());
+    }
+
+    @Test
+    void parse_ShouldIgnoreDuplicateScopes() throws Exception {
+        // WHEN
+        ParsedAccessTokenResponse parsedResponse = AccessTokenResponseParser.parse("{\"scope\":\"service:scope1 service:scope1\"}", KNOWN_SCOPES);
+
+        // THEN
+        assertEquals(Set.of("service:scope1"), parsedResponse.scopes());
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "",
+            "not a valid json",
+            "[]",
+            "{\"access_token\":\"token\"",
+            "{\"access_token\":\"token\",}",
+            "{\"access_token\":\"token\"} trailing",
+            "{\"access_token\":\"tok\nen\"}",
+            "{\"access_token\":\"token\",\"expires_in\":012}",
+            "{\"access_token\":\"token\",\"expires_in\":-}",
+            "{\"access_token\":\"token\",\"extra\":[1,]}",
+            "{\"access_token\":\"token\",\"extra\":nul}",
+            "{\"access_token\":\"\\x\"}",
+            "{access_token:\"token\"}",
+        }
+    )
+    void parse_ShouldThrowException_WhenInvalidJson(String response) {
+        // WHEN
+        var exception = assertThrows(OAuth2ClientJsonException.class, () -> AccessTokenResponseParser.parse(response, KNOWN_SCOPES));
+
+        // THEN
+        assertEquals("Failed to read JSON", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "{\"access_token\":42}", "{\"expires_in\":\"900\"}", "{\"scope\":[\"service:scope1\"]}" })
+    void parse_ShouldThrowException_WhenUnexpectedValueType(String response) {
+        // WHEN
+        var exception = assertThrows(OAuth2ClientJsonException.class, () -> AccessTokenResponseParser.parse(response, KNOWN_SCOPES));
+
+        // THEN
+        assertTrue(exception.getMessage().startsWith("Unexpected value type for member: "));
+    }
+}
@@ -0,0 +1,118 @@
+package com.mastercard.developer.oauth2.internal.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.mastercard.developer.oauth2.json.exception.OAuth2ClientJsonException;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class BuiltInJsonProviderTest {
+
+    private final BuiltInJsonProvider provider = new BuiltInJsonProvider();
+
+    @Test
+    void parse_ShouldReadAllValueTypes() throws Exception {
+        // GIVEN
+        var json = """
+            {
+              "string": "a\\"b\\\\c\\/d\\u00e9\\n",
+              "int": 42,
+              "negative": -7,
+              "big": 123456789012345678901234567890,
+              "decimal": 1.5e2,
+              "true": true,
+              "false": false,
+              "null": null,
+              "array": [1, "two", [], {}],
+              "object": {"nested": {"deep": [null]}}
+            }""";
+
+        // WHEN
+        Map<String, Object> map = provider.parse(json);
+
+        // THEN
+        assertEquals(List.of("string", "int", "negative", "big", "decimal", "true", "false", "null", "array", "object"), List.copyOf(map.keySet()));
+        assertEquals("a\"b\\c/d\u00e9\n", map.get("string"));
+        assertEquals(42L, map.get("int"));
+        assertEquals(-7L, map.get("negative"));
+        assertEquals(new BigInteger("123456789012345678901234567890"), map.get("big"));
+        assertEquals(150.0, map.get("decimal"));
+        assertEquals(Boolean.TRUE, map.get("true"));
+        assertEquals(Boolean.FALSE, map.get("false"));
+        assertTrue(map.containsKey("null"));
+        assertNull(map.get("null"));
+        assertEquals(List.of(1L, "two", List.of(), Map.of()), map.get("array"));
+        assertEquals(Map.of("nested", Map.of("deep", Collections.singletonList(null))), map.get("object"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "[]", "{", "{\"a\":}", "{\"a\":1,}", "{\"a\":01}", "{\"a\":tru}", "{\"a\":\"\\q\"}", "{\"a\":1} {}", "{'a':1}" })
+    void parse_ShouldThrowExceptionWithOffset_WhenInvalidJson(String json) {
+        // WHEN
+        var exception = assertThrows(OAuth2ClientJsonException.class, () -> provider.parse(json));
+
+        // THEN
+        assertEquals("Failed to read JSON", exception.getMessage());
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertTrue(exception.getCause().getMessage().startsWith("Invalid JSON at offset "));
+    }
+
+    @Test
+    void parse_ShouldThrowException_WhenNestingIsTooDeep() {
+        // GIVEN
+        var json = "{\"a\":" + "[".repeat(100) + "]".repeat(100) + "}";
+
+        // WHEN
+        var exception = assertThrows(OAuth2ClientJsonException.class, () -> provider.parse(json));
+
+        // THEN
+        assertEquals("Invalid JSON at offset 69: maximum nesting depth exceeded", exception.getCause().getMessage());
+    }
+
+    @Test
+    void write_ShouldEscapeStrings_AndKeepMemberOrder() throws Exception {
+        // GIVEN
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("text", "quote\" backslash\\ tab\t control\u0001 unicode\u00e9");
+        map.put("numbers", List.of(1, 2L, 2.5, new BigInteger("123456789012345678901234567890")));
+        map.put("flags", new Object[] { true, false, null });
+
+        // WHEN
+        String json = provider.write(map);
+
+        // THEN
+        assertEquals(
+            "{\"text\":\"quote\\\" backslash\\\\ tab\\t control\\u0001 unicode\u00e9\",\"numbers\":[1,2,2.5,123456789012345678901234567890],\"flags\":[true,false,null]}",
+            json
+        );
+        assertEquals(map.get("text"), provider.parse(json).get("text"));
+    }
+
+    @Test
+    void write_ShouldThrowException_WhenValueTypeIsUnsupported() {
+        // GIVEN
+        Map<String, Object> map = Map.of("value", new Object());
+
+        // WHEN
+        var exception = assertThrows(OAuth2ClientJsonException.class, () -> provider.write(map));
+
+        // THEN
+        assertEquals("Failed to write JSON", exception.getMessage());
+        assertTrue(exception.getCause().getMessage().startsWith("Unsupported JSON value type: "));
+    }
+
+    @Test
+    void write_ShouldThrowException_WhenNumberIsNotFinite() {
+        // GIVEN
+        Map<String, Object> map = Map.of("value", Double.NaN);
+
+        // WHEN / THEN
+        assertThrows(OAuth2ClientJsonException.class, () -> provider.write(map));
+    }
+}
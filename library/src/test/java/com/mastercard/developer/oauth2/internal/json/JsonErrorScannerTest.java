@@ -0,0 +1,72 @@
+package com.mastercard.developer.oauth2.internal.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JsonErrorScannerTest {
+
+    private static final int LIMIT = 8 * 1024;
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "{\"error\":\"use_dpop_nonce\"}",
+            " {\n  \"error\" : \"use_dpop_nonce\",\n  \"error_description\": \"Authorization server requires nonce in DPoP proof\"\n}",
+            "{\"error_description\":\"Resource server requires \\\"nonce\\\" in DPoP proof\",\"error\":\"use_dpop_nonce\"}",
+            "{\"details\":{\"error\":\"other\",\"codes\":[1,{\"a\":\"}\"}]},\"count\":2,\"retry\":true,\"error\":\"use_dpop_nonce\"}",
+        }
+    )
+    void hasError_ShouldReturnTrue_WhenTopLevelErrorMatches(String json) {
+        // WHEN
+        boolean result = JsonErrorScanner.hasError(json, "use_dpop_nonce", LIMIT);
+
+        // THEN
+        assertTrue(result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "",
+            "use_dpop_nonce",
+            "[{\"error\":\"use_dpop_nonce\"}]",
+            "{\"error\":\"invalid_dpop_proof\"}",
+            "{\"error\":\"use_dpop_nonce_2\"}",
+            "{\"error\":[\"use_dpop_nonce\"]}",
+            "{\"details\":{\"error\":\"use_dpop_nonce\"}}",
+            "{\"error_description\":\"\\\"error\\\":\\\"use_dpop_nonce\\\"\"}",
+            "{\"error\":\"invalid_client\",\"error\":\"use_dpop_nonce\"}",
+            "{\"error\":\"use_dpop_nonce",
+            "<html><body>Bad Request</body></html>",
+        }
+    )
+    void hasError_ShouldReturnFalse_WhenTopLevelErrorDoesNotMatch(String json) {
+        // WHEN
+        boolean result = JsonErrorScanner.hasError(json, "use_dpop_nonce", LIMIT);
+
+        // THEN
+        assertFalse(result);
+    }
+
+    @Test
+    void hasError_ShouldReturnFalse_WhenJsonIsNull() {
+        assertFalse(JsonErrorScanner.hasError(null, "use_dpop_nonce", LIMIT));
+    }
+
+    @Test
+    void hasError_ShouldStopScanning_WhenLimitIsReached() {
+        // GIVEN
+        var json = "{\"padding\":\"" + "x".repeat(100) + "\",\"error\":\"use_dpop_nonce\"}";
+
+        // WHEN
+        boolean withinLimit = JsonErrorScanner.hasError(json, "use_dpop_nonce", json.length());
+        boolean beyondLimit = JsonErrorScanner.hasError(json, "use_dpop_nonce", 100);
+
+        // THEN
+        assertTrue(withinLimit);
+        assertFalse(beyondLimit);
+    }
+}
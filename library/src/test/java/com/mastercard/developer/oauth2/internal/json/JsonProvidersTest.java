@@ -3,7 +3,8 @@ package com.mastercard.developer.oauth2.internal.json;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.skyscreamer.jsonassert.JSONAssert.*;
 
-import com.mastercard.developer.oauth2.internal.json.exception.OAuth2ClientJsonException;
+import com.mastercard.developer.oauth2.json.JsonProvider;
+import com.mastercard.developer.oauth2.json.exception.OAuth2ClientJsonException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -18,7 +19,12 @@ import org.junit.jupiter.params.provider.MethodSource;
 class JsonProvidersTest {
 
     static Stream<Arguments> jsonProviders() {
-        return Stream.of(createConfigArgument(JsonOrgJsonProvider::new), createConfigArgument(JacksonJsonProvider::new), createConfigArgument(GsonJsonProvider::new));
+        return Stream.of(
+            createConfigArgument(BuiltInJsonProvider::new),
+            createConfigArgument(JsonOrgJsonProvider::new),
+            createConfigArgument(JacksonJsonProvider::new),
+            createConfigArgument(GsonJsonProvider::new)
+        );
     }
 
     private static Arguments createConfigArgument(Supplier<JsonProvider> jsonProviderSupplier) {
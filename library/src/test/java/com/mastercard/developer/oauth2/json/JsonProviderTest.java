@@ -0,0 +1,234 @@
+package com.mastercard.developer.oauth2.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.Gson;
+import com.mastercard.developer.oauth2.internal.json.BuiltInJsonProvider;
+import com.mastercard.developer.oauth2.internal.json.GsonJsonProvider;
+import com.mastercard.developer.oauth2.internal.json.JacksonJsonProvider;
+import com.mastercard.developer.oauth2.internal.json.JsonOrgJsonProvider;
+import com.mastercard.developer.oauth2.json.exception.OAuth2ClientJsonException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.ObjectMapper;
+
+class JsonProviderTest {
+
+    @Test
+    void getInstance_ShouldReturnSingleInstance() {
+        JsonProvider provider1 = JsonProvider.getInstance();
+        assertNotNull(provider1);
+        JsonProvider provider2 = JsonProvider.getInstance();
+        assertNotNull(provider2);
+        assertSame(provider1, provider2);
+    }
+
+    @Test
+    void getInstance_ShouldReturnBuiltInProvider() {
+        assertInstanceOf(BuiltInJsonProvider.class, JsonProvider.getInstance());
+    }
+
+    @Test
+    void serviceLoader_ShouldFindAllProviders() {
+        // WHEN
+        List<Class<? extends JsonProvider>> providerTypes = ServiceLoader.load(JsonProvider.class).stream().map(ServiceLoader.Provider::type).toList();
+
+        // THEN
+        assertEquals(List.of(BuiltInJsonProvider.class, JacksonJsonProvider.class, GsonJsonProvider.class, JsonOrgJsonProvider.class), providerTypes);
+    }
+
+    @Test
+    void load_ShouldNotInitializeProvidersOtherThanSelected() throws Exception {
+        // GIVEN: the library and JSON libraries loaded again by an isolated class loader
+        try (var loader = new RecordingClassLoader(JsonProvider.class, ObjectMapper.class, Gson.class, JSONObject.class, LoggerFactory.class)) {
+            var load = Class.forName(JsonProviders.class.getName(), true, loader).getDeclaredMethod("load");
+            load.setAccessible(true);
+
+            // WHEN
+            Object provider = load.invoke(null);
+
+            // THEN
+            assertEquals(BuiltInJsonProvider.class.getName(), provider.getClass().getName());
+            assertTrue(loader.loadedClassNames.contains(JacksonJsonProvider.class.getName()));
+            // JacksonJsonProvider and GsonJsonProvider create an ObjectMapper and a Gson instance when initialized
+            assertFalse(loader.loadedClassNames.contains(ObjectMapper.class.getName()));
+            assertFalse(loader.loadedClassNames.contains(Gson.class.getName()));
+        }
+    }
+
+    @Test
+    void select_ShouldReturnProviderWithHighestPriority() {
+        // GIVEN
+        var customProvider = new HighPriorityJsonProvider();
+        var providers = List.of(
+            provider(JsonOrgJsonProvider.class, JsonOrgJsonProvider::new),
+            provider(BuiltInJsonProvider.class, BuiltInJsonProvider::new),
+            provider(HighPriorityJsonProvider.class, () -> customProvider),
+            provider(JacksonJsonProvider.class, JacksonJsonProvider::new)
+        );
+
+        // WHEN
+        JsonProvider provider = JsonProviders.select(providers.iterator());
+
+        // THEN
+        assertSame(customProvider, provider);
+    }
+
+    @Test
+    void select_ShouldOnlyInstantiateSelectedProvider() {
+        // GIVEN
+        var instantiated = new ArrayList<Class<?>>();
+        var providers = List.of(
+            provider(JacksonJsonProvider.class, () -> instantiate(instantiated, new JacksonJsonProvider())),
+            provider(BuiltInJsonProvider.class, () -> instantiate(instantiated, new BuiltInJsonProvider())),
+            provider(GsonJsonProvider.class, () -> instantiate(instantiated, new GsonJsonProvider()))
+        );
+
+        // WHEN
+        JsonProvider provider = JsonProviders.select(providers.iterator());
+
+        // THEN
+        assertInstanceOf(BuiltInJsonProvider.class, provider);
+        assertEquals(List.of(BuiltInJsonProvider.class), instantiated);
+    }
+
+    @Test
+    void select_ShouldReturnFirstProvider_WhenPrioritiesAreEqual() {
+        // GIVEN
+        var firstProvider = new CustomJsonProvider();
+        var providers = List.of(provider(CustomJsonProvider.class, () -> firstProvider), provider(CustomJsonProvider.class, CustomJsonProvider::new));
+
+        // WHEN
+        JsonProvider provider = JsonProviders.select(providers.iterator());
+
+        // THEN
+        assertSame(firstProvider, provider);
+    }
+
+    @Test
+    void select_ShouldSkipUnavailableProviders() {
+        // GIVEN: providers whose library is missing, as reported by ServiceLoader
+        var jsonOrgProvider = new JsonOrgJsonProvider();
+        Iterator<ServiceLoader.Provider<JsonProvider>> providers = new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < 4;
+            }
+
+            @Override
+            public ServiceLoader.Provider<JsonProvider> next() {
+                switch (index++) {
+                    case 0 -> throw new ServiceConfigurationError("Provider JacksonJsonProvider not found", new NoClassDefFoundError());
+                    case 1 -> {
+                        return provider(GsonJsonProvider.class, () -> {
+                            throw new ServiceConfigurationError("Provider GsonJsonProvider could not be instantiated", new NoClassDefFoundError());
+                        });
+                    }
+                    case 2 -> {
+                        return provider(JsonOrgJsonProvider.class, () -> jsonOrgProvider);
+                    }
+                    case 3 -> throw new NoClassDefFoundError("org/json/JSONObject");
+                    default -> throw new NoSuchElementException();
+                }
+            }
+        };
+
+        // WHEN
+        JsonProvider provider = JsonProviders.select(providers);
+
+        // THEN
+        assertSame(jsonOrgProvider, provider);
+    }
+
+    @Test
+    void select_ShouldReturnBuiltInProvider_WhenNoProviderIsAvailable() {
+        // WHEN
+        JsonProvider provider = JsonProviders.select(Collections.emptyIterator());
+
+        // THEN
+        assertInstanceOf(BuiltInJsonProvider.class, provider);
+    }
+
+    private static ServiceLoader.Provider<JsonProvider> provider(Class<? extends JsonProvider> type, Supplier<JsonProvider> supplier) {
+        return new ServiceLoader.Provider<>() {
+            @Override
+            public Class<? extends JsonProvider> type() {
+                return type;
+            }
+
+            @Override
+            public JsonProvider get() {
+                return supplier.get();
+            }
+        };
+    }
+
+    private static JsonProvider instantiate(List<Class<?>> instantiated, JsonProvider provider) {
+        instantiated.add(provider.getClass());
+        return provider;
+    }
+
+    static class CustomJsonProvider implements JsonProvider {
+
+        @Override
+        public Map<String, Object> parse(String json) throws OAuth2ClientJsonException {
+            return Map.of();
+        }
+
+        @Override
+        public Optional<Map<String, Object>> tryParse(String json) {
+            return Optional.of(Map.of());
+        }
+
+        @Override
+        public String write(Map<String, Object> jsonMap) {
+            return "{}";
+        }
+    }
+
+    @JsonProviderPriority(200)
+    static class HighPriorityJsonProvider extends CustomJsonProvider {}
+
+    /**
+     * Loads classes from the locations of the given classes, instead of delegating to the application class loader, and
+     * records the names of the classes it loaded.
+     */
+    private static final class RecordingClassLoader extends URLClassLoader {
+
+        private final Set<String> loadedClassNames = ConcurrentHashMap.newKeySet();
+
+        RecordingClassLoader(Class<?>... classes) {
+            super(Arrays.stream(classes).map(type -> type.getProtectionDomain().getCodeSource().getLocation()).toArray(URL[]::new), ClassLoader.getPlatformClassLoader());
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            Class<?> type = super.findClass(name);
+            loadedClassNames.add(name);
+            return type;
+        }
+    }
+}
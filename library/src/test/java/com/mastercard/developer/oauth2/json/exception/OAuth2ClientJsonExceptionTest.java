@@ -1,4 +1,4 @@
-package com.mastercard.developer.oauth2.internal.json.exception;
+package com.mastercard.developer.oauth2.json.exception;
 
 import static org.junit.jupiter.api.Assertions.*;
 
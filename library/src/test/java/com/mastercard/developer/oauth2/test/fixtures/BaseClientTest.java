@@ -1,7 +1,7 @@
 package com.mastercard.developer.oauth2.test.fixtures;
 
-import com.mastercard.developer.oauth2.internal.json.JsonProvider;
-import com.mastercard.developer.oauth2.internal.json.exception.OAuth2ClientJsonException;
+import com.mastercard.developer.oauth2.json.JsonProvider;
+import com.mastercard.developer.oauth2.json.exception.OAuth2ClientJsonException;
 import com.mastercard.developer.oauth2.test.mocks.FakeAuthorizationServer;
 import com.mastercard.developer.oauth2.test.mocks.FakeResourceServer;
 import java.util.Map;
@@ -48,6 +48,20 @@ public abstract class BaseClientTest extends BaseTest {
         resourceServer.useNominalScenario();
     }
 
+    protected void useBinaryDownloadScenario(byte[] body) {
+        authorizationServer.useNominalScenario();
+        resourceServer.useBinaryDownloadScenario(body);
+    }
+
+    protected static int countAuthorizationServerRequests(String method) {
+        return authorizationServer.countRequests(method);
+    }
+
+    protected void useServerErrorScenario(byte[] body) {
+        authorizationServer.useNominalScenario();
+        resourceServer.useServerErrorScenario(body);
+    }
+
     protected void useInsufficientScopeScenario() {
         authorizationServer.useNominalScenario();
         resourceServer.useInsufficientScopeScenario();
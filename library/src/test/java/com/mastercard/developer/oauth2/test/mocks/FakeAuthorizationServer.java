@@ -10,8 +10,10 @@ import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
 import com.github.tomakehurst.wiremock.http.HttpHeader;
 import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.mastercard.developer.oauth2.test.helpers.JwsUtils;
 import com.nimbusds.jwt.SignedJWT;
@@ -218,6 +220,13 @@ public class FakeAuthorizationServer implements BeforeAllCallback, AfterAllCallb
         delegate.resetAll();
     }
 
+    /**
+     * Returns the number of requests received with the given HTTP method, for instance HEAD requests sent to warm up connections.
+     */
+    public int countRequests(String method) {
+        return delegate.findAll(new RequestPatternBuilder(RequestMethod.fromString(method), anyUrl())).size();
+    }
+
     private static Map<String, String> parseForm(Request request) {
         Map<String, String> params = new HashMap<>();
         String body = request.getBodyAsString();
@@ -0,0 +1,72 @@
+package com.mastercard.developer.oauth2.test.mocks;
+
+import com.mastercard.developer.oauth2.core.signing.JcaJwsSigner;
+import com.mastercard.developer.oauth2.core.signing.JwsAlgorithm;
+import com.mastercard.developer.oauth2.core.signing.JwsSigner;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fake external signer (HSM, KMS, ...).
+ * Signatures are computed asynchronously on a dedicated thread pool, with the key held locally.
+ */
+public class FakeRemoteJwsSigner implements JwsSigner, AutoCloseable {
+
+    private final JwsSigner localSigner;
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final AtomicInteger signatureCount = new AtomicInteger();
+
+    public FakeRemoteJwsSigner(PrivateKey key, JwsAlgorithm alg) {
+        this.localSigner = new JcaJwsSigner(key, alg, null);
+    }
+
+    @Override
+    public JwsAlgorithm getAlgorithm() {
+        return localSigner.getAlgorithm();
+    }
+
+    @Override
+    public byte[] sign(byte[] signingInput) throws GeneralSecurityException {
+        try {
+            return signAsync(signingInput).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof GeneralSecurityException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public CompletableFuture<byte[]> signAsync(byte[] signingInput) {
+        return CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    signatureCount.incrementAndGet();
+                    return localSigner.sign(signingInput);
+                } catch (GeneralSecurityException e) {
+                    throw new CompletionException(e);
+                }
+            },
+            executor
+        );
+    }
+
+    public int getSignatureCount() {
+        return signatureCount.get();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
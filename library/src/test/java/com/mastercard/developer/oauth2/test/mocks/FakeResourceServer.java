@@ -58,6 +58,22 @@ public class FakeResourceServer implements BeforeAllCallback, AfterAllCallback,
         this.stubFor(delete(urlEqualTo("/api/resources/1")).willReturn(noContent().withTransformers(resourceRequestTransformer.getName())));
     }
 
+    /**
+     * Simulates a binary download: same as the nominal scenario, but fetching a resource returns the given bytes.
+     */
+    public void useBinaryDownloadScenario(byte[] body) {
+        useNominalScenario();
+        this.stubFor(get(urlEqualTo("/api/resources/1")).willReturn(aResponse().withBody(body).withTransformers(resourceRequestTransformer.getName())));
+    }
+
+    /**
+     * Simulates a server error: fetching a resource returns HTTP 500 with the given bytes.
+     */
+    public void useServerErrorScenario(byte[] body) {
+        useNominalScenario();
+        this.stubFor(get(urlEqualTo("/api/resources/1")).willReturn(aResponse().withStatus(500).withBody(body)));
+    }
+
     /**
      * Simulates an error caused by an access token not having the proper scopes.
      */
@@ -152,6 +168,15 @@ public class FakeResourceServer implements BeforeAllCallback, AfterAllCallback,
             }
 
             // Return OK
+            ResponseDefinition stubbedResponse = serveEvent.getResponseDefinition();
+            if (stubbedResponse.specifiesBinaryBodyContent()) {
+                return new ResponseDefinitionBuilder()
+                    .withStatus(stubbedResponse.getStatus())
+                    .withHeader(DPOP_NONCE.value(), currentNonce)
+                    .withHeader(CONTENT_TYPE.value(), "application/octet-stream")
+                    .withBody(stubbedResponse.getByteBody())
+                    .build();
+            }
             String success = Json.write(Map.of("id", "1"));
             return new ResponseDefinitionBuilder()
                 .withStatus(serveEvent.getResponseDefinition().getStatus())